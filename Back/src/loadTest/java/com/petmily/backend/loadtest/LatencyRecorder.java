@@ -0,0 +1,87 @@
+package com.petmily.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 전달 지연 표본 수집 (발송 시각과 수신 시각은 같은 JVM의 System.nanoTime 기준)
+ */
+final class LatencyRecorder {
+
+    private final String name;
+    private final LongAdder expected = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private long[] samples = new long[1 << 14];
+    private int size;
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 측정 구간에 발송한 메시지 한 건과 그 메시지를 받아야 할 구독자 수
+     */
+    void sent(int subscribers) {
+        sent.increment();
+        expected.add(subscribers);
+    }
+
+    synchronized void record(long latencyNanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = latencyNanos;
+    }
+
+    synchronized Map<String, Object> summarize(double measuredSeconds) {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("name", name);
+        summary.put("sent", sent.sum());
+        summary.put("expectedDeliveries", expected.sum());
+        summary.put("deliveries", (long) size);
+        summary.put("deliveryRatio", deliveryRatio());
+        summary.put("sentPerSecond", round(sent.sum() / measuredSeconds));
+        summary.put("deliveriesPerSecond", round(size / measuredSeconds));
+        summary.put("p50Millis", millis(percentile(sorted, 0.50)));
+        summary.put("p90Millis", millis(percentile(sorted, 0.90)));
+        summary.put("p99Millis", millis(percentile(sorted, 0.99)));
+        summary.put("maxMillis", millis(sorted.length > 0 ? sorted[sorted.length - 1] : 0));
+        return summary;
+    }
+
+    synchronized double deliveryRatio() {
+        long expectedDeliveries = expected.sum();
+        return expectedDeliveries == 0 ? 1.0 : round((double) size / expectedDeliveries);
+    }
+
+    synchronized double p99Millis() {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return millis(percentile(sorted, 0.99));
+    }
+
+    long sentCount() {
+        return sent.sum();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
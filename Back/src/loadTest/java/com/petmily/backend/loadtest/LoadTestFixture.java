@@ -0,0 +1,109 @@
+package com.petmily.backend.loadtest;
+
+import com.petmily.backend.api.auth.jwt.JwtTokenProvider;
+import com.petmily.backend.api.chat.dto.ChatRoomResponse;
+import com.petmily.backend.api.chat.dto.CreateChatRoomRequest;
+import com.petmily.backend.api.chat.service.ChatRoomService;
+import com.petmily.backend.domain.user.entity.User;
+import com.petmily.backend.domain.user.repository.UserRepository;
+import com.petmily.backend.domain.walker.entity.WalkSession;
+import com.petmily.backend.domain.walker.entity.Walker;
+import com.petmily.backend.domain.walker.entity.WalkerStatus;
+import com.petmily.backend.domain.walker.repository.WalkSessionRepository;
+import com.petmily.backend.domain.walker.repository.WalkerRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트용 데이터 (채팅방마다 사용자/워커 한 쌍, 산책 세션)
+ */
+final class LoadTestFixture {
+
+    final List<Room> rooms = new ArrayList<>();
+    final List<Long> walkSessionIds = new ArrayList<>();
+    final List<String> walkSessionOwnerUsernames = new ArrayList<>();
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    private LoadTestFixture(JwtTokenProvider jwtTokenProvider) {
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    static LoadTestFixture create(ApplicationContext context, LoadTestOptions options) {
+        LoadTestFixture fixture = new LoadTestFixture(context.getBean(JwtTokenProvider.class));
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        WalkerRepository walkerRepository = context.getBean(WalkerRepository.class);
+        WalkSessionRepository walkSessionRepository = context.getBean(WalkSessionRepository.class);
+        ChatRoomService chatRoomService = context.getBean(ChatRoomService.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < options.chatRooms; i++) {
+                User owner = userRepository.save(user("lt-owner-" + i));
+                User walkerUser = userRepository.save(user("lt-walker-" + i));
+                Walker walker = walkerRepository.save(Walker.builder()
+                        .userId(walkerUser.getId())
+                        .introduction("부하 테스트 워커")
+                        .experienceYears(1)
+                        .rating(5.0)
+                        .walksCount(0)
+                        .hourlyRate(new BigDecimal("15000"))
+                        .status(WalkerStatus.APPROVED)
+                        .build());
+
+                ChatRoomResponse room = chatRoomService.createPreBookingChatRoom(owner.getId(),
+                        CreateChatRoomRequest.builder().walkerId(walker.getId()).build());
+                fixture.rooms.add(new Room(room.getRoomId(), owner.getUsername(), walkerUser.getUsername()));
+            }
+
+            for (int i = 0; i < options.walkSessions; i++) {
+                User owner = userRepository.findByUsername("lt-owner-" + (i % options.chatRooms)).orElseThrow();
+                WalkSession session = walkSessionRepository.save(WalkSession.builder()
+                        .userId(owner.getId())
+                        .startTime(LocalDateTime.now())
+                        .startLatitude(37.5)
+                        .startLongitude(127.0)
+                        .build());
+                fixture.walkSessionIds.add(session.getId());
+                fixture.walkSessionOwnerUsernames.add(owner.getUsername());
+            }
+        });
+        return fixture;
+    }
+
+    /**
+     * 테스트 사용자의 액세스 토큰 (CONNECT 인증과 SockJS 핸드셰이크에 사용)
+     */
+    String tokenFor(String username, long validMillis) {
+        return jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(username, null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))), validMillis);
+    }
+
+    /**
+     * 테스트 사용자 이메일 (위치 전송 REST 요청의 userId)
+     */
+    static String emailOf(String username) {
+        return username + "@loadtest.local";
+    }
+
+    private static User user(String username) {
+        return User.builder()
+                .username(username)
+                .name(username)
+                .email(emailOf(username))
+                .password("password")
+                .phone("010-0000-0000")
+                .build();
+    }
+
+    record Room(String roomId, String ownerUsername, String walkerUsername) {
+    }
+}
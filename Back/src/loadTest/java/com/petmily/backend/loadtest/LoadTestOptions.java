@@ -0,0 +1,64 @@
+package com.petmily.backend.loadtest;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.*, gradle -Ploadtest.* 로 전달)
+ */
+final class LoadTestOptions {
+
+    final int clients;
+    final int chatRooms;
+    final int walkSessions;
+    final double messagesPerSecond;
+    final double locationsPerSecond;
+    final int warmupSeconds;
+    final int durationSeconds;
+    final int drainSeconds;
+    final boolean externalRedis;
+    final String redisHost;
+    final int redisPort;
+    final double maxP99Millis;
+    final double minDeliveryRatio;
+    final double minMessagesPerSecond;
+    final String reportPath;
+
+    private LoadTestOptions() {
+        this.clients = intValue("clients", 200);
+        this.chatRooms = Math.max(1, intValue("chat-rooms", 50));
+        this.walkSessions = intValue("walk-sessions", 20);
+        this.messagesPerSecond = doubleValue("message-rate", 100);
+        this.locationsPerSecond = doubleValue("location-rate", 20);
+        this.warmupSeconds = intValue("warmup-seconds", 5);
+        this.durationSeconds = intValue("duration-seconds", 30);
+        this.drainSeconds = intValue("drain-seconds", 3);
+        this.externalRedis = Boolean.parseBoolean(value("redis-external", "false"));
+        this.redisHost = value("redis-host", "localhost");
+        this.redisPort = intValue("redis-port", 0);
+        this.maxP99Millis = doubleValue("max-p99-millis", 0);
+        this.minDeliveryRatio = doubleValue("min-delivery-ratio", 0.99);
+        this.minMessagesPerSecond = doubleValue("min-message-throughput", 0);
+        this.reportPath = value("report", "build/reports/loadtest/result.json");
+    }
+
+    static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions();
+    }
+
+    private static String value(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static int intValue(String name, int defaultValue) {
+        return Integer.parseInt(value(name, String.valueOf(defaultValue)));
+    }
+
+    private static double doubleValue(String name, double defaultValue) {
+        return Double.parseDouble(value(name, String.valueOf(defaultValue)));
+    }
+
+    @Override
+    public String toString() {
+        return "clients=" + clients + ", chatRooms=" + chatRooms + ", walkSessions=" + walkSessions
+                + ", messageRate=" + messagesPerSecond + "/s, locationRate=" + locationsPerSecond + "/s"
+                + ", warmup=" + warmupSeconds + "s, duration=" + durationSeconds + "s";
+    }
+}
@@ -0,0 +1,131 @@
+package com.petmily.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.petmily.backend.api.walk.dto.tracking.response.WalkTrackResponse;
+import com.petmily.backend.api.walk.service.location.codec.CompactLocationEncoder;
+import com.petmily.backend.api.walk.service.location.codec.CompactLocationPoint;
+import com.petmily.backend.domain.walk.entity.WalkingTrack;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실시간 위치 프레임 JSON vs 압축 바이너리 비교 (프레임당 바이트, 인코딩 시간)
+ * 2초 간격 직선 보행 count개 위치를 JSON(기존 토픽)과 압축 프레임("/compact" 토픽)으로 rounds번씩 인코딩한다.
+ * 앱을 띄우지 않고 인코더만 측정한다.
+ *
+ * 실행: ./gradlew locationFrameBenchmark -Ploadtest.frames.count=2000 -Ploadtest.frames.rounds=20
+ */
+public final class LocationFrameEncodingBenchmark {
+
+    private final int frames = intValue("count", 2_000);
+    private final int rounds = intValue("rounds", 20);
+    private final String reportPath = value("report", "build/reports/loadtest/location-frame-result.json");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    public static void main(String[] args) throws Exception {
+        new LocationFrameEncodingBenchmark().run();
+    }
+
+    private void run() throws Exception {
+        System.out.println("[frames] count=" + frames + ", rounds=" + rounds);
+        List<WalkTrackResponse> tracks = walk();
+
+        // 워밍업
+        for (int i = 0; i < 3; i++) {
+            runJson(tracks);
+            runCompact(tracks);
+        }
+
+        long jsonBytes = 0;
+        long jsonNanos = 0;
+        long compactBytes = 0;
+        long compactNanos = 0;
+        for (int round = 0; round < rounds; round++) {
+            long startedAt = System.nanoTime();
+            jsonBytes = runJson(tracks);
+            jsonNanos += System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            compactBytes = runCompact(tracks);
+            compactNanos += System.nanoTime() - startedAt;
+        }
+
+        long totalFrames = (long) frames * rounds;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("frames", frames);
+        result.put("rounds", rounds);
+        result.put("json", summary(jsonBytes, jsonNanos / totalFrames));
+        result.put("compact", summary(compactBytes, compactNanos / totalFrames));
+        result.put("sizeRatio", compactBytes > 0 ? (double) jsonBytes / compactBytes : 0.0);
+
+        ObjectMapper writer = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        File reportFile = new File(reportPath);
+        if (reportFile.getParentFile() != null) {
+            reportFile.getParentFile().mkdirs();
+        }
+        writer.writeValue(reportFile, result);
+        System.out.println(writer.writeValueAsString(result));
+        System.out.println("[frames] 결과 저장: " + reportFile.getAbsolutePath());
+    }
+
+    private Map<String, Object> summary(long bytes, long nanosPerFrame) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("bytesPerFrame", (double) bytes / frames);
+        summary.put("nanosPerFrame", nanosPerFrame);
+        return summary;
+    }
+
+    private long runJson(List<WalkTrackResponse> tracks) throws Exception {
+        long bytes = 0;
+        for (WalkTrackResponse track : tracks) {
+            bytes += objectMapper.writeValueAsBytes(track).length;
+        }
+        return bytes;
+    }
+
+    private long runCompact(List<WalkTrackResponse> tracks) {
+        CompactLocationEncoder encoder = new CompactLocationEncoder(10, 60_000);
+        long bytes = 0;
+        for (WalkTrackResponse track : tracks) {
+            bytes += encoder.encode(CompactLocationPoint.from(track)).length;
+        }
+        return bytes;
+    }
+
+    private List<WalkTrackResponse> walk() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<WalkTrackResponse> tracks = new ArrayList<>();
+        for (int i = 0; i < frames; i++) {
+            tracks.add(WalkTrackResponse.builder()
+                    .id(1000L + i)
+                    .bookingId(42L)
+                    .latitude(37.5665 + i * 0.00011)
+                    .longitude(126.9780 + i * 0.00007)
+                    .timestamp(start.plusSeconds(i * 2L))
+                    .accuracy(5.0)
+                    .speed(4.2)
+                    .altitude(38.0)
+                    .trackType(WalkingTrack.TrackType.WALKING)
+                    .build());
+        }
+        return tracks;
+    }
+
+    private static String value(String name, String defaultValue) {
+        return System.getProperty("loadtest.frames." + name, defaultValue);
+    }
+
+    private static int intValue(String name, int defaultValue) {
+        return Integer.parseInt(value(name, String.valueOf(defaultValue)));
+    }
+}
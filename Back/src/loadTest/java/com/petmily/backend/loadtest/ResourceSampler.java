@@ -0,0 +1,74 @@
+package com.petmily.backend.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 측정 구간의 힙 사용량/프로세스 CPU/스레드 수를 1초마다 표본 추출
+ * 서버와 부하 클라이언트가 같은 JVM에서 실행되므로 값에는 클라이언트 몫도 포함된다.
+ */
+final class ResourceSampler {
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "loadtest-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long samples;
+    private long heapSum;
+    private long heapMax;
+    private double cpuSum;
+    private double cpuMax;
+    private int threadMax;
+
+    void start() {
+        scheduler.scheduleAtFixedRate(this::sample, 0, 1, TimeUnit.SECONDS);
+    }
+
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private synchronized void sample() {
+        long heapUsed = memory.getHeapMemoryUsage().getUsed();
+        double cpu = processCpuLoad();
+        samples++;
+        heapSum += heapUsed;
+        heapMax = Math.max(heapMax, heapUsed);
+        if (cpu >= 0) {
+            cpuSum += cpu;
+            cpuMax = Math.max(cpuMax, cpu);
+        }
+        threadMax = Math.max(threadMax, threads.getThreadCount());
+    }
+
+    synchronized Map<String, Object> summarize() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("samples", samples);
+        summary.put("heapAvgMb", samples > 0 ? heapSum / samples / (1024 * 1024) : 0);
+        summary.put("heapMaxMb", heapMax / (1024 * 1024));
+        summary.put("cpuAvgPercent", samples > 0 ? Math.round(cpuSum / samples * 1000) / 10.0 : 0);
+        summary.put("cpuMaxPercent", Math.round(cpuMax * 1000) / 10.0);
+        summary.put("threadsMax", threadMax);
+        summary.put("availableProcessors", os.getAvailableProcessors());
+        return summary;
+    }
+
+    private double processCpuLoad() {
+        if (os instanceof com.sun.management.OperatingSystemMXBean sunOs) {
+            return sunOs.getProcessCpuLoad();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,298 @@
+package com.petmily.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.petmily.backend.PetmilyBackendApplication;
+import com.petmily.backend.api.exception.CustomException;
+import com.petmily.backend.api.exception.ErrorCode;
+import com.petmily.backend.api.mall.dto.order.request.OrderCreateRequest;
+import com.petmily.backend.api.mall.dto.order.request.OrderItemRequest;
+import com.petmily.backend.api.mall.service.OrderService;
+import com.petmily.backend.domain.mall.product.entity.Product;
+import com.petmily.backend.domain.mall.product.entity.ProductCategory;
+import com.petmily.backend.domain.mall.product.entity.ProductStatus;
+import com.petmily.backend.domain.mall.product.repository.ProductRepository;
+import com.petmily.backend.domain.user.entity.Role;
+import com.petmily.backend.domain.user.entity.User;
+import com.petmily.backend.domain.user.repository.UserRepository;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인기 상품 하나(핫 SKU)에 주문이 몰릴 때의 재고 예약 벤치마크
+ * 임베디드 H2와 Redis로 앱을 띄운 뒤, 재고 initial개인 상품 하나에 threads개 스레드가 1개씩 orders건을 주문(OrderService.createOrder)하고
+ * 처리량, 주문 지연(p50/p90/p99), 성공/재고 부족 건수와 최종 재고를 측정한다.
+ * 같은 조건으로 예전 방식(재고 조회 후 엔티티에서 차감)도 돌려 갱신 유실 건수를 함께 기록한다.
+ *
+ * 실행: ./gradlew stockBenchmark -Ploadtest.stock.threads=32 -Ploadtest.stock.orders=5000 -Ploadtest.stock.initial=2000
+ * 초과 판매나 재고 불일치가 있거나 처리량이 min-orders-per-second 미만이면 종료 코드 1로 끝난다.
+ */
+public final class StockReservationBenchmark {
+
+    private final int threads = intValue("threads", 32);
+    private final int orders = intValue("orders", 5000);
+    private final int initialStock = intValue("initial", 2000);
+    private final double minOrdersPerSecond = Double.parseDouble(value("min-orders-per-second", "0"));
+    private final String reportPath = value("report", "build/reports/loadtest/stock-result.json");
+
+    public static void main(String[] args) throws Exception {
+        boolean passed = new StockReservationBenchmark().run();
+        System.exit(passed ? 0 : 1);
+    }
+
+    private boolean run() throws Exception {
+        System.out.println("[stock] threads=" + threads + ", orders=" + orders + ", initialStock=" + initialStock);
+
+        int redisPort = freePort();
+        RedisServer redisServer = new RedisServer(redisPort);
+        redisServer.start();
+        ConfigurableApplicationContext context = null;
+        try {
+            context = startApplication(redisPort);
+            OrderService orderService = context.getBean(OrderService.class);
+            ProductRepository productRepository = context.getBean(ProductRepository.class);
+            TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            Fixture fixture = Fixture.create(context, threads);
+
+            // 워밍업 (별도 상품)
+            Long warmupProductId = fixture.hotProduct(context, initialStock);
+            drive(threads, Math.min(orders, 500), buyer -> orderService.createOrder(buyer, orderFor(warmupProductId)), fixture);
+
+            Long reservedProductId = fixture.hotProduct(context, initialStock);
+            Phase reservation = drive(threads, orders,
+                    buyer -> orderService.createOrder(buyer, orderFor(reservedProductId)), fixture);
+            int reservedStock = productRepository.findById(reservedProductId).orElseThrow().getStockQuantity();
+
+            Long legacyProductId = fixture.hotProduct(context, initialStock);
+            Phase legacy = drive(threads, orders, buyer -> transactionTemplate.executeWithoutResult(status -> {
+                Product product = productRepository.findById(legacyProductId).orElseThrow();
+                if (product.getStockQuantity() < 1) {
+                    throw new CustomException(ErrorCode.INSUFFICIENT_STOCK);
+                }
+                product.decreaseStock(1);
+            }), fixture);
+            int legacyStock = productRepository.findById(legacyProductId).orElseThrow().getStockQuantity();
+
+            return report(reservation, reservedStock, legacy, legacyStock);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            redisServer.stop();
+        }
+    }
+
+    private Phase drive(int threadCount, int orderCount, OrderCall call, Fixture fixture) throws Exception {
+        Phase phase = new Phase();
+        AtomicInteger remaining = new AtomicInteger(orderCount);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService workers = Executors.newFixedThreadPool(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            Long buyerId = fixture.buyerIds.get(i % fixture.buyerIds.size());
+            workers.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                while (remaining.getAndDecrement() > 0) {
+                    long startedAt = System.nanoTime();
+                    try {
+                        call.order(buyerId);
+                        phase.succeeded.increment();
+                    } catch (CustomException e) {
+                        if (e.getErrorCode() == ErrorCode.INSUFFICIENT_STOCK) {
+                            phase.soldOut.increment();
+                        } else {
+                            phase.errors.increment();
+                        }
+                    } catch (Exception e) {
+                        phase.errors.increment();
+                    }
+                    phase.latency.sent(1);
+                    phase.latency.record(System.nanoTime() - startedAt);
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.MINUTES);
+        phase.seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        return phase;
+    }
+
+    private boolean report(Phase reservation, int reservedStock, Phase legacy, int legacyStock) throws Exception {
+        long expectedSold = Math.min(orders, initialStock);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("threads", threads);
+        result.put("orders", orders);
+        result.put("initialStock", initialStock);
+        result.put("conditionalUpdate", reservation.summarize(initialStock, reservedStock));
+        result.put("readModifyWrite", legacy.summarize(initialStock, legacyStock));
+
+        List<String> failures = new ArrayList<>();
+        if (reservedStock < 0) {
+            failures.add("초과 판매 - 최종 재고 " + reservedStock);
+        }
+        if (initialStock - reservedStock != reservation.succeeded.sum()) {
+            failures.add("재고 불일치 - 차감 " + (initialStock - reservedStock) + ", 성공 주문 " + reservation.succeeded.sum());
+        }
+        if (reservation.succeeded.sum() != expectedSold) {
+            failures.add("성공 주문 " + reservation.succeeded.sum() + " != 기대 " + expectedSold);
+        }
+        double throughput = reservation.throughput();
+        if (minOrdersPerSecond > 0 && throughput < minOrdersPerSecond) {
+            failures.add("처리량 " + throughput + "/s < " + minOrdersPerSecond + "/s");
+        }
+        result.put("failures", failures);
+        result.put("passed", failures.isEmpty());
+
+        ObjectMapper writer = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        File reportFile = new File(reportPath);
+        if (reportFile.getParentFile() != null) {
+            reportFile.getParentFile().mkdirs();
+        }
+        writer.writeValue(reportFile, result);
+        System.out.println(writer.writeValueAsString(result));
+        System.out.println("[stock] 결과 저장: " + reportFile.getAbsolutePath());
+        return failures.isEmpty();
+    }
+
+    private static OrderCreateRequest orderFor(Long productId) {
+        return OrderCreateRequest.builder()
+                .items(List.of(OrderItemRequest.builder().productId(productId).quantity(1).build()))
+                .recipientName("부하 테스트")
+                .recipientPhone("010-0000-0000")
+                .deliveryAddress("서울시 테스트구")
+                .isSubscription(false)
+                .build();
+    }
+
+    private static ConfigurableApplicationContext startApplication(int redisPort) {
+        SpringApplication application = new SpringApplication(PetmilyBackendApplication.class);
+        return application.run(
+                "--server.port=0",
+                "--server.address=127.0.0.1",
+                "--spring.data.redis.host=localhost",
+                "--spring.data.redis.port=" + redisPort,
+                "--spring.jpa.show-sql=false",
+                "--spring.devtools.restart.enabled=false",
+                "--spring.ai.openai.api-key=load-test",
+                "--petmily.dev.test-user.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.petmily.backend=WARN");
+    }
+
+    private static String value(String name, String defaultValue) {
+        return System.getProperty("loadtest.stock." + name, defaultValue);
+    }
+
+    private static int intValue(String name, int defaultValue) {
+        return Integer.parseInt(value(name, String.valueOf(defaultValue)));
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @FunctionalInterface
+    private interface OrderCall {
+        void order(Long buyerId);
+    }
+
+    /**
+     * 한 번의 측정 결과
+     */
+    private static final class Phase {
+
+        final LatencyRecorder latency = new LatencyRecorder("order");
+        final LongAdder succeeded = new LongAdder();
+        final LongAdder soldOut = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        double seconds;
+
+        double throughput() {
+            return seconds > 0 ? Math.round((succeeded.sum() + soldOut.sum()) / seconds * 10.0) / 10.0 : 0;
+        }
+
+        Map<String, Object> summarize(int initialStock, int finalStock) {
+            Map<String, Object> summary = new LinkedHashMap<>(latency.summarize(seconds));
+            summary.put("succeeded", succeeded.sum());
+            summary.put("soldOut", soldOut.sum());
+            summary.put("errors", errors.sum());
+            summary.put("ordersPerSecond", throughput());
+            summary.put("finalStock", finalStock);
+            // 성공했다고 응답했지만 재고에 반영되지 않은 주문 수
+            summary.put("lostUpdates", succeeded.sum() - (initialStock - finalStock));
+            return summary;
+        }
+    }
+
+    /**
+     * 판매자 한 명, 구매자(스레드 수만큼), 측정마다 새로 만드는 인기 상품
+     */
+    private static final class Fixture {
+
+        final List<Long> buyerIds = new ArrayList<>();
+        User seller;
+
+        static Fixture create(ConfigurableApplicationContext context, int buyers) {
+            Fixture fixture = new Fixture();
+            UserRepository userRepository = context.getBean(UserRepository.class);
+            new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+                fixture.seller = userRepository.save(user("stock-seller", Role.SELLER));
+                for (int i = 0; i < buyers; i++) {
+                    fixture.buyerIds.add(userRepository.save(user("stock-buyer-" + i, Role.USER)).getId());
+                }
+            });
+            return fixture;
+        }
+
+        Long hotProduct(ConfigurableApplicationContext context, int stock) {
+            ProductRepository productRepository = context.getBean(ProductRepository.class);
+            return new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).execute(status ->
+                    productRepository.save(Product.builder()
+                            .name("한정 수량 사료")
+                            .description("핫 SKU 벤치마크")
+                            .price(new BigDecimal("10000"))
+                            .stockQuantity(stock)
+                            .category(ProductCategory.FOOD)
+                            .status(ProductStatus.ACTIVE)
+                            .seller(seller)
+                            .build()).getId());
+        }
+
+        private static User user(String username, Role role) {
+            return User.builder()
+                    .username(username)
+                    .name(username)
+                    .email(username + "@loadtest.local")
+                    .password("password")
+                    .phone("010-0000-0000")
+                    .role(role)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.petmily.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.petmily.backend.PetmilyBackendApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+import redis.embedded.RedisServer;
+
+import java.io.File;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅/산책 STOMP 부하 테스트 하네스
+ * 임베디드 H2와 로컬 Redis(임베디드 redis-server)로 앱을 띄운 뒤, N개의 SockJS/STOMP 클라이언트가 /ws-stomp 로 접속해
+ * 채팅방과 산책 위치 토픽을 구독한다. 채팅 메시지는 STOMP SEND로, 위치는 앱과 같은 위치 전송 REST API(POST /api/map/location,
+ * JWT 인증)로 설정한 속도만큼 보내고 전달 지연(p50/p90/p99), 처리량, 힙/CPU를 측정한다.
+ * 앱과 같은 JVM에서 실행되므로 힙 수치에는 하네스 자신(클라이언트 세션, 발송 시각 기록)도 포함된다.
+ *
+ * 실행: ./gradlew loadTest -Ploadtest.clients=500 -Ploadtest.message-rate=300 -Ploadtest.max-p99-millis=200
+ * 기준(max-p99-millis, min-delivery-ratio, min-message-throughput)을 넘지 못하면 종료 코드 1로 끝나 회귀 검사에 쓸 수 있다.
+ */
+public final class StompLoadHarness {
+
+    private static final String CHAT_LATENCY_PREFIX = "lt:";
+    // 이 시간 안에 도착하지 않은 위치는 미전달로 보고 발송 시각 기록을 지운다
+    private static final long LOCATION_RECEIVE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder chatLatency = new LatencyRecorder("chat");
+    private final LatencyRecorder locationLatency = new LatencyRecorder("walk-location");
+    private final LongAdder errors = new LongAdder();
+
+    // 위치 순번 -> 발송 시각 (순번은 고도 값에 실어 보낸다, 수신 제한 시간이 지나면 지운다)
+    private final ConcurrentHashMap<Long, Long> locationSentAt = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> chatSubscribers = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicInteger> walkSubscribers = new ConcurrentHashMap<>();
+
+    private volatile long measureFromNanos = Long.MAX_VALUE;
+
+    private StompLoadHarness(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        boolean passed = new StompLoadHarness(options).run();
+        System.exit(passed ? 0 : 1);
+    }
+
+    private boolean run() throws Exception {
+        System.out.println("[loadtest] " + options);
+
+        RedisServer redisServer = null;
+        int redisPort = options.redisPort > 0 ? options.redisPort : freePort();
+        if (!options.externalRedis) {
+            redisServer = new RedisServer(redisPort);
+            redisServer.start();
+        }
+
+        ConfigurableApplicationContext context = null;
+        List<StompSession> sessions = new ArrayList<>();
+        ResourceSampler sampler = new ResourceSampler();
+        try {
+            context = startApplication(redisPort);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTestFixture fixture = LoadTestFixture.create(context, options);
+
+            long testMillis = (options.warmupSeconds + options.durationSeconds + options.drainSeconds + 60) * 1000L;
+            connectClients(fixture, port, testMillis, sessions);
+            System.out.println("[loadtest] 클라이언트 접속 완료 - " + sessions.size() + "개");
+
+            ScheduledExecutorService drivers = Executors.newScheduledThreadPool(3, runnable -> {
+                Thread thread = new Thread(runnable, "loadtest-driver");
+                thread.setDaemon(true);
+                return thread;
+            });
+            startChatDriver(drivers, fixture, sessions);
+            startLocationDriver(drivers, fixture, port, testMillis);
+
+            TimeUnit.SECONDS.sleep(options.warmupSeconds);
+            measureFromNanos = System.nanoTime();
+            sampler.start();
+            TimeUnit.SECONDS.sleep(options.durationSeconds);
+            drivers.shutdownNow();
+            sampler.stop();
+            TimeUnit.SECONDS.sleep(options.drainSeconds);
+            locationSentAt.clear();
+
+            return report(sampler);
+        } finally {
+            sessions.forEach(session -> {
+                try {
+                    session.disconnect();
+                } catch (Exception ignored) {
+                    // 종료 중 오류는 무시
+                }
+            });
+            if (context != null) {
+                context.close();
+            }
+            if (redisServer != null) {
+                redisServer.stop();
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(int redisPort) {
+        SpringApplication application = new SpringApplication(PetmilyBackendApplication.class);
+        return application.run(
+                "--server.port=0",
+                "--server.address=127.0.0.1",
+                "--spring.data.redis.host=" + (options.externalRedis ? options.redisHost : "localhost"),
+                "--spring.data.redis.port=" + redisPort,
+                "--spring.jpa.show-sql=false",
+                "--spring.devtools.restart.enabled=false",
+                "--spring.ai.openai.api-key=load-test",
+                "--petmily.dev.test-user.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.petmily.backend=WARN",
+                "--logging.level.org.springframework.security=WARN");
+    }
+
+    private void connectClients(LoadTestFixture fixture, int port, long tokenMillis, List<StompSession> sessions)
+            throws Exception {
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setMessageConverter(new ByteArrayMessageConverter());
+
+        String url = "http://127.0.0.1:" + port + "/api/ws-stomp";
+        Map<String, String> tokens = new ConcurrentHashMap<>();
+
+        for (int i = 0; i < options.clients; i++) {
+            LoadTestFixture.Room room = fixture.rooms.get(i % fixture.rooms.size());
+            String username = (i / fixture.rooms.size()) % 2 == 0 ? room.ownerUsername() : room.walkerUsername();
+            String bearer = "Bearer " + tokens.computeIfAbsent(username, key -> fixture.tokenFor(key, tokenMillis));
+
+            WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+            handshakeHeaders.add(HttpHeaders.AUTHORIZATION, bearer);
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add(HttpHeaders.AUTHORIZATION, bearer);
+
+            StompSession session = stompClient.connectAsync(url, handshakeHeaders, connectHeaders,
+                    new StompSessionHandlerAdapter() {
+                        @Override
+                        public void handleTransportError(StompSession session, Throwable exception) {
+                            errors.increment();
+                        }
+
+                        @Override
+                        public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                                    byte[] payload, Throwable exception) {
+                            errors.increment();
+                        }
+                    }).get(10, TimeUnit.SECONDS);
+
+            session.subscribe("/sub/chat/room/" + room.roomId(), handler(this::onChatMessage));
+            chatSubscribers.computeIfAbsent(room.roomId(), key -> new AtomicInteger()).incrementAndGet();
+
+            if (!fixture.walkSessionIds.isEmpty()) {
+                Long walkSessionId = fixture.walkSessionIds.get(i % fixture.walkSessionIds.size());
+                session.subscribe("/sub/walk/session/" + walkSessionId + "/location", handler(this::onLocation));
+                walkSubscribers.computeIfAbsent(walkSessionId, key -> new AtomicInteger()).incrementAndGet();
+            }
+            sessions.add(session);
+        }
+    }
+
+    /**
+     * 클라이언트를 돌아가며 자기 채팅방에 메시지 전송 (본문에 발송 시각을 싣는다)
+     */
+    private void startChatDriver(ScheduledExecutorService drivers, LoadTestFixture fixture, List<StompSession> sessions) {
+        if (options.messagesPerSecond <= 0 || sessions.isEmpty()) {
+            return;
+        }
+        AtomicLong counter = new AtomicLong();
+        drivers.scheduleAtFixedRate(() -> {
+            int index = (int) (counter.getAndIncrement() % sessions.size());
+            String roomId = fixture.rooms.get(index % fixture.rooms.size()).roomId();
+            long sentAt = System.nanoTime();
+            try {
+                StompHeaders headers = new StompHeaders();
+                headers.setDestination("/pub/chat/message/" + roomId);
+                headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+                byte[] body = objectMapper.writeValueAsBytes(Map.of(
+                        "messageType", "TEXT",
+                        "content", CHAT_LATENCY_PREFIX + sentAt));
+                sessions.get(index).send(headers, body);
+                if (sentAt >= measureFromNanos) {
+                    chatLatency.sent(chatSubscribers.get(roomId).get());
+                }
+            } catch (Exception e) {
+                errors.increment();
+            }
+        }, 0, periodNanos(options.messagesPerSecond), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 산책 세션을 돌아가며 세션 주인의 토큰으로 위치 전송 REST API 호출 (순번을 고도 값에 싣는다)
+     * 인증, 요청 변환, 위치 수집 파이프라인, 브로드캐스트를 모두 거친 지연을 잰다.
+     * 필터 단계에서 버려지지 않도록 약 33m씩 지그재그로 이동시킨다.
+     */
+    private void startLocationDriver(ScheduledExecutorService drivers, LoadTestFixture fixture, int port,
+                                     long tokenMillis) {
+        if (options.locationsPerSecond <= 0 || fixture.walkSessionIds.isEmpty()) {
+            return;
+        }
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        URI uri = URI.create("http://127.0.0.1:" + port + "/api/map/location");
+        Map<String, String> tokens = new ConcurrentHashMap<>();
+        long baseMillis = System.currentTimeMillis();
+        AtomicLong sequence = new AtomicLong();
+
+        drivers.scheduleAtFixedRate(() -> {
+            long seq = sequence.getAndIncrement();
+            int index = (int) (seq % fixture.walkSessionIds.size());
+            long step = seq / fixture.walkSessionIds.size();
+            Long walkSessionId = fixture.walkSessionIds.get(index);
+            String username = fixture.walkSessionOwnerUsernames.get(index);
+            try {
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("latitude", 37.5 + (step % 2) * 0.0003);
+                body.put("longitude", 127.0);
+                body.put("timestamp", baseMillis + step * 1000L);
+                body.put("userId", LoadTestFixture.emailOf(username));
+                body.put("walkSessionId", walkSessionId);
+                body.put("accuracy", 5.0);
+                body.put("speed", 1.2);
+                body.put("altitude", (double) seq);
+                HttpRequest request = HttpRequest.newBuilder(uri)
+                        .timeout(Duration.ofSeconds(10))
+                        .header(HttpHeaders.AUTHORIZATION,
+                                "Bearer " + tokens.computeIfAbsent(username, key -> fixture.tokenFor(key, tokenMillis)))
+                        .header(HttpHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON_VALUE)
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                        .build();
+
+                long sentAt = System.nanoTime();
+                locationSentAt.put(seq, sentAt);
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                    if (error != null || response.statusCode() / 100 != 2) {
+                        errors.increment();
+                        locationSentAt.remove(seq);
+                    } else if (sentAt >= measureFromNanos) {
+                        locationLatency.sent(walkSubscribers.get(walkSessionId).get());
+                    }
+                });
+            } catch (Exception e) {
+                errors.increment();
+            }
+        }, 0, periodNanos(options.locationsPerSecond), TimeUnit.NANOSECONDS);
+
+        // 모든 구독자가 같은 순번을 받으므로 수신 시 지우지 않고, 제한 시간이 지난 기록만 정리한다
+        drivers.scheduleAtFixedRate(() -> {
+            long threshold = System.nanoTime() - LOCATION_RECEIVE_TIMEOUT_NANOS;
+            locationSentAt.values().removeIf(sentAt -> sentAt < threshold);
+        }, 1, 1, TimeUnit.SECONDS);
+    }
+
+    private void onChatMessage(byte[] payload) {
+        long receivedAt = System.nanoTime();
+        try {
+            JsonNode content = objectMapper.readTree(payload).get("content");
+            if (content == null || !content.asText().startsWith(CHAT_LATENCY_PREFIX)) {
+                return;
+            }
+            long sentAt = Long.parseLong(content.asText().substring(CHAT_LATENCY_PREFIX.length()));
+            if (sentAt >= measureFromNanos) {
+                chatLatency.record(receivedAt - sentAt);
+            }
+        } catch (Exception e) {
+            errors.increment();
+        }
+    }
+
+    private void onLocation(byte[] payload) {
+        long receivedAt = System.nanoTime();
+        try {
+            JsonNode altitude = objectMapper.readTree(payload).get("altitude");
+            if (altitude == null || altitude.isNull()) {
+                return;
+            }
+            Long sentAt = locationSentAt.get(altitude.asLong());
+            if (sentAt != null && sentAt >= measureFromNanos) {
+                locationLatency.record(receivedAt - sentAt);
+            }
+        } catch (Exception e) {
+            errors.increment();
+        }
+    }
+
+    private boolean report(ResourceSampler sampler) throws Exception {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("options", options.toString());
+        result.put("chat", chatLatency.summarize(options.durationSeconds));
+        result.put("walkLocation", locationLatency.summarize(options.durationSeconds));
+        result.put("walkLocationTransport", "REST POST /api/map/location (수신 제한 "
+                + TimeUnit.NANOSECONDS.toSeconds(LOCATION_RECEIVE_TIMEOUT_NANOS) + "초)");
+        result.put("resources", sampler.summarize());
+        result.put("errors", errors.sum());
+
+        List<String> failures = new ArrayList<>();
+        if (options.maxP99Millis > 0 && chatLatency.p99Millis() > options.maxP99Millis) {
+            failures.add("채팅 p99 " + chatLatency.p99Millis() + "ms > " + options.maxP99Millis + "ms");
+        }
+        if (options.maxP99Millis > 0 && locationLatency.p99Millis() > options.maxP99Millis) {
+            failures.add("위치 p99 " + locationLatency.p99Millis() + "ms > " + options.maxP99Millis + "ms");
+        }
+        if (chatLatency.deliveryRatio() < options.minDeliveryRatio) {
+            failures.add("채팅 전달률 " + chatLatency.deliveryRatio() + " < " + options.minDeliveryRatio);
+        }
+        if (locationLatency.deliveryRatio() < options.minDeliveryRatio) {
+            failures.add("위치 전달률 " + locationLatency.deliveryRatio() + " < " + options.minDeliveryRatio);
+        }
+        double chatThroughput = (double) chatLatency.sentCount() / options.durationSeconds;
+        if (options.minMessagesPerSecond > 0 && chatThroughput < options.minMessagesPerSecond) {
+            failures.add("채팅 처리량 " + chatThroughput + "/s < " + options.minMessagesPerSecond + "/s");
+        }
+        result.put("failures", failures);
+        result.put("passed", failures.isEmpty());
+
+        ObjectMapper writer = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        File reportFile = new File(options.reportPath);
+        if (reportFile.getParentFile() != null) {
+            reportFile.getParentFile().mkdirs();
+        }
+        writer.writeValue(reportFile, result);
+        System.out.println(writer.writeValueAsString(result));
+        System.out.println("[loadtest] 결과 저장: " + reportFile.getAbsolutePath());
+        return failures.isEmpty();
+    }
+
+    private static StompFrameHandler handler(java.util.function.Consumer<byte[]> callback) {
+        return new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                callback.accept((byte[]) payload);
+            }
+        };
+    }
+
+    private static long periodNanos(double perSecond) {
+        return Math.max(1L, (long) (1_000_000_000L / perSecond));
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.petmily.backend.api.chat.archive;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petmily.backend.api.chat.persistence.PendingChatMessage;
+import com.petmily.backend.api.exception.CustomException;
+import com.petmily.backend.api.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 묶음 직렬화 - 메시지 목록을 JSON 배열로 만든 뒤 gzip으로 압축한다
+ * 같은 발신자/메시지 타입 필드가 반복되는 채팅 메시지는 압축률이 높아 원본 행보다 훨씬 작게 저장된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatArchiveCodec {
+
+    private static final TypeReference<List<PendingChatMessage>> MESSAGE_LIST = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    public byte[] encode(List<PendingChatMessage> messages) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(out, messages);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.INTERNAL_ERROR, "채팅 메시지 보관 데이터 생성에 실패했습니다");
+        }
+        return buffer.toByteArray();
+    }
+
+    public List<PendingChatMessage> decode(byte[] payload) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(in, MESSAGE_LIST);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.INTERNAL_ERROR, "보관된 채팅 메시지를 읽지 못했습니다");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.petmily.backend.api.chat.archive;
+
+import com.petmily.backend.config.ChatProperties;
+import com.petmily.backend.domain.chat.entity.ChatRoom;
+import com.petmily.backend.domain.chat.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 비활성 문의 채팅방 메시지 보관 작업
+ * 묶음마다 별도 트랜잭션으로 보관하므로 한 채팅방의 실패가 다른 채팅방에 영향을 주지 않는다.
+ * 모든 서버에서 실행되지만 묶음 보관은 채팅방 행 잠금 안에서 이루어지므로 같은 메시지가 중복 보관되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageArchiveScheduler {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageArchiveService chatMessageArchiveService;
+    private final ChatProperties properties;
+
+    @Scheduled(cron = "${petmily.chat.archive.cron:0 30 4 * * *}")
+    public void archiveInactiveRooms() {
+        ChatProperties.Archive archive = properties.getArchive();
+        if (!archive.isEnabled()) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(archive.getInactiveDays());
+        List<Long> chatRoomIds = chatRoomRepository.findArchiveCandidateIds(
+                ChatRoom.ChatType.PRE_BOOKING, cutoff, PageRequest.of(0, Math.max(1, archive.getRoomsPerRun())));
+        if (chatRoomIds.isEmpty()) {
+            return;
+        }
+
+        int archivedRooms = 0;
+        long archivedMessages = 0;
+        for (Long chatRoomId : chatRoomIds) {
+            try {
+                long archived = archiveRoom(chatRoomId);
+                if (archived > 0) {
+                    archivedRooms++;
+                    archivedMessages += archived;
+                }
+            } catch (Exception e) {
+                log.warn("채팅방 메시지 보관 실패 - ChatRoom ID: {}", chatRoomId, e);
+            }
+        }
+        log.info("비활성 채팅방 메시지 보관 - 채팅방: {}개, 메시지: {}건", archivedRooms, archivedMessages);
+    }
+
+    // 남은 메시지가 묶음 하나보다 적어질 때까지 묶음 단위로 보관
+    private long archiveRoom(Long chatRoomId) {
+        int segmentSize = chatMessageArchiveService.getSegmentSize();
+        long total = 0;
+        int archived;
+        do {
+            archived = chatMessageArchiveService.archiveNextSegment(chatRoomId);
+            total += archived;
+        } while (archived == segmentSize);
+        return total;
+    }
+}
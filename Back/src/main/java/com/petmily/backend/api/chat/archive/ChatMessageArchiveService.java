@@ -0,0 +1,176 @@
+package com.petmily.backend.api.chat.archive;
+
+import com.petmily.backend.api.chat.dto.ChatMessageResponse;
+import com.petmily.backend.api.chat.persistence.PendingChatMessage;
+import com.petmily.backend.api.chat.service.RecentChatMessageCache;
+import com.petmily.backend.config.ChatProperties;
+import com.petmily.backend.domain.chat.entity.ChatMessage;
+import com.petmily.backend.domain.chat.entity.ChatMessageArchive;
+import com.petmily.backend.domain.chat.entity.ChatRoom;
+import com.petmily.backend.domain.chat.repository.ChatMessageArchiveRepository;
+import com.petmily.backend.domain.chat.repository.ChatMessageRepository;
+import com.petmily.backend.domain.chat.repository.ChatRoomRepository;
+import com.petmily.backend.domain.user.entity.User;
+import com.petmily.backend.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 비활성 채팅방 메시지 콜드 스토리지
+ * 보관 시 채팅방 메시지를 압축 묶음으로 옮기고 메시지 테이블에서 삭제하며, 채팅방에 보관 구간의 끝(archivedThroughMessageId)을 기록한다.
+ * 조회 시에는 필요한 묶음만 압축을 풀어 응답하고, 최근 푼 묶음은 메모리에 보관해 이어지는 페이지 조회에 재사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageArchiveService {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageArchiveRepository chatMessageArchiveRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final UserRepository userRepository;
+    private final RecentChatMessageCache recentChatMessageCache;
+    private final ChatArchiveCodec codec;
+    private final ChatProperties properties;
+
+    // 보관 묶음 ID -> 압축을 푼 메시지 (ID 오름차순, LRU)
+    private final Map<Long, List<PendingChatMessage>> decodedSegments = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * 채팅방의 메시지 테이블에서 보관 구간 다음 메시지를 묶음 하나(segmentSize건)만큼 옮김
+     * 채팅방 행을 잠그고 잠근 뒤의 archivedThroughMessageId부터 읽으므로, 여러 서버에서 동시에 실행되어도
+     * 같은 메시지가 두 번 보관되지 않는다. 묶음마다 트랜잭션을 나누어 잠금과 메모리 사용을 한 묶음으로 제한한다.
+     * @return 보관된 메시지 수 (segmentSize보다 적으면 남은 메시지가 없음)
+     */
+    @Transactional
+    public int archiveNextSegment(Long chatRoomId) {
+        ChatRoom chatRoom = chatRoomRepository.findByIdForUpdate(chatRoomId).orElse(null);
+        if (chatRoom == null) {
+            return 0;
+        }
+
+        int segmentSize = getSegmentSize();
+        long throughMessageId = chatRoom.getArchivedThroughMessageId() != null ? chatRoom.getArchivedThroughMessageId() : 0L;
+        Slice<ChatMessage> chunk = chatMessageRepository.findByChatRoomIdAndIdGreaterThanOrderByIdAsc(
+                chatRoomId, throughMessageId, PageRequest.of(0, segmentSize));
+        if (!chunk.hasContent()) {
+            return 0;
+        }
+
+        List<PendingChatMessage> messages = chunk.map(message ->
+                PendingChatMessage.of(message.getId(), message, message.getCreatedAt())).getContent();
+        PendingChatMessage first = messages.get(0);
+        PendingChatMessage last = messages.get(messages.size() - 1);
+        chatMessageArchiveRepository.save(ChatMessageArchive.builder()
+                .chatRoomId(chatRoomId)
+                .firstMessageId(first.id())
+                .lastMessageId(last.id())
+                .messageCount(messages.size())
+                .payload(codec.encode(messages))
+                .build());
+
+        chatMessageRepository.deleteArchived(chatRoomId, last.id());
+        chatRoom.setArchivedThroughMessageId(last.id());
+        chatRoomRepository.save(chatRoom);
+
+        // 메모리 정리용 (다른 서버의 최근 메시지 캐시는 보관 후에도 같은 메시지를 담고 있고 roomSeq도 그대로이므로
+        // 남아 있어도 잘못된 페이지를 주지 않으며, 유휴 정리 주기에 함께 비워진다)
+        recentChatMessageCache.evict(chatRoomId);
+
+        log.debug("채팅방 메시지 묶음 보관 - ChatRoom ID: {}, 메시지: {}건, 보관 구간 끝: {}", chatRoomId, messages.size(), last.id());
+        return messages.size();
+    }
+
+    public int getSegmentSize() {
+        return Math.max(1, properties.getArchive().getSegmentSize());
+    }
+
+    /**
+     * 보관된 메시지 한 페이지 조회 (최신순, beforeMessageId 이전)
+     */
+    public Slice<ChatMessageResponse> findMessages(Long chatRoomId, Long beforeMessageId, int size) {
+        // 묶음마다 메시지가 한 건 이상이므로 size + 1건을 채우는 데 필요한 묶음 수는 이를 넘지 않는다
+        List<Long> segmentIds = chatMessageArchiveRepository.findIdsBefore(
+                chatRoomId, beforeMessageId, PageRequest.of(0, size + 1));
+
+        List<ChatMessageResponse> content = new ArrayList<>(size + 1);
+        for (Long segmentId : segmentIds) {
+            List<PendingChatMessage> segment = segment(segmentId);
+            for (int i = segment.size() - 1; i >= 0 && content.size() <= size; i--) {
+                PendingChatMessage message = segment.get(i);
+                if (message.id() < beforeMessageId) {
+                    content.add(message.toResponse());
+                }
+            }
+            if (content.size() > size) {
+                break;
+            }
+        }
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content.remove(content.size() - 1);
+        }
+        fillSenders(content);
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    private List<PendingChatMessage> segment(Long segmentId) {
+        synchronized (decodedSegments) {
+            List<PendingChatMessage> cached = decodedSegments.get(segmentId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        List<PendingChatMessage> decoded = chatMessageArchiveRepository.findById(segmentId)
+                .map(archive -> codec.decode(archive.getPayload()))
+                .orElse(List.of());
+
+        synchronized (decodedSegments) {
+            decodedSegments.put(segmentId, decoded);
+            int capacity = Math.max(0, properties.getArchive().getDecodedCacheSegments());
+            Iterator<Map.Entry<Long, List<PendingChatMessage>>> iterator = decodedSegments.entrySet().iterator();
+            while (decodedSegments.size() > capacity && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        return decoded;
+    }
+
+    // 보관 데이터에는 발신자 이름이 없으므로 페이지의 발신자를 한 번에 조회해 채운다
+    private void fillSenders(List<ChatMessageResponse> messages) {
+        Set<Long> senderIds = messages.stream()
+                .map(ChatMessageResponse::getSenderId)
+                .filter(senderId -> senderId != null && senderId > 0)
+                .collect(Collectors.toSet());
+        if (senderIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, User> senders = userRepository.findAllById(senderIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        for (ChatMessageResponse message : messages) {
+            User sender = senders.get(message.getSenderId());
+            if (sender != null) {
+                message.setSenderName(sender.getName());
+                message.setSenderUsername(sender.getUsername());
+            }
+        }
+    }
+}
@@ -5,10 +5,7 @@ import com.petmily.backend.api.chat.dto.ChatMessageResponse;
 import com.petmily.backend.api.chat.service.ChatMessageService;
 import com.petmily.backend.api.common.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PageableDefault;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -23,15 +20,17 @@ public class ChatMessageController {
     private final ChatMessageService chatMessageService;
 
     /**
-     * 채팅방의 메시지 목록 조회 (페이징)
+     * 채팅방의 메시지 목록 조회 (최신순)
+     * 이전 메시지는 현재 목록의 가장 오래된 메시지 ID를 beforeMessageId로 전달하여 조회
      */
     @GetMapping("/{roomId}/messages")
-    public ResponseEntity<Page<ChatMessageResponse>> getChatMessages(
+    public ResponseEntity<Slice<ChatMessageResponse>> getChatMessages(
             @PathVariable String roomId,
-            @PageableDefault(size = 50, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(required = false) Long beforeMessageId,
+            @RequestParam(defaultValue = "50") int size,
             @AuthenticationPrincipal UserDetails userDetails) {
         Long userId = SecurityUtils.getUserId(userDetails);
-        Page<ChatMessageResponse> messages = chatMessageService.getChatMessages(roomId, userId, pageable);
+        Slice<ChatMessageResponse> messages = chatMessageService.getChatMessages(roomId, userId, beforeMessageId, size);
         return ResponseEntity.ok(messages);
     }
 
@@ -5,12 +5,14 @@ import com.petmily.backend.api.chat.dto.CreateChatRoomRequest;
 import com.petmily.backend.api.chat.service.ChatRoomService;
 import com.petmily.backend.api.common.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -21,12 +23,17 @@ public class ChatRoomController {
     private final ChatRoomService chatRoomService;
 
     /**
-     * 사용자의 채팅방 목록 조회
+     * 사용자의 채팅방 목록 조회 (최근 활동 순)
+     * 다음 페이지는 마지막 항목의 lastActivityAt, cursorId를 beforeActivityAt, beforeId로 전달
      */
     @GetMapping("/rooms")
-    public ResponseEntity<List<ChatRoomResponse>> getUserChatRooms(@AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<List<ChatRoomResponse>> getUserChatRooms(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeActivityAt,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "30") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
         Long userId = SecurityUtils.getUserId(userDetails);
-        List<ChatRoomResponse> chatRooms = chatRoomService.getUserChatRooms(userId);
+        List<ChatRoomResponse> chatRooms = chatRoomService.getUserChatRooms(userId, beforeActivityAt, beforeId, size);
         return ResponseEntity.ok(chatRooms);
     }
 
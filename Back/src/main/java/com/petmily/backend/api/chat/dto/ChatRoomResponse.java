@@ -1,6 +1,7 @@
 package com.petmily.backend.api.chat.dto;
 
 import com.petmily.backend.domain.chat.entity.ChatRoom;
+import com.petmily.backend.domain.chat.entity.ChatRoomParticipant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -34,6 +35,11 @@ public class ChatRoomResponse {
     private String lastMessage;
     private LocalDateTime lastMessageTime;
     private Long unreadCount;
+    private Long lastReadMessageId;
+
+    // 채팅방 목록 다음 페이지 조회용 커서 (beforeActivityAt, beforeId)
+    private LocalDateTime lastActivityAt;
+    private Long cursorId;
 
     public static ChatRoomResponse from(ChatRoom chatRoom) {
         return ChatRoomResponse.builder()
@@ -62,4 +68,13 @@ public class ChatRoomResponse {
         response.setUnreadCount(unreadCount);
         return response;
     }
-}
\ No newline at end of file
+
+    public static ChatRoomResponse fromSummary(ChatRoomParticipant summary) {
+        ChatRoomResponse response = fromWithLastMessage(summary.getChatRoom(), summary.getLastMessagePreview(),
+                summary.getLastMessageAt(), summary.getUnreadCount());
+        response.setLastReadMessageId(summary.getLastReadMessageId());
+        response.setLastActivityAt(summary.getLastActivityAt());
+        response.setCursorId(summary.getId());
+        return response;
+    }
+}
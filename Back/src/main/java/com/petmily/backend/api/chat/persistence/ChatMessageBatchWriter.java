@@ -0,0 +1,108 @@
+package com.petmily.backend.api.chat.persistence;
+
+import com.petmily.backend.domain.chat.entity.ChatRoomParticipant;
+import com.petmily.backend.domain.chat.repository.ChatMessageRepository;
+import com.petmily.backend.domain.chat.repository.ChatRoomParticipantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 저장 대기열의 메시지를 한 트랜잭션에서 배치로 저장하고 채팅방 요약에 반영
+ * 같은 메시지가 다시 전달되어도(at-least-once) 이미 저장된 ID는 건너뛰므로 중복 저장/중복 집계가 없다.
+ * 이미 저장된 ID인데 채팅방/발신자/내용이 다르면 서버 번호가 겹쳐 ID가 충돌한 것이므로 오류로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageBatchWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO chat_messages (id, chat_room_id, sender_id, message_type, content, is_system_message, " +
+            "booking_button_data, is_read, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomParticipantRepository chatRoomParticipantRepository;
+
+    /**
+     * 커밋 이후 콜백에서 호출되어도 기존 트랜잭션에 섞이지 않도록 항상 새 트랜잭션에서 저장한다
+     * @return 새로 저장된 메시지 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int write(List<PendingChatMessage> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, PendingChatMessage> byId = new TreeMap<>();
+        messages.forEach(message -> byId.putIfAbsent(message.id(), message));
+        for (Object[] row : chatMessageRepository.findExistingMessages(byId.keySet())) {
+            PendingChatMessage message = byId.remove((Long) row[0]);
+            if (message != null && !isSameMessage(message, row)) {
+                log.error("채팅 메시지 ID 충돌 - 다른 메시지가 같은 ID로 이미 저장됨 (서버 번호 설정 확인 필요), " +
+                        "ID: {}, 채팅방: {} / 저장된 채팅방: {}", message.id(), message.chatRoomId(), row[1]);
+            }
+        }
+        List<PendingChatMessage> fresh = new ArrayList<>(byId.values());
+        if (fresh.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, fresh, fresh.size(), (ps, message) -> {
+            Timestamp createdAt = Timestamp.valueOf(message.createdAt());
+            ps.setLong(1, message.id());
+            ps.setLong(2, message.chatRoomId());
+            ps.setLong(3, message.senderId());
+            ps.setString(4, message.messageType() != null ? message.messageType().name() : null);
+            ps.setString(5, message.content());
+            ps.setBoolean(6, Boolean.TRUE.equals(message.isSystemMessage()));
+            ps.setString(7, message.bookingButtonData());
+            ps.setBoolean(8, false);
+            ps.setTimestamp(9, createdAt);
+            ps.setTimestamp(10, createdAt);
+        });
+
+        // 채팅방별로 ID 순서대로 요약 반영 (채팅방당 1 + 발신자 수 만큼의 갱신)
+        Map<Long, List<PendingChatMessage>> byRoom = new LinkedHashMap<>();
+        fresh.forEach(message -> byRoom.computeIfAbsent(message.chatRoomId(), key -> new ArrayList<>()).add(message));
+        byRoom.forEach(this::applySummary);
+        return fresh.size();
+    }
+
+    private static boolean isSameMessage(PendingChatMessage message, Object[] row) {
+        return Objects.equals(message.chatRoomId(), row[1])
+                && Objects.equals(message.senderId(), row[2])
+                && Objects.equals(message.content(), row[3]);
+    }
+
+    private void applySummary(Long chatRoomId, List<PendingChatMessage> roomMessages) {
+        roomMessages.sort(Comparator.comparing(PendingChatMessage::id));
+        PendingChatMessage last = roomMessages.get(roomMessages.size() - 1);
+        chatRoomParticipantRepository.applyMessageBatch(chatRoomId, roomMessages.size(), last.id(),
+                ChatRoomParticipant.previewOf(last.content()), last.createdAt());
+
+        // 발신자별 마지막 메시지 위치 (시스템 메시지 발신자 0 제외)
+        Map<Long, Integer> lastIndexBySender = new LinkedHashMap<>();
+        for (int i = 0; i < roomMessages.size(); i++) {
+            Long senderId = roomMessages.get(i).senderId();
+            if (senderId != null && senderId != 0L) {
+                lastIndexBySender.put(senderId, i);
+            }
+        }
+        lastIndexBySender.forEach((senderId, index) -> chatRoomParticipantRepository.advanceSenderRead(
+                chatRoomId, senderId, roomMessages.size() - 1 - index, roomMessages.get(index).id()));
+    }
+}
@@ -0,0 +1,81 @@
+package com.petmily.backend.api.chat.persistence;
+
+import com.petmily.backend.config.ChatProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * 채팅 메시지 ID 발급기 (Snowflake 방식)
+ * 41비트 밀리초 시각 + 10비트 서버 번호 + 12비트 순번으로 구성되어, DB 왕복 없이
+ * 서버 간 중복 없는 ID를 발급하고 같은 서버에서는 발급 순서대로 증가한다.
+ * 시계가 뒤로 가더라도 마지막 시각을 계속 사용하므로 ID는 줄어들지 않는다.
+ * write-behind 저장을 켜면 발급한 ID가 그대로 저장 키가 되므로, 서버 번호를 설정하지 않으면 기동하지 않는다
+ * (임의 번호는 서버끼리 겹칠 수 있고, 겹치면 나중 메시지가 이미 저장된 것으로 보여 유실된다).
+ */
+@Slf4j
+@Component
+public class ChatMessageIdGenerator {
+
+    // 2024-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = 1704067200000L;
+    private static final int WORKER_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_WORKER_ID = (1L << WORKER_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long workerId;
+    private final LongSupplier clock;
+
+    private long lastMillis = -1L;
+    private long sequence;
+
+    @Autowired
+    public ChatMessageIdGenerator(ChatProperties properties) {
+        this(resolveWorkerId(properties.getWriteBehind()), System::currentTimeMillis);
+    }
+
+    ChatMessageIdGenerator(long workerId, LongSupplier clock) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("workerId는 0~" + MAX_WORKER_ID + " 범위여야 합니다: " + workerId);
+        }
+        this.workerId = workerId;
+        this.clock = clock;
+    }
+
+    public synchronized long nextId() {
+        long now = Math.max(clock.getAsLong(), lastMillis);
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 밀리초의 순번을 모두 쓰면 다음 밀리초를 미리 사용한다
+                now = lastMillis + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+        return ((now - EPOCH_MILLIS) << (WORKER_BITS + SEQUENCE_BITS)) | (workerId << SEQUENCE_BITS) | sequence;
+    }
+
+    public long getWorkerId() {
+        return workerId;
+    }
+
+    static long resolveWorkerId(ChatProperties.WriteBehind writeBehind) {
+        if (writeBehind.getWorkerId() >= 0) {
+            return writeBehind.getWorkerId();
+        }
+        if (writeBehind.isEnabled()) {
+            throw new IllegalStateException(
+                    "petmily.chat.write-behind.enabled=true 이면 서버마다 다른 worker-id(0~" + MAX_WORKER_ID + ")를 설정해야 합니다.");
+        }
+        // write-behind를 쓰지 않으면 발급한 ID가 저장되지 않으므로 임의 번호로 충분하다
+        long workerId = ThreadLocalRandom.current().nextLong(MAX_WORKER_ID + 1);
+        log.info("채팅 메시지 ID 서버 번호 미설정 - 임의 번호 사용: {}", workerId);
+        return workerId;
+    }
+}
@@ -0,0 +1,261 @@
+package com.petmily.backend.api.chat.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petmily.backend.config.ChatProperties;
+import com.petmily.backend.domain.chat.entity.ChatMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.Record;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 채팅 메시지 write-behind 저장 대기열
+ * 메시지는 앱에서 발급한 ID로 바로 발행되고, 저장은 Redis Stream에 기록한 뒤 파티션별 스레드가 배치로 처리한다.
+ * - 내구성: 발행 전에 Stream에 기록되며, 저장 후에만 ACK하므로 서버가 중단되어도 다른 서버(또는 재기동한 서버)가
+ *   미처리 항목을 넘겨받아 다시 저장한다 (at-least-once, 중복은 ChatMessageBatchWriter가 건너뜀).
+ * - 순서: 채팅방은 항상 같은 파티션에 기록되고, 메시지 순서는 발급 순서대로 증가하는 메시지 ID로 정해진다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehindQueue {
+
+    public static final String STREAM_KEY_PREFIX = "chat:messages:pending:";
+    private static final String GROUP = "chat-message-writers";
+    private static final String PAYLOAD_FIELD = "payload";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChatMessageBatchWriter batchWriter;
+    private final ChatMessageIdGenerator idGenerator;
+    private final ChatProperties.WriteBehind properties;
+    private final String consumerName = "writer-" + UUID.randomUUID();
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public ChatMessageWriteBehindQueue(StringRedisTemplate redisTemplate,
+                                       ObjectMapper objectMapper,
+                                       ChatMessageBatchWriter batchWriter,
+                                       ChatMessageIdGenerator idGenerator,
+                                       ChatProperties chatProperties) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.batchWriter = batchWriter;
+        this.idGenerator = idGenerator;
+        this.properties = chatProperties.getWriteBehind();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        for (int partition = 0; partition < partitionCount(); partition++) {
+            int partitionNo = partition;
+            Thread worker = new Thread(() -> run(partitionNo), "chat-message-writer-" + partitionNo);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("채팅 메시지 write-behind 저장 사용 - 파티션: {}, 서버 번호: {}", partitionCount(), idGenerator.getWorkerId());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 앱에서 ID와 작성 시각을 확정한 저장 대기 메시지 생성
+     */
+    public PendingChatMessage prepare(ChatMessage message) {
+        return PendingChatMessage.of(idGenerator.nextId(), message, LocalDateTime.now());
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 대기열에 기록 (롤백되면 기록하지 않음)
+     */
+    public void submitAfterCommit(PendingChatMessage message) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(message);
+                }
+            });
+        } else {
+            submit(message);
+        }
+    }
+
+    public void submit(PendingChatMessage message) {
+        try {
+            String payload = objectMapper.writeValueAsString(message);
+            redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                    .in(streamKey(partitionOf(message.chatRoomId())))
+                    .ofMap(Map.of(PAYLOAD_FIELD, payload)));
+        } catch (Exception e) {
+            // 대기열에 기록하지 못하면 유실되지 않도록 바로 저장한다
+            log.warn("채팅 메시지 저장 대기열 기록 실패 - 즉시 저장, Message ID: {}", message.id(), e);
+            batchWriter.write(List.of(message));
+        }
+    }
+
+    private void run(int partition) {
+        String key = streamKey(partition);
+        boolean groupReady = false;
+        long lastClaimAt = 0L;
+
+        while (running) {
+            try {
+                if (!groupReady) {
+                    ensureGroup(key);
+                    groupReady = true;
+                }
+
+                long now = System.currentTimeMillis();
+                if (now - lastClaimAt >= properties.getClaimIdleMillis()) {
+                    lastClaimAt = now;
+                    reclaim(key);
+                }
+
+                List<MapRecord<String, Object, Object>> records = streams().read(
+                        Consumer.from(GROUP, consumerName),
+                        StreamReadOptions.empty().count(properties.getBatchSize()),
+                        StreamOffset.create(key, ReadOffset.lastConsumed()));
+                if (records == null || records.isEmpty()) {
+                    sleep(properties.getPollIntervalMillis());
+                    continue;
+                }
+                flush(key, records);
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("채팅 메시지 배치 저장 실패 - 파티션: {}", partition, e);
+                sleep(Math.max(properties.getPollIntervalMillis(), 1000L));
+            }
+        }
+    }
+
+    /**
+     * 저장 후에만 ACK/삭제하므로 저장이 실패한 항목은 대기열에 남아 다시 처리된다
+     */
+    private void flush(String key, List<MapRecord<String, Object, Object>> records) {
+        List<PendingChatMessage> messages = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Object payload = record.getValue().get(PAYLOAD_FIELD);
+            try {
+                messages.add(objectMapper.readValue(String.valueOf(payload), PendingChatMessage.class));
+            } catch (Exception e) {
+                log.error("채팅 메시지 저장 대기열 항목 해석 실패로 제외 - Record ID: {}", record.getId(), e);
+            }
+        }
+
+        int written = batchWriter.write(messages);
+        RecordId[] recordIds = records.stream().map(Record::getId).toArray(RecordId[]::new);
+        streams().acknowledge(key, GROUP, recordIds);
+        streams().delete(key, recordIds);
+        log.debug("채팅 메시지 배치 저장 - {}: {}건 (신규 {}건)", key, records.size(), written);
+    }
+
+    // 처리 중 중단된 서버의 항목(또는 자신이 저장에 실패한 항목)을 넘겨받아 다시 저장
+    private void reclaim(String key) {
+        PendingMessages pending = streams().pending(key, GROUP, Range.unbounded(), properties.getBatchSize());
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+        Duration minIdle = Duration.ofMillis(properties.getClaimIdleMillis());
+        RecordId[] recordIds = pending.stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (recordIds.length == 0) {
+            return;
+        }
+
+        List<MapRecord<String, Object, Object>> claimed = streams().claim(key, GROUP, consumerName, minIdle, recordIds);
+        if (!claimed.isEmpty()) {
+            log.info("채팅 메시지 저장 대기열 미처리 항목 인수 - {}: {}건", key, claimed.size());
+            flush(key, claimed);
+        }
+    }
+
+    private void ensureGroup(String key) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> createGroup(connection, rawKey));
+        } catch (DataAccessException e) {
+            String message = e.getMostSpecificCause().getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    private static String createGroup(RedisConnection connection, byte[] rawKey) {
+        return connection.streamCommands().xGroupCreate(rawKey, GROUP, ReadOffset.from("0"), true);
+    }
+
+    private StreamOperations<String, Object, Object> streams() {
+        return redisTemplate.opsForStream();
+    }
+
+    private int partitionCount() {
+        return Math.max(1, properties.getPartitions());
+    }
+
+    private int partitionOf(Long chatRoomId) {
+        return (int) Math.floorMod(chatRoomId, (long) partitionCount());
+    }
+
+    private static String streamKey(int partition) {
+        return STREAM_KEY_PREFIX + partition;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
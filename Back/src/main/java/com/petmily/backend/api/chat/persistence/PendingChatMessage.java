@@ -0,0 +1,38 @@
+package com.petmily.backend.api.chat.persistence;
+
+import com.petmily.backend.api.chat.dto.ChatMessageResponse;
+import com.petmily.backend.domain.chat.entity.ChatMessage;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장 대기열에 들어가는 메시지 (ID와 작성 시각은 앱에서 확정)
+ */
+public record PendingChatMessage(Long id,
+                                 Long chatRoomId,
+                                 Long senderId,
+                                 ChatMessage.MessageType messageType,
+                                 String content,
+                                 Boolean isSystemMessage,
+                                 String bookingButtonData,
+                                 LocalDateTime createdAt) {
+
+    public static PendingChatMessage of(Long id, ChatMessage message, LocalDateTime createdAt) {
+        return new PendingChatMessage(id, message.getChatRoomId(), message.getSenderId(), message.getMessageType(),
+                message.getContent(), message.getIsSystemMessage(), message.getBookingButtonData(), createdAt);
+    }
+
+    public ChatMessageResponse toResponse() {
+        return ChatMessageResponse.builder()
+                .id(id)
+                .chatRoomId(chatRoomId)
+                .senderId(senderId)
+                .messageType(messageType)
+                .content(content)
+                .isSystemMessage(isSystemMessage)
+                .bookingButtonData(bookingButtonData)
+                .isRead(false)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.petmily.backend.api.chat.push;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 채팅 메시지 푸시 한 건 (트랜잭션 안에서 수신자를 확정한 뒤 아웃박스에 넣는다)
+ */
+@Getter
+@Builder
+public class ChatPush {
+
+    private final Long recipientUserId;
+    private final String recipientToken; // 없으면 발송 워커에서 조회
+    private final String roomId;
+    private final String senderName;
+    private final String body;
+}
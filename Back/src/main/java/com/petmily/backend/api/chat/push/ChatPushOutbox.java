@@ -0,0 +1,245 @@
+package com.petmily.backend.api.chat.push;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.petmily.backend.api.fcm.dto.FcmResponseDto;
+import com.petmily.backend.api.fcm.dto.FcmSendDto;
+import com.petmily.backend.api.fcm.service.FcmService;
+import com.petmily.backend.config.ChatProperties;
+import com.petmily.backend.domain.user.entity.User;
+import com.petmily.backend.domain.user.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅 푸시 아웃박스
+ * 메시지 트랜잭션이 커밋된 뒤에만 푸시를 대기열에 넣고, 제한된 워커 풀에서 FCM으로 발송한다.
+ * 같은 수신자/채팅방으로 짧은 시간 안에 연달아 온 메시지는 개수를 포함한 푸시 한 건으로 묶는다.
+ * 수신자 FCM 토큰이 없는 푸시는 발송 워커에서 묶음당 한 번 조회한다 (메시지 전송 경로에서 사용자 조회 제거).
+ * 일시적인 FCM 오류만 재시도하고, 해지/만료된 토큰은 사용자에게서 지운다.
+ */
+@Slf4j
+@Component
+public class ChatPushOutbox {
+
+    // 잠시 후 다시 보내면 성공할 수 있는 오류
+    private static final Set<MessagingErrorCode> RETRYABLE_ERRORS = EnumSet.of(
+            MessagingErrorCode.UNAVAILABLE,
+            MessagingErrorCode.INTERNAL,
+            MessagingErrorCode.QUOTA_EXCEEDED
+    );
+
+    // 토큰 자체가 더 이상 쓸 수 없는 오류
+    private static final Set<MessagingErrorCode> DEAD_TOKEN_ERRORS = EnumSet.of(
+            MessagingErrorCode.UNREGISTERED,
+            MessagingErrorCode.SENDER_ID_MISMATCH
+    );
+
+    private final FcmService fcmService;
+    private final UserRepository userRepository;
+    private final ChatProperties.Push properties;
+
+    // 수신자:채팅방 -> 묶음 대기 중인 푸시
+    private final ConcurrentHashMap<String, PendingPush> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final ThreadPoolExecutor workers;
+
+    public ChatPushOutbox(FcmService fcmService, UserRepository userRepository, ChatProperties chatProperties) {
+        this.fcmService = fcmService;
+        this.userRepository = userRepository;
+        this.properties = chatProperties.getPush();
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-push-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        int threads = Math.max(1, properties.getWorkerThreads());
+        AtomicInteger threadNo = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "chat-push-" + threadNo.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 푸시를 대기열에 넣는다 (롤백되면 발송하지 않음)
+     */
+    public void enqueueAfterCommit(ChatPush push) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(push);
+                }
+            });
+        } else {
+            enqueue(push);
+        }
+    }
+
+    public void enqueue(ChatPush push) {
+        String key = push.getRecipientUserId() + ":" + push.getRoomId();
+        while (true) {
+            PendingPush existing = pending.get(key);
+            if (existing != null && existing.merge(push)) {
+                return;
+            }
+
+            // 대기 중인 묶음이 없거나 이미 발송이 시작된 경우 새 묶음을 연다
+            PendingPush created = new PendingPush(push);
+            boolean installed = existing == null
+                    ? pending.putIfAbsent(key, created) == null
+                    : pending.replace(key, existing, created);
+            if (installed) {
+                scheduler.schedule(() -> dispatch(key, created),
+                        properties.getCoalesceWindowMillis(), TimeUnit.MILLISECONDS);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        workers.shutdown();
+        try {
+            workers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatch(String key, PendingPush batch) {
+        pending.remove(key, batch);
+        FcmSendDto message = batch.close();
+        if (message.getToken() != null) {
+            submit(batch.recipientUserId, message, 1);
+            return;
+        }
+        try {
+            workers.execute(() -> resolveAndSend(batch.recipientUserId, message));
+        } catch (RejectedExecutionException e) {
+            log.warn("채팅 푸시 대기열 초과로 발송 생략 - 제목: {}", message.getTitle());
+        }
+    }
+
+    private void resolveAndSend(Long recipientUserId, FcmSendDto message) {
+        String token = userRepository.findById(recipientUserId)
+                .map(User::getFcmToken)
+                .filter(fcmToken -> !fcmToken.isEmpty())
+                .orElse(null);
+        if (token == null) {
+            return;
+        }
+        send(recipientUserId, message.toBuilder().token(token).build(), 1);
+    }
+
+    private void submit(Long recipientUserId, FcmSendDto message, int attempt) {
+        try {
+            workers.execute(() -> send(recipientUserId, message, attempt));
+        } catch (RejectedExecutionException e) {
+            log.warn("채팅 푸시 대기열 초과로 발송 생략 - 제목: {}", message.getTitle());
+        }
+    }
+
+    private void send(Long recipientUserId, FcmSendDto message, int attempt) {
+        FcmResponseDto response;
+        try {
+            response = fcmService.sendMessageTo(message);
+        } catch (Exception e) {
+            response = FcmResponseDto.failure(message.getTitle(), message.getBody(), e.getMessage());
+        }
+
+        if (response != null && response.isSuccess()) {
+            return;
+        }
+
+        MessagingErrorCode errorCode = response != null ? response.getErrorCode() : null;
+        if (DEAD_TOKEN_ERRORS.contains(errorCode)) {
+            clearToken(recipientUserId, message.getToken(), errorCode);
+            return;
+        }
+
+        if (!RETRYABLE_ERRORS.contains(errorCode)) {
+            log.warn("채팅 푸시 발송 실패 (재시도 대상 아님) - 오류 코드: {}, 오류: {}", errorCode,
+                    response != null ? response.getErrorMessage() : null);
+            return;
+        }
+
+        if (attempt >= properties.getMaxAttempts()) {
+            log.warn("채팅 푸시 발송 최종 실패 - 시도: {}회, 오류: {}", attempt,
+                    response != null ? response.getErrorMessage() : null);
+            return;
+        }
+
+        long backoff = properties.getRetryBackoffMillis() << (attempt - 1);
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(() -> submit(recipientUserId, message, attempt + 1), backoff, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void clearToken(Long recipientUserId, String token, MessagingErrorCode errorCode) {
+        try {
+            int cleared = userRepository.clearFcmToken(recipientUserId, token);
+            log.info("사용할 수 없는 FCM 토큰 정리 - UserId: {}, 오류 코드: {}, 정리: {}건", recipientUserId, errorCode, cleared);
+        } catch (Exception e) {
+            log.warn("FCM 토큰 정리 실패 - UserId: {}", recipientUserId, e);
+        }
+    }
+
+    /**
+     * 묶음 대기 중인 푸시 - 발송 시점에 닫히며 닫힌 뒤에는 더 합치지 않는다
+     */
+    private static class PendingPush {
+        private final Long recipientUserId;
+        private final String token;
+        private final String title;
+        private String body;
+        private int count = 1;
+        private boolean closed;
+
+        PendingPush(ChatPush push) {
+            this.recipientUserId = push.getRecipientUserId();
+            this.token = push.getRecipientToken();
+            this.title = push.getSenderName();
+            this.body = push.getBody();
+        }
+
+        synchronized boolean merge(ChatPush push) {
+            if (closed) {
+                return false;
+            }
+            count++;
+            body = push.getBody();
+            return true;
+        }
+
+        synchronized FcmSendDto close() {
+            closed = true;
+            String text = count > 1 ? "새 메시지 " + count + "개 · " + body : body;
+            return FcmSendDto.builder()
+                    .token(token)
+                    .title(title)
+                    .body(text)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.petmily.backend.api.chat.redis;
+
+import com.petmily.backend.config.ChatProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 접속(구독) 중인 사용자 현황
+ * 이 서버의 구독은 메모리에서 세고, 서버 간 공유를 위해 Redis에 chat:presence:{roomId}:{userId} 정렬 집합으로 기록한다.
+ * 집합의 멤버는 서버 ID, 점수는 만료 시각이며 하트비트마다 갱신되므로 종료된 서버의 접속 정보는 TTL 이후 무시된다.
+ */
+@Slf4j
+@Component
+public class ChatPresenceRegistry {
+
+    private static final String KEY_PREFIX = "chat:presence:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ChatProperties.Presence properties;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // roomId:userId -> 이 서버에서 열려 있는 구독 수
+    private final ConcurrentHashMap<String, Integer> localPresence = new ConcurrentHashMap<>();
+
+    public ChatPresenceRegistry(RedisTemplate<String, Object> redisTemplate, ChatProperties chatProperties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = chatProperties.getPresence();
+    }
+
+    public void enter(String roomId, Long userId) {
+        String key = presenceKey(roomId, userId);
+        Integer count = localPresence.merge(key, 1, Integer::sum);
+        if (count == 1) {
+            publish(key);
+        }
+    }
+
+    public void leave(String roomId, Long userId) {
+        String key = presenceKey(roomId, userId);
+        Integer remaining = localPresence.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            try {
+                redisTemplate.opsForZSet().remove(key, nodeId);
+            } catch (Exception e) {
+                log.debug("채팅 접속 정보 삭제 실패 - {}", key, e);
+            }
+        }
+    }
+
+    /**
+     * 사용자가 어느 서버에서든 채팅방을 보고 있는지 확인 (Redis 조회 실패 시 미접속으로 간주)
+     */
+    public boolean isPresent(String roomId, Long userId) {
+        String key = presenceKey(roomId, userId);
+        if (localPresence.containsKey(key)) {
+            return true;
+        }
+        try {
+            Long alive = redisTemplate.opsForZSet().count(key, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+            return alive != null && alive > 0;
+        } catch (Exception e) {
+            log.debug("채팅 접속 정보 조회 실패 - {}", key, e);
+            return false;
+        }
+    }
+
+    /**
+     * 이 서버의 접속 정보 만료 시각 갱신
+     */
+    @Scheduled(fixedRateString = "${petmily.chat.presence.heartbeat-millis:20000}")
+    public void heartbeat() {
+        localPresence.keySet().forEach(this::publish);
+    }
+
+    private void publish(String key) {
+        long now = System.currentTimeMillis();
+        try {
+            redisTemplate.opsForZSet().add(key, nodeId, now + TimeUnit.SECONDS.toMillis(properties.getTtlSeconds()));
+            redisTemplate.opsForZSet().removeRangeByScore(key, 0, now);
+            redisTemplate.expire(key, properties.getTtlSeconds(), TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.debug("채팅 접속 정보 기록 실패 - {}", key, e);
+        }
+    }
+
+    private static String presenceKey(String roomId, Long userId) {
+        return KEY_PREFIX + roomId + ":" + userId;
+    }
+}
@@ -0,0 +1,141 @@
+package com.petmily.backend.api.chat.redis;
+
+import com.petmily.backend.api.chat.websocket.ChatSessionPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 서버에 접속한 채팅방 구독자 현황
+ * STOMP 구독/해제/연결 종료 이벤트로 갱신되며, 마지막 구독자가 나가면 방 상태를 제거한다.
+ * Redis에서 수신한 메시지는 구독자가 있는 방에만 전달된다.
+ * 구독한 사용자는 ChatPresenceRegistry에도 반영되어 푸시 알림 생략 여부 판단에 쓰인다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSubscriptionRegistry {
+
+    public static final String ROOM_DESTINATION_PREFIX = "/sub/chat/room/";
+
+    // roomId -> 구독 키(sessionId:subscriptionId) 집합
+    private final ConcurrentHashMap<String, Set<String>> roomSubscriptions = new ConcurrentHashMap<>();
+
+    // sessionId -> (subscriptionId -> 구독 정보), UNSUBSCRIBE/DISCONNECT 프레임에는 destination이 없으므로 따로 보관
+    private final ConcurrentHashMap<String, Map<String, RoomSubscription>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    private final ChatPresenceRegistry presenceRegistry;
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String roomId = extractRoomId(accessor.getDestination());
+        if (roomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        // CONNECT 시 확정된 세션 사용자 (StompAuthChannelInterceptor)
+        ChatSessionPrincipal principal = ChatSessionPrincipal.from(accessor.getSessionAttributes());
+        Long userId = principal != null ? principal.userId() : null;
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), roomId, userId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    public void subscribe(String sessionId, String subscriptionId, String roomId, Long userId) {
+        RoomSubscription previous = sessionSubscriptions.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .put(subscriptionId, new RoomSubscription(roomId, userId));
+        if (previous != null) {
+            release(sessionId, subscriptionId, previous);
+        }
+        roomSubscriptions.compute(roomId, (key, subscriptions) -> {
+            Set<String> result = subscriptions != null ? subscriptions : ConcurrentHashMap.newKeySet();
+            result.add(subscriptionKey(sessionId, subscriptionId));
+            return result;
+        });
+        if (userId != null) {
+            presenceRegistry.enter(roomId, userId);
+        }
+        log.debug("채팅방 구독 - 방: {}, 세션: {}", roomId, sessionId);
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, RoomSubscription> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        RoomSubscription subscription = subscriptions.remove(subscriptionId);
+        if (subscription != null) {
+            release(sessionId, subscriptionId, subscription);
+        }
+        if (subscriptions.isEmpty()) {
+            sessionSubscriptions.remove(sessionId, subscriptions);
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        Map<String, RoomSubscription> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        subscriptions.forEach((subscriptionId, subscription) -> release(sessionId, subscriptionId, subscription));
+    }
+
+    public boolean hasLocalSubscribers(String roomId) {
+        return roomSubscriptions.containsKey(roomId);
+    }
+
+    public int getActiveRoomCount() {
+        return roomSubscriptions.size();
+    }
+
+    // 마지막 구독자가 빠지면 compute 안에서 방 상태를 원자적으로 제거한다
+    private void release(String sessionId, String subscriptionId, RoomSubscription subscription) {
+        String subscriptionKey = subscriptionKey(sessionId, subscriptionId);
+        roomSubscriptions.computeIfPresent(subscription.roomId(), (key, subscriptions) -> {
+            subscriptions.remove(subscriptionKey);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+        if (subscription.userId() != null) {
+            presenceRegistry.leave(subscription.roomId(), subscription.userId());
+        }
+    }
+
+    public static String extractRoomId(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        String roomId = destination.substring(ROOM_DESTINATION_PREFIX.length());
+        return roomId.isEmpty() || roomId.contains("/") ? null : roomId;
+    }
+
+    private static String subscriptionKey(String sessionId, String subscriptionId) {
+        return sessionId + ":" + subscriptionId;
+    }
+
+    private record RoomSubscription(String roomId, Long userId) {
+    }
+}
@@ -1,19 +1,52 @@
 package com.petmily.backend.api.chat.redis;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.petmily.backend.api.chat.dto.ChatMessageResponse;
+import com.petmily.backend.api.exception.CustomException;
+import com.petmily.backend.api.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+
 @RequiredArgsConstructor
 @Service
 public class RedisPublisher {
 
+    // 모든 채팅방은 chat:room:{roomId} 채널로 발행되고, 서버는 chat:room:* 패턴 하나만 구독한다
+    public static final String CHAT_ROOM_CHANNEL_PREFIX = "chat:room:";
+    public static final String CHAT_ROOM_CHANNEL_PATTERN = CHAT_ROOM_CHANNEL_PREFIX + "*";
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 구독자에게 전달될 최종 JSON을 한 번만 만들어 그대로 발행한다
+     * 채팅방 ID는 채널 이름에 담기므로, 수신 서버는 본문을 파싱하지 않고 바이트 그대로 구독자에게 전달한다.
+     */
+    public void publish(String roomId, ChatMessageResponse message){
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(message);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INTERNAL_ERROR, "채팅 메시지 직렬화에 실패했습니다");
+        }
+        byte[] channel = channelOf(roomId).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, payload));
+    }
+
+    public static String channelOf(String roomId) {
+        return CHAT_ROOM_CHANNEL_PREFIX + roomId;
+    }
 
-    public void publish(ChannelTopic topic, ChatMessageResponse message){
-        redisTemplate.convertAndSend(topic.getTopic(), message);
+    public static String roomIdOf(String channel) {
+        if (channel == null || !channel.startsWith(CHAT_ROOM_CHANNEL_PREFIX)) {
+            return null;
+        }
+        return channel.substring(CHAT_ROOM_CHANNEL_PREFIX.length());
     }
 
 }
@@ -1,41 +1,43 @@
 package com.petmily.backend.api.chat.redis;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.petmily.backend.api.chat.dto.ChatMessageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class RedisSubscriber implements MessageListener {
 
-    private final ObjectMapper objectMapper;
-    private final RedisTemplate<String, Object> redisTemplate;
     private final SimpMessageSendingOperations messageTemplate;
+    private final ChatRoomSubscriptionRegistry subscriptionRegistry;
 
     @Override
     public void onMessage(Message message, byte[] pattern){
-        try{
-            String publishMessage = redisTemplate
-                    .getStringSerializer()
-                    .deserialize(message.getBody());
-
-            ChatMessageResponse roomMessage = objectMapper.readValue(publishMessage, ChatMessageResponse.class);
-            // roomId(UUID)를 기반으로 WebSocket 경로 생성
-            String destination = "/sub/chat/room/" + roomMessage.getRoomId();
-            log.info("Redis 메시지 전송: {} -> {}", destination, roomMessage.getContent());
-            messageTemplate.convertAndSend(destination, roomMessage);
-        } catch (JsonProcessingException e){
-            log.error("Redis 메시지 처리 중 오류 발생", e);
-            throw new RuntimeException(e);
+        // 이 서버에 구독자가 없는 방의 메시지는 버린다
+        String roomId = RedisPublisher.roomIdOf(new String(message.getChannel(), StandardCharsets.UTF_8));
+        if (roomId == null || !subscriptionRegistry.hasLocalSubscribers(roomId)) {
+            return;
         }
+
+        // 발행 서버가 만든 최종 JSON을 파싱/재직렬화하지 않고 그대로 로컬 구독자에게 전달
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+
+        // roomId(UUID)를 기반으로 WebSocket 경로 생성
+        String destination = ChatRoomSubscriptionRegistry.ROOM_DESTINATION_PREFIX + roomId;
+        messageTemplate.send(destination, MessageBuilder.createMessage(message.getBody(), accessor.getMessageHeaders()));
+        log.debug("Redis 메시지 전달: {} ({} bytes)", destination, message.getBody().length);
     }
 
 }
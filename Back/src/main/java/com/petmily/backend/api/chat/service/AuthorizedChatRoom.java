@@ -0,0 +1,14 @@
+package com.petmily.backend.api.chat.service;
+
+/**
+ * 접근 권한이 확인된 채팅방 (구독 시 한 번 확인하고 세션에 보관)
+ */
+public record AuthorizedChatRoom(String roomId, Long chatRoomId, Long userId, Long walkerUserId) {
+
+    /**
+     * 발신자의 상대방 (발신자가 user면 워커의 user ID, 워커면 user ID)
+     */
+    public Long recipientOf(Long senderId) {
+        return userId.equals(senderId) ? walkerUserId : userId;
+    }
+}
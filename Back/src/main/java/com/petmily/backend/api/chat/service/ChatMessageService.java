@@ -1,39 +1,58 @@
 package com.petmily.backend.api.chat.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petmily.backend.api.chat.archive.ChatMessageArchiveService;
 import com.petmily.backend.api.chat.dto.ChatMessageRequest;
 import com.petmily.backend.api.chat.dto.ChatMessageResponse;
+import com.petmily.backend.api.chat.persistence.ChatMessageWriteBehindQueue;
+import com.petmily.backend.api.chat.persistence.PendingChatMessage;
+import com.petmily.backend.api.chat.push.ChatPush;
+import com.petmily.backend.api.chat.push.ChatPushOutbox;
+import com.petmily.backend.api.chat.redis.ChatPresenceRegistry;
+import com.petmily.backend.api.chat.websocket.ChatSessionPrincipal;
 import com.petmily.backend.api.exception.CustomException;
 import com.petmily.backend.api.exception.ErrorCode;
 import com.petmily.backend.domain.chat.entity.ChatMessage;
 import com.petmily.backend.domain.chat.entity.ChatRoom;
+import com.petmily.backend.domain.chat.entity.ChatRoomParticipant;
 import com.petmily.backend.domain.chat.repository.ChatMessageRepository;
+import com.petmily.backend.domain.chat.repository.ChatRoomParticipantRepository;
 import com.petmily.backend.domain.chat.repository.ChatRoomRepository;
-import com.petmily.backend.api.fcm.dto.FcmSendDto;
-import com.petmily.backend.api.fcm.service.FcmService;
 import com.petmily.backend.domain.user.entity.User;
 import com.petmily.backend.domain.user.repository.UserRepository;
 import com.petmily.backend.domain.walk.entity.WalkBooking;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @Slf4j
 @Service
 public class ChatMessageService {
 
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomParticipantRepository chatRoomParticipantRepository;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
-    private final FcmService fcmService;
+    private final ChatPushOutbox chatPushOutbox;
+    private final ChatPresenceRegistry chatPresenceRegistry;
+    private final RecentChatMessageCache recentChatMessageCache;
+    private final ChatMessageWriteBehindQueue chatMessageWriteBehindQueue;
+    private final ChatMessageArchiveService chatMessageArchiveService;
 
     private ChatRoom findChatRoomById(String roomId){
         return chatRoomRepository.findByRoomId(roomId)
@@ -45,21 +64,85 @@ public class ChatMessageService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
 
-    // 채팅방의 메시지 목록 조회 (페이징)
-    public Page<ChatMessageResponse> getChatMessages(String roomId, Long userId, Pageable pageable) {
+    /**
+     * 채팅방의 메시지 목록 조회 (최신순, beforeMessageId 이전 메시지를 커서로 조회)
+     * 채팅방과 참여자 요약만 조회하며, 접근 권한/메시지 순번/읽음 위치는 참여자 요약 한 번으로 함께 확인한다.
+     * 최근 메시지 캐시가 채팅방 메시지 순번까지 빠짐없이 반영하고 있으면 메시지 테이블은 조회하지 않는다.
+     */
+    public Slice<ChatMessageResponse> getChatMessages(String roomId, Long userId, Long beforeMessageId, int size) {
         ChatRoom chatRoom = findChatRoomById(roomId);
-        User user = findUserById(userId);
+        List<ChatRoomParticipant> participants = chatRoomParticipantRepository.findByChatRoomId(chatRoom.getId());
 
         // 접근 권한 확인
-        if (!hasAccessToChatRoom(chatRoom, user)) {
+        if (!isParticipant(chatRoom, userId, participants)) {
             throw new CustomException(ErrorCode.NO_ACCESS, "채팅방에 접근할 권한이 없습니다");
         }
 
-        Page<ChatMessage> messages = chatMessageRepository.findByChatRoomIdOrderByCreatedAtDesc(chatRoom.getId(), pageable);
-        return messages.map(ChatMessageResponse::from);
+        int pageSize = Math.max(1, Math.min(size, MAX_MESSAGE_PAGE_SIZE));
+        Long roomSeq = participants.stream()
+                .map(ChatRoomParticipant::getRoomSeq)
+                .filter(Objects::nonNull)
+                .max(Long::compare)
+                .orElse(null);
+
+        Long archivedThrough = chatRoom.getArchivedThroughMessageId();
+        Slice<ChatMessageResponse> messages;
+        if (archivedThrough != null && beforeMessageId != null && beforeMessageId <= archivedThrough + 1) {
+            // 요청 구간 전체가 보관된 구간이면 메시지 테이블은 조회하지 않는다
+            messages = chatMessageArchiveService.findMessages(chatRoom.getId(), beforeMessageId, pageSize);
+        } else {
+            messages = recentChatMessageCache.find(chatRoom.getId(), roomSeq, beforeMessageId, pageSize);
+            if (messages == null) {
+                messages = loadMessages(chatRoom.getId(), roomSeq, beforeMessageId, pageSize);
+            }
+            if (archivedThrough != null && !messages.hasNext()) {
+                messages = withArchivedMessages(chatRoom.getId(), messages, archivedThrough, pageSize);
+            }
+        }
+
+        Map<Long, Long> readWatermarks = readWatermarks(participants);
+        return messages.map(message -> withReadState(
+                message.toBuilder().roomId(chatRoom.getRoomId()).build(), readWatermarks));
+    }
+
+    /**
+     * @param roomSeq 메시지 조회 전에 읽은 채팅방 메시지 순번 (캐시를 채울 때 기준, 참여자 요약이 없으면 null)
+     */
+    private Slice<ChatMessageResponse> loadMessages(Long chatRoomId, Long roomSeq, Long beforeMessageId, int size) {
+        if (beforeMessageId != null) {
+            return chatMessageRepository.findByChatRoomIdAndIdLessThanOrderByIdDesc(
+                    chatRoomId, beforeMessageId, PageRequest.of(0, size)).map(ChatMessageResponse::from);
+        }
+
+        // 첫 페이지는 캐시 용량만큼 읽어 채팅방 최근 메시지 캐시를 채운다
+        int fetchSize = Math.max(size, recentChatMessageCache.getCapacity());
+        Slice<ChatMessage> latest = chatMessageRepository.findByChatRoomIdOrderByIdDesc(
+                chatRoomId, PageRequest.of(0, fetchSize));
+        List<ChatMessageResponse> responses = latest.map(ChatMessageResponse::from).getContent();
+        if (roomSeq != null) {
+            recentChatMessageCache.seed(chatRoomId, roomSeq, responses, !latest.hasNext());
+        }
+
+        boolean hasNext = responses.size() > size || latest.hasNext();
+        return new SliceImpl<>(responses.subList(0, Math.min(size, responses.size())), PageRequest.of(0, size), hasNext);
+    }
+
+    // 메시지 테이블에서 읽은 페이지가 모자라면 보관된 메시지로 이어서 채운다 (보관 구간은 항상 메시지 테이블보다 오래된 ID)
+    private Slice<ChatMessageResponse> withArchivedMessages(Long chatRoomId, Slice<ChatMessageResponse> hotMessages,
+                                                            Long archivedThrough, int size) {
+        int remaining = size - hotMessages.getNumberOfElements();
+        if (remaining <= 0) {
+            return new SliceImpl<>(hotMessages.getContent(), PageRequest.of(0, size), true);
+        }
+
+        Slice<ChatMessageResponse> archived = chatMessageArchiveService.findMessages(
+                chatRoomId, archivedThrough + 1, remaining);
+        List<ChatMessageResponse> content = new ArrayList<>(hotMessages.getContent());
+        content.addAll(archived.getContent());
+        return new SliceImpl<>(content, PageRequest.of(0, size), archived.hasNext());
     }
 
-    // 메시지 전송
+    // 메시지 전송 (REST)
     @Transactional
     public ChatMessageResponse sendMessage(String roomId, Long userId, ChatMessageRequest request) {
         ChatRoom chatRoom = findChatRoomById(roomId);
@@ -70,27 +153,38 @@ public class ChatMessageService {
             throw new CustomException(ErrorCode.NO_ACCESS, "채팅방에 접근할 권한이 없습니다");
         }
 
+        AuthorizedChatRoom room = new AuthorizedChatRoom(roomId, chatRoom.getId(), chatRoom.getUserId(),
+                chatRoom.getWalker() != null ? chatRoom.getWalker().getUserId() : null);
+        return saveMessage(room, new ChatSessionPrincipal(user.getId(), user.getUsername(), user.getName()), request);
+    }
+
+    /**
+     * 메시지 전송 (WebSocket)
+     * 사용자와 채팅방 접근 권한은 CONNECT/SUBSCRIBE 시 확정되어 세션에 보관되어 있으므로 저장만 수행한다.
+     */
+    @Transactional
+    public ChatMessageResponse sendMessage(AuthorizedChatRoom room, ChatSessionPrincipal sender, ChatMessageRequest request) {
+        return saveMessage(room, sender, request);
+    }
+
+    private ChatMessageResponse saveMessage(AuthorizedChatRoom room, ChatSessionPrincipal sender, ChatMessageRequest request) {
         ChatMessage message = ChatMessage.builder()
-                .chatRoomId(chatRoom.getId())
-                .senderId(user.getId())
+                .chatRoomId(room.chatRoomId())
+                .senderId(sender.userId())
                 .messageType(request.getMessageType())
                 .content(request.getContent())
                 .isSystemMessage(false)
                 .isRead(false)
                 .build();
 
-        ChatMessage savedMessage = chatMessageRepository.save(message);
-        ChatMessageResponse response = ChatMessageResponse.from(savedMessage);
-
-        // 발신자 정보 명시적으로 설정
-        response.setSenderName(user.getName());
-        response.setSenderUsername(user.getUsername());
+        // 저장 (발신자 이름은 세션 정보 사용)
+        ChatMessageResponse response = persist(message, sender);
 
-        // 새 채팅 메시지 FCM 푸시 알림 발송 (수신자에게만)
+        // 새 채팅 메시지 FCM 푸시 알림 (수신자에게만, 커밋 이후 비동기 발송)
         try {
-            sendChatMessageNotification(chatRoom, user, request.getContent());
+            enqueueChatMessageNotification(room, sender, request.getContent());
         } catch (Exception e) {
-            log.warn("채팅 메시지 FCM 푸시 알림 발송 실패 - Room ID: {}", roomId, e);
+            log.warn("채팅 메시지 FCM 푸시 알림 등록 실패 - Room ID: {}", room.roomId(), e);
         }
 
         return response;
@@ -121,8 +215,7 @@ public class ChatMessageService {
                     .isRead(false)
                     .build();
 
-            ChatMessage savedMessage = chatMessageRepository.save(systemMessage);
-            return ChatMessageResponse.from(savedMessage);
+            return persist(systemMessage, null);
 
         } catch (Exception e) {
             log.error("예약 시스템 메시지 생성 중 오류 발생", e);
@@ -143,8 +236,7 @@ public class ChatMessageService {
                 .isRead(false)
                 .build();
 
-        ChatMessage savedMessage = chatMessageRepository.save(joinMessage);
-        return ChatMessageResponse.from(savedMessage);
+        return persist(joinMessage, null);
     }
 
     // 메시지를 읽음 처리
@@ -153,7 +245,71 @@ public class ChatMessageService {
         ChatRoom chatRoom = findChatRoomById(roomId);
         User user = findUserById(userId);
 
-        chatMessageRepository.markMessagesAsRead(chatRoom.getId(), user.getId());
+        chatRoomParticipantRepository.markRead(chatRoom.getId(), user.getId());
+    }
+
+    // 참여자별 마지막으로 읽은 메시지 ID (userId -> messageId)
+    private Map<Long, Long> readWatermarks(List<ChatRoomParticipant> participants) {
+        Map<Long, Long> watermarks = new HashMap<>();
+        for (ChatRoomParticipant participant : participants) {
+            if (participant.getLastReadMessageId() != null) {
+                watermarks.put(participant.getUserId(), participant.getLastReadMessageId());
+            }
+        }
+        return watermarks;
+    }
+
+    // 발신자가 아닌 참여자 중 한 명이라도 이 메시지까지 읽었으면 읽음으로 표시
+    private ChatMessageResponse withReadState(ChatMessageResponse response, Map<Long, Long> readWatermarks) {
+        boolean read = readWatermarks.entrySet().stream()
+                .anyMatch(entry -> !entry.getKey().equals(response.getSenderId())
+                        && response.getId() != null && response.getId() <= entry.getValue());
+        response.setIsRead(read);
+        return response;
+    }
+
+    /**
+     * 메시지 저장 후 참여자별 채팅방 요약과 최근 메시지 캐시에 반영
+     * write-behind 모드에서는 앱에서 ID를 발급하고, 저장과 요약 반영은 커밋 이후 저장 대기열이 배치로 처리한다.
+     * (모든 메시지가 같은 방식으로 ID를 받아야 IDENTITY로 발급된 ID와 겹치지 않는다)
+     */
+    private ChatMessageResponse persist(ChatMessage message, ChatSessionPrincipal sender) {
+        ChatMessageResponse response;
+        if (chatMessageWriteBehindQueue.isEnabled()) {
+            PendingChatMessage pending = chatMessageWriteBehindQueue.prepare(message);
+            chatMessageWriteBehindQueue.submitAfterCommit(pending);
+            response = pending.toResponse();
+        } else {
+            ChatMessage savedMessage = chatMessageRepository.save(message);
+            LocalDateTime sentAt = savedMessage.getCreatedAt() != null ? savedMessage.getCreatedAt() : LocalDateTime.now();
+            chatRoomParticipantRepository.applyNewMessage(savedMessage.getChatRoomId(), savedMessage.getSenderId(),
+                    savedMessage.getId(), preview(savedMessage.getContent()), sentAt);
+            response = ChatMessageResponse.from(savedMessage);
+        }
+
+        if (sender != null) {
+            response.setSenderName(sender.name());
+            response.setSenderUsername(sender.username());
+        }
+        // write-behind 메시지는 roomSeq가 배치 저장 시점에 반영되므로 덧붙이지 않는다 (캐시는 다음 조회 때 DB로 다시 채움)
+        if (!chatMessageWriteBehindQueue.isEnabled()) {
+            recentChatMessageCache.appendAfterCommit(response.toBuilder().build());
+        }
+        return response;
+    }
+
+    private static String preview(String content) {
+        return ChatRoomParticipant.previewOf(content);
+    }
+
+    // 채팅방 유저이거나 참여자 요약에 있는 사용자 (참여자 요약이 없는 기존 채팅방은 워커 정보로 확인)
+    private boolean isParticipant(ChatRoom chatRoom, Long userId, List<ChatRoomParticipant> participants) {
+        if (chatRoom.getUserId().equals(userId)
+                || participants.stream().anyMatch(participant -> userId.equals(participant.getUserId()))) {
+            return true;
+        }
+        return participants.isEmpty() && chatRoom.getWalker() != null
+                && userId.equals(chatRoom.getWalker().getUserId());
     }
 
     // 접근 권한 확인
@@ -169,37 +325,23 @@ public class ChatMessageService {
     }
 
     /**
-     * 채팅 메시지 FCM 푸시 알림 발송
+     * 채팅 메시지 FCM 푸시 알림 등록
+     * 수신자는 트랜잭션 안에서 확정하고, 실제 발송(수신자 토큰 조회 포함)은 커밋 이후 아웃박스 워커가 처리한다.
+     * 수신자가 채팅방을 구독 중(화면을 보고 있는 중)이면 푸시를 보내지 않는다.
      */
-    private void sendChatMessageNotification(ChatRoom chatRoom, User sender, String messageContent) {
-        try {
-            // 수신자 결정 (발신자가 user면 walker에게, walker면 user에게)
-            User recipient = null;
-            if (chatRoom.getUserId().equals(sender.getId())) {
-                // 발신자가 user이면 walker에게 알림
-                if (chatRoom.getWalker() != null && chatRoom.getWalker().getUser() != null) {
-                    recipient = chatRoom.getWalker().getUser();
-                }
-            } else {
-                // 발신자가 walker이면 user에게 알림
-                recipient = chatRoom.getUser();
-            }
-
-            if (recipient != null && recipient.getFcmToken() != null && !recipient.getFcmToken().isEmpty()) {
-                String title = sender.getName() != null ? sender.getName() : sender.getUsername();
-                String body = messageContent.length() > 100 ? messageContent.substring(0, 100) + "..." : messageContent;
-
-                FcmSendDto fcmDto = FcmSendDto.builder()
-                        .token(recipient.getFcmToken())
-                        .title(title)
-                        .body(body)
-                        .build();
-
-                fcmService.sendMessageTo(fcmDto);
-                log.info("채팅 메시지 FCM 푸시 알림 발송 완료 - 수신자: {}", recipient.getUsername());
-            }
-        } catch (Exception e) {
-            log.error("채팅 메시지 FCM 푸시 알림 발송 중 오류 발생", e);
+    private void enqueueChatMessageNotification(AuthorizedChatRoom room, ChatSessionPrincipal sender, String messageContent) {
+        // 수신자 결정 (발신자가 user면 walker에게, walker면 user에게)
+        Long recipientId = room.recipientOf(sender.userId());
+        if (recipientId == null || messageContent == null
+                || chatPresenceRegistry.isPresent(room.roomId(), recipientId)) {
+            return;
         }
+
+        chatPushOutbox.enqueueAfterCommit(ChatPush.builder()
+                .recipientUserId(recipientId)
+                .roomId(room.roomId())
+                .senderName(sender.displayName())
+                .body(preview(messageContent))
+                .build());
     }
-}
\ No newline at end of file
+}
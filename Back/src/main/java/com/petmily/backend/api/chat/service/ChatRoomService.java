@@ -2,26 +2,25 @@ package com.petmily.backend.api.chat.service;
 
 import com.petmily.backend.api.chat.dto.ChatRoomResponse;
 import com.petmily.backend.api.chat.dto.CreateChatRoomRequest;
-import com.petmily.backend.api.chat.redis.RedisSubscriber;
 import com.petmily.backend.api.exception.CustomException;
 import com.petmily.backend.api.exception.ErrorCode;
 import com.petmily.backend.domain.chat.entity.ChatRoom;
+import com.petmily.backend.domain.chat.entity.ChatRoomParticipant;
 import com.petmily.backend.domain.chat.repository.ChatRoomRepository;
-import com.petmily.backend.domain.chat.repository.ChatMessageRepository;
+import com.petmily.backend.domain.chat.repository.ChatRoomParticipantRepository;
 import com.petmily.backend.domain.user.entity.User;
 import com.petmily.backend.domain.user.repository.UserRepository;
 import com.petmily.backend.domain.walker.entity.Walker;
 import com.petmily.backend.domain.walker.repository.WalkerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -30,14 +29,12 @@ import java.util.stream.Collectors;
 @Service
 public class ChatRoomService {
 
+    private static final int MAX_ROOM_PAGE_SIZE = 100;
+
     private final ChatRoomRepository chatRoomRepository;
-    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomParticipantRepository chatRoomParticipantRepository;
     private final UserRepository userRepository;
     private final WalkerRepository walkerRepository;
-    private final RedisSubscriber redisSubscriber;
-    private final RedisMessageListenerContainer redisMessageListenerContainer;
-
-    private final Map<String, ChannelTopic> topics = new HashMap<>();
 
     private User findUserById(Long userId){
         return userRepository.findById(userId)
@@ -49,25 +46,17 @@ public class ChatRoomService {
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "채팅방을 찾을 수 없습니다"));
     }
 
-    // 사용자의 모든 채팅방 조회
-    public List<ChatRoomResponse> getUserChatRooms(Long userId) {
+    // 사용자의 채팅방 목록 조회 (최근 활동 순, 커서 기반 페이지네이션)
+    public List<ChatRoomResponse> getUserChatRooms(Long userId, LocalDateTime beforeActivityAt, Long beforeId, int size) {
         User user = findUserById(userId);
+        Pageable limit = PageRequest.of(0, Math.max(1, Math.min(size, MAX_ROOM_PAGE_SIZE)));
 
-        List<ChatRoom> chatRooms = chatRoomRepository.findByUserIdOrWalkerUserId(user.getId());
-        
-        return chatRooms.stream()
-                .map(chatRoom -> {
-                    // 마지막 메시지와 안읽은 메시지 개수 조회
-                    var lastMessage = chatMessageRepository.findLastMessageByChatRoomId(chatRoom.getId());
-                    Long unreadCount = chatMessageRepository.countUnreadMessages(chatRoom.getId(), user.getId());
-                    
-                    return ChatRoomResponse.fromWithLastMessage(
-                            chatRoom,
-                            lastMessage != null ? lastMessage.getContent() : null,
-                            lastMessage != null ? lastMessage.getCreatedAt() : null,
-                            unreadCount
-                    );
-                })
+        List<ChatRoomParticipant> summaries = beforeActivityAt != null && beforeId != null
+                ? chatRoomParticipantRepository.findRoomSummariesBefore(user.getId(), beforeActivityAt, beforeId, limit)
+                : chatRoomParticipantRepository.findRoomSummaries(user.getId(), limit);
+
+        return summaries.stream()
+                .map(ChatRoomResponse::fromSummary)
                 .collect(Collectors.toList());
     }
 
@@ -104,6 +93,7 @@ public class ChatRoomService {
                             .build();
                     
                     ChatRoom savedRoom = chatRoomRepository.save(newChatRoom);
+                    registerParticipants(savedRoom, user.getId(), walker.getUserId());
                     return ChatRoomResponse.from(savedRoom);
                 });
     }
@@ -125,10 +115,30 @@ public class ChatRoomService {
                             .build();
                     
                     ChatRoom savedRoom = chatRoomRepository.save(newChatRoom);
+                    Long walkerUserId = walkerRepository.findById(walkerId)
+                            .map(Walker::getUserId)
+                            .orElse(null);
+                    registerParticipants(savedRoom, userId, walkerUserId);
                     return ChatRoomResponse.from(savedRoom);
                 });
     }
 
+    // 채팅방 참여자별 요약 생성 (유저, 워커)
+    public void registerParticipants(ChatRoom chatRoom, Long userId, Long walkerUserId) {
+        LocalDateTime createdAt = chatRoom.getCreatedAt() != null ? chatRoom.getCreatedAt() : LocalDateTime.now();
+        for (Long participantId : new Long[]{userId, walkerUserId}) {
+            if (participantId == null
+                    || chatRoomParticipantRepository.existsByChatRoomIdAndUserId(chatRoom.getId(), participantId)) {
+                continue;
+            }
+            chatRoomParticipantRepository.save(ChatRoomParticipant.builder()
+                    .chatRoomId(chatRoom.getId())
+                    .userId(participantId)
+                    .lastActivityAt(createdAt)
+                    .build());
+        }
+    }
+
     // 사용자가 채팅방에 접근 권한이 있는지 확인
     public boolean hasAccessToChatRoom(String roomId, Long userId) {
         User user = findUserById(userId);
@@ -144,17 +154,19 @@ public class ChatRoomService {
         return walker != null && chatRoom.getWalkerId().equals(walker.getId());
     }
 
-    // Redis 채널 관리
-    public ChannelTopic getTopic(String roomId) {
-        return topics.get(roomId);
-    }
+    /**
+     * 채팅방 참여자 인가 (WebSocket 구독 시 세션당 한 번 호출)
+     * 이후 메시지 전송에 필요한 채팅방 ID와 양측 user ID를 함께 반환한다.
+     */
+    public AuthorizedChatRoom authorizeParticipant(String roomId, Long userId) {
+        ChatRoom chatRoom = findChatRoomById(roomId);
+        Long walkerUserId = walkerRepository.findById(chatRoom.getWalkerId())
+                .map(Walker::getUserId)
+                .orElse(null);
 
-    public void enterChatRoom(String roomId) {
-        ChannelTopic topic = topics.get(roomId);
-        if (topic == null) {
-            topic = new ChannelTopic(roomId);
-            redisMessageListenerContainer.addMessageListener(redisSubscriber, topic);
-            topics.put(roomId, topic);
+        if (!chatRoom.getUserId().equals(userId) && !userId.equals(walkerUserId)) {
+            throw new CustomException(ErrorCode.NO_ACCESS);
         }
+        return new AuthorizedChatRoom(roomId, chatRoom.getId(), chatRoom.getUserId(), walkerUserId);
     }
 }
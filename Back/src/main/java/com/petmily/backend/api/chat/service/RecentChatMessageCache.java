@@ -0,0 +1,173 @@
+package com.petmily.backend.api.chat.service;
+
+import com.petmily.backend.api.chat.dto.ChatMessageResponse;
+import com.petmily.backend.config.ChatProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅방별 최근 메시지 링 캐시
+ * 한 번 DB에서 채운 채팅방은 이 서버에서 전송되는 메시지를 커밋 시점에 덧붙이며, 용량을 넘으면 가장 오래된 메시지부터 버린다.
+ * 캐시는 서버마다 따로 있고 다른 서버에서 저장된 메시지는 덧붙지 않으므로, 캐시가 반영한 메시지 수(seq)가
+ * 채팅방 메시지 순번(roomSeq)과 같을 때만 빠진 메시지 없이 최신까지 이어진 구간으로 보고 메시지 테이블 대신 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentChatMessageCache {
+
+    private final ChatProperties properties;
+
+    // chatRoomId -> 최근 메시지 구간
+    private final ConcurrentHashMap<Long, RoomWindow> windows = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시에서 메시지 한 페이지 조회 (최신순)
+     * 캐시가 채팅방의 roomSeq까지 빠짐없이 반영하지 못했거나 요청 구간을 채울 수 없으면 null
+     */
+    public Slice<ChatMessageResponse> find(Long chatRoomId, Long roomSeq, Long beforeMessageId, int size) {
+        RoomWindow window = windows.get(chatRoomId);
+        if (window == null || roomSeq == null) {
+            return null;
+        }
+        window.touch();
+
+        // 다른 서버에서 저장된 메시지가 있거나(roomSeq가 더 큼) 이 서버의 메시지가 아직 반영 전이면 DB로 넘긴다
+        if (window.seq.get() != roomSeq) {
+            return null;
+        }
+
+        NavigableMap<Long, ChatMessageResponse> messages = window.messages;
+
+        NavigableMap<Long, ChatMessageResponse> range = beforeMessageId != null
+                ? messages.headMap(beforeMessageId, false)
+                : messages;
+
+        List<ChatMessageResponse> content = new ArrayList<>(size);
+        for (ChatMessageResponse message : range.descendingMap().values()) {
+            if (content.size() == size + 1) {
+                break;
+            }
+            content.add(message);
+        }
+
+        boolean hasNext = content.size() > size;
+        if (!hasNext && !window.complete) {
+            // 캐시 구간 밖에 더 오래된 메시지가 있을 수 있다
+            return null;
+        }
+        if (hasNext) {
+            content.remove(content.size() - 1);
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * DB에서 읽은 최신 메시지로 채팅방 캐시 채우기
+     * roomSeq는 메시지 조회 전에 읽은 값이어야 한다 (그 사이 저장된 메시지는 조회 결과에 더 있을 수는 있어도 빠지지 않는다).
+     * @param roomSeq 메시지 조회 전에 읽은 채팅방 메시지 순번
+     * @param complete 채팅방의 메시지가 이보다 더 없는지 (조회 결과가 용량보다 적은 경우)
+     */
+    public void seed(Long chatRoomId, long roomSeq, Collection<ChatMessageResponse> latestMessages, boolean complete) {
+        RoomWindow window = new RoomWindow(roomSeq, complete);
+        latestMessages.forEach(message -> window.messages.put(message.getId(), message));
+        trim(window);
+        windows.put(chatRoomId, window);
+    }
+
+    /**
+     * 새 메시지를 커밋 이후 캐시에 덧붙임 (캐시가 채워진 채팅방만)
+     * 메시지 저장과 같은 트랜잭션에서 roomSeq가 1 증가한 경우에만 호출해야 한다 (write-behind 저장은 제외).
+     */
+    public void appendAfterCommit(ChatMessageResponse message) {
+        if (!windows.containsKey(message.getChatRoomId())) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append(message);
+                }
+            });
+        } else {
+            append(message);
+        }
+    }
+
+    public int getCapacity() {
+        return properties.getRecentCache().getCapacity();
+    }
+
+    public void evict(Long chatRoomId) {
+        windows.remove(chatRoomId);
+    }
+
+    /**
+     * 조회가 끊긴 채팅방 캐시 정리 (10분 주기)
+     */
+    @Scheduled(fixedRate = 600000)
+    public void purgeIdle() {
+        long threshold = System.currentTimeMillis() - properties.getRecentCache().getIdleMinutes() * 60_000;
+        int before = windows.size();
+        windows.values().removeIf(window -> window.lastAccessAt < threshold);
+        int removed = before - windows.size();
+        if (removed > 0) {
+            log.debug("유휴 채팅방 최근 메시지 캐시 정리 - {}건", removed);
+        }
+    }
+
+    private void append(ChatMessageResponse message) {
+        RoomWindow window = windows.get(message.getChatRoomId());
+        if (window == null || message.getId() == null) {
+            return;
+        }
+        // 채울 때 이미 조회된 메시지는 seed의 roomSeq에 포함되었을 수 있으므로 다시 세지 않는다
+        // (포함되지 않았다면 seq가 roomSeq보다 작게 남아 다음 조회에서 DB로 다시 채운다)
+        if (window.messages.putIfAbsent(message.getId(), message) == null) {
+            window.seq.incrementAndGet();
+        }
+        trim(window);
+    }
+
+    private void trim(RoomWindow window) {
+        int capacity = getCapacity();
+        while (window.messages.size() > capacity) {
+            if (window.messages.pollFirstEntry() != null) {
+                window.complete = false;
+            }
+        }
+    }
+
+    private static class RoomWindow {
+        private final ConcurrentSkipListMap<Long, ChatMessageResponse> messages = new ConcurrentSkipListMap<>();
+        // 이 구간이 빠짐없이 반영한 채팅방 메시지 수
+        private final AtomicLong seq;
+        private volatile boolean complete;
+        private volatile long lastAccessAt = System.currentTimeMillis();
+
+        RoomWindow(long seq, boolean complete) {
+            this.seq = new AtomicLong(seq);
+            this.complete = complete;
+        }
+
+        void touch() {
+            this.lastAccessAt = System.currentTimeMillis();
+        }
+    }
+}
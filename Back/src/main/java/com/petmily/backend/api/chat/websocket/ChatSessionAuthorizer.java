@@ -0,0 +1,109 @@
+package com.petmily.backend.api.chat.websocket;
+
+import com.petmily.backend.api.auth.dto.model.PrincipalDetails;
+import com.petmily.backend.api.auth.exception.TokenException;
+import com.petmily.backend.api.auth.jwt.JwtTokenProvider;
+import com.petmily.backend.api.chat.service.AuthorizedChatRoom;
+import com.petmily.backend.api.chat.service.ChatRoomService;
+import com.petmily.backend.api.exception.CustomException;
+import com.petmily.backend.api.exception.ErrorCode;
+import com.petmily.backend.config.ChatProperties;
+import com.petmily.backend.domain.user.entity.User;
+import com.petmily.backend.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅 WebSocket 세션 인증/인가
+ * - CONNECT: JWT로 사용자를 한 번 확정하여 세션에 보관 (토큰이 없으면 거부, 호환 설정을 켠 경우에만 핸드셰이크 username 사용)
+ * - SUBSCRIBE/SEND: 채팅방 접근 권한을 세션당 한 번 확인하여 세션에 보관
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSessionAuthorizer {
+
+    private static final String AUTHORIZED_ROOMS_ATTRIBUTE = "chatAuthorizedRooms";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
+    private final ChatRoomService chatRoomService;
+    private final ChatProperties chatProperties;
+
+    /**
+     * 세션 사용자 확정
+     * @param token Authorization 헤더의 JWT (Bearer 접두사 포함 가능, 없으면 null)
+     * @return 확정된 사용자, 호환 설정에서 인증 정보가 전혀 없으면 null
+     */
+    public ChatSessionPrincipal authenticate(String token, Map<String, Object> sessionAttributes) {
+        User user;
+        if (token != null && !token.isBlank()) {
+            String accessToken = token.startsWith("Bearer ") ? token.substring(7) : token;
+            user = authenticateToken(accessToken);
+        } else {
+            if (!chatProperties.isAllowUsernameHandshake()) {
+                throw new CustomException(ErrorCode.INVALID_TOKEN, "채팅 접속에는 인증 토큰이 필요합니다");
+            }
+            // 토큰 없이 접속하는 기존 클라이언트 - 핸드셰이크 쿼리의 username 사용
+            Object username = sessionAttributes != null ? sessionAttributes.get("username") : null;
+            if (username == null) {
+                return null;
+            }
+            user = userRepository.findByUsername(username.toString())
+                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+            log.warn("토큰 없는 채팅 접속 허용 (allow-username-handshake) - username: {}", username);
+        }
+
+        ChatSessionPrincipal principal = new ChatSessionPrincipal(user.getId(), user.getUsername(), user.getName());
+        if (sessionAttributes != null) {
+            sessionAttributes.put(ChatSessionPrincipal.SESSION_ATTRIBUTE, principal);
+        }
+        return principal;
+    }
+
+    // 서명/형식이 잘못된 토큰은 INVALID_TOKEN(또는 서명 오류), 서명은 맞지만 기한이 지난 토큰만 TOKEN_EXPIRED
+    private User authenticateToken(String accessToken) {
+        boolean valid;
+        try {
+            valid = jwtTokenProvider.validateToken(accessToken);
+        } catch (TokenException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        if (!valid) {
+            throw new CustomException(ErrorCode.TOKEN_EXPIRED);
+        }
+        Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
+        return ((PrincipalDetails) authentication.getPrincipal()).getUser();
+    }
+
+    /**
+     * 세션 사용자의 채팅방 접근 권한 확인 (세션에 보관된 결과가 있으면 조회 없이 반환)
+     */
+    public AuthorizedChatRoom authorizeRoom(Map<String, Object> sessionAttributes, String roomId) {
+        ChatSessionPrincipal principal = ChatSessionPrincipal.from(sessionAttributes);
+        if (principal == null) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN, "채팅 세션 인증 정보가 없습니다");
+        }
+
+        Map<String, AuthorizedChatRoom> authorizedRooms = authorizedRooms(sessionAttributes);
+        AuthorizedChatRoom room = authorizedRooms.get(roomId);
+        if (room == null) {
+            room = chatRoomService.authorizeParticipant(roomId, principal.userId());
+            authorizedRooms.put(roomId, room);
+        }
+        return room;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, AuthorizedChatRoom> authorizedRooms(Map<String, Object> sessionAttributes) {
+        return (Map<String, AuthorizedChatRoom>) sessionAttributes.computeIfAbsent(
+                AUTHORIZED_ROOMS_ATTRIBUTE, key -> new ConcurrentHashMap<String, AuthorizedChatRoom>());
+    }
+}
@@ -0,0 +1,30 @@
+package com.petmily.backend.api.chat.websocket;
+
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * STOMP CONNECT 시 한 번 확정되는 채팅 세션 사용자
+ * WebSocket 세션 속성에 보관되어 이후 프레임마다 사용자 조회를 하지 않는다.
+ */
+public record ChatSessionPrincipal(Long userId, String username, String name) implements Principal {
+
+    public static final String SESSION_ATTRIBUTE = "chatPrincipal";
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public String displayName() {
+        return name != null ? name : username;
+    }
+
+    public static ChatSessionPrincipal from(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes == null) {
+            return null;
+        }
+        Object principal = sessionAttributes.get(SESSION_ATTRIBUTE);
+        return principal instanceof ChatSessionPrincipal chatPrincipal ? chatPrincipal : null;
+    }
+}
@@ -0,0 +1,72 @@
+package com.petmily.backend.api.chat.websocket;
+
+import com.petmily.backend.api.chat.redis.ChatRoomSubscriptionRegistry;
+import com.petmily.backend.api.exception.CustomException;
+import com.petmily.backend.api.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 인바운드 프레임 인증/인가
+ * - CONNECT: Authorization 헤더의 JWT로 세션 사용자를 확정 (잘못된 토큰은 ERROR 프레임으로 거부)
+ * - SUBSCRIBE: 채팅방 구독 시 접근 권한을 확인하고 세션에 보관 (권한이 없으면 구독 거부)
+ *   브로커는 구독 주소를 패턴으로 매칭하므로 와일드카드/템플릿 주소와, 정확한 채팅방 주소가 아닌 채팅 주소는 거부한다.
+ * 이후 메시지 전송은 세션에 보관된 사용자/채팅방 정보만 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String CHAT_DESTINATION_PREFIX = "/sub/chat/";
+
+    private final ChatSessionAuthorizer chatSessionAuthorizer;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            ChatSessionPrincipal principal = chatSessionAuthorizer.authenticate(
+                    accessor.getFirstNativeHeader(HttpHeaders.AUTHORIZATION), accessor.getSessionAttributes());
+            if (principal != null) {
+                accessor.setUser(principal);
+            }
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            authorizeSubscription(accessor);
+        }
+        return message;
+    }
+
+    private void authorizeSubscription(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null || isPattern(destination)) {
+            throw new CustomException(ErrorCode.NO_ACCESS, "구독할 수 없는 주소입니다: " + destination);
+        }
+        if (!destination.startsWith(CHAT_DESTINATION_PREFIX) && !destination.equals("/sub/chat")) {
+            return;
+        }
+
+        String roomId = ChatRoomSubscriptionRegistry.extractRoomId(destination);
+        if (roomId == null) {
+            throw new CustomException(ErrorCode.NO_ACCESS, "채팅방 주소만 구독할 수 있습니다: " + destination);
+        }
+        chatSessionAuthorizer.authorizeRoom(accessor.getSessionAttributes(), roomId);
+    }
+
+    // 단순 브로커의 AntPathMatcher가 패턴으로 해석하는 문자
+    private static boolean isPattern(String destination) {
+        return destination.indexOf('*') >= 0 || destination.indexOf('?') >= 0 || destination.indexOf('{') >= 0;
+    }
+}
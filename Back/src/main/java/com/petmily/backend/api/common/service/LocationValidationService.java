@@ -92,12 +92,23 @@ public class LocationValidationService {
         }
 
         WalkingTrack previous = lastTrack.get();
+        validateLocationChange(previous.getLatitude(), previous.getLongitude(), previous.getTimestamp(),
+                newLatitude, newLongitude, LocalDateTime.now());
+    }
+
+    /**
+     * 위치 변화 속도 검증 - 직전 위치를 호출자가 알고 있는 경우 (DB 조회 없음)
+     */
+    public void validateLocationChange(Double previousLatitude, Double previousLongitude, LocalDateTime previousTimestamp,
+                                       Double newLatitude, Double newLongitude, LocalDateTime newTimestamp) {
+        validateCoordinates(newLatitude, newLongitude);
+
         double distanceKm = calculateDistance(
-            previous.getLatitude(), previous.getLongitude(),
+            previousLatitude, previousLongitude,
             newLatitude, newLongitude
         );
 
-        long timeDiffSeconds = ChronoUnit.SECONDS.between(previous.getTimestamp(), LocalDateTime.now());
+        long timeDiffSeconds = ChronoUnit.SECONDS.between(previousTimestamp, newTimestamp);
         if (timeDiffSeconds <= 0) {
             return; // 시간 차이가 0 이하면 검증 생략
         }
@@ -135,10 +146,7 @@ public class LocationValidationService {
 
         // 최근 3개 위치가 모두 동일한지 확인
         boolean allSame = recentTracks.stream()
-            .allMatch(track ->
-                Math.abs(track.getLatitude() - latitude) < 0.00001 &&
-                Math.abs(track.getLongitude() - longitude) < 0.00001
-            );
+            .allMatch(track -> isSameCoordinates(track.getLatitude(), track.getLongitude(), latitude, longitude));
 
         if (allSame) {
             log.warn("의심스러운 위치 패턴 감지 - 동일 좌표 반복: {}, {}", latitude, longitude);
@@ -147,6 +155,12 @@ public class LocationValidationService {
         return allSame;
     }
 
+    /**
+     * GPS 오차 범위 안에서 같은 좌표인지 (약 1m)
+     */
+    public static boolean isSameCoordinates(double lat1, double lon1, double lat2, double lon2) {
+        return Math.abs(lat1 - lat2) < 0.00001 && Math.abs(lon1 - lon2) < 0.00001;
+    }
 
     private boolean isValidLatitude(Double latitude) {
         return latitude >= -90.0 && latitude <= 90.0;
@@ -1,5 +1,6 @@
 package com.petmily.backend.api.fcm.dto;
 
+import com.google.firebase.messaging.MessagingErrorCode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,6 +20,7 @@ public class FcmResponseDto {
     private String body;
     private LocalDateTime sentAt;
     private String errorMessage;
+    private MessagingErrorCode errorCode;  // FCM 오류 코드 (재시도/토큰 정리 판단용, 알 수 없으면 null)
 
     public static FcmResponseDto success(String messageId, String title, String body) {
         return FcmResponseDto.builder()
@@ -31,11 +33,16 @@ public class FcmResponseDto {
     }
 
     public static FcmResponseDto failure(String title, String body, String errorMessage) {
+        return failure(title, body, errorMessage, null);
+    }
+
+    public static FcmResponseDto failure(String title, String body, String errorMessage, MessagingErrorCode errorCode) {
         return FcmResponseDto.builder()
                 .success(false)
                 .title(title)
                 .body(body)
                 .errorMessage(errorMessage)
+                .errorCode(errorCode)
                 .sentAt(LocalDateTime.now())
                 .build();
     }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.messaging.MessagingErrorCode;
 import com.petmily.backend.api.fcm.dto.FcmMessageDto;
 import com.petmily.backend.api.fcm.dto.FcmResponseDto;
 import com.petmily.backend.api.fcm.dto.FcmSendDto;
@@ -13,6 +14,8 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.*;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
@@ -31,12 +34,15 @@ public class FcmServiceImpl implements FcmService {
     private String credentialsPath;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RestTemplate restTemplate = createRestTemplate();
+
+    // 서비스 계정 인증 정보는 한 번만 읽고, 액세스 토큰은 만료 시에만 갱신한다
+    private volatile GoogleCredentials googleCredentials;
 
     @Override
     public FcmResponseDto sendMessageTo(FcmSendDto fcmSendDto) {
         try {
             String message = makeMessage(fcmSendDto);
-            RestTemplate restTemplate = createRestTemplate();
 
             HttpHeaders headers = createHeaders();
             HttpEntity<String> entity = new HttpEntity<>(message, headers);
@@ -51,9 +57,19 @@ public class FcmServiceImpl implements FcmService {
                 return FcmResponseDto.success(messageId, fcmSendDto.getTitle(), fcmSendDto.getBody());
             } else {
                 return FcmResponseDto.failure(fcmSendDto.getTitle(), fcmSendDto.getBody(),
-                    "HTTP " + response.getStatusCode() + ": " + response.getBody());
+                    "HTTP " + response.getStatusCode() + ": " + response.getBody(),
+                    errorCodeOf(response.getStatusCode().value(), response.getBody()));
             }
 
+        } catch (HttpStatusCodeException e) {
+            MessagingErrorCode errorCode = errorCodeOf(e.getStatusCode().value(), e.getResponseBodyAsString());
+            log.error("FCM 메시지 전송 실패 - HTTP {} ({}): {}", e.getStatusCode().value(), errorCode, e.getMessage());
+            return FcmResponseDto.failure(fcmSendDto.getTitle(), fcmSendDto.getBody(),
+                "HTTP " + e.getStatusCode().value() + ": " + e.getResponseBodyAsString(), errorCode);
+        } catch (ResourceAccessException e) {
+            log.error("FCM 메시지 전송 실패 - 연결 오류: {}", e.getMessage(), e);
+            return FcmResponseDto.failure(fcmSendDto.getTitle(), fcmSendDto.getBody(),
+                "네트워크 오류: " + e.getMessage(), MessagingErrorCode.UNAVAILABLE);
         } catch (RestClientException e) {
             log.error("FCM 메시지 전송 실패 - REST 에러: {}", e.getMessage(), e);
             return FcmResponseDto.failure(fcmSendDto.getTitle(), fcmSendDto.getBody(),
@@ -65,7 +81,7 @@ public class FcmServiceImpl implements FcmService {
         }
     }
 
-    private RestTemplate createRestTemplate() {
+    private static RestTemplate createRestTemplate() {
         RestTemplate restTemplate = new RestTemplate();
         restTemplate.getMessageConverters()
                 .add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
@@ -81,18 +97,31 @@ public class FcmServiceImpl implements FcmService {
 
     private String getAccessToken() throws IOException {
         try {
-            GoogleCredentials googleCredentials = GoogleCredentials
-                    .fromStream(new ClassPathResource(credentialsPath).getInputStream())
-                    .createScoped(List.of("https://www.googleapis.com/auth/cloud-platform"));
-
-            googleCredentials.refreshIfExpired();
-            return googleCredentials.getAccessToken().getTokenValue();
+            GoogleCredentials credentials = loadCredentials();
+            credentials.refreshIfExpired();
+            return credentials.getAccessToken().getTokenValue();
         } catch (IOException e) {
             log.error("Firebase 인증 토큰 생성 실패: {}", e.getMessage());
             throw new IOException("Firebase 인증 실패", e);
         }
     }
 
+    private GoogleCredentials loadCredentials() throws IOException {
+        GoogleCredentials credentials = googleCredentials;
+        if (credentials == null) {
+            synchronized (this) {
+                credentials = googleCredentials;
+                if (credentials == null) {
+                    credentials = GoogleCredentials
+                            .fromStream(new ClassPathResource(credentialsPath).getInputStream())
+                            .createScoped(List.of("https://www.googleapis.com/auth/cloud-platform"));
+                    googleCredentials = credentials;
+                }
+            }
+        }
+        return credentials;
+    }
+
     private String makeMessage(FcmSendDto fcmSendDto) throws JsonProcessingException {
         FcmMessageDto fcmMessageDto = FcmMessageDto.builder()
                 .message(FcmMessageDto.Message.builder()
@@ -109,6 +138,33 @@ public class FcmServiceImpl implements FcmService {
         return objectMapper.writeValueAsString(fcmMessageDto);
     }
 
+    /**
+     * FCM v1 오류 응답의 errorCode(details[].errorCode), 없으면 HTTP 상태로 분류
+     */
+    MessagingErrorCode errorCodeOf(int httpStatus, String responseBody) {
+        try {
+            JsonNode details = objectMapper.readTree(responseBody).path("error").path("details");
+            for (JsonNode detail : details) {
+                JsonNode errorCode = detail.get("errorCode");
+                if (errorCode != null) {
+                    return MessagingErrorCode.valueOf(errorCode.asText());
+                }
+            }
+        } catch (Exception e) {
+            log.debug("FCM 오류 코드 해석 실패 - HTTP {}", httpStatus);
+        }
+
+        return switch (httpStatus) {
+            case 400 -> MessagingErrorCode.INVALID_ARGUMENT;
+            case 401 -> MessagingErrorCode.THIRD_PARTY_AUTH_ERROR;
+            case 403 -> MessagingErrorCode.SENDER_ID_MISMATCH;
+            case 404 -> MessagingErrorCode.UNREGISTERED;
+            case 429 -> MessagingErrorCode.QUOTA_EXCEEDED;
+            case 503 -> MessagingErrorCode.UNAVAILABLE;
+            default -> httpStatus >= 500 ? MessagingErrorCode.INTERNAL : null;
+        };
+    }
+
     private String extractMessageId(String responseBody) {
         try {
             JsonNode jsonNode = objectMapper.readTree(responseBody);
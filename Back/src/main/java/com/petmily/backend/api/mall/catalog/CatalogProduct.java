@@ -0,0 +1,144 @@
+package com.petmily.backend.api.mall.catalog;
+
+import com.petmily.backend.api.mall.dto.product.response.ProductResponse;
+import com.petmily.backend.domain.mall.product.entity.Product;
+import com.petmily.backend.domain.mall.product.entity.ProductCategory;
+import com.petmily.backend.domain.mall.product.entity.ProductStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 카탈로그 읽기 모델의 상품 한 건 (불변)
+ * 목록 응답에 필요한 값을 엔티티가 영속성 컨텍스트 안에 있을 때 복사해 두므로, 목록 조회 시 지연 로딩이 일어나지 않는다.
+ */
+public record CatalogProduct(
+        Long id,
+        String name,
+        String description,
+        BigDecimal price,
+        Integer stockQuantity,
+        ProductCategory category,
+        ProductStatus status,
+        Long sellerId,
+        String sellerName,
+        List<String> imageUrls,
+        int likeCount,
+        int viewCount,
+        int salesCount,
+        double averageRating,
+        int reviewCount,
+        List<String> ingredients,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * 엔티티 전체 복사 (판매자, 이미지, 성분을 읽으므로 트랜잭션 안에서 호출)
+     */
+    public static CatalogProduct from(Product product) {
+        return of(product, product.getImageUrls(), product.getIngredients());
+    }
+
+    /**
+     * 이미지/성분을 따로 조회해 둔 경우 (일괄 적재)
+     */
+    public static CatalogProduct of(Product product, List<String> imageUrls, List<String> ingredients) {
+        return new CatalogProduct(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getStockQuantity(),
+                product.getCategory(),
+                product.getStatus(),
+                product.getSeller().getId(),
+                product.getSeller().getName(),
+                imageUrls != null ? List.copyOf(imageUrls) : List.of(),
+                intValue(product.getLikeCount()),
+                intValue(product.getViewCount()),
+                intValue(product.getSalesCount()),
+                product.getAverageRating() != null ? product.getAverageRating() : 0.0,
+                intValue(product.getReviewCount()),
+                ingredients != null ? List.copyOf(ingredients) : List.of(),
+                product.getCreatedAt(),
+                product.getUpdatedAt());
+    }
+
+    /**
+     * 재고/판매 상태/좋아요/조회/판매/평점 값만 새로 반영 (연관 엔티티를 읽지 않는다)
+     */
+    public CatalogProduct withCounters(Counters counters) {
+        return new CatalogProduct(id, name, description, price, counters.stockQuantity(), category, counters.status(),
+                sellerId, sellerName, imageUrls, counters.likeCount(), counters.viewCount(), counters.salesCount(),
+                counters.averageRating(), counters.reviewCount(), ingredients, createdAt, updatedAt);
+    }
+
+    /**
+     * 조회수/좋아요 증감 반영
+     */
+    public CatalogProduct withCounts(long views, long likes) {
+        return new CatalogProduct(id, name, description, price, stockQuantity, category, status, sellerId, sellerName,
+                imageUrls, (int) Math.max(0, likeCount + likes), (int) (viewCount + views), salesCount, averageRating,
+                reviewCount, ingredients, createdAt, updatedAt);
+    }
+
+    /**
+     * 정렬 기준 값(카테고리, 판매 상태, 정렬 키)이 같은지 - 같으면 정렬 배열의 위치를 옮길 필요가 없다
+     */
+    boolean sameListing(CatalogProduct other) {
+        return category == other.category
+                && status == other.status
+                && likeCount == other.likeCount
+                && salesCount == other.salesCount
+                && Double.compare(averageRating, other.averageRating) == 0
+                && Objects.equals(createdAt, other.createdAt);
+    }
+
+    public ProductResponse toResponse() {
+        return ProductResponse.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .price(price)
+                .stockQuantity(stockQuantity)
+                .category(category)
+                .status(status)
+                .sellerId(sellerId)
+                .sellerName(sellerName)
+                .imageUrls(imageUrls)
+                .likeCount(likeCount)
+                .viewCount(viewCount)
+                .salesCount(salesCount)
+                .averageRating(averageRating)
+                .reviewCount(reviewCount)
+                .ingredients(ingredients)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    private static int intValue(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    /**
+     * 주문/좋아요/조회/리뷰로 바뀌는 값
+     */
+    public record Counters(Integer stockQuantity, ProductStatus status, int likeCount, int viewCount, int salesCount,
+                           double averageRating, int reviewCount) {
+
+        public static Counters from(Product product) {
+            return new Counters(
+                    product.getStockQuantity(),
+                    product.getStatus(),
+                    intValue(product.getLikeCount()),
+                    intValue(product.getViewCount()),
+                    intValue(product.getSalesCount()),
+                    product.getAverageRating() != null ? product.getAverageRating() : 0.0,
+                    intValue(product.getReviewCount()));
+        }
+    }
+}
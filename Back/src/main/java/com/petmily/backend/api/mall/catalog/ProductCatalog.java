@@ -0,0 +1,390 @@
+package com.petmily.backend.api.mall.catalog;
+
+import com.petmily.backend.api.mall.dto.product.response.ProductResponse;
+import com.petmily.backend.config.MallProperties;
+import com.petmily.backend.domain.mall.product.entity.Product;
+import com.petmily.backend.domain.mall.product.entity.ProductCategory;
+import com.petmily.backend.domain.mall.product.entity.ProductStatus;
+import com.petmily.backend.domain.mall.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 판매 중(ACTIVE) 상품 목록 읽기 모델
+ * 정렬 기준(최신/인기/평점/판매)마다, 전체와 카테고리별로 상품 ID를 정렬해 둔 배열을 두고 목록 조회는 배열 구간만 잘라 응답한다.
+ * 상품 등록/수정/삭제, 좋아요, 리뷰, 주문으로 값이 바뀌면 커밋 이후 해당 상품만 배열에서 빼고 다시 끼워 넣는다 (배열은 복사 후 교체).
+ * 조회수처럼 정렬에 쓰지 않는 값만 바뀐 경우에는 배열을 건드리지 않는다.
+ * 다른 서버에서의 변경은 주기적인 전체 재적재로 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCatalog {
+
+    public enum SortKey {
+        LATEST(Comparator.comparing(CatalogProduct::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))),
+        POPULAR(Comparator.comparingInt(CatalogProduct::likeCount).reversed()),
+        RATING(Comparator.comparingDouble(CatalogProduct::averageRating).reversed()),
+        SALES(Comparator.comparingInt(CatalogProduct::salesCount).reversed());
+
+        // 같은 값이면 최근 등록 상품(ID 큰 순)이 먼저 - 모든 상품의 위치가 하나로 정해진다
+        private final Comparator<CatalogProduct> comparator;
+
+        SortKey(Comparator<CatalogProduct> comparator) {
+            this.comparator = comparator.thenComparing(CatalogProduct::id, Comparator.reverseOrder());
+        }
+
+        public static SortKey from(String sort) {
+            if (sort == null) {
+                return LATEST;
+            }
+            return switch (sort) {
+                case "popular" -> POPULAR;
+                case "rating" -> RATING;
+                case "sales" -> SALES;
+                default -> LATEST;
+            };
+        }
+    }
+
+    private static final long[] EMPTY = new long[0];
+
+    private final ProductRepository productRepository;
+    private final MallProperties properties;
+
+    private volatile State state = new State();
+    private volatile boolean ready;
+    // 전체 재적재 중 들어온 변경 (적재가 끝나면 새 상태에 다시 반영)
+    private List<Consumer<State>> changesDuringLoad;
+
+    public boolean isReady() {
+        return ready && properties.getCatalog().isEnabled();
+    }
+
+    /**
+     * 카테고리(없으면 전체)와 정렬 기준의 한 페이지
+     */
+    public Page<ProductResponse> page(ProductCategory category, String sort, Pageable pageable) {
+        State current = state;
+        long[] view = current.views.getOrDefault(viewKey(category, SortKey.from(sort)), EMPTY);
+
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), view.length) : 0;
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), view.length) : view.length;
+        List<ProductResponse> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            CatalogProduct product = current.products.get(view[i]);
+            if (product != null) {
+                content.add(product.toResponse());
+            }
+        }
+        return new PageImpl<>(content, pageable, view.length);
+    }
+
+    /**
+     * 상품 전체 정보 반영 (등록/수정) - 값은 지금 복사하고 커밋 이후 반영한다
+     */
+    public void updateAfterCommit(Product product) {
+        CatalogProduct entry = CatalogProduct.from(product);
+        runAfterCommit(() -> change(catalog -> catalog.put(entry)));
+    }
+
+    /**
+     * 재고/좋아요/조회/판매/평점 변경 반영 - 카탈로그에 없던 상품이 판매 중이 되면 전체 정보를 복사한다
+     */
+    public void updateCountersAfterCommit(Product product) {
+        Long productId = product.getId();
+        CatalogProduct.Counters counters = CatalogProduct.Counters.from(product);
+        CatalogProduct entry = !state.products.containsKey(productId) && product.getStatus() == ProductStatus.ACTIVE
+                ? CatalogProduct.from(product)
+                : null;
+        runAfterCommit(() -> change(catalog -> {
+            CatalogProduct current = catalog.products.get(productId);
+            if (current != null) {
+                catalog.put(current.withCounters(counters));
+            } else if (entry != null) {
+                catalog.put(entry.withCounters(counters));
+            }
+        }));
+    }
+
+    /**
+     * DB에 반영된 조회수/좋아요 증감을 더한다 (write-behind 집계 반영 이후)
+     * 증감은 두 번 더하면 값이 틀어지므로 재적재 중이어도 새 상태에는 다시 반영하지 않는다
+     * (재적재가 이미 읽은 행에는 들어 있을 수 있고, 빠진 증감은 다음 재적재에서 맞춰진다).
+     */
+    public void addCounts(Long productId, long views, long likes) {
+        synchronized (this) {
+            CatalogProduct current = state.products.get(productId);
+            if (current != null) {
+                state.put(current.withCounts(views, likes));
+            }
+        }
+    }
+
+    public void removeAfterCommit(Long productId) {
+        runAfterCommit(() -> change(catalog -> catalog.remove(productId)));
+    }
+
+    public int size() {
+        return state.products.size();
+    }
+
+    /**
+     * 판매 중인 상품 전체 재적재 (기동 시, 이후 주기적으로)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!properties.getCatalog().isEnabled()) {
+            return;
+        }
+        synchronized (this) {
+            if (changesDuringLoad != null) {
+                return;
+            }
+            changesDuringLoad = new ArrayList<>();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            State loaded = new State();
+            loadInto(loaded);
+            synchronized (this) {
+                changesDuringLoad.forEach(change -> change.accept(loaded));
+                state = loaded;
+                ready = true;
+            }
+            log.info("상품 카탈로그 적재 완료 - 상품: {}개, {}ms", loaded.products.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.warn("상품 카탈로그 적재 실패 - 이전 카탈로그 유지", e);
+        } finally {
+            synchronized (this) {
+                changesDuringLoad = null;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${petmily.mall.catalog.refresh-interval-millis:600000}",
+               initialDelayString = "${petmily.mall.catalog.refresh-interval-millis:600000}")
+    public void scheduledLoad() {
+        load();
+    }
+
+    private void loadInto(State loaded) {
+        int pageSize = Math.max(1, properties.getCatalog().getLoadPageSize());
+        long afterId = 0L;
+        while (true) {
+            List<Product> batch = productRepository.findCatalogBatch(ProductStatus.ACTIVE, afterId, PageRequest.of(0, pageSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            // 이미지/성분은 상품마다 지연 로딩하지 않고 묶어서 조회
+            List<Long> ids = batch.stream().map(Product::getId).toList();
+            Map<Long, List<String>> imageUrls = groupById(productRepository.findImageUrlsByIds(ids));
+            Map<Long, List<String>> ingredients = groupById(productRepository.findIngredientsByIds(ids));
+            for (Product product : batch) {
+                loaded.products.put(product.getId(), CatalogProduct.of(product,
+                        imageUrls.getOrDefault(product.getId(), List.of()),
+                        ingredients.getOrDefault(product.getId(), List.of())));
+            }
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        loaded.sortAll();
+    }
+
+    private static Map<Long, List<String>> groupById(List<Object[]> rows) {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return grouped;
+    }
+
+    // 변경은 한 번에 하나씩 적용하고, 재적재 중이면 새 상태에도 다시 적용하도록 남겨 둔다
+    private synchronized void change(Consumer<State> change) {
+        change.accept(state);
+        if (changesDuringLoad != null) {
+            changesDuringLoad.add(change);
+        }
+    }
+
+    private static String viewKey(ProductCategory category, SortKey sortKey) {
+        return (category != null ? category.name() : "ALL") + ":" + sortKey.name();
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 상품과 정렬 배열 - 배열은 교체만 하므로 조회 스레드는 잠금 없이 읽는다
+     */
+    private static final class State {
+
+        private final ConcurrentHashMap<Long, CatalogProduct> products = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, long[]> views = new ConcurrentHashMap<>();
+
+        void put(CatalogProduct product) {
+            CatalogProduct previous = products.get(product.id());
+            if (product.status() != ProductStatus.ACTIVE) {
+                if (previous != null) {
+                    unlink(previous);
+                    products.remove(product.id());
+                }
+                return;
+            }
+            if (previous != null && previous.sameListing(product)) {
+                products.put(product.id(), product);
+                return;
+            }
+            if (previous != null) {
+                unlink(previous);
+            }
+            products.put(product.id(), product);
+            link(product);
+        }
+
+        void remove(Long productId) {
+            CatalogProduct previous = products.get(productId);
+            if (previous != null) {
+                unlink(previous);
+                products.remove(productId);
+            }
+        }
+
+        void sortAll() {
+            for (SortKey sortKey : SortKey.values()) {
+                Map<String, List<CatalogProduct>> grouped = new HashMap<>();
+                for (CatalogProduct product : products.values()) {
+                    grouped.computeIfAbsent(viewKey(null, sortKey), key -> new ArrayList<>()).add(product);
+                    grouped.computeIfAbsent(viewKey(product.category(), sortKey), key -> new ArrayList<>()).add(product);
+                }
+                grouped.forEach((key, list) -> {
+                    list.sort(sortKey.comparator);
+                    views.put(key, list.stream().mapToLong(CatalogProduct::id).toArray());
+                });
+            }
+        }
+
+        private void link(CatalogProduct product) {
+            for (SortKey sortKey : SortKey.values()) {
+                insert(viewKey(null, sortKey), sortKey, product);
+                insert(viewKey(product.category(), sortKey), sortKey, product);
+            }
+        }
+
+        // 정렬 위치는 배열에 남아 있는 이전 값 기준으로 찾으므로 products 갱신 전에 호출해야 한다
+        private void unlink(CatalogProduct product) {
+            for (SortKey sortKey : SortKey.values()) {
+                delete(viewKey(null, sortKey), sortKey, product);
+                delete(viewKey(product.category(), sortKey), sortKey, product);
+            }
+        }
+
+        private void insert(String key, SortKey sortKey, CatalogProduct product) {
+            long[] view = views.getOrDefault(key, EMPTY);
+            int position = search(view, sortKey, product);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            long[] updated = new long[view.length + 1];
+            System.arraycopy(view, 0, updated, 0, position);
+            updated[position] = product.id();
+            System.arraycopy(view, position, updated, position + 1, view.length - position);
+            views.put(key, updated);
+        }
+
+        private void delete(String key, SortKey sortKey, CatalogProduct product) {
+            long[] view = views.getOrDefault(key, EMPTY);
+            int position = search(view, sortKey, product);
+            if (position < 0 || view[position] != product.id()) {
+                // 정렬 값이 어긋난 경우 - 위치를 직접 찾는다
+                position = indexOf(view, product.id());
+                if (position < 0) {
+                    return;
+                }
+            }
+            long[] updated = new long[view.length - 1];
+            System.arraycopy(view, 0, updated, 0, position);
+            System.arraycopy(view, position + 1, updated, position, view.length - position - 1);
+            views.put(key, updated);
+        }
+
+        // 배열 안의 다른 상품은 products의 현재 값으로 비교 (찾으면 위치, 없으면 -(삽입 위치) - 1)
+        private int search(long[] view, SortKey sortKey, CatalogProduct product) {
+            int low = 0;
+            int high = view.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                CatalogProduct midProduct = view[mid] == product.id() ? product : products.get(view[mid]);
+                if (midProduct == null) {
+                    // 배열에 products에 없는 ID가 남은 경우 - 이분 탐색을 믿을 수 없으므로 전체를 훑는다
+                    return linearSearch(view, sortKey, product);
+                }
+                int compared = sortKey.comparator.compare(midProduct, product);
+                if (compared < 0) {
+                    low = mid + 1;
+                } else if (compared > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private int linearSearch(long[] view, SortKey sortKey, CatalogProduct product) {
+            int index = indexOf(view, product.id());
+            if (index >= 0) {
+                return index;
+            }
+            // 앞에 와야 하는 마지막 상품 바로 뒤가 삽입 위치 (products에 없는 ID는 건너뛴다)
+            int position = 0;
+            for (int i = 0; i < view.length; i++) {
+                CatalogProduct other = products.get(view[i]);
+                if (other != null && sortKey.comparator.compare(other, product) < 0) {
+                    position = i + 1;
+                }
+            }
+            return -(position + 1);
+        }
+
+        private static int indexOf(long[] view, long productId) {
+            for (int i = 0; i < view.length; i++) {
+                if (view[i] == productId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
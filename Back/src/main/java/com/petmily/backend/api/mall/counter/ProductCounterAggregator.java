@@ -0,0 +1,156 @@
+package com.petmily.backend.api.mall.counter;
+
+import com.petmily.backend.api.mall.catalog.ProductCatalog;
+import com.petmily.backend.config.MallProperties;
+import com.petmily.backend.domain.mall.product.entity.Product;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 조회수/좋아요 수 write-behind 집계
+ * 상세 조회와 좋아요마다 상품 행을 갱신하면 인기 상품 하나에 모든 요청이 행 잠금을 기다리게 되므로,
+ * 증감은 상품별 LongAdder(스레드별로 나뉜 셀)에 모아 두고 주기적으로 상품 ID 순 JDBC 배치 한 번으로 DB에 더한다.
+ * 조회 응답은 DB 값에 아직 반영되지 않은 증감(대기분 + 반영 중인 분)을 더해 보여 준다.
+ * 반영에 실패하면 증감을 되돌려 두었다가 다음 주기에 다시 반영하고, 종료 시에도 남은 증감을 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCounterAggregator {
+
+    private final ProductCounterWriter writer;
+    private final ProductCatalog productCatalog;
+    private final MallProperties properties;
+
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    public void recordView(Long productId) {
+        counter(productId).views.increment();
+    }
+
+    /**
+     * 좋아요 증감 (+1 / -1) - 좋아요 이력 저장이 롤백되면 반영하지 않는다
+     */
+    public void recordLikeAfterCommit(Long productId, int delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counter(productId).likes.add(delta);
+                }
+            });
+        } else {
+            counter(productId).likes.add(delta);
+        }
+    }
+
+    /**
+     * DB 값 + 반영 대기 조회수
+     */
+    public int viewCount(Product product) {
+        Counter counter = counters.get(product.getId());
+        long views = value(product.getViewCount());
+        return (int) (counter != null ? views + counter.views.sum() + counter.flushingViews : views);
+    }
+
+    /**
+     * DB 값 + 반영 대기 좋아요 수
+     */
+    public int likeCount(Product product) {
+        Counter counter = counters.get(product.getId());
+        long likes = value(product.getLikeCount());
+        return (int) Math.max(0, counter != null ? likes + counter.likes.sum() + counter.flushingLikes : likes);
+    }
+
+    /**
+     * 삭제된 상품의 대기 증감 폐기
+     */
+    public void discard(Long productId) {
+        counters.remove(productId);
+    }
+
+    @Scheduled(fixedDelayString = "${petmily.mall.counters.flush-interval-millis:2000}")
+    public synchronized void flush() {
+        List<ProductCounterDelta> deltas = new ArrayList<>();
+        for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+            Counter counter = entry.getValue();
+            // 셀마다 값을 꺼내며 0으로 바꾸므로 그 사이 들어온 증감은 다음 주기로 넘어간다
+            long views = counter.views.sumThenReset();
+            long likes = counter.likes.sumThenReset();
+            if (views != 0 || likes != 0) {
+                counter.flushingViews = views;
+                counter.flushingLikes = likes;
+                deltas.add(new ProductCounterDelta(entry.getKey(), views, likes));
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // 서버마다 같은 순서로 행을 잠가 동시에 반영해도 교착되지 않게 한다
+        deltas.sort(Comparator.comparing(ProductCounterDelta::productId));
+        int batchSize = Math.max(1, properties.getCounters().getBatchSize());
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<ProductCounterDelta> batch = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+            try {
+                writer.write(batch);
+                batch.forEach(delta -> {
+                    settle(delta, false);
+                    productCatalog.addCounts(delta.productId(), delta.views(), delta.likes());
+                });
+            } catch (Exception e) {
+                log.warn("상품 조회수/좋아요 반영 실패 - 다음 주기에 재시도, 상품: {}개", batch.size(), e);
+                batch.forEach(delta -> settle(delta, true));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 반영이 끝난(또는 실패한) 증감을 반영 중 값에서 빼고, 실패했으면 대기분으로 되돌린다
+    private void settle(ProductCounterDelta delta, boolean restore) {
+        Counter counter = counters.get(delta.productId());
+        if (counter == null) {
+            return;
+        }
+        if (restore) {
+            counter.views.add(delta.views());
+            counter.likes.add(delta.likes());
+        }
+        counter.flushingViews = 0;
+        counter.flushingLikes = 0;
+    }
+
+    private Counter counter(Long productId) {
+        Counter counter = counters.get(productId);
+        return counter != null ? counter : counters.computeIfAbsent(productId, id -> new Counter());
+    }
+
+    private static long value(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static final class Counter {
+
+        private final LongAdder views = new LongAdder();
+        private final LongAdder likes = new LongAdder();
+        // 반영 중인 증감 (flush 스레드만 쓰고 조회 시 더한다)
+        private volatile long flushingViews;
+        private volatile long flushingLikes;
+    }
+}
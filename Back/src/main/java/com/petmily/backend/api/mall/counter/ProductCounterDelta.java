@@ -0,0 +1,7 @@
+package com.petmily.backend.api.mall.counter;
+
+/**
+ * 상품 한 건의 DB 반영 대기 조회수/좋아요 증감
+ */
+public record ProductCounterDelta(Long productId, long views, long likes) {
+}
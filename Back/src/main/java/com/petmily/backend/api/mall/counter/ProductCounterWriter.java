@@ -0,0 +1,36 @@
+package com.petmily.backend.api.mall.counter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 모아 둔 조회수/좋아요 증감을 JDBC 배치 한 번으로 상품 테이블에 더한다
+ * 현재 값에 더하는 UPDATE이므로 여러 서버가 각자 반영해도 서로의 증감을 덮어쓰지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCounterWriter {
+
+    private static final String UPDATE_SQL =
+            "UPDATE products SET view_count = view_count + ?, like_count = GREATEST(like_count + ?, 0) " +
+            "WHERE product_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void write(List<ProductCounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.views());
+            ps.setLong(2, delta.likes());
+            ps.setLong(3, delta.productId());
+        });
+    }
+}
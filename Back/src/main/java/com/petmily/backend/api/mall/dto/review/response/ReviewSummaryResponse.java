@@ -1,5 +1,6 @@
 package com.petmily.backend.api.mall.dto.review.response;
 
+import com.petmily.backend.domain.mall.review.entity.ProductReviewStats;
 import lombok.*;
 
 import java.util.Map;
@@ -17,4 +18,14 @@ public class ReviewSummaryResponse {
     private Map<Integer, Long> ratingDistribution;
     private Long photoReviewCount;
 
+    public static ReviewSummaryResponse from(ProductReviewStats stats) {
+        return ReviewSummaryResponse.builder()
+                .productId(stats.getProductId())
+                .averageRating(stats.getAverageRating())
+                .totalReviews(stats.getReviewCount())
+                .ratingDistribution(stats.getRatingDistribution())
+                .photoReviewCount(stats.getPhotoReviewCount())
+                .build();
+    }
+
 }
@@ -0,0 +1,14 @@
+package com.petmily.backend.api.mall.history;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB 반영 대기 중인 사용자-상품 조회 (같은 상품을 여러 번 보면 횟수만 늘고 마지막 조회 시각이 갱신된다)
+ */
+public record PendingProductView(Long userId, Long productId, int views, LocalDateTime lastViewedAt) {
+
+    PendingProductView merge(PendingProductView other) {
+        return new PendingProductView(userId, productId, views + other.views,
+                lastViewedAt.isAfter(other.lastViewedAt) ? lastViewedAt : other.lastViewedAt);
+    }
+}
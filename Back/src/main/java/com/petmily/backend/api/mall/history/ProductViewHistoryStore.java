@@ -0,0 +1,254 @@
+package com.petmily.backend.api.mall.history;
+
+import com.petmily.backend.config.MallProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자별 최근 본 상품 (조회 이력)
+ * 상품 상세 조회는 이벤트를 대기열에 넣기만 하고, 전용 스레드가 모아서 Redis 정렬 집합(mall:views:{userId},
+ * 점수는 마지막 조회 시각)에 반영한다. 같은 상품은 한 번만 남고 maxEntries개를 넘으면 오래된 것부터 밀려난다.
+ * DB(product_view_history)에는 모아 둔 이력을 주기적으로 배치 반영하며, Redis에 목록이 없으면(만료/장애 후) DB에서 다시 채운다.
+ */
+@Slf4j
+@Component
+public class ProductViewHistoryStore {
+
+    private static final String KEY_PREFIX = "mall:views:";
+    private static final int DRAIN_SIZE = 512;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ProductViewHistoryWriter writer;
+    private final MallProperties.ViewHistory properties;
+    private final BlockingQueue<PendingProductView> queue;
+    private final LongAdder dropped = new LongAdder();
+
+    // DB 반영 대기 (사용자:상품 -> 조회)
+    private Map<String, PendingProductView> pending = new LinkedHashMap<>();
+    private Thread consumer;
+    private volatile boolean running;
+
+    public ProductViewHistoryStore(StringRedisTemplate redisTemplate, ProductViewHistoryWriter writer,
+                                   MallProperties mallProperties) {
+        this.redisTemplate = redisTemplate;
+        this.writer = writer;
+        this.properties = mallProperties.getViewHistory();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        consumer = new Thread(this::run, "product-view-history");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (consumer != null) {
+            try {
+                consumer.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        compact();
+    }
+
+    /**
+     * 상품 조회 기록 - 대기열이 가득 차면 버린다 (조회 응답을 막지 않는다)
+     */
+    public void record(Long userId, Long productId) {
+        if (!queue.offer(new PendingProductView(userId, productId, 1, LocalDateTime.now()))) {
+            dropped.increment();
+            log.debug("조회 이력 대기열 초과로 기록 생략 - 누적: {}건", dropped.sum());
+        }
+    }
+
+    /**
+     * 최근 본 상품 ID (최근 순, 최대 maxEntries개)
+     */
+    public List<Long> recentProductIds(Long userId) {
+        try {
+            String key = load(userId);
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(key, 0, properties.getMaxEntries() - 1);
+            return members != null ? members.stream().map(Long::valueOf).toList() : List.of();
+        } catch (Exception e) {
+            log.debug("최근 본 상품 Redis 조회 실패 - DB 조회, User ID: {}", userId, e);
+            return writer.findRecent(userId, properties.getMaxEntries()).stream()
+                    .map(ProductViewHistoryWriter.RecentView::productId)
+                    .toList();
+        }
+    }
+
+    /**
+     * 최근 본 상품 수
+     */
+    public int count(Long userId) {
+        try {
+            Long size = redisTemplate.opsForZSet().zCard(load(userId));
+            return size != null ? (int) Math.min(size, properties.getMaxEntries()) : 0;
+        } catch (Exception e) {
+            log.debug("최근 본 상품 Redis 조회 실패 - DB 조회, User ID: {}", userId, e);
+            return writer.findRecent(userId, properties.getMaxEntries()).size();
+        }
+    }
+
+    /**
+     * 모아 둔 조회 이력 DB 반영
+     * 실패한 묶음은 한 건씩 다시 써서, 그 사이 삭제된 사용자/상품처럼 다시 써도 실패할 행(무결성 위반)만 버리고
+     * 나머지는 반영한다. DB 장애처럼 행과 무관한 실패면 남은 행을 다음 주기로 넘긴다.
+     */
+    @Scheduled(fixedDelayString = "${petmily.mall.view-history.compact-interval-millis:5000}")
+    public void compact() {
+        List<PendingProductView> views;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            views = new ArrayList<>(pending.values());
+            pending = new LinkedHashMap<>();
+        }
+
+        int batchSize = Math.max(1, properties.getBatchSize());
+        for (int from = 0; from < views.size(); from += batchSize) {
+            List<PendingProductView> batch = views.subList(from, Math.min(from + batchSize, views.size()));
+            try {
+                writer.write(batch, properties.getMaxEntries());
+            } catch (Exception e) {
+                log.warn("조회 이력 배치 반영 실패 - 한 건씩 재시도, {}건", batch.size(), e);
+                writeOneByOne(batch);
+            }
+        }
+    }
+
+    private void writeOneByOne(List<PendingProductView> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingProductView view = batch.get(i);
+            try {
+                writer.write(List.of(view), properties.getMaxEntries());
+            } catch (DataIntegrityViolationException e) {
+                log.warn("조회 이력 반영 불가로 버림 - User ID: {}, Product ID: {}", view.userId(), view.productId(), e);
+            } catch (Exception e) {
+                List<PendingProductView> remaining = batch.subList(i, batch.size());
+                log.warn("조회 이력 DB 반영 실패 - 다음 주기에 재시도, {}건", remaining.size(), e);
+                synchronized (this) {
+                    remaining.forEach(this::addPending);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 대기열에 쌓인 이벤트를 꺼내 반영
+     * @return 처리한 이벤트 수
+     */
+    int processQueued() {
+        List<PendingProductView> events = new ArrayList<>();
+        queue.drainTo(events, DRAIN_SIZE);
+        apply(events);
+        return events.size();
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingProductView first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingProductView> events = new ArrayList<>();
+                events.add(first);
+                queue.drainTo(events, DRAIN_SIZE - 1);
+                apply(events);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("조회 이력 처리 실패", e);
+            }
+        }
+    }
+
+    private void apply(List<PendingProductView> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        // 같은 사용자-상품은 하나로 합친다
+        Map<String, PendingProductView> merged = new LinkedHashMap<>();
+        events.forEach(event -> merged.merge(pendingKey(event), event, PendingProductView::merge));
+        synchronized (this) {
+            merged.values().forEach(this::addPending);
+        }
+
+        Map<Long, Set<ZSetOperations.TypedTuple<String>>> byUser = new LinkedHashMap<>();
+        merged.values().forEach(view -> byUser.computeIfAbsent(view.userId(), userId -> new HashSet<>())
+                .add(new DefaultTypedTuple<>(String.valueOf(view.productId()), (double) epochMillis(view.lastViewedAt()))));
+        try {
+            ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+            byUser.forEach((userId, tuples) -> {
+                String key = load(userId);
+                zSet.add(key, tuples);
+                zSet.removeRange(key, 0, -(properties.getMaxEntries() + 1L));
+                redisTemplate.expire(key, Duration.ofDays(properties.getTtlDays()));
+            });
+        } catch (Exception e) {
+            // DB 반영은 그대로 진행되므로 Redis 목록은 만료 후 DB에서 다시 채워진다
+            log.debug("최근 본 상품 Redis 반영 실패 - 사용자: {}명", byUser.size(), e);
+        }
+    }
+
+    // Redis에 목록이 없으면 DB의 최근 이력으로 채운다 (이미 있는 상품의 더 최근 점수는 덮어쓰지 않음)
+    private String load(Long userId) {
+        String key = KEY_PREFIX + userId;
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return key;
+        }
+        List<ProductViewHistoryWriter.RecentView> recent = writer.findRecent(userId, properties.getMaxEntries());
+        if (!recent.isEmpty()) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+            recent.forEach(view -> tuples.add(
+                    new DefaultTypedTuple<>(String.valueOf(view.productId()), (double) epochMillis(view.viewedAt()))));
+            redisTemplate.opsForZSet().addIfAbsent(key, tuples);
+            redisTemplate.expire(key, Duration.ofDays(properties.getTtlDays()));
+        }
+        return key;
+    }
+
+    private void addPending(PendingProductView view) {
+        pending.merge(pendingKey(view), view, PendingProductView::merge);
+    }
+
+    private static String pendingKey(PendingProductView view) {
+        return view.userId() + ":" + view.productId();
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,80 @@
+package com.petmily.backend.api.mall.history;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 조회 이력 DB 반영 (JDBC 배치)
+ * 사용자-상품 행은 있으면 횟수를 더하고 없으면 만드는 한 문장으로 반영하고, 이후 사용자별로 최근 maxEntries개만 남긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductViewHistoryWriter {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO product_view_history (user_id, product_id, view_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE view_count = view_count + ?, updated_at = GREATEST(updated_at, ?)";
+
+    // 최근 maxEntries번째 조회 시각보다 오래된 이력 삭제 (MySQL은 같은 테이블 서브쿼리를 파생 테이블로 감싸야 한다)
+    private static final String TRIM_SQL =
+            "DELETE FROM product_view_history WHERE user_id = ? AND updated_at < (" +
+            "SELECT MIN(recent.updated_at) FROM (" +
+            "SELECT updated_at FROM product_view_history WHERE user_id = ? ORDER BY updated_at DESC LIMIT ?" +
+            ") recent)";
+
+    private static final String RECENT_SQL =
+            "SELECT product_id, updated_at FROM product_view_history WHERE user_id = ? ORDER BY updated_at DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void write(List<PendingProductView> views, int maxEntries) {
+        if (views.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, views, views.size(), (ps, view) -> {
+            Timestamp viewedAt = Timestamp.valueOf(view.lastViewedAt());
+            ps.setLong(1, view.userId());
+            ps.setLong(2, view.productId());
+            ps.setInt(3, view.views());
+            ps.setTimestamp(4, viewedAt);
+            ps.setTimestamp(5, viewedAt);
+            ps.setInt(6, view.views());
+            ps.setTimestamp(7, viewedAt);
+        });
+
+        Set<Long> userIds = new TreeSet<>();
+        views.forEach(view -> userIds.add(view.userId()));
+        List<Long> users = new ArrayList<>(userIds);
+        jdbcTemplate.batchUpdate(TRIM_SQL, users, users.size(), (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setLong(2, userId);
+            ps.setInt(3, maxEntries);
+        });
+    }
+
+    /**
+     * 사용자의 최근 본 상품 (최근 순)
+     */
+    public List<RecentView> findRecent(Long userId, int limit) {
+        return jdbcTemplate.query(RECENT_SQL, (rs, rowNum) -> {
+            Timestamp viewedAt = rs.getTimestamp("updated_at");
+            return new RecentView(rs.getLong("product_id"),
+                    viewedAt != null ? viewedAt.toLocalDateTime() : LocalDateTime.of(1970, 1, 1, 0, 0));
+        }, userId, limit);
+    }
+
+    public record RecentView(Long productId, LocalDateTime viewedAt) {
+    }
+}
@@ -1,6 +1,9 @@
 package com.petmily.backend.api.mall.scheduler;
 
+import com.petmily.backend.api.mall.catalog.ProductCatalog;
+import com.petmily.backend.api.mall.service.StockReservationService;
 import com.petmily.backend.api.notification.service.NotificationService;
+import com.petmily.backend.api.search.index.ProductSearchIndex;
 import com.petmily.backend.domain.mall.order.entity.Order;
 import com.petmily.backend.domain.mall.order.entity.OrderItem;
 import com.petmily.backend.domain.mall.order.entity.OrderStatus;
@@ -30,6 +33,9 @@ public class SubscriptionScheduler {
     private final SubscriptionRepository subscriptionRepository;
     private final OrderRepository orderRepository;
     private final NotificationService notificationService;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductCatalog productCatalog;
+    private final StockReservationService stockReservationService;
 
     /**
      * 매일 오전 9시에 실행
@@ -68,7 +74,8 @@ public class SubscriptionScheduler {
             return;
         }
 
-        if(product.getStockQuantity() < subscription.getQuantity()) {
+        // 재고 확인과 차감을 조건부 UPDATE 한 번으로 (동시 주문과 경합해도 초과 차감 없음)
+        if(!stockReservationService.tryReserve(product, subscription.getQuantity())) {
             log.warn("재고 부족 - productId: {}, required: {}, available: {}",
                     product.getId(), subscription.getQuantity(), product.getStockQuantity());
             subscription.pause();
@@ -79,12 +86,13 @@ public class SubscriptionScheduler {
         log.info("가상 결제 처리 - subscriptionId: {}, amount: {}",
                 subscription.getId(), subscription.calculateCurrentPrice());
 
-        product.decreaseStock(subscription.getQuantity());
+        productSearchIndex.indexAfterCommit(product);
 
         Order order = createAutoOrder(subscription);
         orderRepository.save(order);
 
         product.increaseSalesCount(subscription.getQuantity());
+        productCatalog.updateCountersAfterCommit(product);
 
         subscription.completeDelivery();
 
@@ -2,17 +2,18 @@ package com.petmily.backend.api.mall.service;
 
 import com.petmily.backend.api.exception.CustomException;
 import com.petmily.backend.api.exception.ErrorCode;
+import com.petmily.backend.api.mall.catalog.ProductCatalog;
 import com.petmily.backend.api.mall.dto.order.request.OrderCreateRequest;
 import com.petmily.backend.api.mall.dto.order.request.OrderItemRequest;
 import com.petmily.backend.api.mall.dto.order.response.OrderResponse;
 import com.petmily.backend.api.notification.service.NotificationService;
+import com.petmily.backend.api.search.index.ProductSearchIndex;
 import com.petmily.backend.domain.mall.order.entity.DeliveryInfo;
 import com.petmily.backend.domain.mall.order.entity.Order;
 import com.petmily.backend.domain.mall.order.entity.OrderItem;
 import com.petmily.backend.domain.mall.order.entity.OrderStatus;
 import com.petmily.backend.domain.mall.order.repository.OrderRepository;
 import com.petmily.backend.domain.mall.product.entity.Product;
-import com.petmily.backend.domain.mall.product.repository.ProductRepository;
 import com.petmily.backend.domain.mall.subscription.entity.Subscription;
 import com.petmily.backend.domain.mall.subscription.entity.SubscriptionCycle;
 import com.petmily.backend.domain.mall.subscription.entity.SubscriptionStatus;
@@ -28,6 +29,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -36,21 +39,18 @@ import java.util.UUID;
 public class OrderService {
 
     private final OrderRepository orderRepository;
-    private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
     private final SubscriptionRepository subscriptionRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductCatalog productCatalog;
+    private final StockReservationService stockReservationService;
 
     private User getUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
 
-    private Product getProductById(Long productId) {
-        return productRepository.findById(productId)
-                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
-    }
-
     private Order getOrderById(Long orderId) {
         return orderRepository.findById(orderId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
@@ -59,11 +59,23 @@ public class OrderService {
     @Transactional
     public OrderResponse createOrder(Long userId, OrderCreateRequest request) {
         User user = getUserById(userId);
+        boolean isSubscription = Boolean.TRUE.equals(request.getIsSubscription());
 
-        if (Boolean.TRUE.equals(request.getIsSubscription())) {
+        if (isSubscription) {
             validateSubscriptionOrder(request);
         }
 
+        // 같은 상품이 여러 줄이면 수량을 합쳐 한 번에 예약하고, 주문 상품은 한 번의 조회로 가져온다
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (OrderItemRequest itemRequest : request.getItems()) {
+            quantities.merge(itemRequest.getProductId(), itemRequest.getQuantity(), Integer::sum);
+        }
+        Map<Long, Product> products = stockReservationService.reserve(quantities);
+
+        if (isSubscription) {
+            validateSubscriptionProduct(products.get(request.getItems().get(0).getProductId()), request);
+        }
+
         String orderNumber = generateOrderNumber();
 
         DeliveryInfo deliveryInfo = DeliveryInfo.builder()
@@ -85,16 +97,10 @@ public class OrderService {
         BigDecimal totalAmount = BigDecimal.ZERO;
 
         for (OrderItemRequest itemRequest : request.getItems()) {
-            Product product = getProductById(itemRequest.getProductId());
-
-            if (product.getStockQuantity() < itemRequest.getQuantity()) {
-                throw new CustomException(ErrorCode.INSUFFICIENT_STOCK);
-            }
-
-            product.decreaseStock(itemRequest.getQuantity());
+            Product product = products.get(itemRequest.getProductId());
 
             BigDecimal itemPrice = product.getPrice();
-            if (Boolean.TRUE.equals(request.getIsSubscription()) &&
+            if (isSubscription &&
                 product.getSubscriptionInitialDiscount() != null) {
                 BigDecimal discountRate = product.getSubscriptionInitialDiscount();
                 itemPrice = itemPrice.multiply(BigDecimal.ONE.subtract(discountRate));
@@ -111,11 +117,17 @@ public class OrderService {
             totalAmount = totalAmount.add(orderItem.getTotalPrice());
         }
 
+        for (Product product : products.values()) {
+            productSearchIndex.indexAfterCommit(product); // 품절 시 검색 결과에서 제외
+            productCatalog.updateCountersAfterCommit(product);
+        }
+
         order.setTotalAmount(totalAmount);
         Order savedOrder = orderRepository.save(order);
 
-        if(Boolean.TRUE.equals(request.getIsSubscription())) {
-            Subscription subscription = createSubscription(user, request, deliveryInfo);
+        if(isSubscription) {
+            Product product = products.get(request.getItems().get(0).getProductId());
+            Subscription subscription = createSubscription(user, product, request, deliveryInfo);
             savedOrder.setSubscription(subscription);
         }
 
@@ -163,7 +175,9 @@ public class OrderService {
 
         for(OrderItem orderItem : order.getOrderItems()) {
             Product product = orderItem.getProduct();
-            product.increaseStock(orderItem.getQuantity());
+            stockReservationService.release(product, orderItem.getQuantity());
+            productSearchIndex.indexAfterCommit(product);
+            productCatalog.updateCountersAfterCommit(product);
         }
 
         order.updateStatus(OrderStatus.CANCELED);
@@ -212,10 +226,9 @@ public class OrderService {
         if(request.getSubscriptionCycle() == null) {
             throw new CustomException(ErrorCode.SUBSCRIPTION_CYCLE_REQUIRED);
         }
+    }
 
-        OrderItemRequest item = request.getItems().get(0);
-        Product product = getProductById(item.getProductId());
-
+    private void validateSubscriptionProduct(Product product, OrderCreateRequest request) {
         if(!Boolean.TRUE.equals(product.getSubscriptionEnabled())) {
             throw new CustomException(ErrorCode.SUBSCRIPTION_NOT_AVAILABLE);
         }
@@ -225,9 +238,8 @@ public class OrderService {
         }
     }
 
-    private Subscription createSubscription(User user, OrderCreateRequest request, DeliveryInfo deliveryInfo) {
+    private Subscription createSubscription(User user, Product product, OrderCreateRequest request, DeliveryInfo deliveryInfo) {
         OrderItemRequest item = request.getItems().get(0);
-        Product product = getProductById(item.getProductId());
 
         LocalDate nextDeliveryDate = calculateNextDeliveryDate(LocalDate.now(), request.getSubscriptionCycle());
 
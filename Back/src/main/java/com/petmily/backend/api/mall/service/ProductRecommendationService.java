@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.petmily.backend.api.exception.CustomException;
 import com.petmily.backend.api.exception.ErrorCode;
+import com.petmily.backend.api.mall.history.ProductViewHistoryStore;
 import com.petmily.backend.domain.mall.cart.entity.Cart;
 import com.petmily.backend.domain.mall.cart.repository.CartRepository;
 import com.petmily.backend.domain.mall.order.entity.Order;
@@ -13,7 +14,6 @@ import com.petmily.backend.domain.mall.product.entity.Product;
 import com.petmily.backend.domain.mall.product.entity.ProductStatus;
 import com.petmily.backend.domain.mall.product.repository.ProductLikeRepository;
 import com.petmily.backend.domain.mall.product.repository.ProductRepository;
-import com.petmily.backend.domain.mall.product.repository.ProductViewHistoryRepository;
 import com.petmily.backend.domain.pet.entity.Pet;
 import com.petmily.backend.domain.pet.repository.PetRepository;
 import com.petmily.backend.domain.user.entity.User;
@@ -43,7 +43,7 @@ public class ProductRecommendationService {
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
     private final ProductLikeRepository productLikeRepository;
-    private final ProductViewHistoryRepository productViewHistoryRepository;
+    private final ProductViewHistoryStore productViewHistoryStore;
     private final CartRepository cartRepository;
     private final ObjectMapper objectMapper;
 
@@ -72,11 +72,11 @@ public class ProductRecommendationService {
      * 사용자 조회 이력 개수 확인
      */
     public int getViewHistoryCount(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "사용자를 찾을 수 없습니다."));
-        
-        return (int) productViewHistoryRepository.findAllByUserOrderByUpdatedAtDesc(
-                user, PageRequest.of(0, 1000)).size();
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "사용자를 찾을 수 없습니다.");
+        }
+
+        return productViewHistoryStore.count(userId);
     }
 
     /**
@@ -88,10 +88,9 @@ public class ProductRecommendationService {
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "사용자를 찾을 수 없습니다."));
 
         // 2. 조회 이력 개수 확인 (최소 3개 이상 필요)
-        int viewHistoryCount = (int) productViewHistoryRepository.findAllByUserOrderByUpdatedAtDesc(
-                user, PageRequest.of(0, 1000)).size();
-        
-        if (viewHistoryCount < 3) {
+        List<Long> viewedProductIds = productViewHistoryStore.recentProductIds(userId);
+
+        if (viewedProductIds.size() < 3) {
             // 조회 이력이 부족하면 빈 리스트 반환
             return new ArrayList<>();
         }
@@ -126,11 +125,11 @@ public class ProductRecommendationService {
 
         // - 조회 이력 (자주 본 카테고리 분석)
         // 조회 이력에서 카테고리별 조회 횟수 계산
-        Map<String, Long> categoryViewCounts = productViewHistoryRepository
-                .findCategoryViewCountsByUser(user).stream()
-                .collect(Collectors.toMap(
-                    result -> ((com.petmily.backend.domain.mall.product.entity.ProductCategory) result[0]).name(),
-                    result -> ((Long) result[1])
+        Map<String, Long> categoryViewCounts = productRepository
+                .findCategoriesByIds(viewedProductIds).stream()
+                .collect(Collectors.groupingBy(
+                    result -> ((com.petmily.backend.domain.mall.product.entity.ProductCategory) result[1]).name(),
+                    Collectors.counting()
                 ));
 
         // 4. 사용자가 이미 구매/좋아요/장바구니에 담은 상품 제외하고 후보군 생성
@@ -0,0 +1,104 @@
+package com.petmily.backend.api.mall.service;
+
+import com.petmily.backend.api.exception.CustomException;
+import com.petmily.backend.api.exception.ErrorCode;
+import com.petmily.backend.domain.mall.product.repository.ProductRepository;
+import com.petmily.backend.domain.mall.review.entity.ProductReviewStats;
+import com.petmily.backend.domain.mall.review.entity.Review;
+import com.petmily.backend.domain.mall.review.repository.ProductReviewStatsRepository;
+import com.petmily.backend.domain.mall.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 상품별 리뷰 통계 유지
+ * 리뷰 작성/수정/삭제마다 평점별 개수, 평점 합, 리뷰 수, 포토 리뷰 수를 증감 UPDATE 한 번으로 반영한다.
+ * 증감은 행 잠금 안에서 더해지므로 같은 상품에 리뷰가 동시에 달려도 갱신이 유실되지 않는다.
+ * 통계 행이 없는 상품(기존 상품)은 처음 필요할 때 리뷰 테이블을 한 번 집계해 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProductReviewStatsService {
+
+    private final ProductReviewStatsRepository productReviewStatsRepository;
+    private final ReviewRepository reviewRepository;
+    private final ProductRepository productRepository;
+
+    /**
+     * 통계 행이 없으면 현재 리뷰로 만든다
+     * 집계 조회가 이 트랜잭션의 변경을 먼저 반영(flush)하므로, 리뷰를 바꾸기 전에 호출해야 변경이 두 번 세어지지 않는다.
+     */
+    public void prepare(Long productId) {
+        if (!productReviewStatsRepository.existsById(productId)) {
+            createFromReviews(productId);
+        }
+    }
+
+    /**
+     * 리뷰 요약용 통계
+     */
+    public ProductReviewStats getStats(Long productId) {
+        return productReviewStatsRepository.findById(productId).orElseGet(() -> {
+            if (!productRepository.existsById(productId)) {
+                throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+            }
+            createFromReviews(productId);
+            return productReviewStatsRepository.findById(productId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+        });
+    }
+
+    /**
+     * 리뷰 변경 반영 후 갱신된 통계
+     * @param before 변경 전 리뷰 (작성이면 null)
+     * @param after 변경 후 리뷰 (삭제면 null)
+     */
+    public ProductReviewStats record(Long productId, RatedReview before, RatedReview after) {
+        int updated = productReviewStatsRepository.applyChange(
+                productId,
+                before != null ? before.rating() : 0,
+                after != null ? after.rating() : 0,
+                (after != null ? 1 : 0) - (before != null ? 1 : 0),
+                (after != null && after.hasPhoto() ? 1 : 0) - (before != null && before.hasPhoto() ? 1 : 0));
+        if (updated == 0) {
+            // prepare 없이 호출된 경우 - 변경이 반영된 현재 리뷰로 만든다
+            createFromReviews(productId);
+        }
+        return productReviewStatsRepository.findById(productId)
+                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+    }
+
+    private void createFromReviews(Long productId) {
+        long[] ratingCounts = new long[6];
+        for (Object[] row : reviewRepository.countByRatingForProduct(productId)) {
+            int rating = ((Number) row[0]).intValue();
+            if (rating >= 1 && rating <= 5) {
+                ratingCounts[rating] = ((Number) row[1]).longValue();
+            }
+        }
+
+        long ratingSum = 0;
+        long reviewCount = 0;
+        for (int rating = 1; rating <= 5; rating++) {
+            ratingSum += rating * ratingCounts[rating];
+            reviewCount += ratingCounts[rating];
+        }
+
+        productReviewStatsRepository.insertIfAbsent(productId, ratingCounts[1], ratingCounts[2], ratingCounts[3],
+                ratingCounts[4], ratingCounts[5], ratingSum, reviewCount,
+                reviewRepository.countPhotoReviewsByProductId(productId));
+    }
+
+    /**
+     * 통계에 반영되는 리뷰 값 (평점, 사진 여부)
+     */
+    public record RatedReview(int rating, boolean hasPhoto) {
+
+        public static RatedReview of(Review review) {
+            return new RatedReview(review.getRating(),
+                    review.getImageUrls() != null && !review.getImageUrls().isEmpty());
+        }
+    }
+}
@@ -2,27 +2,31 @@ package com.petmily.backend.api.mall.service;
 
 import com.petmily.backend.api.exception.CustomException;
 import com.petmily.backend.api.exception.ErrorCode;
+import com.petmily.backend.api.mall.catalog.ProductCatalog;
+import com.petmily.backend.api.mall.counter.ProductCounterAggregator;
 import com.petmily.backend.api.mall.dto.product.request.ProductCreateRequest;
 import com.petmily.backend.api.mall.dto.product.request.ProductUpdateRequest;
 import com.petmily.backend.api.mall.dto.product.response.ProductLikeResponse;
 import com.petmily.backend.api.mall.dto.product.response.ProductResponse;
+import com.petmily.backend.api.mall.history.ProductViewHistoryStore;
+import com.petmily.backend.api.search.index.AutocompleteIndex;
+import com.petmily.backend.api.search.index.ProductSearchIndex;
 import com.petmily.backend.domain.mall.product.entity.Product;
 import com.petmily.backend.domain.mall.product.entity.ProductCategory;
 import com.petmily.backend.domain.mall.product.entity.ProductLike;
 import com.petmily.backend.domain.mall.product.entity.ProductStatus;
-import com.petmily.backend.domain.mall.product.entity.ProductViewHistory;
 import com.petmily.backend.domain.mall.product.repository.ProductLikeRepository;
 import com.petmily.backend.domain.mall.product.repository.ProductRepository;
-import com.petmily.backend.domain.mall.product.repository.ProductViewHistoryRepository;
+import com.petmily.backend.domain.mall.review.repository.ProductReviewStatsRepository;
 import com.petmily.backend.domain.user.entity.User;
 import com.petmily.backend.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -32,10 +36,14 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final ProductLikeRepository productLikeRepository;
-    private final ProductViewHistoryRepository productViewHistoryRepository;
     private final UserRepository userRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final AutocompleteIndex autocompleteIndex;
+    private final ProductCatalog productCatalog;
+    private final ProductCounterAggregator productCounterAggregator;
+    private final ProductViewHistoryStore productViewHistoryStore;
+    private final ProductReviewStatsRepository productReviewStatsRepository;
     
-    private static final int MAX_VIEW_HISTORY_COUNT = 100; // 최대 조회 이력 개수
 
     private User findUserById(Long userId) {
         return userRepository.findById(userId)
@@ -68,6 +76,9 @@ public class ProductService {
                 .build();
 
         Product savedProduct = productRepository.save(product);
+        productSearchIndex.indexAfterCommit(savedProduct);
+        productCatalog.updateAfterCommit(savedProduct);
+        autocompleteIndex.requestProductRebuildAfterCommit();
         return ProductResponse.from(savedProduct);
     }
 
@@ -108,6 +119,9 @@ public class ProductService {
             product.setImageUrls(request.getImageUrls());
         }
 
+        productSearchIndex.indexAfterCommit(product);
+        productCatalog.updateAfterCommit(product);
+        autocompleteIndex.requestProductRebuildAfterCommit();
         return ProductResponse.from(product);
     }
 
@@ -122,6 +136,11 @@ public class ProductService {
         }
 
         productRepository.delete(product);
+        productReviewStatsRepository.deleteByProductId(productId);
+        productSearchIndex.removeAfterCommit(productId);
+        productCatalog.removeAfterCommit(productId);
+        productCounterAggregator.discard(productId);
+        autocompleteIndex.requestProductRebuildAfterCommit();
     }
 
     // 상품 상세 조회
@@ -129,59 +148,37 @@ public class ProductService {
     public ProductResponse getProduct(Long userId, Long productId) {
         Product product = findProductById(productId);
 
-        product.increaseViewCount();
+        // 조회수는 모아서 주기적으로 반영 (상품 행을 잠그지 않는다)
+        productCounterAggregator.recordView(productId);
 
         boolean isLiked = false;
         if(userId != null) {
             User user = userRepository.findById(userId).orElse(null);
             if(user != null) {
                 isLiked = productLikeRepository.existsByUserAndProduct(user, product);
-                // 조회 이력 저장
-                saveProductViewHistory(user, product);
+                // 조회 이력은 대기열에 넣고 비동기로 반영
+                productViewHistoryStore.record(user.getId(), productId);
             }
         }
 
-        return ProductResponse.from(product, isLiked);
+        ProductResponse response = ProductResponse.from(product, isLiked);
+        response.setViewCount(productCounterAggregator.viewCount(product));
+        response.setLikeCount(productCounterAggregator.likeCount(product));
+        return response;
     }
     
-    // 상품 조회 이력 저장
-    @Transactional
-    public void saveProductViewHistory(User user, Product product) {
-        Optional<ProductViewHistory> existingHistory = 
-            productViewHistoryRepository.findByUserAndProduct(user, product);
-        
-        if (existingHistory.isPresent()) {
-            // 기존 이력이 있으면 조회 횟수 증가 및 업데이트 시간 갱신
-            ProductViewHistory history = existingHistory.get();
-            history.incrementViewCount();
-            productViewHistoryRepository.save(history);
-        } else {
-            // 새 이력 생성
-            ProductViewHistory newHistory = ProductViewHistory.builder()
-                    .user(user)
-                    .product(product)
-                    .viewCount(1)
-                    .build();
-            productViewHistoryRepository.save(newHistory);
-        }
-        
-        // 최대치 초과 시 오래된 이력 삭제
-        List<ProductViewHistory> allHistories = 
-            productViewHistoryRepository.findAllByUserOrderByUpdatedAtDesc(user, 
-                org.springframework.data.domain.PageRequest.of(0, MAX_VIEW_HISTORY_COUNT + 1));
-        
-        if (allHistories.size() > MAX_VIEW_HISTORY_COUNT) {
-            List<ProductViewHistory> toDelete = allHistories.subList(MAX_VIEW_HISTORY_COUNT, allHistories.size());
-            productViewHistoryRepository.deleteAll(toDelete);
-        }
-    }
-
     // 상품 목록 조회 (카테고리, 검색, 정렬)
     public Page<ProductResponse> getProducts(ProductCategory category, String keyword, String sort, Pageable pageable){
+        boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
+        // 키워드 없는 목록은 카탈로그 정렬 배열에서 바로 자른다 (적재 전이면 DB 조회)
+        if(!hasKeyword && productCatalog.isReady()) {
+            return productCatalog.page(category, sort, pageable);
+        }
+
         Page<Product> products;
 
-        if(keyword != null && !keyword.trim().isEmpty()) {
-            products = productRepository.searchByKeyword(keyword, ProductStatus.ACTIVE, pageable);
+        if(hasKeyword) {
+            products = searchProducts(keyword, pageable);
         } else if (category != null) {
             products = productRepository.findByCategoryAndStatus(category, ProductStatus.ACTIVE, pageable);
         } else {
@@ -196,6 +193,16 @@ public class ProductService {
         return products.map(ProductResponse::from);
     }
 
+    // 키워드 검색 - 검색 색인(관련도 순)이 준비되지 않았으면 DB LIKE 검색
+    private Page<Product> searchProducts(String keyword, Pageable pageable) {
+        if (!productSearchIndex.isReady()) {
+            return productRepository.searchByKeyword(keyword, ProductStatus.ACTIVE, pageable);
+        }
+        Page<Long> productIds = productSearchIndex.search(keyword, pageable);
+        return new PageImpl<>(productRepository.findActiveByIdsInOrder(productIds.getContent()),
+                pageable, productIds.getTotalElements());
+    }
+
     // 판매자의 상품 목록 조회
     public Page<ProductResponse> getProductsBySeller(Long sellerId, Pageable pageable) {
         User seller = findUserById(sellerId);
@@ -221,7 +228,6 @@ public class ProductService {
         boolean isLiked;
         if(existingLike.isPresent()) {
             productLikeRepository.delete(existingLike.get());
-            product.decreaseLikeCount();
             isLiked = false;
         } else {
             ProductLike newLike = ProductLike.builder()
@@ -229,13 +235,16 @@ public class ProductService {
                     .product(product)
                     .build();
             productLikeRepository.save(newLike);
-            product.increaseLikeCount();
             isLiked = true;
         }
 
+        // 좋아요 수는 모아서 주기적으로 반영 (상품 행을 잠그지 않는다)
+        int delta = isLiked ? 1 : -1;
+        productCounterAggregator.recordLikeAfterCommit(productId, delta);
+
         return ProductLikeResponse.builder()
                 .isLiked(isLiked)
-                .likeCount(product.getLikeCount())
+                .likeCount(Math.max(0, productCounterAggregator.likeCount(product) + delta))
                 .build();
     }
 
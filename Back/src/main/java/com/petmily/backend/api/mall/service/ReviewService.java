@@ -2,6 +2,7 @@ package com.petmily.backend.api.mall.service;
 
 import com.petmily.backend.api.exception.CustomException;
 import com.petmily.backend.api.exception.ErrorCode;
+import com.petmily.backend.api.mall.catalog.ProductCatalog;
 import com.petmily.backend.api.mall.dto.review.request.ReviewCreateRequest;
 import com.petmily.backend.api.mall.dto.review.request.ReviewHelpfulRequest;
 import com.petmily.backend.api.mall.dto.review.request.ReviewUpdateRequest;
@@ -12,6 +13,7 @@ import com.petmily.backend.domain.mall.order.entity.OrderStatus;
 import com.petmily.backend.domain.mall.order.repository.OrderRepository;
 import com.petmily.backend.domain.mall.product.entity.Product;
 import com.petmily.backend.domain.mall.product.repository.ProductRepository;
+import com.petmily.backend.domain.mall.review.entity.ProductReviewStats;
 import com.petmily.backend.domain.mall.review.entity.Review;
 import com.petmily.backend.domain.mall.review.entity.ReviewHelpful;
 import com.petmily.backend.domain.mall.review.repository.ReviewHelpfulRepository;
@@ -24,8 +26,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -38,6 +38,8 @@ public class ReviewService {
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;
+    private final ProductCatalog productCatalog;
+    private final ProductReviewStatsService productReviewStatsService;
 
     private User getUserById(Long userId) {
         return userRepository.findById(userId)
@@ -94,9 +96,10 @@ public class ReviewService {
                 .isVerifiedPurchase(true)
                 .build();
 
+        productReviewStatsService.prepare(product.getId());
         Review savedReview = reviewRepository.save(review);
 
-        updateProductRating(product);
+        updateProductRating(product, null, ProductReviewStatsService.RatedReview.of(savedReview));
 
         return ReviewResponse.from(savedReview);
     }
@@ -110,6 +113,9 @@ public class ReviewService {
             throw new IllegalArgumentException("본인의 리뷰만 수정할 수 있습니다.");
         }
 
+        ProductReviewStatsService.RatedReview before = ProductReviewStatsService.RatedReview.of(review);
+        productReviewStatsService.prepare(review.getProduct().getId());
+
         if(request.getRating() != null) {
             review.setRating(request.getRating());
         }
@@ -120,7 +126,7 @@ public class ReviewService {
             review.setImageUrls(request.getImageUrls());
         }
 
-        updateProductRating(review.getProduct());
+        updateProductRating(review.getProduct(), before, ProductReviewStatsService.RatedReview.of(review));
 
         return ReviewResponse.from(review);
     }
@@ -135,9 +141,11 @@ public class ReviewService {
         }
 
         Product product = review.getProduct();
+        ProductReviewStatsService.RatedReview before = ProductReviewStatsService.RatedReview.of(review);
+        productReviewStatsService.prepare(product.getId());
         reviewRepository.delete(review);
 
-        updateProductRating(product);
+        updateProductRating(product, before, null);
     }
 
     public Page<ReviewResponse> getProductReviews(Long userId, Long productId, String sort, Pageable pageable) {
@@ -171,27 +179,10 @@ public class ReviewService {
         return reviews.map(ReviewResponse::from);
     }
 
+    // 통계 행 하나만 읽는다 (없는 상품이면 처음 한 번 집계해 만든다)
+    @Transactional
     public ReviewSummaryResponse getReviewSummary(Long productId) {
-        Product product = getProductById(productId);
-
-        Double averageRating = reviewRepository.calculateAverageRating(product);
-        long totalReviews = reviewRepository.countByProduct(product);
-
-        Map<Integer, Long> ratingDistribution = new HashMap<>();
-        for (int i = 1; i <= 5; i++) {
-            long count = reviewRepository.findByProductAndRating(product, i, Pageable.unpaged()).getTotalElements();
-            ratingDistribution.put(i, count);
-        }
-
-        long photoReviewCount = reviewRepository.findPhotoReviewsByProduct(product, Pageable.unpaged()).getTotalElements();
-
-        return ReviewSummaryResponse.builder()
-                .productId(productId)
-                .averageRating(averageRating != null ? averageRating : 0.0)
-                .totalReviews(totalReviews)
-                .ratingDistribution(ratingDistribution)
-                .photoReviewCount(photoReviewCount)
-                .build();
+        return ReviewSummaryResponse.from(productReviewStatsService.getStats(productId));
     }
 
     @Transactional
@@ -246,14 +237,13 @@ public class ReviewService {
         return ReviewResponse.from(review, myVote);
     }
 
-    private void updateProductRating(Product product) {
-        Double averageRating = reviewRepository.calculateAverageRating(product);
-        long reviewCount = reviewRepository.countByProduct(product);
+    // 리뷰 통계에 변경을 더하고, 갱신된 통계로 상품 평점/리뷰 수를 맞춘다 (AVG/COUNT 재집계 없음)
+    private void updateProductRating(Product product, ProductReviewStatsService.RatedReview before,
+                                     ProductReviewStatsService.RatedReview after) {
+        ProductReviewStats stats = productReviewStatsService.record(product.getId(), before, after);
 
-        product.updateRating(
-                averageRating != null ? averageRating : 0.0,
-                (int) reviewCount
-        );
+        product.updateRating(stats.getAverageRating(), (int) stats.getReviewCount());
+        productCatalog.updateCountersAfterCommit(product);
     }
 
 }
@@ -0,0 +1,72 @@
+package com.petmily.backend.api.mall.service;
+
+import com.petmily.backend.api.exception.CustomException;
+import com.petmily.backend.api.exception.ErrorCode;
+import com.petmily.backend.domain.mall.product.entity.Product;
+import com.petmily.backend.domain.mall.product.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 재고 예약/복구
+ * 재고 확인과 차감을 "재고가 충분할 때만 줄이는" 조건부 UPDATE 한 번으로 처리해, 같은 상품에 주문이 몰려도
+ * 초과 판매나 갱신 유실이 생기지 않는다. 행 잠금은 UPDATE부터 커밋까지만 잡히고, 여러 상품은 상품 ID 순으로 갱신해
+ * 주문끼리 서로의 잠금을 기다리며 교착되지 않게 한다.
+ * 예약에 실패하면 예외로 트랜잭션 전체가 롤백되므로 앞서 예약한 상품의 재고도 함께 되돌아간다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StockReservationService {
+
+    private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * 주문 상품 전체 예약 후, 예약이 반영된 상품을 한 번에 조회해 돌려준다 (상품 ID -> 상품)
+     * 조회는 예약 뒤에 하므로 이 트랜잭션에서 아직 읽지 않은 상품이면 차감된 재고/상태가 그대로 담긴다.
+     */
+    public Map<Long, Product> reserve(Map<Long, Integer> quantities) {
+        Long shortProductId = null;
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantities).entrySet()) {
+            if (productRepository.reserveStock(entry.getKey(), entry.getValue()) == 0) {
+                shortProductId = entry.getKey();
+                break;
+            }
+        }
+
+        Map<Long, Product> products = productRepository.findAllById(quantities.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        if (products.size() != quantities.size()) {
+            throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        if (shortProductId != null) {
+            throw new CustomException(ErrorCode.INSUFFICIENT_STOCK);
+        }
+        return products;
+    }
+
+    /**
+     * 이미 읽어 둔 상품 한 건 예약 - 성공 여부와 관계없이 엔티티를 DB 값으로 다시 읽는다
+     */
+    public boolean tryReserve(Product product, int quantity) {
+        boolean reserved = productRepository.reserveStock(product.getId(), quantity) == 1;
+        entityManager.refresh(product);
+        return reserved;
+    }
+
+    /**
+     * 주문 취소 등으로 재고 복구 후 엔티티를 DB 값으로 다시 읽는다
+     */
+    public void release(Product product, int quantity) {
+        productRepository.releaseStock(product.getId(), quantity);
+        entityManager.refresh(product);
+    }
+}
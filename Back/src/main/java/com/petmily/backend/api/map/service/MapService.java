@@ -2,8 +2,11 @@ package com.petmily.backend.api.map.service;
 
 import com.petmily.backend.api.map.dto.*;
 import com.petmily.backend.api.common.util.SecurityUtils;
+import com.petmily.backend.api.walk.controller.walk.WalkWebSocketController;
+import com.petmily.backend.api.walk.service.location.LocationFix;
+import com.petmily.backend.api.walk.service.location.LocationIngestionService;
+import com.petmily.backend.api.walk.service.location.LocationTrackStateRegistry;
 import com.petmily.backend.domain.user.entity.User;
-import com.petmily.backend.domain.user.repository.UserRepository;
 import com.petmily.backend.domain.pet.entity.Pet;
 import com.petmily.backend.domain.pet.repository.PetRepository;
 import com.petmily.backend.domain.walker.entity.WalkSession;
@@ -24,21 +27,28 @@ import java.util.stream.Collectors;
 @Service
 public class MapService {
     
-    private final UserRepository userRepository;
     private final PetRepository petRepository;
     private final WalkSessionRepository walkSessionRepository;
     private final WalkTrackRepository walkTrackRepository;
+    private final LocationIngestionService locationIngestionService;
+    private final LocationTrackStateRegistry locationTrackStateRegistry;
+    private final WalkWebSocketController walkWebSocketController;
     
     @Value("${kakao.map.api.key}")
     private String kakaoMapApiKey;
     
-    public MapService(UserRepository userRepository, PetRepository petRepository,
+    public MapService(PetRepository petRepository,
                      WalkSessionRepository walkSessionRepository,
-                     WalkTrackRepository walkTrackRepository) {
-        this.userRepository = userRepository;
+                     WalkTrackRepository walkTrackRepository,
+                     LocationIngestionService locationIngestionService,
+                     LocationTrackStateRegistry locationTrackStateRegistry,
+                     WalkWebSocketController walkWebSocketController) {
         this.petRepository = petRepository;
         this.walkSessionRepository = walkSessionRepository;
         this.walkTrackRepository = walkTrackRepository;
+        this.locationIngestionService = locationIngestionService;
+        this.locationTrackStateRegistry = locationTrackStateRegistry;
+        this.walkWebSocketController = walkWebSocketController;
     }
     
     public MapConfigResponse getMapConfig() {
@@ -50,41 +60,26 @@ public class MapService {
         return config;
     }
     
+    /**
+     * 사용자 위치 전송
+     * 위치 주인은 요청 본문이 아닌 인증된 사용자로 정한다 (본문의 userId는 응답에도 쓰지 않음).
+     */
     @Transactional
     public LocationResponse updateUserLocation(LocationRequest request, UserDetails userDetails) {
-        // 사용자 정보 조회
-        User user = userRepository.findByEmail(request.getUserId()).orElse(null);
-        if (user == null) {
-            // 익명 사용자도 허용하되, 세션 ID가 없으면 저장하지 않음
-            LocationResponse response = new LocationResponse();
-            response.setLatitude(request.getLatitude());
-            response.setLongitude(request.getLongitude());
-            response.setTimestamp(request.getTimestamp());
-            response.setUserId(request.getUserId());
-            return response;
-        }
-
+        User user = SecurityUtils.getUser(userDetails);
         Long userId = user.getId();
         Long walkSessionId = request.getWalkSessionId();
 
-        // 세션 ID가 제공된 경우에만 DB에 저장
+        // 세션 ID가 제공된 경우에만 위치 수집 파이프라인(검증/저장/브로드캐스트)으로 전달
         if (walkSessionId != null) {
-            WalkSession session = walkSessionRepository.findById(walkSessionId)
-                    .orElseThrow(() -> new RuntimeException("Walk session not found: " + walkSessionId));
-
-            // 세션 소유자 확인
-            if (!session.getUserId().equals(userId)) {
-                throw new RuntimeException("User does not own this walk session");
-            }
+            LocalDateTime timestamp = request.getTimestamp() != null
+                    ? LocalDateTime.ofInstant(Instant.ofEpochMilli(request.getTimestamp()), ZoneId.systemDefault())
+                    : LocalDateTime.now();
 
-            // 위치 데이터 저장
-            LocalDateTime timestamp = LocalDateTime.ofInstant(
-                    Instant.ofEpochMilli(request.getTimestamp()),
-                    ZoneId.systemDefault()
-            );
-
-            WalkingTrack track = WalkingTrack.builder()
+            locationIngestionService.ingest(LocationFix.builder()
+                    .source(LocationFix.Source.WALK_SESSION)
                     .walkSessionId(walkSessionId)
+                    .userId(userId)
                     .latitude(request.getLatitude())
                     .longitude(request.getLongitude())
                     .timestamp(timestamp)
@@ -92,9 +87,7 @@ public class MapService {
                     .speed(request.getSpeed())
                     .altitude(request.getAltitude())
                     .trackType(WalkingTrack.TrackType.WALKING)
-                    .build();
-
-            walkTrackRepository.save(track);
+                    .build());
         }
 
         // 응답 생성
@@ -102,7 +95,7 @@ public class MapService {
         response.setLatitude(request.getLatitude());
         response.setLongitude(request.getLongitude());
         response.setTimestamp(request.getTimestamp());
-        response.setUserId(request.getUserId());
+        response.setUserId(user.getEmail());
 
         // 반려동물 정보 조회
         List<Pet> pets = petRepository.findByUserId(userId);
@@ -172,6 +165,8 @@ public class MapService {
 
         session.complete(LocalDateTime.now(), endLatitude, endLongitude, totalDistance, durationSeconds, notes);
         session = walkSessionRepository.save(session);
+        locationTrackStateRegistry.removeWalkSession(walkSessionId);
+        walkWebSocketController.releaseSessionLocationStream(walkSessionId);
 
         return convertToResponse(session);
     }
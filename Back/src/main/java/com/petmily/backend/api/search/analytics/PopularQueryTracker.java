@@ -0,0 +1,286 @@
+package com.petmily.backend.api.search.analytics;
+
+import com.petmily.backend.api.search.index.NgramAnalyzer;
+import com.petmily.backend.api.search.index.PrefixSuggestIndex;
+import com.petmily.backend.config.SearchProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실제 검색 트래픽 기반 인기 검색어 집계 (Space-Saving)
+ * 서버마다 정해진 수의 카운터만 두고, 가득 차면 가장 적게 센 검색어 자리를 새 검색어가 물려받는다 (과대 추정분은 오차로 따로 기록).
+ * 카운터는 검색어 해시로 나눈 구획마다 따로 잠그므로 동시 기록이 한 잠금에 몰리지 않는다.
+ * 같은 사용자가 같은 검색어를 되풀이해 순위를 올리지 못하도록, 일정 시간 안의 반복 검색은 한 번으로 센다.
+ * 스냅샷 주기마다 반감기에 맞춰 횟수를 줄이고, Redis 정렬 집합(search:popular:node:{nodeId})에 올린 뒤
+ * 살아 있는 서버들의 집합을 합산(ZUNIONSTORE)해 전체 인기 순위를 만든다. Redis를 쓸 수 없으면 이 서버의 집계만 쓴다.
+ */
+@Slf4j
+@Component
+public class PopularQueryTracker {
+
+    private static final String NODES_KEY = "search:popular:nodes";
+    private static final String NODE_KEY_PREFIX = "search:popular:node:";
+    private static final String MERGED_KEY_PREFIX = "search:popular:merged:";
+
+    // 감쇠 후 이보다 작아진 카운터는 자리를 비운다
+    private static final double EVICT_BELOW = 0.05;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final SearchProperties.PopularQueries properties;
+    private final int suggestTopK;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Stripe[] stripes;
+
+    // 마지막 스냅샷 기준 전체 인기 순위 (내림차순)
+    private volatile Map<String, Double> ranking = Map.of();
+    private volatile PrefixSuggestIndex<String> suggestIndex = PrefixSuggestIndex.empty();
+
+    public PopularQueryTracker(RedisTemplate<String, Object> redisTemplate, SearchProperties searchProperties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = searchProperties.getPopularQueries();
+        this.suggestTopK = Math.max(1, searchProperties.getAutocomplete().getTopK());
+
+        int stripeCount = Math.max(1, properties.getStripes());
+        int stripeCapacity = Math.max(1, properties.getCapacity() / stripeCount);
+        int searcherCapacity = Math.max(1, properties.getSearcherDedupeCapacity() / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(stripeCapacity, searcherCapacity);
+        }
+    }
+
+    /**
+     * 결과가 있었던 검색어 한 번 기록 (정규화 후, 빈 검색어와 너무 긴 검색어는 무시)
+     * @param searcherKey 검색한 사용자 구분 값 (로그인 사용자 또는 접속 IP) - 같은 값의 반복 검색은 한 번으로 센다
+     */
+    public void record(String query, String searcherKey) {
+        if (!properties.isEnabled() || query == null) {
+            return;
+        }
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || normalized.length() > properties.getMaxQueryLength()) {
+            return;
+        }
+        long dedupeMillis = TimeUnit.MINUTES.toMillis(properties.getSearcherDedupeMinutes());
+        stripes[Math.floorMod(normalized.hashCode(), stripes.length)]
+                .offer(normalized, searcherKey, System.currentTimeMillis(), dedupeMillis);
+    }
+
+    /**
+     * 인기 검색어 상위 limit개
+     */
+    public List<String> topQueries(int limit) {
+        return ranking.keySet().stream().limit(Math.max(0, limit)).toList();
+    }
+
+    /**
+     * 접두어(초성/입력 중인 음절 포함)로 시작하는 인기 검색어 (인기 순)
+     */
+    public List<String> suggest(String prefix, int limit) {
+        return suggestIndex.complete(prefix, limit);
+    }
+
+    /**
+     * 검색어의 인기 점수 (감쇠된 검색 횟수, 순위 밖이면 0)
+     */
+    public double score(String query) {
+        return query != null ? ranking.getOrDefault(normalize(query), 0.0) : 0.0;
+    }
+
+    /**
+     * 서버별 스냅샷 공유 및 전체 순위 갱신, 이후 반감기만큼 횟수 감쇠
+     */
+    @Scheduled(fixedDelayString = "${petmily.search.popular-queries.snapshot-interval-millis:60000}",
+               initialDelayString = "${petmily.search.popular-queries.snapshot-interval-millis:60000}")
+    public void snapshot() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Map<String, Double> local = top(localCounts(), properties.getPublishSize());
+
+        Map<String, Double> merged;
+        try {
+            merged = mergeAcrossNodes(local);
+        } catch (Exception e) {
+            log.debug("인기 검색어 서버 간 집계 실패 - 이 서버 집계만 사용", e);
+            merged = local;
+        }
+        publish(merged);
+
+        double factor = Math.pow(0.5, (double) properties.getSnapshotIntervalMillis()
+                / TimeUnit.MINUTES.toMillis(Math.max(1, properties.getHalfLifeMinutes())));
+        for (Stripe stripe : stripes) {
+            stripe.decay(factor);
+        }
+    }
+
+    private Map<String, Double> localCounts() {
+        Map<String, Double> counts = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            stripe.copyTo(counts);
+        }
+        return counts;
+    }
+
+    private Map<String, Double> mergeAcrossNodes(Map<String, Double> local) {
+        ZSetOperations<String, Object> zSet = redisTemplate.opsForZSet();
+        long now = System.currentTimeMillis();
+        long ttlMillis = properties.getSnapshotIntervalMillis() * 3;
+        String nodeKey = NODE_KEY_PREFIX + nodeId;
+
+        // 1. 이 서버 스냅샷 교체 (임시 키에 쓰고 이름을 바꿔 합산 중인 다른 서버가 빈 집합을 보지 않게 한다)
+        if (local.isEmpty()) {
+            redisTemplate.delete(nodeKey);
+        } else {
+            String nextKey = nodeKey + ":next";
+            Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>();
+            local.forEach((query, count) -> tuples.add(new DefaultTypedTuple<>(query, count)));
+            redisTemplate.delete(nextKey);
+            zSet.add(nextKey, tuples);
+            redisTemplate.rename(nextKey, nodeKey);
+            redisTemplate.expire(nodeKey, ttlMillis, TimeUnit.MILLISECONDS);
+        }
+
+        // 2. 살아 있는 서버 목록 갱신 (점수는 만료 시각)
+        zSet.add(NODES_KEY, nodeId, now + ttlMillis);
+        zSet.removeRangeByScore(NODES_KEY, 0, now);
+        Set<Object> aliveNodes = zSet.rangeByScore(NODES_KEY, now, Double.POSITIVE_INFINITY);
+        if (aliveNodes == null || aliveNodes.isEmpty()) {
+            return local;
+        }
+
+        // 3. 서버별 집합 합산 후 상위만 읽는다
+        List<String> nodeKeys = aliveNodes.stream().map(node -> NODE_KEY_PREFIX + node).toList();
+        String mergedKey = MERGED_KEY_PREFIX + nodeId;
+        zSet.unionAndStore(nodeKeys.get(0), nodeKeys.subList(1, nodeKeys.size()), mergedKey);
+        Set<ZSetOperations.TypedTuple<Object>> top = zSet.reverseRangeWithScores(mergedKey, 0, properties.getPublishSize() - 1);
+        redisTemplate.delete(mergedKey);
+
+        Map<String, Double> merged = new LinkedHashMap<>();
+        if (top != null) {
+            top.forEach(tuple -> merged.put(String.valueOf(tuple.getValue()), tuple.getScore()));
+        }
+        return merged;
+    }
+
+    private void publish(Map<String, Double> counts) {
+        Map<String, Double> popular = new LinkedHashMap<>();
+        top(counts, properties.getPublishSize()).forEach((query, score) -> {
+            if (score >= properties.getMinScore()) {
+                popular.put(query, score);
+            }
+        });
+
+        Map<String, Long> weights = new HashMap<>();
+        popular.forEach((query, score) -> weights.put(query, Math.round(score * 1000)));
+        suggestIndex = PrefixSuggestIndex.build(weights, suggestTopK);
+        ranking = popular;
+    }
+
+    // 점수 내림차순 상위 limit개 (순서 유지)
+    private static Map<String, Double> top(Map<String, Double> counts, int limit) {
+        Map<String, Double> top = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(Math.max(0, limit))
+                .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+
+    private static String normalize(String query) {
+        return NgramAnalyzer.normalize(query).strip().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Space-Saving 카운터 한 구획
+     */
+    private static final class Stripe {
+
+        private final int capacity;
+        // 검색어 -> [횟수, 과대 추정 오차]
+        private final Map<String, double[]> counters = new HashMap<>();
+        // (사용자, 검색어) -> 마지막으로 센 시각 (삽입 순, 넘치면 가장 오래된 것부터 잊는다)
+        private final LinkedHashMap<String, Long> searchers;
+
+        private Stripe(int capacity, int searcherCapacity) {
+            this.capacity = capacity;
+            this.searchers = new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > searcherCapacity;
+                }
+            };
+        }
+
+        synchronized void offer(String query, String searcherKey, long now, long dedupeMillis) {
+            if (searcherKey != null && dedupeMillis > 0) {
+                String key = searcherKey + '\0' + query;
+                Long countedAt = searchers.get(key);
+                if (countedAt != null && now - countedAt < dedupeMillis) {
+                    return;
+                }
+                // 다시 넣어 삽입 순서를 최신으로 옮긴다
+                searchers.remove(key);
+                searchers.put(key, now);
+            }
+            count(query);
+        }
+
+        private void count(String query) {
+            double[] counter = counters.get(query);
+            if (counter != null) {
+                counter[0] += 1;
+                return;
+            }
+            if (counters.size() < capacity) {
+                counters.put(query, new double[]{1, 0});
+                return;
+            }
+
+            // 가장 적게 센 검색어 자리를 물려받는다 - 물려받은 횟수는 오차로 남긴다
+            String minQuery = null;
+            double min = Double.MAX_VALUE;
+            for (Map.Entry<String, double[]> entry : counters.entrySet()) {
+                if (entry.getValue()[0] < min) {
+                    min = entry.getValue()[0];
+                    minQuery = entry.getKey();
+                }
+            }
+            counters.remove(minQuery);
+            counters.put(query, new double[]{min + 1, min});
+        }
+
+        synchronized void decay(double factor) {
+            counters.values().removeIf(counter -> {
+                counter[0] *= factor;
+                counter[1] *= factor;
+                return counter[0] < EVICT_BELOW;
+            });
+        }
+
+        // 보장된 횟수(횟수 - 오차)만 내보내 자리를 막 물려받은 검색어가 순위에 끼지 않게 한다
+        synchronized void copyTo(Map<String, Double> target) {
+            for (Map.Entry<String, double[]> entry : counters.entrySet()) {
+                double guaranteed = entry.getValue()[0] - entry.getValue()[1];
+                if (guaranteed > 0) {
+                    target.merge(entry.getKey(), guaranteed, Double::sum);
+                }
+            }
+        }
+    }
+}
@@ -5,8 +5,11 @@ import com.petmily.backend.api.search.dto.SearchResponse;
 import com.petmily.backend.api.search.dto.SearchResultItem;
 import com.petmily.backend.api.search.service.MenuSearchService;
 import com.petmily.backend.api.search.service.SearchService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -26,17 +29,21 @@ public class SearchController {
     @GetMapping
     public ResponseEntity<SearchResponse> searchAll(
             @RequestParam String query,
-            @RequestParam(required = false) List<String> types
+            @RequestParam(required = false) List<String> types,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request
     ) {
-        return ResponseEntity.ok(searchService.searchAll(query, types));
+        return ResponseEntity.ok(searchService.searchAll(query, types, searcherKey(userDetails, request)));
     }
 
     @GetMapping("/{type}")
     public ResponseEntity<List<SearchResultItem>> searchByType(
             @PathVariable String type,
-            @RequestParam String query
+            @RequestParam String query,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request
     ) {
-        return ResponseEntity.ok(searchService.searchByType(type, query));
+        return ResponseEntity.ok(searchService.searchByType(type, query, searcherKey(userDetails, request)));
     }
 
     @GetMapping("/{type}/autocomplete")
@@ -56,7 +63,16 @@ public class SearchController {
     public ResponseEntity<List<MenuItem>> getMenusByCategory(@PathVariable String category) {
         return ResponseEntity.ok(menuSearchService.getMenusByCategory(category));
     }
-}
-
-
 
+    // 인기 검색어 반복 집계 방지용 사용자 구분 값 (비로그인은 접속 IP)
+    private static String searcherKey(UserDetails userDetails, HttpServletRequest request) {
+        if (userDetails != null) {
+            return "user:" + userDetails.getUsername();
+        }
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isEmpty()) {
+            return "ip:" + forwardedFor.split(",")[0].trim();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
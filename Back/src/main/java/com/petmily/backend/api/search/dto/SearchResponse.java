@@ -18,6 +18,10 @@ public class SearchResponse {
     private Map<String, List<SearchResultItem>> results;
     private List<String> suggestions;
     private Integer totalCount;
+
+    // 기한 안에 응답하지 못해 결과에서 빠진 검색 유형이 있는지
+    private boolean partial;
+    private List<String> omittedTypes;
 }
 
 
@@ -0,0 +1,206 @@
+package com.petmily.backend.api.search.index;
+
+import com.petmily.backend.config.SearchProperties;
+import com.petmily.backend.domain.mall.product.entity.ProductStatus;
+import com.petmily.backend.domain.mall.product.repository.ProductRepository;
+import com.petmily.backend.domain.walker.entity.WalkerStatus;
+import com.petmily.backend.domain.walker.repository.WalkerRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 상품명/메뉴 키워드 자동완성 색인과 워커 이름 색인
+ * 불변 접두어 색인(PrefixSuggestIndex)을 종류별로 하나씩 두고, 다시 만들 때는 별도 스레드에서 새 색인을 만든 뒤 참조만 바꾼다.
+ * 조회 스레드는 잠금 없이 현재 색인을 읽으므로 재구성 중에도 이전 색인으로 응답한다.
+ * 색인 키에는 초성/자모 형태가 미리 들어 있어 "ㅅㅊ", "산ㅊ" 같은 입력도 조회 한 번으로 찾는다.
+ */
+@Slf4j
+@Component
+public class AutocompleteIndex {
+
+    public enum Source {
+        PRODUCT,
+        MENU
+    }
+
+    private final ProductRepository productRepository;
+    private final WalkerRepository walkerRepository;
+    private final SearchProperties properties;
+    private final ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private final AtomicBoolean walkerRebuildPending = new AtomicBoolean();
+
+    private volatile PrefixSuggestIndex<String> products = PrefixSuggestIndex.empty();
+    private volatile PrefixSuggestIndex<String> menus = PrefixSuggestIndex.empty();
+    private volatile PrefixSuggestIndex<Long> walkers = PrefixSuggestIndex.empty();
+    private volatile boolean productsReady;
+    private volatile boolean walkersReady;
+
+    public AutocompleteIndex(ProductRepository productRepository, WalkerRepository walkerRepository,
+                             SearchProperties properties) {
+        this.productRepository = productRepository;
+        this.walkerRepository = walkerRepository;
+        this.properties = properties;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "autocomplete-index-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public List<String> complete(Source source, String prefix, int limit) {
+        PrefixSuggestIndex<String> index = source == Source.PRODUCT ? products : menus;
+        return index.complete(prefix, limit);
+    }
+
+    public boolean isReady(Source source) {
+        return source == Source.MENU || productsReady;
+    }
+
+    /**
+     * 이름이 검색어로 시작하는(단어 단위, 초성/입력 중인 음절 포함) 활성 워커 ID
+     * 색인이 아직 만들어지지 않았으면 null
+     */
+    public Set<Long> findWalkerIds(String keyword) {
+        if (!walkersReady) {
+            return null;
+        }
+        return new HashSet<>(walkers.matchAll(keyword));
+    }
+
+    /**
+     * 메뉴 키워드 색인 교체 (메뉴는 코드에 고정되어 있어 기동 시 한 번 등록된다)
+     */
+    public void replaceMenuSuggestions(Map<String, Long> weightedKeywords) {
+        menus = PrefixSuggestIndex.build(weightedKeywords, topK());
+    }
+
+    /**
+     * 상품 색인 재구성 요청 (커밋 이후, 여러 번 요청되어도 진행 대기 중인 한 번으로 합쳐진다)
+     */
+    public void requestProductRebuildAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    requestProductRebuild();
+                }
+            });
+        } else {
+            requestProductRebuild();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void requestProductRebuild() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildPending.set(false);
+                try {
+                    rebuildProducts();
+                } catch (Exception e) {
+                    log.warn("상품 자동완성 색인 재구성 실패", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * 워커 이름 색인 재구성 요청 (워커 승인/정지 등 커밋 이후)
+     */
+    public void requestWalkerRebuildAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    requestWalkerRebuild();
+                }
+            });
+        } else {
+            requestWalkerRebuild();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void requestWalkerRebuild() {
+        if (walkerRebuildPending.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                walkerRebuildPending.set(false);
+                try {
+                    rebuildWalkers();
+                } catch (Exception e) {
+                    log.warn("워커 이름 색인 재구성 실패", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * 인기도(판매/좋아요/조회) 변화를 반영하기 위한 주기적 재구성
+     */
+    @Scheduled(fixedDelayString = "${petmily.search.autocomplete.rebuild-interval-millis:300000}",
+               initialDelayString = "${petmily.search.autocomplete.rebuild-interval-millis:300000}")
+    public void scheduledRebuild() {
+        requestProductRebuild();
+        requestWalkerRebuild();
+    }
+
+    void rebuildProducts() {
+        long startedAt = System.currentTimeMillis();
+        Map<String, Long> weightedNames = new HashMap<>();
+        for (Object[] row : productRepository.findSuggestionStatsByStatus(ProductStatus.ACTIVE)) {
+            weightedNames.merge((String) row[0], productWeight(row), Math::max);
+        }
+
+        products = PrefixSuggestIndex.build(weightedNames, topK());
+        productsReady = true;
+        log.debug("상품 자동완성 색인 재구성 - 상품명: {}개, {}ms",
+                weightedNames.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    void rebuildWalkers() {
+        List<PrefixSuggestIndex.Entry<Long>> entries = new ArrayList<>();
+        for (Object[] row : walkerRepository.findNamesByStatus(WalkerStatus.ACTIVE)) {
+            if (row[1] != null) {
+                entries.add(new PrefixSuggestIndex.Entry<>((Long) row[0], 0L, List.of((String) row[1])));
+            }
+        }
+
+        walkers = PrefixSuggestIndex.build(entries, 1);
+        walkersReady = true;
+        log.debug("워커 이름 색인 재구성 - 워커: {}명", entries.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    // 판매 > 좋아요 > 조회 순으로 인기도에 반영
+    private static long productWeight(Object[] row) {
+        long sales = row[1] != null ? ((Number) row[1]).longValue() : 0L;
+        long likes = row[2] != null ? ((Number) row[2]).longValue() : 0L;
+        long views = row[3] != null ? ((Number) row[3]).longValue() : 0L;
+        return sales * 10 + likes * 5 + views;
+    }
+
+    private int topK() {
+        return Math.max(1, properties.getAutocomplete().getTopK());
+    }
+}
@@ -0,0 +1,148 @@
+package com.petmily.backend.api.search.index;
+
+/**
+ * 한글 초성/자모 정규화
+ * 완성형 음절을 초성만 남긴 형태("산책" -> "ㅅㅊ")와 자모로 풀어 쓴 형태("산책" -> "ㅅㅏㄴㅊㅐㄱ")로 바꾼다.
+ * 겹받침과 이중모음도 낱자로 풀기 때문에 입력 중인 음절("산ㅊ", "닭" 입력 중의 "달")도 자모 형태에서는 접두어가 된다.
+ * 색인은 이 형태들을 미리 계산해 키로 넣어 두고, 검색 시에는 짧은 검색어만 같은 방식으로 변환한다.
+ */
+public final class HangulNormalizer {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char[] JUNGSUNG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+    // 0번은 받침 없음
+    private static final char[] JONGSUNG = {
+            '\0', 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ',
+            'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 호환 자모(U+3131~U+3163) -> 낱자로 푼 형태 (겹받침, 이중모음만 두 글자)
+    private static final String[] COMPATIBILITY_SPLIT = new String[0x3163 - 0x3131 + 1];
+
+    // 조합형 자모(U+1100~U+11FF) -> 호환 자모 (NFKC가 호환 자모를 조합형으로 바꾸므로 되돌린다)
+    private static final char[] CONJOINING_TO_COMPATIBILITY = new char[0x100];
+
+    static {
+        for (char c = 'ㄱ'; c <= 'ㅣ'; c++) {
+            COMPATIBILITY_SPLIT[c - 0x3131] = String.valueOf(c);
+        }
+        split('ㄳ', "ㄱㅅ");
+        split('ㄵ', "ㄴㅈ");
+        split('ㄶ', "ㄴㅎ");
+        split('ㄺ', "ㄹㄱ");
+        split('ㄻ', "ㄹㅁ");
+        split('ㄼ', "ㄹㅂ");
+        split('ㄽ', "ㄹㅅ");
+        split('ㄾ', "ㄹㅌ");
+        split('ㄿ', "ㄹㅍ");
+        split('ㅀ', "ㄹㅎ");
+        split('ㅄ', "ㅂㅅ");
+        split('ㅘ', "ㅗㅏ");
+        split('ㅙ', "ㅗㅐ");
+        split('ㅚ', "ㅗㅣ");
+        split('ㅝ', "ㅜㅓ");
+        split('ㅞ', "ㅜㅔ");
+        split('ㅟ', "ㅜㅣ");
+        split('ㅢ', "ㅡㅣ");
+
+        for (int i = 0; i < CHOSUNG.length; i++) {
+            CONJOINING_TO_COMPATIBILITY[i] = CHOSUNG[i];
+        }
+        for (int i = 0; i < JUNGSUNG.length; i++) {
+            CONJOINING_TO_COMPATIBILITY[0x61 + i] = JUNGSUNG[i];
+        }
+        for (int i = 1; i < JONGSUNG.length; i++) {
+            CONJOINING_TO_COMPATIBILITY[0xA8 + i - 1] = JONGSUNG[i];
+        }
+    }
+
+    private HangulNormalizer() {
+    }
+
+    /**
+     * 완성형 음절을 초성으로 바꾼다 (그 밖의 문자는 그대로)
+     */
+    public static String chosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            builder.append(isSyllable(c) ? CHOSUNG[(c - SYLLABLE_BEGIN) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)] : c);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 완성형 음절과 겹자모를 낱자 호환 자모로 푼다 (그 밖의 문자는 그대로)
+     */
+    public static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BEGIN;
+                builder.append(CHOSUNG[offset / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+                builder.append(COMPATIBILITY_SPLIT[JUNGSUNG[offset % (JUNGSUNG_COUNT * JONGSUNG_COUNT) / JONGSUNG_COUNT] - 0x3131]);
+                int jongsung = offset % JONGSUNG_COUNT;
+                if (jongsung != 0) {
+                    builder.append(COMPATIBILITY_SPLIT[JONGSUNG[jongsung] - 0x3131]);
+                }
+            } else if (isCompatibilityJamo(c)) {
+                builder.append(COMPATIBILITY_SPLIT[c - 0x3131]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 조합형 자모를 호환 자모로 되돌린다 (NFKC 정규화 이후 사용)
+     */
+    public static String toCompatibilityJamo(String text) {
+        StringBuilder builder = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            char mapped = c >= 0x1100 && c <= 0x11FF ? CONJOINING_TO_COMPATIBILITY[c - 0x1100] : '\0';
+            if (mapped != '\0') {
+                if (builder == null) {
+                    builder = new StringBuilder(text);
+                }
+                builder.setCharAt(i, mapped);
+            }
+        }
+        return builder != null ? builder.toString() : text;
+    }
+
+    /**
+     * 완성형 음절이 하나라도 있는지
+     */
+    public static boolean containsSyllable(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isSyllable(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    private static boolean isCompatibilityJamo(char c) {
+        return c >= 'ㄱ' && c <= 'ㅣ';
+    }
+
+    private static void split(char jamo, String letters) {
+        COMPATIBILITY_SPLIT[jamo - 0x3131] = letters;
+    }
+}
@@ -0,0 +1,95 @@
+package com.petmily.backend.api.search.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색 색인용 n-gram 분석기
+ * 한국어는 띄어쓰기/조사 때문에 형태소 분석 없이 단어 단위로 색인하면 부분 일치가 안 되므로,
+ * 단어를 1-gram과 2-gram으로 잘라 색인하고 검색어는 2-gram(한 글자 단어는 1-gram)으로 잘라 찾는다.
+ * "강아지사료" 검색 시 "강아","아지","지사","사료"가 모두 들어 있는 문서가 후보가 된다.
+ */
+public final class NgramAnalyzer {
+
+    private NgramAnalyzer() {
+    }
+
+    /**
+     * 색인할 n-gram과 등장 횟수
+     */
+    public static Map<String, Integer> indexTerms(String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        String previous = null;
+        for (String token : tokenize(text)) {
+            for (int i = 0; i < token.length(); i++) {
+                terms.merge(token.substring(i, i + 1), 1, Integer::sum);
+                if (i + 1 < token.length()) {
+                    terms.merge(token.substring(i, i + 2), 1, Integer::sum);
+                }
+            }
+            // 띄어쓰기 없이 붙여 쓴 검색어("강아지사료")도 찾을 수 있도록 단어 경계를 걸친 2-gram도 색인
+            if (previous != null) {
+                terms.merge(previous.substring(previous.length() - 1) + token.charAt(0), 1, Integer::sum);
+            }
+            previous = token;
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어 n-gram (중복 제거, 등장 순서 유지)
+     */
+    public static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : tokenize(query)) {
+            if (token.length() == 1) {
+                terms.add(token);
+                continue;
+            }
+            for (int i = 0; i + 1 < token.length(); i++) {
+                terms.add(token.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 정규화(NFKC, 소문자) 후 문자/숫자가 아닌 문자로 분리
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = normalize(text);
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(normalized.substring(start));
+        }
+        return tokens;
+    }
+
+    /**
+     * NFKC, 소문자 정규화 - NFKC가 바꾼 조합형 자모는 호환 자모("ㅅㅊ")로 되돌린다
+     */
+    public static String normalize(String text) {
+        return HangulNormalizer.toCompatibilityJamo(Normalizer.normalize(text, Normalizer.Form.NFKC)).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,337 @@
+package com.petmily.backend.api.search.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기도 가중치가 있는 불변 접두어 자동완성 색인 (배열 기반 트라이)
+ * 노드는 너비 우선 순서로 배열에 저장되고 자식은 라벨 순으로 연속 배치되어 이진 탐색으로 내려간다.
+ * 노드마다 그 아래 완성어 중 가중치 상위 K개를 미리 계산해 두므로, 조회는 접두어 길이만큼 내려간 뒤 목록을 읽기만 한다.
+ * 각 완성어는 단어 시작 위치마다 키로 들어가므로 "강아지 사료"는 "강아"와 "사"로 모두 찾을 수 있다.
+ * 키는 자모로 풀어 쓴 형태와 초성 형태로 함께 들어가므로 입력 중인 음절("산ㅊ")과 초성("ㅅㅊ")으로도 찾을 수 있다.
+ */
+public final class PrefixSuggestIndex<T> {
+
+    private static final PrefixSuggestIndex<Object> EMPTY = build(List.of(), 1);
+
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] childCount;
+    // 노드 i의 상위 완성어는 topEntries[topOffset[i] .. topOffset[i + 1])
+    private final int[] topOffset;
+    private final int[] topEntries;
+    // 노드 i 아래의 모든 키는 정렬된 키 배열의 [rangeLow[i], rangeHigh[i]) 구간
+    private final int[] rangeLow;
+    private final int[] rangeHigh;
+    private final int[] keyEntries;
+    private final Object[] values;
+
+    private PrefixSuggestIndex(char[] labels, int[] firstChild, int[] childCount, int[] topOffset, int[] topEntries,
+                               int[] rangeLow, int[] rangeHigh, int[] keyEntries, Object[] values) {
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topOffset = topOffset;
+        this.topEntries = topEntries;
+        this.rangeLow = rangeLow;
+        this.rangeHigh = rangeHigh;
+        this.keyEntries = keyEntries;
+        this.values = values;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PrefixSuggestIndex<T> empty() {
+        return (PrefixSuggestIndex<T>) EMPTY;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * 접두어로 시작하는 완성어 상위 limit개 (가중치 순)
+     */
+    public List<T> complete(String prefix, int limit) {
+        int node = limit > 0 ? find(prefix) : -1;
+        if (node < 0) {
+            return List.of();
+        }
+
+        int from = topOffset[node];
+        int to = Math.min(topOffset[node + 1], from + limit);
+        List<T> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(value(topEntries[i]));
+        }
+        return result;
+    }
+
+    /**
+     * 접두어로 시작하는 키를 가진 모든 값 (가중치 순, 중복 제외)
+     * 상위 K개 제한 없이 필터링에 쓰며, 정렬된 키 구간만 훑으므로 일치하지 않는 값은 보지 않는다.
+     */
+    public List<T> matchAll(String prefix) {
+        int node = find(prefix);
+        if (node < 0) {
+            return List.of();
+        }
+
+        BitSet matched = new BitSet(values.length);
+        for (int i = rangeLow[node]; i < rangeHigh[node]; i++) {
+            matched.set(keyEntries[i]);
+        }
+        List<T> result = new ArrayList<>(matched.cardinality());
+        for (int entry = matched.nextSetBit(0); entry >= 0; entry = matched.nextSetBit(entry + 1)) {
+            result.add(value(entry));
+        }
+        return result;
+    }
+
+    // 검색어를 키와 같은 자모 형태로 바꿔 노드까지 내려간다 (없으면 -1)
+    private int find(String prefix) {
+        if (prefix == null) {
+            return -1;
+        }
+        String normalized = NgramAnalyzer.normalize(prefix).strip();
+        if (normalized.isEmpty()) {
+            return -1;
+        }
+        String key = HangulNormalizer.decompose(normalized);
+
+        int node = 0;
+        for (int i = 0; i < key.length() && node >= 0; i++) {
+            node = child(node, key.charAt(i));
+        }
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T value(int entry) {
+        return (T) values[entry];
+    }
+
+    private int child(int node, char label) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midLabel = labels[mid];
+            if (midLabel < label) {
+                low = mid + 1;
+            } else if (midLabel > label) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 완성어(표시 문자열) -> 가중치로 색인 생성
+     * @param topK 노드마다 보관할 상위 완성어 수 (조회 시 limit의 최대값)
+     */
+    public static PrefixSuggestIndex<String> build(Map<String, Long> weightedSuggestions, int topK) {
+        List<Entry<String>> entries = weightedSuggestions.entrySet().stream()
+                .filter(entry -> entry.getKey() != null && !entry.getKey().isBlank() && entry.getValue() != null)
+                .map(entry -> new Entry<>(entry.getKey(), entry.getValue(), List.of(entry.getKey())))
+                .toList();
+        return build(entries, topK);
+    }
+
+    /**
+     * 값마다 여러 색인 문자열(제목, 키워드 등)을 두는 색인 생성
+     */
+    public static <T> PrefixSuggestIndex<T> build(Collection<Entry<T>> entries, int topK) {
+        // 가중치 내림차순으로 완성어 번호를 매기면 번호가 작을수록 우선순위가 높다
+        List<Entry<T>> sorted = entries.stream()
+                .filter(entry -> entry.value() != null && entry.texts() != null)
+                .sorted(Comparator.<Entry<T>>comparingLong(Entry::weight).reversed()
+                        .thenComparing(entry -> String.valueOf(entry.value())))
+                .toList();
+        Object[] values = new Object[sorted.size()];
+        List<Key> keys = new ArrayList<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            values[i] = sorted.get(i).value();
+            for (String text : sorted.get(i).texts()) {
+                if (text != null) {
+                    addKeys(keys, NgramAnalyzer.normalize(text).strip(), i);
+                }
+            }
+        }
+        keys.sort(Comparator.comparing(Key::text).thenComparingInt(Key::entry));
+
+        Builder builder = new Builder(keys, Math.max(1, topK));
+        builder.build();
+        int[] keyEntries = new int[keys.size()];
+        for (int i = 0; i < keyEntries.length; i++) {
+            keyEntries[i] = keys.get(i).entry();
+        }
+        return new PrefixSuggestIndex<>(
+                Arrays.copyOf(builder.labels, builder.nodeCount),
+                Arrays.copyOf(builder.firstChild, builder.nodeCount),
+                Arrays.copyOf(builder.childCount, builder.nodeCount),
+                Arrays.copyOf(builder.topOffset, builder.nodeCount + 1),
+                Arrays.copyOf(builder.topEntries, builder.topCount),
+                Arrays.copyOf(builder.rangeLow, builder.nodeCount),
+                Arrays.copyOf(builder.rangeHigh, builder.nodeCount),
+                keyEntries,
+                values);
+    }
+
+    // 단어 시작 위치마다 자모 형태와 (한글이 있으면) 초성 형태 키를 만든다
+    private static void addKeys(List<Key> keys, String normalized, int entry) {
+        for (int start : wordStarts(normalized)) {
+            String suffix = normalized.substring(start);
+            keys.add(new Key(HangulNormalizer.decompose(suffix), entry));
+            if (HangulNormalizer.containsSyllable(suffix)) {
+                keys.add(new Key(HangulNormalizer.chosung(suffix), entry));
+            }
+        }
+    }
+
+    private static List<Integer> wordStarts(String text) {
+        List<Integer> starts = new ArrayList<>();
+        for (int i = 0; i < text.length(); i++) {
+            boolean wordChar = Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && (i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1)))) {
+                starts.add(i);
+            }
+        }
+        return starts;
+    }
+
+    /**
+     * 색인할 값과 가중치, 값을 찾을 때 쓰는 문자열들
+     */
+    public record Entry<T>(T value, long weight, List<String> texts) {
+    }
+
+    private record Key(String text, int entry) {
+    }
+
+    /**
+     * 정렬된 키 구간을 너비 우선으로 나누며 노드 배열을 채운다
+     */
+    private static final class Builder {
+
+        private final List<Key> keys;
+        private final int topK;
+
+        private char[] labels = new char[16];
+        private int[] firstChild = new int[16];
+        private int[] childCount = new int[16];
+        private int[] rangeLow = new int[16];
+        private int[] rangeHigh = new int[16];
+        private int[] depth = new int[16];
+        private int[] topOffset = new int[17];
+        private int[] topEntries = new int[16];
+        private int nodeCount;
+        private int topCount;
+
+        private Builder(List<Key> keys, int topK) {
+            this.keys = keys;
+            this.topK = topK;
+        }
+
+        private void build() {
+            // 1) 너비 우선으로 노드 생성 - 같은 다음 글자를 가진 키 구간마다 자식 하나
+            addNode('\0', 0, keys.size(), 0);
+            for (int node = 0; node < nodeCount; node++) {
+                int high = rangeHigh[node];
+                int nodeDepth = depth[node];
+                int first = nodeCount;
+                int i = rangeLow[node];
+                while (i < high && keys.get(i).text().length() == nodeDepth) {
+                    i++;
+                }
+                while (i < high) {
+                    char label = keys.get(i).text().charAt(nodeDepth);
+                    int end = i;
+                    while (end < high && keys.get(end).text().charAt(nodeDepth) == label) {
+                        end++;
+                    }
+                    addNode(label, i, end, nodeDepth + 1);
+                    i = end;
+                }
+                firstChild[node] = first;
+                childCount[node] = nodeCount - first;
+            }
+
+            // 2) 아래에서 위로 상위 K개 계산 - 이 노드에서 끝나는 키와 자식들의 상위 목록만 합친다
+            int[][] tops = new int[nodeCount][];
+            int[] top = new int[topK];
+            for (int node = nodeCount - 1; node >= 0; node--) {
+                int selected = 0;
+                for (int i = rangeLow[node]; i < rangeHigh[node] && keys.get(i).text().length() == depth[node]; i++) {
+                    selected = offer(top, selected, keys.get(i).entry());
+                }
+                for (int child = firstChild[node]; child < firstChild[node] + childCount[node]; child++) {
+                    for (int entry : tops[child]) {
+                        selected = offer(top, selected, entry);
+                    }
+                }
+                tops[node] = Arrays.copyOf(top, selected);
+            }
+
+            // 3) 노드 순서대로 한 배열에 펼친다
+            for (int node = 0; node < nodeCount; node++) {
+                topOffset[node] = topCount;
+                ensureTopCapacity(topCount + tops[node].length);
+                System.arraycopy(tops[node], 0, topEntries, topCount, tops[node].length);
+                topCount += tops[node].length;
+            }
+            ensureNodeCapacity(nodeCount + 1);
+            topOffset[nodeCount] = topCount;
+        }
+
+        // 정렬된 상위 목록에 완성어 번호 삽입 (중복 제외)
+        private int offer(int[] top, int size, int entry) {
+            int position = 0;
+            while (position < size && top[position] < entry) {
+                position++;
+            }
+            if (position >= topK || (position < size && top[position] == entry)) {
+                return size;
+            }
+            int newSize = Math.min(size + 1, topK);
+            System.arraycopy(top, position, top, position + 1, newSize - position - 1);
+            top[position] = entry;
+            return newSize;
+        }
+
+        private void addNode(char label, int low, int high, int nodeDepth) {
+            ensureNodeCapacity(nodeCount + 1);
+            labels[nodeCount] = label;
+            rangeLow[nodeCount] = low;
+            rangeHigh[nodeCount] = high;
+            depth[nodeCount] = nodeDepth;
+            nodeCount++;
+        }
+
+        private void ensureNodeCapacity(int capacity) {
+            if (capacity + 1 <= topOffset.length) {
+                return;
+            }
+            int newLength = Math.max(capacity + 1, topOffset.length * 2);
+            labels = Arrays.copyOf(labels, newLength);
+            firstChild = Arrays.copyOf(firstChild, newLength);
+            childCount = Arrays.copyOf(childCount, newLength);
+            rangeLow = Arrays.copyOf(rangeLow, newLength);
+            rangeHigh = Arrays.copyOf(rangeHigh, newLength);
+            depth = Arrays.copyOf(depth, newLength);
+            topOffset = Arrays.copyOf(topOffset, newLength + 1);
+        }
+
+        private void ensureTopCapacity(int capacity) {
+            if (capacity > topEntries.length) {
+                topEntries = Arrays.copyOf(topEntries, Math.max(capacity, topEntries.length * 2));
+            }
+        }
+    }
+}
@@ -0,0 +1,439 @@
+package com.petmily.backend.api.search.index;
+
+import com.petmily.backend.config.SearchProperties;
+import com.petmily.backend.domain.mall.product.entity.Product;
+import com.petmily.backend.domain.mall.product.entity.ProductStatus;
+import com.petmily.backend.domain.mall.product.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 상품 검색용 메모리 역색인 (상품명/설명/카테고리 표시명)
+ * 각 필드를 n-gram으로 잘라 필드 가중치를 곱한 빈도로 색인하고, 검색어의 n-gram이 모두 들어 있는 상품을 BM25 점수 순으로 돌려준다.
+ * 상품 등록/수정/삭제/재고 변동은 커밋 시점에 해당 상품만 갱신하고, 다른 서버에서의 변경은 주기적인 전체 재구성으로 맞춘다.
+ * 재구성은 별도 스레드에서 새 색인을 만든 뒤 교체하므로 그동안 검색은 이전 색인으로 계속된다.
+ * 판매 상태도 함께 보관하므로 판매 중(ACTIVE)이 아닌 상품은 검색 결과에서 제외된다.
+ * 상품명은 초성 형태("ㄱㅇㅈ ㅅㄹ")도 함께 색인해 초성 검색어가 같은 역색인 조회로 풀린다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float CATEGORY_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final float CHOSUNG_WEIGHT = 1.0f;
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ProductRepository productRepository;
+    private final SearchProperties properties;
+    private final ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    private volatile Segment segment = new Segment();
+    private volatile boolean ready;
+    // 재구성 중 들어온 변경 (구성이 끝나면 새 색인에 다시 반영)
+    private List<Consumer<Segment>> changesDuringRebuild;
+
+    public ProductSearchIndex(ProductRepository productRepository, SearchProperties properties) {
+        this.productRepository = productRepository;
+        this.properties = properties;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-search-index-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean isReady() {
+        return ready && properties.getProductIndex().isEnabled();
+    }
+
+    /**
+     * 전체 재구성 요청 (기동 완료 시, 이후 주기적으로)
+     * 기동 스레드를 붙잡지 않도록 재구성 스레드에서 실행하며, 진행 대기 중인 요청이 있으면 하나로 합쳐진다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void requestRebuild() {
+        if (!properties.getProductIndex().isEnabled()) {
+            return;
+        }
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildPending.set(false);
+                try {
+                    rebuild();
+                } catch (Exception e) {
+                    log.warn("상품 검색 색인 재구성 실패 - 이전 색인 유지", e);
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${petmily.search.product-index.refresh-interval-millis:600000}",
+               initialDelayString = "${petmily.search.product-index.refresh-interval-millis:600000}")
+    public void scheduledRebuild() {
+        requestRebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 전체 상품으로 새 색인을 만든 뒤 교체
+     * 구성 중에 커밋된 변경은 현재 색인에 바로 반영되고, 교체 직전에 새 색인에도 다시 반영된다
+     * (더 오래된 버전(updatedAt)으로 덮어쓰지 않으므로 다시 반영해도 안전하다).
+     */
+    void rebuild() {
+        synchronized (this) {
+            if (changesDuringRebuild != null) {
+                return;
+            }
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            Segment rebuilt = new Segment();
+            int pageSize = Math.max(1, properties.getProductIndex().getRebuildPageSize());
+            Page<Product> page;
+            int pageNumber = 0;
+            do {
+                page = productRepository.findAll(PageRequest.of(pageNumber++, pageSize, Sort.by("id")));
+                page.forEach(product -> {
+                    IndexedProduct document = document(product);
+                    if (document != null) {
+                        rebuilt.put(document);
+                    }
+                });
+            } while (page.hasNext());
+
+            synchronized (this) {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                segment = rebuilt;
+                ready = true;
+            }
+            log.info("상품 검색 색인 구성 완료 - 상품: {}개, n-gram: {}개, {}ms",
+                    rebuilt.size(), rebuilt.termCount(), System.currentTimeMillis() - startedAt);
+        } finally {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * 상품 색인 반영 (트랜잭션 안이면 커밋 이후)
+     * 커밋 시점의 상품 상태로 색인하므로 같은 트랜잭션 안에서 이후에 바뀐 값도 반영된다.
+     */
+    public void indexAfterCommit(Product product) {
+        runAfterCommit(() -> index(product));
+    }
+
+    public void removeAfterCommit(Long productId) {
+        runAfterCommit(() -> remove(productId));
+    }
+
+    public void index(Product product) {
+        IndexedProduct document = document(product);
+        if (document != null) {
+            change(current -> current.put(document));
+        }
+    }
+
+    public void remove(Long productId) {
+        change(current -> current.remove(productId));
+    }
+
+    /**
+     * 판매 중인 상품 검색 (BM25 점수 순, 같은 점수면 최신 상품 우선)
+     * @return 상품 ID 페이지 (전체 건수 포함)
+     */
+    public Page<Long> search(String query, Pageable pageable) {
+        List<ScoredProduct> hits = segment.score(NgramAnalyzer.queryTerms(query));
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<Long> ids = hits.subList(from, to).stream().map(ScoredProduct::productId).toList();
+        return new PageImpl<>(ids, pageable, hits.size());
+    }
+
+    public List<Long> search(String query, int limit) {
+        return search(query, PageRequest.of(0, limit)).getContent();
+    }
+
+    /**
+     * 검색어와 일치하는 판매 중 상품명 (점수 순, 중복 제거)
+     */
+    public List<String> searchNames(String query, int limit) {
+        Segment current = segment;
+        return current.names(current.score(NgramAnalyzer.queryTerms(query)), limit);
+    }
+
+    public int size() {
+        return segment.size();
+    }
+
+    // 변경은 한 번에 하나씩 적용하고, 재구성 중이면 새 색인에도 다시 적용하도록 남겨 둔다
+    private synchronized void change(Consumer<Segment> change) {
+        change.accept(segment);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    // 상품의 색인 문서 (n-gram 계산은 잠금 밖에서 한 번만)
+    private static IndexedProduct document(Product product) {
+        if (product == null || product.getId() == null) {
+            return null;
+        }
+
+        String categoryName = product.getCategory() != null ? product.getCategory().getDisplayName() : null;
+        String textKey = product.getName() + '\u0000' + product.getDescription() + '\u0000' + categoryName;
+
+        Map<String, Float> terms = new HashMap<>();
+        addField(terms, product.getName(), NAME_WEIGHT);
+        addField(terms, chosungName(product.getName()), CHOSUNG_WEIGHT);
+        addField(terms, categoryName, CATEGORY_WEIGHT);
+        addField(terms, product.getDescription(), DESCRIPTION_WEIGHT);
+        float length = 0f;
+        for (float frequency : terms.values()) {
+            length += frequency;
+        }
+        return new IndexedProduct(product.getId(), product.getName(), textKey, terms, length,
+                product.getStatus(), product.getUpdatedAt());
+    }
+
+    private static void addField(Map<String, Float> terms, String text, float weight) {
+        NgramAnalyzer.indexTerms(text).forEach((term, count) -> terms.merge(term, count * weight, Float::sum));
+    }
+
+    // 상품명의 한글 단어만 초성으로 바꾼 형태 ("강아지 사료" -> "ㄱㅇㅈ ㅅㄹ")
+    private static String chosungName(String name) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (String token : NgramAnalyzer.tokenize(name)) {
+            if (HangulNormalizer.containsSyllable(token)) {
+                joiner.add(HangulNormalizer.chosung(token));
+            }
+        }
+        return joiner.toString();
+    }
+
+    private static boolean isOlder(LocalDateTime candidate, LocalDateTime current) {
+        return candidate != null && current != null && candidate.isBefore(current);
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 역색인 한 벌 - 재구성 시 새로 만들어 통째로 교체한다
+     */
+    private static final class Segment {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        // n-gram -> (productId -> 가중 빈도)
+        private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+        private final Map<Long, IndexedProduct> documents = new HashMap<>();
+        private double totalLength;
+
+        void put(IndexedProduct document) {
+            lock.writeLock().lock();
+            try {
+                IndexedProduct existing = documents.get(document.productId());
+                if (existing != null && isOlder(document.updatedAt(), existing.updatedAt())) {
+                    return;
+                }
+
+                // 텍스트가 그대로면 판매 상태만 바꾼다 (재고 변동)
+                if (existing != null && existing.textKey().equals(document.textKey())) {
+                    documents.put(document.productId(), existing.withStatus(document.status(), document.updatedAt()));
+                    return;
+                }
+
+                if (existing != null) {
+                    unlink(existing);
+                }
+                document.terms().forEach((term, frequency) ->
+                        postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.productId(), frequency));
+                documents.put(document.productId(), document);
+                totalLength += document.length();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long productId) {
+            lock.writeLock().lock();
+            try {
+                IndexedProduct existing = documents.remove(productId);
+                if (existing != null) {
+                    unlink(existing);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return documents.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int termCount() {
+            lock.readLock().lock();
+            try {
+                return postings.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<String> names(List<ScoredProduct> hits, int limit) {
+            List<String> names = new ArrayList<>(limit);
+            lock.readLock().lock();
+            try {
+                for (ScoredProduct hit : hits) {
+                    IndexedProduct document = documents.get(hit.productId());
+                    if (document != null && document.name() != null && !names.contains(document.name())) {
+                        names.add(document.name());
+                        if (names.size() == limit) {
+                            break;
+                        }
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            return names;
+        }
+
+        List<ScoredProduct> score(Set<String> queryTerms) {
+            if (queryTerms.isEmpty()) {
+                return List.of();
+            }
+
+            lock.readLock().lock();
+            try {
+                // 가장 짧은 포스팅 목록을 후보로 두고 나머지 n-gram이 모두 있는지 확인
+                List<Map<Long, Float>> termPostings = new ArrayList<>(queryTerms.size());
+                for (String term : queryTerms) {
+                    Map<Long, Float> posting = postings.get(term);
+                    if (posting == null) {
+                        return List.of();
+                    }
+                    termPostings.add(posting);
+                }
+                Map<Long, Float> shortest = termPostings.stream()
+                        .min(Comparator.comparingInt(Map::size))
+                        .orElseThrow();
+
+                int documentCount = documents.size();
+                double averageLength = documentCount > 0 ? totalLength / documentCount : 1.0;
+                double[] idf = new double[termPostings.size()];
+                for (int i = 0; i < idf.length; i++) {
+                    int df = termPostings.get(i).size();
+                    idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+                }
+
+                List<ScoredProduct> hits = new ArrayList<>();
+                for (Long productId : shortest.keySet()) {
+                    IndexedProduct document = documents.get(productId);
+                    if (document == null || document.status() != ProductStatus.ACTIVE) {
+                        continue;
+                    }
+
+                    double lengthNorm = K1 * (1 - B + B * document.length() / averageLength);
+                    double score = 0;
+                    boolean matched = true;
+                    for (int i = 0; i < termPostings.size(); i++) {
+                        Float frequency = termPostings.get(i).get(productId);
+                        if (frequency == null) {
+                            matched = false;
+                            break;
+                        }
+                        score += idf[i] * frequency * (K1 + 1) / (frequency + lengthNorm);
+                    }
+                    if (matched) {
+                        hits.add(new ScoredProduct(productId, score));
+                    }
+                }
+
+                hits.sort(Comparator.comparingDouble(ScoredProduct::score).reversed()
+                        .thenComparing(ScoredProduct::productId, Comparator.reverseOrder()));
+                return hits;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void unlink(IndexedProduct document) {
+            for (String term : document.terms().keySet()) {
+                Map<Long, Float> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(document.productId());
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            totalLength -= document.length();
+        }
+    }
+
+    private record IndexedProduct(Long productId, String name, String textKey, Map<String, Float> terms, float length,
+                                  ProductStatus status, LocalDateTime updatedAt) {
+
+        IndexedProduct withStatus(ProductStatus newStatus, LocalDateTime newUpdatedAt) {
+            return new IndexedProduct(productId, name, textKey, terms, length, newStatus,
+                    Objects.requireNonNullElse(newUpdatedAt, updatedAt));
+        }
+    }
+
+    private record ScoredProduct(Long productId, double score) {
+    }
+}
@@ -1,22 +1,43 @@
 package com.petmily.backend.api.search.service;
 
+import com.petmily.backend.api.search.analytics.PopularQueryTracker;
 import com.petmily.backend.api.search.dto.MenuItem;
 import com.petmily.backend.api.search.dto.MenuSearchResponse;
+import com.petmily.backend.api.search.index.AutocompleteIndex;
+import com.petmily.backend.api.search.index.PrefixSuggestIndex;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class MenuSearchService {
 
+    // 검색 트래픽이 쌓이기 전이나 부족할 때 채워 넣는 기본 인기 검색어
+    private static final List<String> POPULAR_KEYWORDS =
+            List.of("산책", "예약", "워커", "쇼핑", "상품", "장바구니", "알림", "대시보드");
+
+    private final AutocompleteIndex autocompleteIndex;
+    private final PopularQueryTracker popularQueryTracker;
+
     private List<MenuItem> allMenuItems;
 
+    // 메뉴 제목/키워드의 초성·자모 형태 색인 (menuId)
+    private PrefixSuggestIndex<String> menuItemIndex = PrefixSuggestIndex.empty();
+
     @PostConstruct
     public void init() {
         allMenuItems = new ArrayList<>();
@@ -344,9 +365,26 @@ public class MenuSearchService {
                 .keywords(List.of("채팅", "채팅방", "목록", "메시지", "대화", "chat", "message"))
                 .build());
 
+        autocompleteIndex.replaceMenuSuggestions(keywordWeights());
+        menuItemIndex = PrefixSuggestIndex.build(allMenuItems.stream()
+                .map(menu -> {
+                    List<String> texts = new ArrayList<>(menu.getKeywords());
+                    texts.add(menu.getTitle());
+                    return new PrefixSuggestIndex.Entry<>(menu.getId(), 0L, texts);
+                })
+                .toList(), 1);
         log.info("Initialized {} menu items", allMenuItems.size());
     }
 
+    // 키워드 인기도 - 여러 메뉴에 걸친 키워드와 인기 키워드를 먼저 제안한다
+    private Map<String, Long> keywordWeights() {
+        Map<String, Long> weights = new HashMap<>();
+        allMenuItems.forEach(menu -> menu.getKeywords()
+                .forEach(keyword -> weights.merge(keyword, 1L, Long::sum)));
+        POPULAR_KEYWORDS.forEach(keyword -> weights.merge(keyword, 100L, Long::sum));
+        return weights;
+    }
+
     public MenuSearchResponse searchMenu(String query) {
         if (query == null || query.trim().isEmpty()) {
             return MenuSearchResponse.builder()
@@ -358,9 +396,11 @@ public class MenuSearchService {
         }
 
         String normalizeQuery = query.toLowerCase(Locale.ROOT).trim();
+        // 초성("ㅅㅊ")이나 입력 중인 음절("산ㅊ")은 부분 문자열로는 맞지 않으므로 색인에서 찾는다
+        Set<String> indexedMenuIds = new HashSet<>(menuItemIndex.matchAll(normalizeQuery));
 
         List<MenuItem> results = allMenuItems.stream()
-                .filter(menu -> matchesQuery(menu, normalizeQuery))
+                .filter(menu -> indexedMenuIds.contains(menu.getId()) || matchesQuery(menu, normalizeQuery))
                 .collect(Collectors.toList());
 
         List<String> suggestions = generateSuggestions(normalizeQuery);
@@ -378,14 +418,7 @@ public class MenuSearchService {
             return getPopularKeywords();
         }
 
-        String normalizedQuery = query.trim().toLowerCase(Locale.ROOT);
-
-        return allMenuItems.stream()
-                .flatMap(menu -> menu.getKeywords().stream())
-                .distinct()
-                .filter(keyword -> keyword.contains(normalizedQuery))
-                .limit(5)
-                .collect(Collectors.toList());
+        return rankByTraffic(autocompleteIndex.complete(AutocompleteIndex.Source.MENU, query, 10), 5);
     }
 
     public List<MenuItem> getMenusByCategory(String category) {
@@ -406,16 +439,25 @@ public class MenuSearchService {
     }
 
     private List<String> generateSuggestions(String query) {
-        return allMenuItems.stream()
-                .flatMap(menu -> menu.getKeywords().stream())
-                .filter(keyword -> keyword.contains(query))
-                .distinct()
-                .limit(5)
+        return rankByTraffic(autocompleteIndex.complete(AutocompleteIndex.Source.MENU, query, 10), 5);
+    }
+
+    // 키워드 후보를 실제 검색 횟수 순으로 다시 정렬 (검색 기록이 없는 키워드는 색인 순서 유지)
+    private List<String> rankByTraffic(List<String> candidates, int limit) {
+        return candidates.stream()
+                .sorted(Comparator.comparingDouble(popularQueryTracker::score).reversed())
+                .limit(limit)
                 .collect(Collectors.toList());
     }
 
     private List<String> getPopularKeywords() {
-        return List.of("산책", "예약", "워커", "쇼핑", "상품", "장바구니", "알림", "대시보드");
+        List<String> popular = popularQueryTracker.topQueries(POPULAR_KEYWORDS.size());
+        if (popular.size() >= POPULAR_KEYWORDS.size()) {
+            return popular;
+        }
+        Set<String> keywords = new LinkedHashSet<>(popular);
+        keywords.addAll(POPULAR_KEYWORDS);
+        return keywords.stream().limit(POPULAR_KEYWORDS.size()).collect(Collectors.toList());
     }
 }
 
@@ -1,34 +1,64 @@
 package com.petmily.backend.api.search.service;
 
+import com.petmily.backend.api.search.analytics.PopularQueryTracker;
 import com.petmily.backend.api.search.dto.SearchResponse;
 import com.petmily.backend.api.search.dto.SearchResultItem;
+import com.petmily.backend.config.SearchProperties;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+/**
+ * 통합 검색 - 검색 전략들을 제한된 스레드 풀에서 동시에 실행하고 전략별 기한을 넘긴 결과는 버린다
+ * 느린 전략 하나가 전체 응답을 붙잡지 않도록, 빠진 유형은 부분 결과 표시(partial, omittedTypes)로 알려준다.
+ */
 @Slf4j
 @Service
 public class SearchService {
 
     private final Map<String, SearchStrategy> strategies;
+    private final PopularQueryTracker popularQueryTracker;
+    private final SearchProperties.FanOut properties;
+    private final ThreadPoolExecutor executor;
 
-    public SearchService(List<SearchStrategy> strategyList) {
+    public SearchService(List<SearchStrategy> strategyList, PopularQueryTracker popularQueryTracker,
+                         SearchProperties searchProperties) {
         this.strategies = strategyList.stream()
                 .filter(SearchStrategy::isEnabled)
                 .collect(Collectors.toMap(
                         SearchStrategy::getSearchType,
                         strategy -> strategy
                 ));
+        this.popularQueryTracker = popularQueryTracker;
+        this.properties = searchProperties.getFanOut();
+
+        int threads = Math.max(1, properties.getThreads());
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "search-fan-out-" + threadNo.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
         log.info("Registered search strategies: {}", strategies.keySet());
     }
 
-    public SearchResponse searchAll(String query, List<String> filterTypes) {
-        Map<String, List<SearchResultItem>> resultsByType = new HashMap<>();
-        Set<String> allSuggestions = new LinkedHashSet<>();
-        int totalCount = 0;
-
+    /**
+     * @param searcherKey 인기 검색어 집계에서 반복 검색을 한 번으로 셀 사용자 구분 값
+     */
+    public SearchResponse searchAll(String query, List<String> filterTypes, String searcherKey) {
         Collection<SearchStrategy> strategiesToSearch = filterTypes != null && !filterTypes.isEmpty()
                 ? filterTypes.stream()
                 .map(strategies::get)
@@ -36,35 +66,73 @@ public class SearchService {
                 .collect(Collectors.toList())
                 : strategies.values();
 
+        // 1. 모든 전략을 한꺼번에 제출 - 기한은 제출 시점부터 전략마다 같은 길이
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getStrategyTimeoutMillis());
+        Map<SearchStrategy, Future<SearchStrategy.Lookup>> futures = new LinkedHashMap<>();
+        List<String> omittedTypes = new ArrayList<>();
         for (SearchStrategy strategy : strategiesToSearch) {
             try {
-                List<SearchResultItem> results = strategy.search(query);
-                if (!results.isEmpty()) {
-                    resultsByType.put(strategy.getSearchType(), results);
-                    totalCount += results.size();
-                }
+                futures.put(strategy, executor.submit(() -> strategy.lookup(query)));
+            } catch (RejectedExecutionException e) {
+                log.warn("Search fan-out queue full, skipping type: {}", strategy.getSearchType());
+                omittedTypes.add(strategy.getSearchType());
+            }
+        }
 
-                allSuggestions.addAll(strategy.autocomplete(query));
-            } catch (Exception e) {
-                log.error("Search failed for type: {}", strategy.getSearchType(), e);
+        // 2. 기한 안에 끝난 결과만 모은다
+        Map<String, List<SearchResultItem>> resultsByType = new HashMap<>();
+        // 실제로 많이 검색된 검색어를 먼저 제안
+        Set<String> allSuggestions = new LinkedHashSet<>(popularQueryTracker.suggest(query, 5));
+        int totalCount = 0;
+        for (Map.Entry<SearchStrategy, Future<SearchStrategy.Lookup>> entry : futures.entrySet()) {
+            String type = entry.getKey().getSearchType();
+            Future<SearchStrategy.Lookup> future = entry.getValue();
+            try {
+                SearchStrategy.Lookup lookup = future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (!lookup.results().isEmpty()) {
+                    resultsByType.put(type, lookup.results());
+                    totalCount += lookup.results().size();
+                }
+                allSuggestions.addAll(lookup.suggestions());
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("Search timed out for type: {}", type);
+                omittedTypes.add(type);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                omittedTypes.add(type);
+            } catch (ExecutionException e) {
+                log.error("Search failed for type: {}", type, e.getCause());
             }
         }
 
+        // 결과가 없는 검색어(오타, 무의미한 입력)는 인기 검색어로 집계하지 않는다
+        if (totalCount > 0) {
+            popularQueryTracker.record(query, searcherKey);
+        }
+
         return SearchResponse.builder()
                 .query(query)
                 .results(resultsByType)
                 .suggestions(allSuggestions.stream().limit(10).collect(Collectors.toList()))
                 .totalCount(totalCount)
+                .partial(!omittedTypes.isEmpty())
+                .omittedTypes(omittedTypes)
                 .build();
     }
 
-    public List<SearchResultItem> searchByType(String type, String query) {
+    public List<SearchResultItem> searchByType(String type, String query, String searcherKey) {
         SearchStrategy strategy = strategies.get(type);
         if (strategy == null) {
             log.warn("Unknown search type: {}", type);
             return List.of();
         }
-        return strategy.search(query);
+        List<SearchResultItem> results = strategy.search(query);
+        if (!results.isEmpty()) {
+            popularQueryTracker.record(query, searcherKey);
+        }
+        return results;
     }
 
     public List<String> autocomplete(String type, String query) {
@@ -78,6 +146,11 @@ public class SearchService {
     public List<String> getAvailableTypes() {
         return new ArrayList<>(strategies.keySet());
     }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
 }
 
 
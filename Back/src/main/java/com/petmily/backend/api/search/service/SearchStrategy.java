@@ -12,10 +12,18 @@ public interface SearchStrategy {
 
     List<String> autocomplete(String query);
 
+    /**
+     * 통합 검색용 - 검색 결과와 추천 검색어를 한 번의 조회로 만든다
+     * 같은 데이터를 두 번 읽는 전략은 재정의해서 조회를 공유한다.
+     */
+    default Lookup lookup(String query) {
+        return new Lookup(search(query), autocomplete(query));
+    }
+
     default boolean isEnabled() {
         return true;
     }
-}
-
-
 
+    record Lookup(List<SearchResultItem> results, List<String> suggestions) {
+    }
+}
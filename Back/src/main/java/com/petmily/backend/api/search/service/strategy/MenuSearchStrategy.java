@@ -36,6 +36,15 @@ public class MenuSearchStrategy implements SearchStrategy {
         return menuSearchService.autocomplete(query);
     }
 
+    @Override
+    public Lookup lookup(String query) {
+        // 메뉴 검색 응답에 추천 검색어가 함께 들어 있으므로 한 번만 검색한다
+        MenuSearchResponse menuResponse = menuSearchService.searchMenu(query);
+        return new Lookup(
+                menuResponse.getResults().stream().map(this::convertToSearchResult).collect(Collectors.toList()),
+                menuResponse.getSuggestions());
+    }
+
     private SearchResultItem convertToSearchResult(MenuItem menu) {
         return SearchResultItem.builder()
                 .type(getSearchType())
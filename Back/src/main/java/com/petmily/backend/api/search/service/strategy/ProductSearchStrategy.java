@@ -1,6 +1,8 @@
 package com.petmily.backend.api.search.service.strategy;
 
 import com.petmily.backend.api.search.dto.SearchResultItem;
+import com.petmily.backend.api.search.index.AutocompleteIndex;
+import com.petmily.backend.api.search.index.ProductSearchIndex;
 import com.petmily.backend.api.search.service.SearchStrategy;
 import com.petmily.backend.domain.mall.product.entity.Product;
 import com.petmily.backend.domain.mall.product.entity.ProductStatus;
@@ -8,6 +10,7 @@ import com.petmily.backend.domain.mall.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
@@ -15,9 +18,12 @@ import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ProductSearchStrategy implements SearchStrategy {
 
     private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final AutocompleteIndex autocompleteIndex;
 
     @Override
     public String getSearchType() {
@@ -26,17 +32,40 @@ public class ProductSearchStrategy implements SearchStrategy {
 
     @Override
     public List<SearchResultItem> search(String query) {
-        List<Product> products = productRepository
-                .searchByKeyword(query, ProductStatus.ACTIVE, PageRequest.of(0, 10))
-                .getContent();
+        List<Product> products = productSearchIndex.isReady()
+                ? productRepository.findActiveByIdsInOrder(productSearchIndex.search(query, 10))
+                : productRepository.searchByKeyword(query, ProductStatus.ACTIVE, PageRequest.of(0, 10)).getContent();
 
         return products.stream()
                 .map(this::convertToSearchResult)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Lookup lookup(String query) {
+        if (productSearchIndex.isReady()) {
+            return new Lookup(search(query), autocomplete(query));
+        }
+
+        // 색인을 쓸 수 없으면 DB 검색 한 번으로 결과와 추천 상품명을 함께 만든다
+        List<Product> products = productRepository
+                .searchByKeyword(query, ProductStatus.ACTIVE, PageRequest.of(0, 10))
+                .getContent();
+        return new Lookup(
+                products.stream().map(this::convertToSearchResult).collect(Collectors.toList()),
+                products.stream().map(Product::getName).distinct().limit(5).collect(Collectors.toList()));
+    }
+
     @Override
     public List<String> autocomplete(String query) {
+        // 인기도 순 접두어 자동완성, 준비 전에는 검색 색인의 상품명 (어느 쪽도 DB를 조회하지 않는다)
+        if (autocompleteIndex.isReady(AutocompleteIndex.Source.PRODUCT)) {
+            return autocompleteIndex.complete(AutocompleteIndex.Source.PRODUCT, query, 5);
+        }
+        if (productSearchIndex.isReady()) {
+            return productSearchIndex.searchNames(query, 5);
+        }
+
         List<Product> products = productRepository
                 .searchByKeyword(query, ProductStatus.ACTIVE, PageRequest.of(0, 5))
                 .getContent();
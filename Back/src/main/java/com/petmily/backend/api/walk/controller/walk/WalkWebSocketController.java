@@ -1,20 +1,38 @@
 package com.petmily.backend.api.walk.controller.walk;
 
 import com.petmily.backend.api.walk.dto.tracking.response.WalkTrackResponse;
+import com.petmily.backend.api.walk.service.location.codec.CompactLocationEncoder;
+import com.petmily.backend.api.walk.service.location.codec.CompactLocationPoint;
+import com.petmily.backend.api.walk.service.location.codec.CompactLocationSubscriptionRegistry;
+import com.petmily.backend.config.LocationPipelineProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.MimeTypeUtils;
 
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Controller
 @RequiredArgsConstructor
 public class WalkWebSocketController {
 
+    // 키프레임 없이 델타를 이어갈 최대 시간 간격
+    private static final long COMPACT_MAX_DELTA_MILLIS = 60_000;
+
     private final SimpMessagingTemplate messagingTemplate;
+    private final LocationPipelineProperties locationPipelineProperties;
+    private final CompactLocationSubscriptionRegistry compactSubscriptionRegistry;
+
+    // 토픽별 압축 프레임 인코더 (델타 기준점 유지)
+    private final ConcurrentHashMap<String, CompactStream> compactStreams = new ConcurrentHashMap<>();
 
     /**
      * 특정 예약의 실시간 위치를 구독자들에게 브로드캐스트
@@ -24,6 +42,7 @@ public class WalkWebSocketController {
 
         try{
             messagingTemplate.convertAndSend(destination, locationData);
+            sendCompactFrame(destination, locationData);
             log.info("위치 업데이트 브로드캐스트 성공 - BookingId: {}, 좌표: ({}, {})",
                     bookingId, locationData.getLatitude(), locationData.getLongitude());
         }catch(Exception e){
@@ -31,6 +50,41 @@ public class WalkWebSocketController {
         }
     }
 
+    /**
+     * 독립 산책 세션의 실시간 위치 브로드캐스트
+     */
+    public void broadcastSessionLocationUpdate(Long walkSessionId, WalkTrackResponse locationData){
+        String destination = "/sub/walk/session/" + walkSessionId + "/location";
+
+        try{
+            messagingTemplate.convertAndSend(destination, locationData);
+            sendCompactFrame(destination, locationData);
+            log.debug("세션 위치 브로드캐스트 성공 - WalkSessionId: {}", walkSessionId);
+        }catch(Exception e){
+            log.error("세션 위치 브로드캐스트 실패 - WalkSessionId: {}", walkSessionId, e);
+        }
+    }
+
+    /**
+     * 산책 종료 시 압축 프레임 인코더 정리
+     */
+    public void releaseLocationStream(Long bookingId) {
+        compactStreams.remove("/sub/walk/" + bookingId + "/location");
+    }
+
+    public void releaseSessionLocationStream(Long walkSessionId) {
+        compactStreams.remove("/sub/walk/session/" + walkSessionId + "/location");
+    }
+
+    /**
+     * 10분 이상 위치가 전송되지 않은 압축 스트림 정리 (종료 처리 이후 늦게 도착한 브로드캐스트 대비)
+     */
+    @Scheduled(fixedRate = 600000)
+    public void purgeIdleLocationStreams() {
+        long threshold = System.currentTimeMillis() - 600000;
+        compactStreams.values().removeIf(stream -> stream.lastUsedAt < threshold);
+    }
+
     /**
      * 산책 상태 변경 브로드캐스트 (시작/종료/일시정지 등)
      */
@@ -49,4 +103,45 @@ public class WalkWebSocketController {
         }
     }
 
+    /**
+     * 압축 바이너리 프레임 전송 - "{destination}/compact" 를 구독한 클라이언트만 수신
+     * JSON 토픽은 그대로 유지되므로 기존 클라이언트에는 영향이 없다.
+     * 이 서버에 구독자가 없으면 인코딩하지 않고, 새 구독자가 생기면 인코더를 새로 만들어 키프레임부터 보낸다.
+     */
+    private void sendCompactFrame(String destination, WalkTrackResponse locationData) {
+        if (!locationPipelineProperties.isCompactFramesEnabled()
+                || locationData.getLatitude() == null || locationData.getLongitude() == null
+                || locationData.getTimestamp() == null) {
+            return;
+        }
+
+        String compactDestination = destination + "/compact";
+        if (!compactSubscriptionRegistry.hasSubscribers(compactDestination)) {
+            compactStreams.remove(destination);
+            return;
+        }
+        if (compactSubscriptionRegistry.takeNewSubscriber(compactDestination)) {
+            compactStreams.remove(destination);
+        }
+
+        CompactStream stream = compactStreams.computeIfAbsent(destination, key -> new CompactStream(
+                new CompactLocationEncoder(locationPipelineProperties.getCompactKeyframeInterval(), COMPACT_MAX_DELTA_MILLIS)));
+        stream.lastUsedAt = System.currentTimeMillis();
+        byte[] frame = stream.encoder.encode(CompactLocationPoint.from(locationData));
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(compactDestination, MessageBuilder.createMessage(frame, accessor.getMessageHeaders()));
+    }
+
+    private static class CompactStream {
+        private final CompactLocationEncoder encoder;
+        private volatile long lastUsedAt = System.currentTimeMillis();
+
+        private CompactStream(CompactLocationEncoder encoder) {
+            this.encoder = encoder;
+        }
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.petmily.backend.api.walk.dto.tracking.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.petmily.backend.domain.walk.entity.WalkingTrack;
 import lombok.Builder;
 import lombok.Data;
@@ -18,6 +19,10 @@ public class WalkTrackResponse {
     private WalkingTrack.TrackType trackType;
     private Double speed;
     private Double altitude;
+    // 파이프라인에서 저장되지 않고 버려진 위치인지 (중복, 정지 구간, 솎아내기 등)
+    private boolean dropped;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String dropReason;
 
     public static WalkTrackResponse from(WalkingTrack walkTrack) {
         return WalkTrackResponse.builder()
@@ -149,6 +149,7 @@ public class DirectBookingService {
         }
 
         validation.booking.setStatus(status);
+        validationService.onBookingStatusChanged(bookingId, status);
 
         WalkBooking updatedBooking = walkBookingRepository.save(validation.booking);
 
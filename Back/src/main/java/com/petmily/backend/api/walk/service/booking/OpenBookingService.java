@@ -220,6 +220,7 @@ public class OpenBookingService {
         }
 
         application.setStatus(status);
+        validationService.onBookingStatusChanged(applicationId, status);
 
         // 사용자가 CONFIRMED로 변경한 경우, 다른 지원들은 모두 REJECTED
         if (status == WalkBooking.BookingStatus.CONFIRMED && isBookingOwner) {
@@ -230,6 +231,7 @@ public class OpenBookingService {
                     .filter(app -> !app.getId().equals(applicationId))
                     .forEach(app -> {
                         app.setStatus(WalkBooking.BookingStatus.REJECTED);
+                        validationService.onBookingStatusChanged(app.getId(), WalkBooking.BookingStatus.REJECTED);
                         walkBookingRepository.save(app);
                     });
         }
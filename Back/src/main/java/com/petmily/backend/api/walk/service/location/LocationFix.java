@@ -0,0 +1,79 @@
+package com.petmily.backend.api.walk.service.location;
+
+import com.petmily.backend.api.walk.dto.tracking.response.WalkTrackResponse;
+import com.petmily.backend.domain.walk.entity.WalkingTrack;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 위치 수집 파이프라인을 통과하는 단일 위치 데이터
+ * 예약 기반 산책(bookingId)과 독립 산책 세션(walkSessionId) 모두 이 형태로 변환되어 처리된다.
+ */
+@Getter
+@Setter
+@Builder
+public class LocationFix {
+
+    private final Source source;
+    private final Long bookingId;
+    private final Long walkSessionId;
+    private final Long userId;
+
+    private Double latitude;
+    private Double longitude;
+    private LocalDateTime timestamp;
+    private Double accuracy;
+    private Double speed;
+    private Double altitude;
+    private WalkingTrack.TrackType trackType;
+
+    // 파이프라인 처리 결과
+    private LocationFix previous;
+    private LocationFix dwellRecord;
+    private WalkingTrack savedTrack;
+    private String dropReason;
+
+    public enum Source {
+        BOOKING,       // 워커와 함께하는 예약 산책
+        WALK_SESSION   // 사용자의 독립 산책 세션
+    }
+
+    /**
+     * 산책 단위 상태(마지막 위치, 지오펜스 등)를 구분하는 키
+     */
+    public String getTrackKey() {
+        return source == Source.BOOKING ? "booking:" + bookingId : "session:" + walkSessionId;
+    }
+
+    public boolean isDropped() {
+        return dropReason != null;
+    }
+
+    public void drop(String reason) {
+        this.dropReason = reason;
+    }
+
+    /**
+     * 처리 결과 응답 - 저장된 위치면 저장된 기록, 버려진 위치면 받은 값에 dropped/dropReason을 채워 돌려준다
+     */
+    public WalkTrackResponse toTrackResponse() {
+        if (savedTrack != null) {
+            return WalkTrackResponse.from(savedTrack);
+        }
+        return WalkTrackResponse.builder()
+                .bookingId(bookingId)
+                .latitude(latitude)
+                .longitude(longitude)
+                .timestamp(timestamp)
+                .accuracy(accuracy)
+                .trackType(trackType)
+                .speed(speed)
+                .altitude(altitude)
+                .dropped(isDropped())
+                .dropReason(dropReason)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.petmily.backend.api.walk.service.location;
+
+import com.petmily.backend.config.LocationPipelineProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 위치 수집 단일 진입점
+ * 예약 산책(WalkService)과 독립 산책 세션(MapService) 모두 이 서비스를 통해
+ * 검증 → 필터 → 보강 → 저장 → 브로드캐스트 → 지오펜스 단계를 거친다.
+ */
+@Slf4j
+@Service
+public class LocationIngestionService {
+
+    private final List<LocationPipelineStage> inlineStages = new ArrayList<>();
+    private final List<LocationPipelineStage> asyncStages = new ArrayList<>();
+    private final LocationPipelineMetrics metrics;
+    private final ExecutorService[] lanes;
+
+    public LocationIngestionService(List<LocationPipelineStage> stages,
+                                    LocationPipelineProperties properties,
+                                    LocationPipelineMetrics metrics) {
+        this.metrics = metrics;
+
+        stages.stream()
+                .sorted(Comparator.comparingInt(LocationPipelineStage::getOrder))
+                .forEach(stage -> {
+                    if (properties.getAsyncStages().contains(stage.getName())) {
+                        asyncStages.add(stage);
+                    } else {
+                        inlineStages.add(stage);
+                    }
+                });
+
+        // 같은 산책의 위치는 같은 레인(단일 스레드)에서 처리되어 브로드캐스트 순서가 유지된다
+        int laneCount = Math.max(1, properties.getAsyncLanes());
+        this.lanes = new ExecutorService[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            int laneNo = i;
+            lanes[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "location-pipeline-" + laneNo);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        log.info("위치 수집 파이프라인 구성 - 인라인: {}, 비동기: {}",
+                inlineStages.stream().map(LocationPipelineStage::getName).toList(),
+                asyncStages.stream().map(LocationPipelineStage::getName).toList());
+    }
+
+    /**
+     * 위치 한 건을 파이프라인에 투입
+     * 인라인 단계는 호출 스레드(트랜잭션)에서 실행되고, 비동기 단계는 커밋 이후 레인 스레드에서 실행된다.
+     */
+    public LocationFix ingest(LocationFix fix) {
+        for (LocationPipelineStage stage : inlineStages) {
+            if (!runStage(stage, fix)) {
+                return fix;
+            }
+        }
+
+        if (!asyncStages.isEmpty()) {
+            runAfterCommit(() -> laneFor(fix).execute(() -> runAsyncStages(fix)));
+        }
+
+        return fix;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : lanes) {
+            try {
+                lane.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void runAsyncStages(LocationFix fix) {
+        for (LocationPipelineStage stage : asyncStages) {
+            try {
+                if (!runStage(stage, fix)) {
+                    return;
+                }
+            } catch (Exception e) {
+                metrics.recordFailure(stage.getName());
+                log.warn("위치 파이프라인 비동기 단계 실패 - Stage: {}, Track: {}", stage.getName(), fix.getTrackKey(), e);
+                return;
+            }
+        }
+    }
+
+    private boolean runStage(LocationPipelineStage stage, LocationFix fix) {
+        long startedAt = System.nanoTime();
+        boolean passed;
+        try {
+            passed = stage.process(fix);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(stage.getName());
+            throw e;
+        }
+        metrics.record(stage.getName(), System.nanoTime() - startedAt, passed);
+        if (!passed && fix.isDropped()) {
+            metrics.recordDrop(fix.getDropReason());
+        }
+        return passed;
+    }
+
+    private ExecutorService laneFor(LocationFix fix) {
+        return lanes[Math.floorMod(fix.getTrackKey().hashCode(), lanes.length)];
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.petmily.backend.api.walk.service.location;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 위치 수집 파이프라인 단계별 처리 시간/건수 및 버려진 위치 사유별 건수 집계
+ */
+@Slf4j
+@Component
+public class LocationPipelineMetrics {
+
+    private final ConcurrentHashMap<String, StageStats> stats = new ConcurrentHashMap<>();
+
+    // 사유별 버려진 위치 건수 (누적 / 마지막 요약 로그 이후)
+    private final ConcurrentHashMap<String, LongAdder> dropReasons = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> recentDropReasons = new ConcurrentHashMap<>();
+
+    public void record(String stageName, long elapsedNanos, boolean passed) {
+        StageStats stageStats = stats.computeIfAbsent(stageName, name -> new StageStats());
+        stageStats.count.increment();
+        stageStats.totalNanos.add(elapsedNanos);
+        stageStats.maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        if (!passed) {
+            stageStats.dropped.increment();
+        }
+    }
+
+    public void recordDrop(String reason) {
+        dropReasons.computeIfAbsent(reason, key -> new LongAdder()).increment();
+        recentDropReasons.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    public void recordFailure(String stageName) {
+        stats.computeIfAbsent(stageName, name -> new StageStats()).failed.increment();
+    }
+
+    /**
+     * 단계별 누적 통계 스냅샷 (평균/최대 처리 시간은 마이크로초)
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        stats.forEach((name, stageStats) -> {
+            long count = stageStats.count.sum();
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("count", count);
+            values.put("dropped", stageStats.dropped.sum());
+            values.put("failed", stageStats.failed.sum());
+            values.put("avgMicros", count > 0 ? stageStats.totalNanos.sum() / count / 1000 : 0);
+            values.put("maxMicros", stageStats.maxNanos.get() / 1000);
+            result.put(name, values);
+        });
+        return result;
+    }
+
+    /**
+     * 사유별 버려진 위치 누적 건수
+     */
+    public Map<String, Long> dropCounts() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        dropReasons.forEach((reason, count) -> result.put(reason, count.sum()));
+        return result;
+    }
+
+    /**
+     * 1분마다 버려진 위치 요약(info)과 단계별 처리 통계(debug) 로그
+     */
+    @Scheduled(fixedRate = 60000)
+    public void logSnapshot() {
+        Map<String, Long> recentDrops = new LinkedHashMap<>();
+        recentDropReasons.forEach((reason, count) -> {
+            long dropped = count.sumThenReset();
+            if (dropped > 0) {
+                recentDrops.put(reason, dropped);
+            }
+        });
+        if (!recentDrops.isEmpty()) {
+            log.info("위치 파이프라인 버려진 위치 (최근 1분): {}, 누적: {}", recentDrops, dropCounts());
+        }
+        if (!stats.isEmpty()) {
+            log.debug("위치 파이프라인 단계별 통계: {}", snapshot());
+        }
+    }
+
+    private static class StageStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+    }
+}
@@ -0,0 +1,18 @@
+package com.petmily.backend.api.walk.service.location;
+
+/**
+ * 위치 수집 파이프라인 단계
+ * getOrder() 오름차순으로 실행되며, 인라인 단계가 false를 반환하면 이후 단계는 실행되지 않는다.
+ * 비동기 실행 여부는 단계 이름 기준으로 LocationPipelineProperties 에서 설정한다.
+ */
+public interface LocationPipelineStage {
+
+    String getName();
+
+    int getOrder();
+
+    /**
+     * @return 다음 단계로 진행할지 여부
+     */
+    boolean process(LocationFix fix);
+}
@@ -0,0 +1,74 @@
+package com.petmily.backend.api.walk.service.location;
+
+import com.petmily.backend.config.LocationPipelineProperties;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 산책별 파이프라인 상태 (마지막으로 수락된 위치, 지오펜스 기준점 등)
+ * 필터/보강/지오펜스 단계가 매 위치마다 DB를 조회하지 않도록 메모리에 유지한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationTrackStateRegistry {
+
+    private final LocationPipelineProperties properties;
+
+    private final ConcurrentHashMap<String, TrackState> states = new ConcurrentHashMap<>();
+
+    public TrackState get(String trackKey) {
+        TrackState state = states.computeIfAbsent(trackKey, key -> new TrackState());
+        state.touch();
+        return state;
+    }
+
+    public void remove(String trackKey) {
+        states.remove(trackKey);
+    }
+
+    public void removeBooking(Long bookingId) {
+        remove("booking:" + bookingId);
+    }
+
+    public void removeWalkSession(Long walkSessionId) {
+        remove("session:" + walkSessionId);
+    }
+
+    /**
+     * 위치 수신이 끊긴 산책 상태 정리 (10분 주기)
+     */
+    @Scheduled(fixedRate = 600000)
+    public void purgeIdle() {
+        long threshold = System.currentTimeMillis() - properties.getStateIdleMinutes() * 60_000;
+        int before = states.size();
+        states.values().removeIf(state -> state.getLastSeenAt() < threshold);
+        int removed = before - states.size();
+        if (removed > 0) {
+            log.debug("유휴 산책 위치 상태 정리 - {}건", removed);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class TrackState {
+        private volatile LocationFix lastAccepted;
+        private volatile LocationFix lastValidated;
+        private volatile int repeatedCount;
+        private volatile LocationFix dwellLast;
+        private volatile Double lastBearing;
+        private volatile LocationFix anchor;
+        private volatile boolean outsideGeofence;
+        private volatile long lastSeenAt = System.currentTimeMillis();
+
+        void touch() {
+            this.lastSeenAt = System.currentTimeMillis();
+        }
+    }
+}
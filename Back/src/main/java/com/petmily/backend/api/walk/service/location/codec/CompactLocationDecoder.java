@@ -0,0 +1,81 @@
+package com.petmily.backend.api.walk.service.location.codec;
+
+import com.petmily.backend.domain.walk.entity.WalkingTrack;
+
+import static com.petmily.backend.api.walk.service.location.codec.CompactLocationFormat.*;
+
+/**
+ * 압축 프레임 디코더 (클라이언트 구현 참고용 및 테스트용)
+ * 첫 키프레임을 받기 전의 델타 프레임은 복원할 수 없으므로 null을 반환한다.
+ */
+public class CompactLocationDecoder {
+
+    private static final WalkingTrack.TrackType[] TRACK_TYPES = WalkingTrack.TrackType.values();
+
+    private CompactLocationPoint last;
+    private int position;
+
+    public synchronized CompactLocationPoint decode(byte[] frame) {
+        if (frame == null || frame.length == 0) {
+            throw new IllegalArgumentException("Empty location frame");
+        }
+
+        position = 0;
+        int header = frame[position++] & 0xFF;
+        int trackTypeOrdinal = header & TRACK_TYPE_MASK;
+        if (trackTypeOrdinal >= TRACK_TYPES.length) {
+            throw new IllegalArgumentException("Unknown track type: " + trackTypeOrdinal);
+        }
+
+        int latitudeE7;
+        int longitudeE7;
+        long epochMillis;
+        if ((header & FLAG_KEYFRAME) != 0) {
+            latitudeE7 = readInt(frame);
+            longitudeE7 = readInt(frame);
+            epochMillis = ((long) readInt(frame) << 32) | (readInt(frame) & 0xFFFFFFFFL);
+        } else {
+            if (last == null) {
+                return null;
+            }
+            latitudeE7 = (int) (last.getLatitudeE7() + zigZagDecode(readVarLong(frame)));
+            longitudeE7 = (int) (last.getLongitudeE7() + zigZagDecode(readVarLong(frame)));
+            epochMillis = last.getEpochMillis() + zigZagDecode(readVarLong(frame));
+        }
+
+        Integer accuracy = (header & FLAG_ACCURACY) != 0 ? (int) readVarLong(frame) : null;
+        Integer speed = (header & FLAG_SPEED) != 0 ? (int) readVarLong(frame) : null;
+
+        last = new CompactLocationPoint(latitudeE7, longitudeE7, epochMillis,
+                TRACK_TYPES[trackTypeOrdinal], accuracy, speed);
+        return last;
+    }
+
+    private int readInt(byte[] frame) {
+        if (position + 4 > frame.length) {
+            throw new IllegalArgumentException("Truncated location frame");
+        }
+        int value = ((frame[position] & 0xFF) << 24)
+                | ((frame[position + 1] & 0xFF) << 16)
+                | ((frame[position + 2] & 0xFF) << 8)
+                | (frame[position + 3] & 0xFF);
+        position += 4;
+        return value;
+    }
+
+    private long readVarLong(byte[] frame) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            if (position >= frame.length || shift > 63) {
+                throw new IllegalArgumentException("Truncated location frame");
+            }
+            byte b = frame[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.petmily.backend.api.walk.service.location.codec;
+
+import java.util.Arrays;
+
+import static com.petmily.backend.api.walk.service.location.codec.CompactLocationFormat.*;
+
+/**
+ * 토픽 단위 압축 프레임 인코더 (직전 프레임 기준 델타 인코딩)
+ * 인코더 하나는 하나의 위치 스트림에만 사용해야 한다.
+ */
+public class CompactLocationEncoder {
+
+    private final int keyframeInterval;
+    private final long maxDeltaMillis;
+
+    private CompactLocationPoint last;
+    private int framesSinceKeyframe;
+
+    /**
+     * @param keyframeInterval 키프레임 사이 최대 프레임 수
+     * @param maxDeltaMillis   직전 프레임과 이 시간 이상 떨어지면 키프레임으로 전송
+     */
+    public CompactLocationEncoder(int keyframeInterval, long maxDeltaMillis) {
+        this.keyframeInterval = Math.max(1, keyframeInterval);
+        this.maxDeltaMillis = maxDeltaMillis;
+    }
+
+    public synchronized byte[] encode(CompactLocationPoint point) {
+        boolean keyframe = last == null
+                || framesSinceKeyframe >= keyframeInterval - 1
+                || Math.abs(point.getEpochMillis() - last.getEpochMillis()) >= maxDeltaMillis;
+
+        byte[] buffer = new byte[MAX_FRAME_BYTES];
+        int header = point.getTrackType().ordinal() & TRACK_TYPE_MASK;
+        if (keyframe) {
+            header |= FLAG_KEYFRAME;
+        }
+        if (point.getAccuracyDecimeters() != null) {
+            header |= FLAG_ACCURACY;
+        }
+        if (point.getSpeedDeciKmh() != null) {
+            header |= FLAG_SPEED;
+        }
+        buffer[0] = (byte) header;
+
+        int offset = 1;
+        if (keyframe) {
+            offset = writeInt(buffer, offset, point.getLatitudeE7());
+            offset = writeInt(buffer, offset, point.getLongitudeE7());
+            offset = writeLong(buffer, offset, point.getEpochMillis());
+            framesSinceKeyframe = 0;
+        } else {
+            offset = writeZigZag(buffer, offset, (long) point.getLatitudeE7() - last.getLatitudeE7());
+            offset = writeZigZag(buffer, offset, (long) point.getLongitudeE7() - last.getLongitudeE7());
+            offset = writeZigZag(buffer, offset, point.getEpochMillis() - last.getEpochMillis());
+            framesSinceKeyframe++;
+        }
+
+        if (point.getAccuracyDecimeters() != null) {
+            offset = writeVarLong(buffer, offset, Math.max(0, point.getAccuracyDecimeters()));
+        }
+        if (point.getSpeedDeciKmh() != null) {
+            offset = writeVarLong(buffer, offset, Math.max(0, point.getSpeedDeciKmh()));
+        }
+
+        last = point;
+        return Arrays.copyOf(buffer, offset);
+    }
+}
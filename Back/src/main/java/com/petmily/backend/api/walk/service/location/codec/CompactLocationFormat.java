@@ -0,0 +1,56 @@
+package com.petmily.backend.api.walk.service.location.codec;
+
+/**
+ * 실시간 위치 압축 프레임 포맷
+ *
+ * <pre>
+ * [header 1byte] bit7: 키프레임, bit6: 정확도 포함, bit5: 속도 포함, bit0-3: TrackType ordinal
+ * 키프레임: int32 위도E7, int32 경도E7, int64 epochMillis (big-endian, 절대값)
+ * 델타:    zigzag varint 위도E7 차이, 경도E7 차이, epochMillis 차이 (직전 프레임 기준)
+ * [정확도] varint (0.1m)   [속도] varint (0.1km/h)
+ * </pre>
+ *
+ * 같은 토픽을 늦게 구독한 클라이언트는 다음 키프레임부터 복원할 수 있다.
+ */
+final class CompactLocationFormat {
+
+    static final int FLAG_KEYFRAME = 0x80;
+    static final int FLAG_ACCURACY = 0x40;
+    static final int FLAG_SPEED = 0x20;
+    static final int TRACK_TYPE_MASK = 0x0F;
+
+    static final int MAX_FRAME_BYTES = 40;
+
+    private CompactLocationFormat() {
+    }
+
+    static int writeInt(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) (value >>> 24);
+        buffer[offset + 1] = (byte) (value >>> 16);
+        buffer[offset + 2] = (byte) (value >>> 8);
+        buffer[offset + 3] = (byte) value;
+        return offset + 4;
+    }
+
+    static int writeLong(byte[] buffer, int offset, long value) {
+        offset = writeInt(buffer, offset, (int) (value >>> 32));
+        return writeInt(buffer, offset, (int) value);
+    }
+
+    static int writeVarLong(byte[] buffer, int offset, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[offset++] = (byte) value;
+        return offset;
+    }
+
+    static int writeZigZag(byte[] buffer, int offset, long value) {
+        return writeVarLong(buffer, offset, (value << 1) ^ (value >> 63));
+    }
+
+    static long zigZagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
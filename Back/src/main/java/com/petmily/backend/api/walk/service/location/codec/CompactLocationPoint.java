@@ -0,0 +1,58 @@
+package com.petmily.backend.api.walk.service.location.codec;
+
+import com.petmily.backend.api.walk.dto.tracking.response.WalkTrackResponse;
+import com.petmily.backend.domain.walk.entity.WalkingTrack;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.ZoneId;
+
+/**
+ * 압축 프레임으로 전송되는 위치 값 (고정소수점)
+ * 위경도는 1e-7도 단위 정수(약 1cm, DECIMAL(10,7)과 동일 정밀도),
+ * 정확도는 0.1m, 속도는 0.1km/h 단위로 양자화한다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class CompactLocationPoint {
+
+    private static final double E7 = 10_000_000.0;
+
+    private final int latitudeE7;
+    private final int longitudeE7;
+    private final long epochMillis;
+    private final WalkingTrack.TrackType trackType;
+    private final Integer accuracyDecimeters;
+    private final Integer speedDeciKmh;
+
+    public static CompactLocationPoint from(WalkTrackResponse track) {
+        return new CompactLocationPoint(
+                (int) Math.round(track.getLatitude() * E7),
+                (int) Math.round(track.getLongitude() * E7),
+                track.getTimestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                track.getTrackType() != null ? track.getTrackType() : WalkingTrack.TrackType.WALKING,
+                track.getAccuracy() != null ? (int) Math.round(track.getAccuracy() * 10) : null,
+                track.getSpeed() != null ? (int) Math.round(track.getSpeed() * 10) : null
+        );
+    }
+
+    public double getLatitude() {
+        return latitudeE7 / E7;
+    }
+
+    public double getLongitude() {
+        return longitudeE7 / E7;
+    }
+
+    public Double getAccuracy() {
+        return accuracyDecimeters != null ? accuracyDecimeters / 10.0 : null;
+    }
+
+    public Double getSpeed() {
+        return speedDeciKmh != null ? speedDeciKmh / 10.0 : null;
+    }
+}
@@ -0,0 +1,137 @@
+package com.petmily.backend.api.walk.service.location.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 서버에서 압축 위치 프레임 토픽("/sub/walk/.../location/compact")을 구독 중인 클라이언트 현황
+ * STOMP 구독/해제/연결 종료 이벤트로 갱신되며, 구독자가 없는 토픽은 프레임을 인코딩/전송하지 않는다.
+ * 새 구독자가 생기면 다음 프레임을 키프레임으로 보내도록 한 번 알려 준다 (델타만으로는 복원할 수 없으므로).
+ */
+@Slf4j
+@Component
+public class CompactLocationSubscriptionRegistry {
+
+    private static final String DESTINATION_PREFIX = "/sub/walk/";
+    private static final String DESTINATION_SUFFIX = "/location/compact";
+
+    // destination -> 구독자 현황
+    private final ConcurrentHashMap<String, Subscribers> destinations = new ConcurrentHashMap<>();
+
+    // sessionId -> (subscriptionId -> destination), UNSUBSCRIBE/DISCONNECT 프레임에는 destination이 없으므로 따로 보관
+    private final ConcurrentHashMap<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    public void subscribe(String sessionId, String subscriptionId, String destination) {
+        if (!isCompactDestination(destination)) {
+            return;
+        }
+        String previous = sessionSubscriptions.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .put(subscriptionId, destination);
+        if (previous != null) {
+            release(sessionId, subscriptionId, previous);
+        }
+        destinations.compute(destination, (key, subscribers) -> {
+            Subscribers result = subscribers != null ? subscribers : new Subscribers();
+            result.keys.add(subscriptionKey(sessionId, subscriptionId));
+            result.joined = true;
+            return result;
+        });
+        log.debug("압축 위치 프레임 구독 - 토픽: {}, 세션: {}", destination, sessionId);
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        String destination = subscriptions.remove(subscriptionId);
+        if (destination != null) {
+            release(sessionId, subscriptionId, destination);
+        }
+        if (subscriptions.isEmpty()) {
+            sessionSubscriptions.remove(sessionId, subscriptions);
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        Map<String, String> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.forEach((subscriptionId, destination) -> release(sessionId, subscriptionId, destination));
+        }
+    }
+
+    public boolean hasSubscribers(String destination) {
+        return destinations.containsKey(destination);
+    }
+
+    /**
+     * 마지막 확인 이후 새 구독자가 생겼는지 (한 번 확인하면 초기화)
+     */
+    public boolean takeNewSubscriber(String destination) {
+        boolean[] joined = {false};
+        destinations.computeIfPresent(destination, (key, subscribers) -> {
+            joined[0] = subscribers.joined;
+            subscribers.joined = false;
+            return subscribers;
+        });
+        return joined[0];
+    }
+
+    // 마지막 구독자가 빠지면 compute 안에서 토픽 상태를 원자적으로 제거한다
+    private void release(String sessionId, String subscriptionId, String destination) {
+        String subscriptionKey = subscriptionKey(sessionId, subscriptionId);
+        destinations.computeIfPresent(destination, (key, subscribers) -> {
+            subscribers.keys.remove(subscriptionKey);
+            return subscribers.keys.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private static boolean isCompactDestination(String destination) {
+        return destination != null && destination.startsWith(DESTINATION_PREFIX) && destination.endsWith(DESTINATION_SUFFIX);
+    }
+
+    private static String subscriptionKey(String sessionId, String subscriptionId) {
+        return sessionId + ":" + subscriptionId;
+    }
+
+    private static final class Subscribers {
+        // 구독 키(sessionId:subscriptionId) 집합
+        private final Set<String> keys = ConcurrentHashMap.newKeySet();
+        private boolean joined;
+    }
+}
@@ -0,0 +1,45 @@
+package com.petmily.backend.api.walk.service.location.stage;
+
+import com.petmily.backend.api.walk.controller.walk.WalkWebSocketController;
+import com.petmily.backend.api.walk.service.location.LocationFix;
+import com.petmily.backend.api.walk.service.location.LocationPipelineStage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실시간 위치 브로드캐스트 단계
+ * 저장 단계에서 함께 저장된 DWELL 기록을 먼저 보내, 실시간 화면과 경로 다시보기가 같은 기록을 보게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BroadcastLocationStage implements LocationPipelineStage {
+
+    private final WalkWebSocketController walkWebSocketController;
+
+    @Override
+    public String getName() {
+        return "broadcast";
+    }
+
+    @Override
+    public int getOrder() {
+        return 500;
+    }
+
+    @Override
+    public boolean process(LocationFix fix) {
+        if (fix.getDwellRecord() != null) {
+            broadcast(fix.getDwellRecord());
+        }
+        broadcast(fix);
+        return true;
+    }
+
+    private void broadcast(LocationFix fix) {
+        if (fix.getSource() == LocationFix.Source.BOOKING) {
+            walkWebSocketController.broadcastLocationUpdate(fix.getBookingId(), fix.toTrackResponse());
+        } else {
+            walkWebSocketController.broadcastSessionLocationUpdate(fix.getWalkSessionId(), fix.toTrackResponse());
+        }
+    }
+}
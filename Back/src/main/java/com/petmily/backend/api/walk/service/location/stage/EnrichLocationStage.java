@@ -0,0 +1,44 @@
+package com.petmily.backend.api.walk.service.location.stage;
+
+import com.petmily.backend.api.common.service.LocationValidationService;
+import com.petmily.backend.api.walk.service.location.LocationFix;
+import com.petmily.backend.api.walk.service.location.LocationPipelineStage;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 위치 보강 단계 - 단말이 속도를 보내지 않은 경우 직전 위치 기준으로 계산
+ */
+@Component
+public class EnrichLocationStage implements LocationPipelineStage {
+
+    @Override
+    public String getName() {
+        return "enrich";
+    }
+
+    @Override
+    public int getOrder() {
+        return 300;
+    }
+
+    @Override
+    public boolean process(LocationFix fix) {
+        LocationFix previous = fix.getPrevious();
+        if (fix.getSpeed() != null || previous == null) {
+            return true;
+        }
+
+        long elapsedMillis = Duration.between(previous.getTimestamp(), fix.getTimestamp()).toMillis();
+        if (elapsedMillis <= 0) {
+            return true;
+        }
+
+        double distanceKm = LocationValidationService.calculateDistance(
+                previous.getLatitude(), previous.getLongitude(),
+                fix.getLatitude(), fix.getLongitude());
+        fix.setSpeed(distanceKm / (elapsedMillis / 3_600_000.0)); // km/h
+        return true;
+    }
+}
@@ -0,0 +1,178 @@
+package com.petmily.backend.api.walk.service.location.stage;
+
+import com.petmily.backend.api.common.service.LocationValidationService;
+import com.petmily.backend.api.walk.service.location.LocationFix;
+import com.petmily.backend.api.walk.service.location.LocationPipelineStage;
+import com.petmily.backend.api.walk.service.location.LocationTrackStateRegistry;
+import com.petmily.backend.config.LocationPipelineProperties;
+import com.petmily.backend.domain.walk.entity.WalkingTrack;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 중복 제거 및 정확도/움직임 기반 위치 솎아내기 단계
+ * - 같은 시각 또는 이전 시각의 위치(재전송)는 버린다.
+ * - GPS 오차가 큰 위치는 버린다.
+ * - 직전 저장 위치 근처에 머무르는 동안의 위치는 저장하지 않고, 움직임이 재개되면 하나의 DWELL 기록으로 남긴다.
+ * - 최소 이동 거리 또는 방향 전환 각도를 넘는 위치만 저장한다.
+ * START/PAUSE/RESUME/END 위치는 항상 저장된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FilterLocationStage implements LocationPipelineStage {
+
+    private static final Set<WalkingTrack.TrackType> CONTROL_TYPES = EnumSet.of(
+            WalkingTrack.TrackType.START,
+            WalkingTrack.TrackType.PAUSE,
+            WalkingTrack.TrackType.RESUME,
+            WalkingTrack.TrackType.END
+    );
+
+    private final LocationTrackStateRegistry stateRegistry;
+    private final LocationPipelineProperties properties;
+
+    @Override
+    public String getName() {
+        return "filter";
+    }
+
+    @Override
+    public int getOrder() {
+        return 200;
+    }
+
+    @Override
+    public boolean process(LocationFix fix) {
+        LocationTrackStateRegistry.TrackState state = stateRegistry.get(fix.getTrackKey());
+        LocationFix lastKept = state.getLastAccepted();
+        boolean controlPoint = CONTROL_TYPES.contains(fix.getTrackType());
+
+        if (lastKept != null && !fix.getTimestamp().isAfter(lastKept.getTimestamp())) {
+            fix.drop("duplicate");
+            return false;
+        }
+
+        LocationPipelineProperties.Filter filter = properties.getFilter();
+        double distanceMeters = lastKept != null ? distanceMeters(lastKept, fix) : 0.0;
+        Double bearing = lastKept != null && distanceMeters >= filter.getStationaryRadiusMeters()
+                ? bearing(lastKept, fix) : null;
+
+        if (!controlPoint && filter.isEnabled()) {
+            if (fix.getAccuracy() != null && fix.getAccuracy() > filter.getMaxAccuracyMeters()) {
+                fix.drop("low-accuracy");
+                return false;
+            }
+
+            if (lastKept != null) {
+                if (distanceMeters < filter.getStationaryRadiusMeters()) {
+                    state.setDwellLast(fix);
+                    fix.drop("stationary");
+                    return false;
+                }
+
+                boolean turned = state.getLastBearing() != null
+                        && headingChange(state.getLastBearing(), bearing) >= filter.getMinHeadingChangeDegrees();
+                if (distanceMeters < filter.getMinDistanceMeters() && !turned) {
+                    fix.drop("thinned");
+                    return false;
+                }
+            }
+        }
+
+        accept(state, fix, lastKept, bearing);
+        return true;
+    }
+
+    private void accept(LocationTrackStateRegistry.TrackState state, LocationFix fix, LocationFix lastKept, Double bearing) {
+        LocationFix previousDwell = state.getDwellLast();
+        Double previousBearing = state.getLastBearing();
+
+        if (lastKept != null && previousDwell != null
+                && Duration.between(lastKept.getTimestamp(), previousDwell.getTimestamp()).getSeconds()
+                   >= properties.getFilter().getMinDwellSeconds()) {
+            fix.setDwellRecord(dwellRecord(lastKept, previousDwell));
+        }
+
+        fix.setPrevious(lastKept);
+        state.setLastAccepted(fix);
+        state.setDwellLast(null);
+        if (bearing != null) {
+            state.setLastBearing(bearing);
+        }
+
+        restoreOnRollback(state, fix, lastKept, previousDwell, previousBearing);
+    }
+
+    /**
+     * 정지 구간 압축 기록 - 정지 시작 위치에 정지 종료 시각을 기록하므로 총 거리에는 영향이 없다
+     */
+    private LocationFix dwellRecord(LocationFix anchor, LocationFix dwellEnd) {
+        return LocationFix.builder()
+                .source(anchor.getSource())
+                .bookingId(anchor.getBookingId())
+                .walkSessionId(anchor.getWalkSessionId())
+                .userId(anchor.getUserId())
+                .latitude(anchor.getLatitude())
+                .longitude(anchor.getLongitude())
+                .timestamp(dwellEnd.getTimestamp())
+                .accuracy(anchor.getAccuracy())
+                .speed(0.0)
+                .altitude(anchor.getAltitude())
+                .trackType(WalkingTrack.TrackType.DWELL)
+                .build();
+    }
+
+    // 저장이 롤백되면 재전송된 같은 위치가 중복으로 버려지지 않도록 직전 상태로 되돌린다
+    private void restoreOnRollback(LocationTrackStateRegistry.TrackState state, LocationFix fix, LocationFix previous,
+                                   LocationFix previousDwell, Double previousBearing) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK && state.getLastAccepted() == fix) {
+                    state.setLastAccepted(previous);
+                    state.setDwellLast(previousDwell);
+                    state.setLastBearing(previousBearing);
+                }
+            }
+        });
+    }
+
+    private static double distanceMeters(LocationFix from, LocationFix to) {
+        return LocationValidationService.calculateDistance(
+                from.getLatitude(), from.getLongitude(),
+                to.getLatitude(), to.getLongitude()) * 1000;
+    }
+
+    /**
+     * 두 위치 간 진행 방위각 (0~360도)
+     */
+    static double bearing(LocationFix from, LocationFix to) {
+        double lat1 = Math.toRadians(from.getLatitude());
+        double lat2 = Math.toRadians(to.getLatitude());
+        double deltaLon = Math.toRadians(to.getLongitude() - from.getLongitude());
+
+        double y = Math.sin(deltaLon) * Math.cos(lat2);
+        double x = Math.cos(lat1) * Math.sin(lat2) - Math.sin(lat1) * Math.cos(lat2) * Math.cos(deltaLon);
+        return (Math.toDegrees(Math.atan2(y, x)) + 360) % 360;
+    }
+
+    /**
+     * 방위각 차이 (0~180도)
+     */
+    static double headingChange(double from, Double to) {
+        if (to == null) {
+            return 0.0;
+        }
+        double delta = Math.abs(to - from) % 360;
+        return delta > 180 ? 360 - delta : delta;
+    }
+}
@@ -0,0 +1,66 @@
+package com.petmily.backend.api.walk.service.location.stage;
+
+import com.petmily.backend.api.common.service.LocationValidationService;
+import com.petmily.backend.api.walk.controller.walk.WalkWebSocketController;
+import com.petmily.backend.api.walk.service.location.LocationFix;
+import com.petmily.backend.api.walk.service.location.LocationPipelineStage;
+import com.petmily.backend.api.walk.service.location.LocationTrackStateRegistry;
+import com.petmily.backend.config.LocationPipelineProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 지오펜스 단계 - 산책 시작 지점에서 설정 반경을 벗어나거나 다시 들어오면 상태를 브로드캐스트
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeofenceLocationStage implements LocationPipelineStage {
+
+    private final LocationTrackStateRegistry stateRegistry;
+    private final LocationPipelineProperties properties;
+    private final WalkWebSocketController walkWebSocketController;
+
+    @Override
+    public String getName() {
+        return "geofence";
+    }
+
+    @Override
+    public int getOrder() {
+        return 600;
+    }
+
+    @Override
+    public boolean process(LocationFix fix) {
+        LocationTrackStateRegistry.TrackState state = stateRegistry.get(fix.getTrackKey());
+        LocationFix anchor = state.getAnchor();
+        if (anchor == null) {
+            state.setAnchor(fix);
+            return true;
+        }
+
+        double distanceKm = LocationValidationService.calculateDistance(
+                anchor.getLatitude(), anchor.getLongitude(),
+                fix.getLatitude(), fix.getLongitude());
+        boolean outside = distanceKm > properties.getGeofenceRadiusKm();
+
+        if (outside != state.isOutsideGeofence()) {
+            state.setOutsideGeofence(outside);
+            String status = outside ? "GEOFENCE_EXIT" : "GEOFENCE_ENTER";
+            log.info("지오펜스 상태 변경 - Track: {}, Status: {}, 거리: {}km", fix.getTrackKey(), status, distanceKm);
+
+            if (fix.getSource() == LocationFix.Source.BOOKING) {
+                walkWebSocketController.broadcastWalkStatus(fix.getBookingId(), status, Map.of(
+                        "latitude", fix.getLatitude(),
+                        "longitude", fix.getLongitude(),
+                        "distanceKm", distanceKm
+                ));
+            }
+        }
+        return true;
+    }
+}
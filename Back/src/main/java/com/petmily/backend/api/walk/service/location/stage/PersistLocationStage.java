@@ -0,0 +1,54 @@
+package com.petmily.backend.api.walk.service.location.stage;
+
+import com.petmily.backend.api.walk.service.location.LocationFix;
+import com.petmily.backend.api.walk.service.location.LocationPipelineStage;
+import com.petmily.backend.domain.walk.entity.WalkingTrack;
+import com.petmily.backend.domain.walk.repository.WalkTrackRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 위치 저장 단계
+ */
+@Component
+@RequiredArgsConstructor
+public class PersistLocationStage implements LocationPipelineStage {
+
+    private final WalkTrackRepository walkTrackRepository;
+
+    @Override
+    public String getName() {
+        return "persist";
+    }
+
+    @Override
+    public int getOrder() {
+        return 400;
+    }
+
+    @Override
+    public boolean process(LocationFix fix) {
+        // 정지 구간이 끝난 경우 압축된 DWELL 기록을 먼저 저장
+        LocationFix dwellRecord = fix.getDwellRecord();
+        if (dwellRecord != null) {
+            dwellRecord.setSavedTrack(walkTrackRepository.save(toEntity(dwellRecord)));
+        }
+
+        fix.setSavedTrack(walkTrackRepository.save(toEntity(fix)));
+        return true;
+    }
+
+    private WalkingTrack toEntity(LocationFix fix) {
+        return WalkingTrack.builder()
+                .bookingId(fix.getBookingId())
+                .walkSessionId(fix.getWalkSessionId())
+                .latitude(fix.getLatitude())
+                .longitude(fix.getLongitude())
+                .timestamp(fix.getTimestamp())
+                .accuracy(fix.getAccuracy())
+                .trackType(fix.getTrackType())
+                .speed(fix.getSpeed())
+                .altitude(fix.getAltitude())
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.petmily.backend.api.walk.service.location.stage;
+
+import com.petmily.backend.api.common.service.LocationValidationService;
+import com.petmily.backend.api.exception.CustomException;
+import com.petmily.backend.api.exception.ErrorCode;
+import com.petmily.backend.api.walk.service.location.LocationFix;
+import com.petmily.backend.api.walk.service.location.LocationPipelineStage;
+import com.petmily.backend.api.walk.service.location.LocationTrackStateRegistry;
+import com.petmily.backend.api.walk.service.validation.BookingAuthorization;
+import com.petmily.backend.api.walk.service.validation.ValidationService;
+import com.petmily.backend.domain.walk.entity.WalkBooking;
+import com.petmily.backend.domain.walker.entity.WalkSession;
+import com.petmily.backend.domain.walker.repository.WalkSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 권한 및 좌표 검증 단계
+ * 속도 검증과 동일 좌표 반복 감지는 DB 대신 산책별 메모리 상태(직전 저장 위치, 직전 검증 위치)와 비교한다.
+ * 이 상태는 서버별로 유지되므로, 한 산책의 위치가 여러 서버로 나뉘어 들어오면 각 서버가 받은 위치끼리만 비교한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ValidateLocationStage implements LocationPipelineStage {
+
+    private final ValidationService validationService;
+    private final LocationValidationService locationValidationService;
+    private final WalkSessionRepository walkSessionRepository;
+    private final LocationTrackStateRegistry stateRegistry;
+
+    // 직전 위치와 같은 좌표가 이만큼 연달아 들어오면 GPS 오작동/위조를 의심한다
+    private static final int FAKE_REPEAT_THRESHOLD = 3;
+
+    @Override
+    public String getName() {
+        return "validate";
+    }
+
+    @Override
+    public int getOrder() {
+        return 100;
+    }
+
+    @Override
+    public boolean process(LocationFix fix) {
+        if (fix.getSource() == LocationFix.Source.BOOKING) {
+            validateBooking(fix);
+        } else {
+            validateWalkSession(fix);
+        }
+        return true;
+    }
+
+    private void validateBooking(LocationFix fix) {
+        Long bookingId = fix.getBookingId();
+        BookingAuthorization authorization = validationService.authorizeWalker(bookingId, fix.getUserId());
+
+        if (authorization.getStatus() != WalkBooking.BookingStatus.IN_PROGRESS) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "Can only track location during active walk");
+        }
+
+        locationValidationService.requireLocation(fix.getLatitude(), fix.getLongitude(), "위치 추적");
+
+        LocationTrackStateRegistry.TrackState state = stateRegistry.get(fix.getTrackKey());
+        LocationFix previous = state.getLastAccepted();
+        if (previous != null) {
+            locationValidationService.validateLocationChange(previous.getLatitude(), previous.getLongitude(),
+                    previous.getTimestamp(), fix.getLatitude(), fix.getLongitude(), fix.getTimestamp());
+        }
+
+        if (isRepeatedLocation(state, fix)) {
+            log.warn("의심스러운 위치 패턴 감지 - Booking ID: {}, 좌표: {}, {}",
+                     bookingId, fix.getLatitude(), fix.getLongitude());
+        }
+    }
+
+    /**
+     * 직전에 검증한 위치와 같은 좌표가 연달아 들어오는지 (정지 구간은 필터 단계에서 버려지므로 저장 위치 대신 검증 위치와 비교)
+     * 검증 상태는 커밋 이후에 반영해, 이후 단계 실패로 롤백된 위치가 다음 위치의 비교 기준이 되지 않게 한다.
+     */
+    private boolean isRepeatedLocation(LocationTrackStateRegistry.TrackState state, LocationFix fix) {
+        LocationFix lastValidated = state.getLastValidated();
+        boolean same = lastValidated != null && LocationValidationService.isSameCoordinates(
+                lastValidated.getLatitude(), lastValidated.getLongitude(), fix.getLatitude(), fix.getLongitude());
+        int repeatedCount = same ? state.getRepeatedCount() + 1 : 0;
+
+        runAfterCommit(() -> {
+            state.setLastValidated(fix);
+            state.setRepeatedCount(repeatedCount);
+        });
+        return repeatedCount >= FAKE_REPEAT_THRESHOLD;
+    }
+
+    private void validateWalkSession(LocationFix fix) {
+        WalkSession session = walkSessionRepository.findById(fix.getWalkSessionId())
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND,
+                        "Walk session not found: " + fix.getWalkSessionId()));
+
+        // 세션 소유자 확인
+        if (!session.getUserId().equals(fix.getUserId())) {
+            throw new CustomException(ErrorCode.NO_ACCESS, "User does not own this walk session");
+        }
+
+        locationValidationService.requireLocation(fix.getLatitude(), fix.getLongitude(), "위치 추적");
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
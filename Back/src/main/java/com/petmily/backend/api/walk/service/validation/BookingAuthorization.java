@@ -0,0 +1,38 @@
+package com.petmily.backend.api.walk.service.validation;
+
+import com.petmily.backend.domain.walk.entity.WalkBooking;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 예약에 대한 사용자 권한 스냅샷 (인가 캐시 항목)
+ * 엔티티 대신 식별자와 상태만 보관하므로 트랜잭션 밖에서도 안전하게 공유된다.
+ */
+@Getter
+@AllArgsConstructor
+public class BookingAuthorization {
+
+    private final Long bookingId;
+    private final Long userId;
+    private final BookingRole role;
+    private final Long walkerId;
+    private final WalkBooking.BookingStatus status;
+    private final long expiresAt;
+
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+
+    public boolean isAssignedWalker() {
+        return role == BookingRole.WALKER;
+    }
+
+    public BookingAuthorization withStatus(WalkBooking.BookingStatus newStatus, long newExpiresAt) {
+        return new BookingAuthorization(bookingId, userId, role, walkerId, newStatus, newExpiresAt);
+    }
+
+    public enum BookingRole {
+        OWNER,   // 예약자 (보호자)
+        WALKER   // 배정된 워커
+    }
+}
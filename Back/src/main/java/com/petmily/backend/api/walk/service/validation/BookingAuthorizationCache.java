@@ -0,0 +1,116 @@
+package com.petmily.backend.api.walk.service.validation;
+
+import com.petmily.backend.domain.walk.entity.WalkBooking;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 예약 ID + 사용자 ID 단위의 단기 인가 캐시
+ * 산책 중 위치 전송처럼 같은 예약에 반복 접근하는 경로에서 사용자/예약/워커 조회를 생략하기 위해 사용한다.
+ * 예약의 워커는 생성 후 바뀌지 않으므로(오픈 예약 지원은 별도 예약으로 저장) 상태 전이만 반영하고, 그 외 항목은 TTL로 만료된다.
+ * 상태 전이는 BookingStatusRelay가 모든 서버에 전달하며, 전달이 유실되어도 TTL이 지나면 DB에서 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class BookingAuthorizationCache {
+
+    @Value("${petmily.walk.auth-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    // 상태 전이 순번 - 조회 시작 시점의 순번보다 뒤에 전이된 예약은 조회 결과를 캐시하지 않는다
+    private final AtomicLong changeSequence = new AtomicLong();
+
+    // bookingId -> 사용자별 권한 스냅샷과 마지막 상태 전이
+    private final ConcurrentHashMap<Long, BookingEntries> cache = new ConcurrentHashMap<>();
+
+    public BookingAuthorization get(Long bookingId, Long userId) {
+        BookingEntries entries = cache.get(bookingId);
+        if (entries == null) {
+            return null;
+        }
+
+        BookingAuthorization authorization = entries.users.get(userId);
+        if (authorization == null) {
+            return null;
+        }
+
+        if (authorization.isExpired(System.currentTimeMillis())) {
+            entries.users.remove(userId, authorization);
+            return null;
+        }
+        return authorization;
+    }
+
+    /**
+     * DB 조회를 시작하기 전에 받아 두는 표식 (put에 그대로 전달)
+     */
+    public long loadMarker() {
+        return changeSequence.get();
+    }
+
+    /**
+     * DB에서 읽은 권한 저장
+     * 조회하는 동안 예약 상태가 전이되었으면(loadMarker 이후 전이) 읽은 상태가 이미 지난 값이므로 캐시하지 않고 반환만 한다.
+     */
+    public BookingAuthorization put(Long bookingId, Long userId, BookingAuthorization.BookingRole role,
+                                    Long walkerId, WalkBooking.BookingStatus status, long loadMarker) {
+        BookingAuthorization authorization = new BookingAuthorization(
+                bookingId, userId, role, walkerId, status, nextExpiry());
+        cache.compute(bookingId, (id, entries) -> {
+            BookingEntries result = entries != null ? entries : new BookingEntries();
+            if (result.changedSequence <= loadMarker) {
+                result.users.put(userId, authorization);
+            }
+            return result;
+        });
+        return authorization;
+    }
+
+    /**
+     * 예약 상태 전이 반영 - 캐시된 모든 사용자 항목의 상태를 갱신 (커밋 이후에 호출)
+     * 캐시된 항목이 없어도 전이 순번을 남겨, 진행 중인 조회가 이전 상태를 캐시하지 못하게 한다.
+     */
+    public void updateStatus(Long bookingId, WalkBooking.BookingStatus status) {
+        long expiresAt = nextExpiry();
+        cache.compute(bookingId, (id, entries) -> {
+            BookingEntries result = entries != null ? entries : new BookingEntries();
+            result.changedSequence = changeSequence.incrementAndGet();
+            result.changedAt = System.currentTimeMillis();
+            result.users.replaceAll((userId, authorization) -> authorization.withStatus(status, expiresAt));
+            return result;
+        });
+        log.debug("예약 인가 캐시 상태 갱신 - BookingId: {}, Status: {}", bookingId, status);
+    }
+
+    /**
+     * 만료된 항목 정리 (5분 주기)
+     * 전이 순번은 그 이전에 시작된 조회가 모두 끝났을 만큼(TTL) 지난 뒤에만 함께 지운다.
+     */
+    @Scheduled(fixedRate = 300000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        long changeThreshold = now - ttlSeconds * 1000;
+        for (Long bookingId : cache.keySet()) {
+            cache.computeIfPresent(bookingId, (id, entries) -> {
+                entries.users.values().removeIf(authorization -> authorization.isExpired(now));
+                return entries.users.isEmpty() && entries.changedAt < changeThreshold ? null : entries;
+            });
+        }
+    }
+
+    private long nextExpiry() {
+        return System.currentTimeMillis() + ttlSeconds * 1000;
+    }
+
+    private static final class BookingEntries {
+        // userId -> 권한 스냅샷
+        private final ConcurrentHashMap<Long, BookingAuthorization> users = new ConcurrentHashMap<>();
+        private long changedSequence;
+        private long changedAt;
+    }
+}
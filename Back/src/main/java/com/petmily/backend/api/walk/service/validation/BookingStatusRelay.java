@@ -0,0 +1,67 @@
+package com.petmily.backend.api.walk.service.validation;
+
+import com.petmily.backend.domain.walk.entity.WalkBooking;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 예약 상태 전이를 모든 서버의 인가 캐시에 전달 (Redis pub/sub)
+ * 커밋 이후 이 서버의 캐시에 바로 반영하고 "bookingId:STATUS"를 발행하며, 발행한 서버를 포함한 모든 서버가 수신해 반영한다.
+ * 발행에 실패하거나 메시지가 유실되면 다른 서버는 인가 캐시 TTL 동안 이전 상태를 볼 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingStatusRelay implements MessageListener {
+
+    public static final String CHANNEL = "walk:booking:status";
+
+    private final StringRedisTemplate redisTemplate;
+    private final BookingAuthorizationCache bookingAuthorizationCache;
+
+    /**
+     * 예약 상태 전이 전달 (트랜잭션 안이면 커밋 이후, 롤백되면 전달하지 않음)
+     */
+    public void publishAfterCommit(Long bookingId, WalkBooking.BookingStatus status) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(bookingId, status);
+                }
+            });
+        } else {
+            publish(bookingId, status);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        try {
+            Long bookingId = Long.valueOf(body.substring(0, separator));
+            WalkBooking.BookingStatus status = WalkBooking.BookingStatus.valueOf(body.substring(separator + 1));
+            bookingAuthorizationCache.updateStatus(bookingId, status);
+        } catch (RuntimeException e) {
+            log.warn("예약 상태 전이 메시지 해석 실패 - {}", body);
+        }
+    }
+
+    private void publish(Long bookingId, WalkBooking.BookingStatus status) {
+        bookingAuthorizationCache.updateStatus(bookingId, status);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, bookingId + ":" + status.name());
+        } catch (Exception e) {
+            log.warn("예약 상태 전이 발행 실패 - 다른 서버는 인가 캐시 TTL 이후 반영, BookingId: {}", bookingId, e);
+        }
+    }
+}
@@ -18,8 +18,11 @@ public class ValidationService {
     private final UserRepository userRepository;
     private final WalkBookingRepository walkBookingRepository;
     private final WalkerRepository walkerRepository;
+    private final BookingAuthorizationCache bookingAuthorizationCache;
+    private final BookingStatusRelay bookingStatusRelay;
 
     public WalkBookingValidation validateWalkBooking(Long bookingId, Long userId) {
+        long loadMarker = bookingAuthorizationCache.loadMarker();
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
@@ -33,6 +36,9 @@ public class ValidationService {
             throw new CustomException(ErrorCode.NO_ACCESS, "Only the assigned walker can perform this action");
         }
 
+        bookingAuthorizationCache.put(bookingId, userId, BookingAuthorization.BookingRole.WALKER,
+                walker.getId(), booking.getStatus(), loadMarker);
+
         return new WalkBookingValidation(user, booking, walker);
     }
 
@@ -50,6 +56,76 @@ public class ValidationService {
         return new UserBookingValidation(user, booking);
     }
 
+    /**
+     * 배정된 워커 권한 확인 (캐시 우선)
+     * 산책 중 위치 전송/사진 업로드처럼 반복 호출되는 경로용 - 캐시 적중 시 DB 조회 없음
+     */
+    public BookingAuthorization authorizeWalker(Long bookingId, Long userId) {
+        BookingAuthorization authorization = authorizeParticipant(bookingId, userId);
+
+        if (!authorization.isAssignedWalker()) {
+            throw new CustomException(ErrorCode.NO_ACCESS, "Only the assigned walker can perform this action");
+        }
+
+        return authorization;
+    }
+
+    /**
+     * 예약자 또는 배정된 워커 권한 확인 (캐시 우선)
+     */
+    public BookingAuthorization authorizeParticipant(Long bookingId, Long userId) {
+        BookingAuthorization cached = bookingAuthorizationCache.get(bookingId, userId);
+        if (cached != null) {
+            return cached;
+        }
+        return loadParticipant(bookingId, userId).authorization();
+    }
+
+    /**
+     * 예약자 또는 배정된 워커 권한 확인 후 예약 엔티티까지 필요한 경로용
+     * 캐시 적중 시에는 예약만 조회하고, 캐시에 없으면 권한 확인에 쓴 예약을 그대로 돌려준다 (예약 조회 1회).
+     */
+    public ParticipantBooking authorizeParticipantWithBooking(Long bookingId, Long userId) {
+        BookingAuthorization cached = bookingAuthorizationCache.get(bookingId, userId);
+        if (cached == null) {
+            return loadParticipant(bookingId, userId);
+        }
+        WalkBooking booking = walkBookingRepository.findById(bookingId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "Booking not found"));
+        return new ParticipantBooking(cached, booking);
+    }
+
+    /**
+     * 예약 상태 전이 후 모든 서버의 인가 캐시 갱신 (커밋 이후 반영)
+     */
+    public void onBookingStatusChanged(Long bookingId, WalkBooking.BookingStatus status) {
+        bookingStatusRelay.publishAfterCommit(bookingId, status);
+    }
+
+    private ParticipantBooking loadParticipant(Long bookingId, Long userId) {
+        long loadMarker = bookingAuthorizationCache.loadMarker();
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        WalkBooking booking = walkBookingRepository.findById(bookingId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "Booking not found"));
+
+        Walker walker = walkerRepository.findByUserId(user.getId()).orElse(null);
+
+        BookingAuthorization.BookingRole role;
+        if (walker != null && booking.getWalkerId().equals(walker.getId())) {
+            role = BookingAuthorization.BookingRole.WALKER;
+        } else if (booking.getUserId().equals(user.getId())) {
+            role = BookingAuthorization.BookingRole.OWNER;
+        } else {
+            throw new CustomException(ErrorCode.NO_ACCESS);
+        }
+
+        BookingAuthorization authorization = bookingAuthorizationCache.put(
+                bookingId, userId, role, booking.getWalkerId(), booking.getStatus(), loadMarker);
+        return new ParticipantBooking(authorization, booking);
+    }
+
     private boolean hasAccessToBooking(WalkBooking booking, User user) {
         if (booking.getUserId().equals(user.getId())) {
             return true;
@@ -71,6 +147,9 @@ public class ValidationService {
         }
     }
 
+    public record ParticipantBooking(BookingAuthorization authorization, WalkBooking booking) {
+    }
+
     public static class UserBookingValidation {
         public final User user;
         public final WalkBooking booking;
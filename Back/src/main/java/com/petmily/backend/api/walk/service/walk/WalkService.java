@@ -9,7 +9,11 @@ import com.petmily.backend.api.walk.controller.walk.WalkWebSocketController;
 import com.petmily.backend.api.walk.dto.booking.response.WalkerBookingResponse;
 import com.petmily.backend.api.walk.dto.tracking.request.*;
 import com.petmily.backend.api.walk.dto.tracking.response.*;
+import com.petmily.backend.api.walk.service.location.LocationFix;
+import com.petmily.backend.api.walk.service.location.LocationIngestionService;
+import com.petmily.backend.api.walk.service.location.LocationTrackStateRegistry;
 import com.petmily.backend.api.walk.service.notification.WalkNotificationService;
+import com.petmily.backend.api.walk.service.validation.BookingAuthorization;
 import com.petmily.backend.api.walk.service.validation.ValidationService;
 import com.petmily.backend.domain.walk.entity.WalkingTrack;
 import com.petmily.backend.domain.walk.repository.WalkTrackRepository;
@@ -36,7 +40,8 @@ public class WalkService {
     private final WalkBookingRepository walkBookingRepository;
     private final WalkDetailRepository walkDetailRepository;
     private final ValidationService validationService;
-    private final LocationValidationService locationValidationService;
+    private final LocationIngestionService locationIngestionService;
+    private final LocationTrackStateRegistry locationTrackStateRegistry;
     private final WalkNotificationService notificationService;
     private final WalkWebSocketController walkWebSocketController;
     private final KakaoMapService kakaoMapService;
@@ -50,6 +55,7 @@ public class WalkService {
         }
 
         validation.booking.setStatus(WalkBooking.BookingStatus.IN_PROGRESS);
+        validationService.onBookingStatusChanged(bookingId, WalkBooking.BookingStatus.IN_PROGRESS);
 
         // Create or update WalkDetail for timing information
         WalkDetail walkDetail = walkDetailRepository.findByBookingId(bookingId)
@@ -93,6 +99,7 @@ public class WalkService {
         }
 
         validation.booking.setStatus(WalkBooking.BookingStatus.COMPLETED);
+        validationService.onBookingStatusChanged(bookingId, WalkBooking.BookingStatus.COMPLETED);
 
         // Update WalkDetail with completion information
         WalkDetail walkDetail = walkDetailRepository.findByBookingId(bookingId)
@@ -119,6 +126,8 @@ public class WalkService {
         WalkDetail savedWalkDetail = walkDetailRepository.save(walkDetail);
 
         WalkBooking updatedBooking = walkBookingRepository.save(validation.booking);
+        locationTrackStateRegistry.removeBooking(bookingId);
+        walkWebSocketController.releaseLocationStream(bookingId);
 
         try {
             String petName = getPetName(updatedBooking);
@@ -220,22 +229,10 @@ public class WalkService {
 
     @Transactional
     public WalkTrackResponse saveWalkingTrack(Long bookingId, LocationTrackRequest request, Long userId) {
-        ValidationService.WalkBookingValidation validation = validationService.validateWalkBooking(bookingId, userId);
-        
-        if (validation.booking.getStatus() != WalkBooking.BookingStatus.IN_PROGRESS) {
-            throw new CustomException(ErrorCode.INVALID_REQUEST, "Can only track location during active walk");
-        }
-
-        locationValidationService.requireLocation(request.getLatitude(), request.getLongitude(), "위치 추적");
-        locationValidationService.validateLocationChange(bookingId, request.getLatitude(), request.getLongitude());
-        
-        if (locationValidationService.isProbablyFakeLocation(bookingId, request.getLatitude(), request.getLongitude())) {
-            log.warn("의심스러운 위치 패턴 감지 - Booking ID: {}, 좌표: {}, {}", 
-                     bookingId, request.getLatitude(), request.getLongitude());
-        }
-
-        WalkingTrack walkTrack = WalkingTrack.builder()
+        LocationFix fix = locationIngestionService.ingest(LocationFix.builder()
+                .source(LocationFix.Source.BOOKING)
                 .bookingId(bookingId)
+                .userId(userId)
                 .latitude(request.getLatitude())
                 .longitude(request.getLongitude())
                 .timestamp(request.getTimestamp() != null ? request.getTimestamp() : LocalDateTime.now())
@@ -243,19 +240,9 @@ public class WalkService {
                 .trackType(request.getTrackType() != null ? request.getTrackType() : WalkingTrack.TrackType.WALKING)
                 .speed(request.getSpeed())
                 .altitude(request.getAltitude())
-                .build();
-
-        WalkingTrack savedTrack = walkTrackRepository.save(walkTrack);
-        WalkTrackResponse response = WalkTrackResponse.from(savedTrack);
-
-        try{
-            walkWebSocketController.broadcastLocationUpdate(bookingId, response);
-        } catch(Exception e){
-            log.warn("실시간 위치 브로드캐스트 실패 - Booking ID: {}", bookingId, e);
-        }
-
-        return response;
+                .build());
 
+        return fix.toTrackResponse();
     }
 
     public WalkPathResponse getWalkPath(Long bookingId, Long userId) {
@@ -276,7 +263,7 @@ public class WalkService {
     }
 
     public List<WalkTrackResponse> getRealtimeLocation(Long bookingId, LocalDateTime afterTime, Long userId) {
-        ValidationService.UserBookingValidation validation = validationService.validateUserBooking(bookingId, userId);
+        validationService.authorizeParticipant(bookingId, userId);
 
         List<WalkingTrack> tracks = walkTrackRepository.findByBookingIdAndTimestampAfter(bookingId, afterTime);
         return tracks.stream()
@@ -286,9 +273,9 @@ public class WalkService {
 
     @Transactional
     public WalkDetailResponse uploadPhoto(Long bookingId, PhotoUploadRequest request, Long userId) {
-        ValidationService.WalkBookingValidation validation = validationService.validateWalkBooking(bookingId, userId);
+        BookingAuthorization authorization = validationService.authorizeWalker(bookingId, userId);
 
-        if (validation.booking.getStatus() != WalkBooking.BookingStatus.IN_PROGRESS) {
+        if (authorization.getStatus() != WalkBooking.BookingStatus.IN_PROGRESS) {
             throw new CustomException(ErrorCode.INVALID_REQUEST, "Can only upload photos during active walk");
         }
 
@@ -336,7 +323,7 @@ public class WalkService {
     }
 
     public WalkStatusResponse getWalkStatus(Long bookingId, Long userId){
-        ValidationService.UserBookingValidation validation = validationService.validateUserBooking(bookingId, userId);
+        WalkBooking booking = validationService.authorizeParticipantWithBooking(bookingId, userId).booking();
 
         WalkDetail walkDetail = walkDetailRepository.findByBookingId(bookingId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND,
@@ -362,10 +349,10 @@ public class WalkService {
                 ? Duration.between(walkDetail.getActualStartTime(), now).toMinutes() : 0L;
 
         // 예상 종료 시간
-        LocalDateTime estimatedEndTime = validation.booking.getWalkDetail().getActualEndTime().plusMinutes(validation.booking.getDuration());
+        LocalDateTime estimatedEndTime = booking.getWalkDetail().getActualEndTime().plusMinutes(booking.getDuration());
 
         // 남은 시간
-        long remainingMinutes = validation.booking.getDuration() - elapsedMinutes;
+        long remainingMinutes = booking.getDuration() - elapsedMinutes;
         if (remainingMinutes < 0) remainingMinutes = 0;
 
         // 거리 계산
@@ -382,9 +369,9 @@ public class WalkService {
                 .map(WalkTrackResponse::from)
                 .collect(Collectors.toList());
 
-        String petName = getPetName(validation.booking);
-        String walkerName = validation.booking.getWalker() != null && validation.booking.getWalker().getUser() != null
-                ? validation.booking.getWalker().getUser().getName() : "워커";
+        String petName = getPetName(booking);
+        String walkerName = booking.getWalker() != null && booking.getWalker().getUser() != null
+                ? booking.getWalker().getUser().getName() : "워커";
 
         return WalkStatusResponse.builder()
                 .bookingId(bookingId)
@@ -5,6 +5,7 @@ import com.petmily.backend.api.exception.CustomException;
 import com.petmily.backend.api.exception.ErrorCode;
 import com.petmily.backend.api.map.dto.Coord;
 import com.petmily.backend.api.map.service.KakaoMapService;
+import com.petmily.backend.api.search.index.AutocompleteIndex;
 import com.petmily.backend.api.walker.dto.walker.WalkerResponse;
 import com.petmily.backend.api.walker.dto.walker.WalkerSearchRequest;
 import com.petmily.backend.domain.user.entity.User;
@@ -36,6 +37,7 @@ public class WalkerSearchService {
     private final WalkerRepository walkerRepository;
     private final FavoriteWalkerRepository favoriteWalkerRepository;
     private final KakaoMapService kakaoMapService;
+    private final AutocompleteIndex autocompleteIndex;
 
     private static final double EARTH_RADIUS_KM = 6371.0;
     private static final double DEFAULT_MAX_DISTANCE_KM = 30.0;
@@ -120,9 +122,14 @@ public class WalkerSearchService {
     private List<Walker> applyFilters(List<Walker> walkers,
                                            WalkerSearchRequest request,
                                            Coord userCoord) {
+        // 초성("ㄱㅁㅅ")이나 입력 중인 음절("김미ㅅ")로 찾는 이름은 색인에서 한 번만 조회
+        Set<Long> nameMatchedWalkerIds = request.getKeyword() != null && !request.getKeyword().trim().isEmpty()
+                ? autocompleteIndex.findWalkerIds(request.getKeyword())
+                : null;
+
         return walkers.stream()
                 .filter(walker -> applyDistanceFilter(walker, request, userCoord))
-                .filter(walker -> applyKeywordFilter(walker, request))
+                .filter(walker -> applyKeywordFilter(walker, request, nameMatchedWalkerIds))
                 .filter(walker -> applyRatingFilter(walker, request))
                 .filter(walker -> applyHourlyRateFilter(walker, request))
                 .filter(walker -> applyServiceAreaFilter(walker, request))
@@ -155,10 +162,13 @@ public class WalkerSearchService {
         }
     }
 
-    private boolean applyKeywordFilter(Walker walker, WalkerSearchRequest request) {
+    private boolean applyKeywordFilter(Walker walker, WalkerSearchRequest request, Set<Long> nameMatchedWalkerIds) {
         if (request.getKeyword() == null || request.getKeyword().trim().isEmpty()) {
             return true;
         }
+        if (nameMatchedWalkerIds != null && nameMatchedWalkerIds.contains(walker.getId())) {
+            return true;
+        }
 
         String keyword = request.getKeyword().toLowerCase();
         String userName = walker.getUser() != null && walker.getUser().getName() != null ?
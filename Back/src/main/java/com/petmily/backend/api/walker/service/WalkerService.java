@@ -4,6 +4,7 @@ import com.petmily.backend.api.exception.CustomException;
 import com.petmily.backend.api.exception.ErrorCode;
 import com.petmily.backend.api.map.dto.Coord;
 import com.petmily.backend.api.map.service.KakaoMapService;
+import com.petmily.backend.api.search.index.AutocompleteIndex;
 import com.petmily.backend.api.walker.dto.walker.WalkerCreateRequest;
 import com.petmily.backend.api.walker.dto.walker.WalkerResponse;
 import com.petmily.backend.api.walker.dto.walker.WalkerUpdateRequest;
@@ -27,6 +28,7 @@ public class WalkerService {
     private final UserRepository userRepository;
     private final WalkerRepository walkerRepository;
     private final KakaoMapService kakaoMapService;
+    private final AutocompleteIndex autocompleteIndex;
 
     // Earth's radius in kilometers
     private static final double EARTH_RADIUS_KM = 6371.0;
@@ -230,6 +232,8 @@ public class WalkerService {
         walker.setStatus(status);
 
         walkerRepository.save(walker);
+        // 활성 워커가 바뀌었으므로 이름 검색 색인 갱신
+        autocompleteIndex.requestWalkerRebuildAfterCommit();
         return WalkerResponse.from(walker);
     }
 
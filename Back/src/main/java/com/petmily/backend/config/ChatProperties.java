@@ -0,0 +1,158 @@
+package com.petmily.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "petmily.chat")
+public class ChatProperties {
+
+    /**
+     * 토큰 없이 핸드셰이크 username으로 채팅 접속 허용 여부 (구버전 클라이언트 호환용, 누구나 다른 사용자로 접속할 수 있으므로 기본 비활성)
+     */
+    private boolean allowUsernameHandshake = false;
+
+    private RecentCache recentCache = new RecentCache();
+
+    private Push push = new Push();
+
+    private Presence presence = new Presence();
+
+    private WriteBehind writeBehind = new WriteBehind();
+
+    private Archive archive = new Archive();
+
+    @Getter
+    @Setter
+    public static class RecentCache {
+
+        /**
+         * 채팅방별로 메모리에 보관할 최근 메시지 수
+         */
+        private int capacity = 50;
+
+        /**
+         * 조회가 없는 채팅방의 캐시를 정리하기까지의 유휴 시간 (분)
+         */
+        private long idleMinutes = 30;
+    }
+
+    @Getter
+    @Setter
+    public static class Push {
+
+        /**
+         * 푸시 발송 워커 스레드 수
+         */
+        private int workerThreads = 2;
+
+        /**
+         * 발송 대기열 최대 길이 (초과 시 해당 푸시는 버린다)
+         */
+        private int queueCapacity = 1000;
+
+        /**
+         * 같은 수신자/채팅방의 연속 메시지를 하나의 푸시로 묶는 시간 (밀리초)
+         */
+        private long coalesceWindowMillis = 1500;
+
+        /**
+         * 발송 실패 시 최대 시도 횟수
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * 재시도 대기 시간 (밀리초, 시도마다 두 배로 증가)
+         */
+        private long retryBackoffMillis = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Presence {
+
+        /**
+         * Redis에 기록한 접속 정보의 유효 시간 (초) - 하트비트가 끊긴 서버의 접속 정보는 이 시간 뒤 사라진다
+         */
+        private long ttlSeconds = 60;
+
+        /**
+         * 접속 정보 갱신 주기 (밀리초)
+         */
+        private long heartbeatMillis = 20000;
+    }
+
+    @Getter
+    @Setter
+    public static class WriteBehind {
+
+        /**
+         * 메시지 ID를 앱에서 발급하고 저장을 배치로 미루는 모드 사용 여부 (기본은 메시지마다 IDENTITY 저장)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 메시지 ID 발급 서버 번호 (0~1023, 서버마다 달라야 한다. write-behind 사용 시 필수 - 미설정(음수)이면 기동 실패)
+         */
+        private int workerId = -1;
+
+        /**
+         * 저장 대기열(Redis Stream) 파티션 수 - 채팅방은 항상 같은 파티션으로 들어간다
+         */
+        private int partitions = 2;
+
+        /**
+         * 한 번에 저장하는 최대 메시지 수
+         */
+        private int batchSize = 200;
+
+        /**
+         * 대기열이 비어 있을 때 다음 조회까지의 대기 시간 (밀리초)
+         */
+        private long pollIntervalMillis = 50;
+
+        /**
+         * 저장되지 못한 채 이 시간 이상 지난 메시지는 다른 서버(또는 자신)가 넘겨받아 다시 저장한다 (밀리초)
+         */
+        private long claimIdleMillis = 30000;
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+
+        /**
+         * 비활성 채팅방 메시지 보관(콜드 스토리지) 작업 사용 여부
+         */
+        private boolean enabled = false;
+
+        /**
+         * 보관 작업 실행 주기 (cron)
+         */
+        private String cron = "0 30 4 * * *";
+
+        /**
+         * 마지막 활동 이후 이 기간이 지난 문의(PRE_BOOKING) 채팅방을 보관한다 (일)
+         */
+        private int inactiveDays = 90;
+
+        /**
+         * 보관 묶음 하나에 담는 최대 메시지 수
+         */
+        private int segmentSize = 500;
+
+        /**
+         * 한 번의 작업에서 보관하는 최대 채팅방 수
+         */
+        private int roomsPerRun = 200;
+
+        /**
+         * 압축을 풀어 메모리에 보관할 최근 조회 묶음 수
+         */
+        private int decodedCacheSegments = 64;
+    }
+}
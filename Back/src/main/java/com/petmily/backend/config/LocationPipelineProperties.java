@@ -0,0 +1,87 @@
+package com.petmily.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "petmily.location.pipeline")
+public class LocationPipelineProperties {
+
+    /**
+     * 비동기로 실행할 단계 이름 (validate, filter, enrich, persist, broadcast, geofence)
+     * 나머지 단계는 요청 스레드에서 순서대로 실행된다.
+     */
+    private Set<String> asyncStages = new HashSet<>(Set.of("broadcast", "geofence"));
+
+    /**
+     * 비동기 단계 실행 레인 수 (같은 산책의 위치는 항상 같은 레인에서 순서대로 처리)
+     */
+    private int asyncLanes = 4;
+
+    /**
+     * 산책 시작 지점 기준 지오펜스 반경 (km)
+     */
+    private double geofenceRadiusKm = 3.0;
+
+    /**
+     * 위치 수신이 없는 산책 상태를 정리하기까지의 유휴 시간 (분)
+     */
+    private long stateIdleMinutes = 30;
+
+    /**
+     * 압축 바이너리 위치 프레임 전송 여부 (구독 경로 뒤에 /compact 를 붙인 토픽으로 전송)
+     */
+    private boolean compactFramesEnabled = true;
+
+    /**
+     * 압축 프레임 키프레임 간격 (프레임 수)
+     */
+    private int compactKeyframeInterval = 10;
+
+    /**
+     * 저장 전 위치 솎아내기 설정
+     */
+    private Filter filter = new Filter();
+
+    @Getter
+    @Setter
+    public static class Filter {
+
+        /**
+         * 솎아내기 사용 여부 (false면 중복 제거만 수행)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 허용하는 최대 GPS 오차 (미터) - 초과하면 버림
+         */
+        private double maxAccuracyMeters = 50.0;
+
+        /**
+         * 직전 저장 위치로부터 이 거리 안이면 정지 상태로 간주 (미터)
+         */
+        private double stationaryRadiusMeters = 8.0;
+
+        /**
+         * 직전 저장 위치로부터 이 거리 이상 이동해야 저장 (미터)
+         */
+        private double minDistanceMeters = 20.0;
+
+        /**
+         * 이동 방향이 이 각도 이상 바뀌면 최소 거리 미만이어도 저장 (도)
+         */
+        private double minHeadingChangeDegrees = 30.0;
+
+        /**
+         * 정지 구간을 DWELL 기록으로 남길 최소 시간 (초)
+         */
+        private long minDwellSeconds = 60;
+    }
+}
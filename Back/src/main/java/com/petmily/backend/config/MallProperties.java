@@ -0,0 +1,82 @@
+package com.petmily.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "petmily.mall")
+public class MallProperties {
+
+    private Catalog catalog = new Catalog();
+    private Counters counters = new Counters();
+    private ViewHistory viewHistory = new ViewHistory();
+
+    @Getter
+    @Setter
+    public static class Catalog {
+
+        /**
+         * 상품 목록을 메모리 카탈로그에서 읽을지 여부 (끄거나 적재 전에는 DB 정렬 조회)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 카탈로그 적재 시 한 번에 읽는 상품 수
+         */
+        private int loadPageSize = 500;
+
+        /**
+         * 증분 반영에서 빠진 변경(다른 서버에서의 수정 등)을 바로잡는 전체 재적재 주기 (밀리초)
+         */
+        private long refreshIntervalMillis = 600000;
+    }
+
+    @Getter
+    @Setter
+    public static class Counters {
+
+        /**
+         * 메모리에 모아 둔 조회수/좋아요 증감을 DB에 반영하는 주기 (밀리초)
+         */
+        private long flushIntervalMillis = 2000;
+
+        /**
+         * 한 번의 JDBC 배치로 갱신하는 상품 수
+         */
+        private int batchSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class ViewHistory {
+
+        /**
+         * 사용자별로 보관하는 최근 본 상품 수 (같은 상품은 한 번만, 오래된 것부터 밀려난다)
+         */
+        private int maxEntries = 100;
+
+        /**
+         * 조회 이벤트 대기열 크기 (가득 차면 이벤트를 버린다 - 상세 조회 응답은 기다리지 않는다)
+         */
+        private int queueCapacity = 10000;
+
+        /**
+         * 모아 둔 조회 이력을 DB에 반영하는 주기 (밀리초)
+         */
+        private long compactIntervalMillis = 5000;
+
+        /**
+         * 한 번의 JDBC 배치로 반영하는 조회 이력 수
+         */
+        private int batchSize = 500;
+
+        /**
+         * Redis 최근 본 상품 목록 보관 기간 (일, 마지막 조회 기준 - 만료 후에는 DB에서 다시 채운다)
+         */
+        private int ttlDays = 30;
+    }
+}
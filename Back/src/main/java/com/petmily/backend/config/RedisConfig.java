@@ -1,9 +1,14 @@
 package com.petmily.backend.config;
 
+import com.petmily.backend.api.chat.redis.RedisPublisher;
+import com.petmily.backend.api.chat.redis.RedisSubscriber;
+import com.petmily.backend.api.walk.service.validation.BookingStatusRelay;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -12,10 +17,16 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 public class RedisConfig {
 
     // redis pub/sub 메세지를 처리하는 listener 설정
+    // 채팅방마다 채널을 구독하지 않고 chat:room:* 패턴 하나로 모든 방의 메시지를 수신한다
+    // 예약 상태 전이는 서버별 인가 캐시 갱신용 채널로 수신한다
     @Bean
-    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        RedisSubscriber redisSubscriber,
+                                                                        BookingStatusRelay bookingStatusRelay) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(redisSubscriber, new PatternTopic(RedisPublisher.CHAT_ROOM_CHANNEL_PATTERN));
+        container.addMessageListener(bookingStatusRelay, new ChannelTopic(BookingStatusRelay.CHANNEL));
         return container;
     }
 
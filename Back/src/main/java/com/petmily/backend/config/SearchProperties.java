@@ -0,0 +1,131 @@
+package com.petmily.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "petmily.search")
+public class SearchProperties {
+
+    private ProductIndex productIndex = new ProductIndex();
+
+    private Autocomplete autocomplete = new Autocomplete();
+
+    private FanOut fanOut = new FanOut();
+
+    private PopularQueries popularQueries = new PopularQueries();
+
+    @Getter
+    @Setter
+    public static class ProductIndex {
+
+        /**
+         * 상품 검색에 메모리 역색인 사용 여부 (끄거나 색인이 준비되기 전에는 DB LIKE 검색)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 색인을 재구성할 때 한 번에 읽는 상품 수
+         */
+        private int rebuildPageSize = 500;
+
+        /**
+         * 다른 서버에서의 상품 변경을 맞추기 위한 전체 재구성 주기 (밀리초)
+         */
+        private long refreshIntervalMillis = 600000;
+    }
+
+    @Getter
+    @Setter
+    public static class Autocomplete {
+
+        /**
+         * 노드마다 미리 계산해 둘 상위 완성어 수 (자동완성 결과 최대 개수)
+         */
+        private int topK = 10;
+
+        /**
+         * 인기도 반영을 위한 상품 자동완성 색인 재구성 주기 (밀리초)
+         */
+        private long rebuildIntervalMillis = 300000;
+    }
+
+    @Getter
+    @Setter
+    public static class FanOut {
+
+        /**
+         * 통합 검색에서 검색 전략을 동시에 실행할 스레드 수
+         */
+        private int threads = 8;
+
+        /**
+         * 스레드가 모두 바쁠 때 대기할 수 있는 전략 실행 수 (넘치면 해당 전략은 결과에서 빠진다)
+         */
+        private int queueCapacity = 64;
+
+        /**
+         * 전략별 응답 기한 (밀리초) - 넘기면 그 전략 결과 없이 부분 결과로 응답
+         */
+        private long strategyTimeoutMillis = 300;
+    }
+
+    @Getter
+    @Setter
+    public static class PopularQueries {
+
+        /**
+         * 검색어 인기 집계 사용 여부 (끄면 고정된 인기 검색어만 제안)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 서버마다 추적할 최대 검색어 수 (메모리 상한)
+         */
+        private int capacity = 1024;
+
+        /**
+         * 카운터 잠금을 나눌 구획 수 - 같은 검색어는 항상 같은 구획에서 센다
+         */
+        private int stripes = 8;
+
+        /**
+         * 검색 횟수가 절반으로 줄어드는 시간 (분)
+         */
+        private long halfLifeMinutes = 360;
+
+        /**
+         * 스냅샷을 Redis에 올리고 서버 간 집계를 합치는 주기 (밀리초)
+         */
+        private long snapshotIntervalMillis = 60000;
+
+        /**
+         * 서버마다 Redis에 올리고 합친 결과에서 유지할 상위 검색어 수
+         */
+        private int publishSize = 200;
+
+        /**
+         * 인기 검색어로 인정할 최소 (감쇠된) 검색 횟수 - 같은 사용자의 반복 검색은 한 번으로 센다
+         */
+        private double minScore = 5.0;
+
+        /**
+         * 같은 사용자(비로그인은 접속 IP)가 같은 검색어를 다시 검색해도 세지 않는 시간 (분)
+         */
+        private long searcherDedupeMinutes = 60;
+
+        /**
+         * 서버마다 기억할 최근 (사용자, 검색어) 쌍 수 - 넘치면 오래된 것부터 잊는다
+         */
+        private int searcherDedupeCapacity = 16384;
+
+        /**
+         * 집계할 검색어 최대 길이 (넘으면 무시)
+         */
+        private int maxQueryLength = 40;
+    }
+}
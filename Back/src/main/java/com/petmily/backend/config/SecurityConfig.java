@@ -95,6 +95,12 @@ public class SecurityConfig {
 
                 .authorizeHttpRequests(request ->
                         request.requestMatchers(
+                                // 지도 API 중 사용자 위치/산책 세션은 인증 필요 (아래 /map/** 허용보다 먼저 판단)
+                                new AntPathRequestMatcher("/map/location"),
+                                new AntPathRequestMatcher("/map/sessions/**"),
+                                new AntPathRequestMatcher("/map/routes/**")
+                        ).authenticated()
+                        .requestMatchers(
                                 new AntPathRequestMatcher("/"),
                                 new AntPathRequestMatcher("/auth/**"),
                                 new AntPathRequestMatcher("/users/**"),
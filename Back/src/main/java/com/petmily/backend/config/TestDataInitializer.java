@@ -1,5 +1,6 @@
 package com.petmily.backend.config;
 
+import com.petmily.backend.api.chat.service.ChatRoomService;
 import com.petmily.backend.domain.chat.entity.ChatRoom;
 import com.petmily.backend.domain.chat.repository.ChatRoomRepository;
 import com.petmily.backend.domain.user.entity.User;
@@ -22,6 +23,7 @@ public class TestDataInitializer implements ApplicationRunner {
 
     private final UserRepository userRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomService chatRoomService;
     private final WalkerRepository walkerRepository;
 
     @Override
@@ -83,6 +85,7 @@ public class TestDataInitializer implements ApplicationRunner {
                     .isActive(true)
                     .build();
             chatRoomRepository.save(testRoom);
+            chatRoomService.registerParticipants(testRoom, user1.getId(), walker2.getUserId());
             log.info("테스트 채팅방 생성: test-room (user1 <-> walker2)");
         }
 
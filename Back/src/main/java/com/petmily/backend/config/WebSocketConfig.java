@@ -1,9 +1,12 @@
 package com.petmily.backend.config;
 
+import com.petmily.backend.api.chat.websocket.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
@@ -16,44 +19,62 @@ import java.util.Map;
 @Configuration
 @EnableWebSocketMessageBroker
 @Slf4j
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.enableSimpleBroker("/sub");
         registry.setApplicationDestinationPrefixes("/pub");
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // CONNECT 시 JWT 인증, 채팅방 SUBSCRIBE 시 접근 권한 확인
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws-stomp")
                 .setAllowedOriginPatterns("*")
-                .addInterceptors(new HandshakeInterceptor() {
-                    @Override
-                    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
-                                                   WebSocketHandler wsHandler, Map<String, Object> attributes) throws Exception {
-                        // STOMP 헤더에서 username 추출하여 세션에 저장
-                        String query = request.getURI().getQuery();
-                        if (query != null && query.contains("username=")) {
-                            String[] params = query.split("&");
-                            for (String param : params) {
-                                if (param.startsWith("username=")) {
-                                    String username = param.substring("username=".length());
-                                    attributes.put("username", username);
-                                    log.info("WebSocket 핸드셰이크 - username: {}", username);
-                                    break;
-                                }
-                            }
+                .addInterceptors(usernameHandshakeInterceptor())
+                .withSockJS();
+
+        // SockJS 없이 접속하는 네이티브 WebSocket 클라이언트용 (압축 위치 프레임을 바이너리로 수신 가능)
+        registry.addEndpoint("/ws-stomp-native")
+                .setAllowedOriginPatterns("*")
+                .addInterceptors(usernameHandshakeInterceptor());
+    }
+
+    private HandshakeInterceptor usernameHandshakeInterceptor() {
+        return new HandshakeInterceptor() {
+            @Override
+            public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                           WebSocketHandler wsHandler, Map<String, Object> attributes) throws Exception {
+                // STOMP 헤더에서 username 추출하여 세션에 저장
+                String query = request.getURI().getQuery();
+                if (query != null && query.contains("username=")) {
+                    String[] params = query.split("&");
+                    for (String param : params) {
+                        if (param.startsWith("username=")) {
+                            String username = param.substring("username=".length());
+                            attributes.put("username", username);
+                            log.info("WebSocket 핸드셰이크 - username: {}", username);
+                            break;
                         }
-                        return true;
                     }
+                }
+                return true;
+            }
 
-                    @Override
-                    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
-                                               WebSocketHandler wsHandler, Exception exception) {
-                    }
-                })
-                .withSockJS();
+            @Override
+            public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                       WebSocketHandler wsHandler, Exception exception) {
+            }
+        };
     }
 
 }
@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages",
+        indexes = @Index(name = "idx_chat_message_room_id", columnList = "chat_room_id, id"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -43,6 +44,7 @@ public class ChatMessage extends BaseTimeEntity {
     @Column(name = "booking_button_data")
     private String bookingButtonData; // JSON format for booking details button
     
+    // 읽음 여부는 참여자별 읽음 위치(ChatRoomParticipant)로 판단하며 이 값은 갱신하지 않는다
     @Builder.Default
     @Column(name = "is_read")
     private Boolean isRead = false;
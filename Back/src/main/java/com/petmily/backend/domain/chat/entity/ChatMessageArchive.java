@@ -0,0 +1,47 @@
+package com.petmily.backend.domain.chat.entity;
+
+import com.petmily.backend.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 보관 처리된 채팅 메시지 묶음 (콜드 스토리지)
+ * 오래 활동이 없는 채팅방의 메시지를 ID 순으로 잘라 gzip으로 압축한 JSON 배열 하나로 저장한다.
+ * 한 묶음에는 firstMessageId ~ lastMessageId 구간의 메시지가 들어 있고, 채팅방 안에서 구간은 겹치지 않는다.
+ */
+@Entity
+@Table(name = "chat_message_archives",
+        indexes = @Index(name = "idx_chat_archive_room_first_id", columnList = "chat_room_id, first_message_id"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class ChatMessageArchive extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    @Column(name = "first_message_id", nullable = false)
+    private Long firstMessageId;
+
+    @Column(name = "last_message_id", nullable = false)
+    private Long lastMessageId;
+
+    @Column(name = "message_count", nullable = false)
+    private Integer messageCount;
+
+    // gzip 압축된 메시지 JSON 배열
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "payload", nullable = false, length = 16 * 1024 * 1024)
+    private byte[] payload;
+}
@@ -44,6 +44,10 @@ public class ChatRoom extends BaseTimeEntity {
     @Builder.Default
     @Column(name = "is_active")
     private Boolean isActive = true;
+
+    // 이 ID까지의 메시지는 보관 테이블(chat_message_archives)로 옮겨졌다 (보관된 적 없으면 null)
+    @Column(name = "archived_through_message_id")
+    private Long archivedThroughMessageId;
     
     // Relations
     @ManyToOne(fetch = FetchType.LAZY)
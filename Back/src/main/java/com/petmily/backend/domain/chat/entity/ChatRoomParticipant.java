@@ -0,0 +1,82 @@
+package com.petmily.backend.domain.chat.entity;
+
+import com.petmily.backend.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 참여자별 요약 (마지막 메시지, 읽음 위치)
+ * 채팅방 목록을 메시지 테이블 조회 없이 한 번의 쿼리로 구성하기 위해 메시지 전송/읽음 처리 시 함께 갱신한다.
+ * 안읽은 메시지 수는 채팅방 메시지 순번(roomSeq)과 읽음 위치(lastReadSeq)의 차이로 계산한다.
+ */
+@Entity
+@Table(name = "chat_room_participants",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_participant_room_user", columnNames = {"chat_room_id", "user_id"}),
+        indexes = @Index(name = "idx_chat_participant_user_activity", columnList = "user_id, last_activity_at, id"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class ChatRoomParticipant extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    // 참여자의 users.id (워커도 walker_id가 아닌 user_id로 저장)
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_message_preview", length = 200)
+    private String lastMessagePreview;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    // 목록 정렬 기준 (메시지가 없으면 채팅방 생성 시각)
+    @Column(name = "last_activity_at", nullable = false)
+    private LocalDateTime lastActivityAt;
+
+    // 채팅방에 지금까지 올라온 메시지 수 (메시지마다 1씩 증가)
+    @Builder.Default
+    @Column(name = "room_seq", nullable = false)
+    private Long roomSeq = 0L;
+
+    // 읽음 위치 - 이 순번까지의 메시지를 읽음
+    @Builder.Default
+    @Column(name = "last_read_seq", nullable = false)
+    private Long lastReadSeq = 0L;
+
+    @Column(name = "last_read_message_id")
+    private Long lastReadMessageId;
+
+    public long getUnreadCount() {
+        return Math.max(0L, roomSeq - lastReadSeq);
+    }
+
+    // 채팅방 목록에 보여줄 마지막 메시지 미리보기 (100자 초과 시 생략)
+    public static String previewOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        return content.length() > 100 ? content.substring(0, 100) + "..." : content;
+    }
+
+    // Relations
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chat_room_id", insertable = false, updatable = false)
+    private ChatRoom chatRoom;
+}
@@ -0,0 +1,21 @@
+package com.petmily.backend.domain.chat.repository;
+
+import com.petmily.backend.domain.chat.entity.ChatMessageArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChatMessageArchiveRepository extends JpaRepository<ChatMessageArchive, Long> {
+
+    // beforeMessageId 이전 메시지가 들어 있는 보관 묶음 ID (최신 묶음부터, 압축 데이터는 읽지 않는다)
+    @Query("SELECT a.id FROM ChatMessageArchive a WHERE a.chatRoomId = :chatRoomId " +
+           "AND a.firstMessageId < :beforeMessageId ORDER BY a.firstMessageId DESC")
+    List<Long> findIdsBefore(@Param("chatRoomId") Long chatRoomId,
+                             @Param("beforeMessageId") Long beforeMessageId,
+                             Pageable pageable);
+}
@@ -1,38 +1,43 @@
 package com.petmily.backend.domain.chat.repository;
 
 import com.petmily.backend.domain.chat.entity.ChatMessage;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
     
-    // 채팅방의 메시지 목록 조회 (페이징)
-    Page<ChatMessage> findByChatRoomIdOrderByCreatedAtDesc(Long chatRoomId, Pageable pageable);
+    // 채팅방의 최신 메시지 조회 (최신순, count 쿼리 없음)
+    Slice<ChatMessage> findByChatRoomIdOrderByIdDesc(Long chatRoomId, Pageable pageable);
 
-    // 채팅방의 메시지 목록 조회 (최신 순)
-    List<ChatMessage> findByChatRoomIdOrderByCreatedAtAsc(Long chatRoomId);
+    // 채팅방의 beforeMessageId 이전 메시지 조회 (커서 기반, idx_chat_message_room_id 사용)
+    Slice<ChatMessage> findByChatRoomIdAndIdLessThanOrderByIdDesc(Long chatRoomId, Long beforeMessageId, Pageable pageable);
+
+    // 채팅방의 afterMessageId 이후 메시지 조회 (오래된 순, 보관 처리용)
+    Slice<ChatMessage> findByChatRoomIdAndIdGreaterThanOrderByIdAsc(Long chatRoomId, Long afterMessageId, Pageable pageable);
 
-    // 안읽은 메시지 개수
-    @Query("SELECT COUNT(m) FROM ChatMessage m WHERE m.chatRoomId = :chatRoomId " +
-           "AND m.senderId != :userId AND m.isRead = false")
-    Long countUnreadMessages(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+    // 보관 테이블로 옮긴 메시지 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ChatMessage m WHERE m.chatRoomId = :chatRoomId AND m.id <= :throughMessageId")
+    int deleteArchived(@Param("chatRoomId") Long chatRoomId, @Param("throughMessageId") Long throughMessageId);
 
-    // 메시지를 읽음 처리
-    @Modifying
-    @Query("UPDATE ChatMessage m SET m.isRead = true WHERE m.chatRoomId = :chatRoomId " +
-           "AND m.senderId != :userId AND m.isRead = false")
-    void markMessagesAsRead(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+    // 채팅방의 메시지 목록 조회 (최신 순)
+    List<ChatMessage> findByChatRoomIdOrderByCreatedAtAsc(Long chatRoomId);
 
     // 채팅방의 마지막 메시지 조회
     @Query("SELECT m FROM ChatMessage m WHERE m.chatRoomId = :chatRoomId " +
            "ORDER BY m.createdAt DESC LIMIT 1")
     ChatMessage findLastMessageByChatRoomId(@Param("chatRoomId") Long chatRoomId);
-}
\ No newline at end of file
+
+    // 이미 저장된 메시지 조회 (id, chatRoomId, senderId, content) - 배치 저장 재시도 시 중복 저장 방지 및 ID 충돌 확인
+    @Query("SELECT m.id, m.chatRoomId, m.senderId, m.content FROM ChatMessage m WHERE m.id IN :ids")
+    List<Object[]> findExistingMessages(@Param("ids") Collection<Long> ids);
+}
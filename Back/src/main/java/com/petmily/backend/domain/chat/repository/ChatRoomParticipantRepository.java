@@ -0,0 +1,93 @@
+package com.petmily.backend.domain.chat.repository;
+
+import com.petmily.backend.domain.chat.entity.ChatRoomParticipant;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ChatRoomParticipantRepository extends JpaRepository<ChatRoomParticipant, Long> {
+
+    boolean existsByChatRoomIdAndUserId(Long chatRoomId, Long userId);
+
+    List<ChatRoomParticipant> findByChatRoomId(Long chatRoomId);
+
+    // 채팅방 목록 첫 페이지 (최근 활동 순)
+    @Query("SELECT p FROM ChatRoomParticipant p JOIN FETCH p.chatRoom c " +
+           "LEFT JOIN FETCH c.user LEFT JOIN FETCH c.walker w LEFT JOIN FETCH w.user " +
+           "WHERE p.userId = :userId AND c.isActive = true " +
+           "ORDER BY p.lastActivityAt DESC, p.id DESC")
+    List<ChatRoomParticipant> findRoomSummaries(@Param("userId") Long userId, Pageable pageable);
+
+    // 채팅방 목록 다음 페이지 (이전 페이지 마지막 항목의 활동 시각/ID 이후)
+    @Query("SELECT p FROM ChatRoomParticipant p JOIN FETCH p.chatRoom c " +
+           "LEFT JOIN FETCH c.user LEFT JOIN FETCH c.walker w LEFT JOIN FETCH w.user " +
+           "WHERE p.userId = :userId AND c.isActive = true " +
+           "AND (p.lastActivityAt < :beforeActivityAt OR (p.lastActivityAt = :beforeActivityAt AND p.id < :beforeId)) " +
+           "ORDER BY p.lastActivityAt DESC, p.id DESC")
+    List<ChatRoomParticipant> findRoomSummariesBefore(@Param("userId") Long userId,
+                                                      @Param("beforeActivityAt") LocalDateTime beforeActivityAt,
+                                                      @Param("beforeId") Long beforeId,
+                                                      Pageable pageable);
+
+    // 새 메시지 반영 - 메시지 순번을 DB에서 원자적으로 증가시키고, 발신자의 읽음 위치는 새 메시지로 이동
+    // (읽음 위치를 순번 증가보다 먼저 대입해야 MySQL처럼 SET을 왼쪽부터 적용하는 DB에서도 같은 결과가 된다)
+    @Modifying
+    @Query("UPDATE ChatRoomParticipant p SET " +
+           "p.lastReadSeq = CASE WHEN p.userId = :senderId THEN p.roomSeq + 1 ELSE p.lastReadSeq END, " +
+           "p.lastReadMessageId = CASE WHEN p.userId = :senderId THEN :messageId ELSE p.lastReadMessageId END, " +
+           "p.roomSeq = p.roomSeq + 1, " +
+           "p.lastMessageId = :messageId, p.lastMessagePreview = :preview, " +
+           "p.lastMessageAt = :sentAt, p.lastActivityAt = :sentAt " +
+           "WHERE p.chatRoomId = :chatRoomId")
+    int applyNewMessage(@Param("chatRoomId") Long chatRoomId,
+                        @Param("senderId") Long senderId,
+                        @Param("messageId") Long messageId,
+                        @Param("preview") String preview,
+                        @Param("sentAt") LocalDateTime sentAt);
+
+    // 배치 저장된 새 메시지 반영 - 순번은 메시지 수만큼 증가, 마지막 메시지 정보는 더 최신 ID일 때만 갱신
+    // (배치가 서버마다 다른 순서로 저장되어도 요약이 되돌아가지 않도록 하며, 비교 대상인 lastMessageId는 마지막에 대입)
+    @Modifying
+    @Query("UPDATE ChatRoomParticipant p SET " +
+           "p.roomSeq = p.roomSeq + :count, " +
+           "p.lastMessagePreview = CASE WHEN p.lastMessageId IS NULL OR p.lastMessageId < :messageId " +
+           "THEN :preview ELSE p.lastMessagePreview END, " +
+           "p.lastMessageAt = CASE WHEN p.lastMessageId IS NULL OR p.lastMessageId < :messageId " +
+           "THEN :sentAt ELSE p.lastMessageAt END, " +
+           "p.lastActivityAt = CASE WHEN p.lastMessageId IS NULL OR p.lastMessageId < :messageId " +
+           "THEN :sentAt ELSE p.lastActivityAt END, " +
+           "p.lastMessageId = CASE WHEN p.lastMessageId IS NULL OR p.lastMessageId < :messageId " +
+           "THEN :messageId ELSE p.lastMessageId END " +
+           "WHERE p.chatRoomId = :chatRoomId")
+    int applyMessageBatch(@Param("chatRoomId") Long chatRoomId,
+                          @Param("count") long count,
+                          @Param("messageId") Long messageId,
+                          @Param("preview") String preview,
+                          @Param("sentAt") LocalDateTime sentAt);
+
+    // 배치 안에서 발신자가 보낸 마지막 메시지까지 발신자의 읽음 위치 이동 (behind: 그 뒤에 쌓인 메시지 수)
+    @Modifying
+    @Query("UPDATE ChatRoomParticipant p SET " +
+           "p.lastReadMessageId = CASE WHEN p.lastReadSeq < p.roomSeq - :behind " +
+           "THEN :messageId ELSE p.lastReadMessageId END, " +
+           "p.lastReadSeq = CASE WHEN p.lastReadSeq < p.roomSeq - :behind " +
+           "THEN p.roomSeq - :behind ELSE p.lastReadSeq END " +
+           "WHERE p.chatRoomId = :chatRoomId AND p.userId = :userId")
+    int advanceSenderRead(@Param("chatRoomId") Long chatRoomId,
+                          @Param("userId") Long userId,
+                          @Param("behind") long behind,
+                          @Param("messageId") Long messageId);
+
+    // 읽음 처리 - 읽음 위치를 최신 순번으로 옮기는 한 행 갱신
+    @Modifying
+    @Query("UPDATE ChatRoomParticipant p SET p.lastReadSeq = p.roomSeq, p.lastReadMessageId = p.lastMessageId " +
+           "WHERE p.chatRoomId = :chatRoomId AND p.userId = :userId")
+    int markRead(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+}
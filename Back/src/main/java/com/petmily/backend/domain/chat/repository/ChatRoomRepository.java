@@ -1,11 +1,15 @@
 package com.petmily.backend.domain.chat.repository;
 
 import com.petmily.backend.domain.chat.entity.ChatRoom;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +17,11 @@ import java.util.Optional;
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     
     Optional<ChatRoom> findByRoomId(String roomId);
+
+    // 메시지 보관용 - 여러 서버의 보관 작업이 같은 채팅방을 동시에 처리하지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ChatRoom c WHERE c.id = :id")
+    Optional<ChatRoom> findByIdForUpdate(@Param("id") Long id);
     
     // 특정 유저의 채팅방 목록 조회 (유저 또는 워커로서 참여한 방)
     @Query("SELECT c FROM ChatRoom c WHERE (c.userId = :userId OR " +
@@ -32,4 +41,12 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     @Query("SELECT c FROM ChatRoom c WHERE c.userId = :userId AND c.walkerId = :walkerId " +
            "AND c.isActive = true ORDER BY c.updatedAt DESC")
     List<ChatRoom> findByUserIdAndWalkerId(@Param("userId") Long userId, @Param("walkerId") Long walkerId);
-}
\ No newline at end of file
+
+    // 보관 대상 채팅방 - cutoff 이후 활동한 참여자가 없고 메시지 테이블에 메시지가 남아 있는 방
+    @Query("SELECT c.id FROM ChatRoom c WHERE c.chatType = :chatType AND c.updatedAt < :cutoff " +
+           "AND NOT EXISTS (SELECT p.id FROM ChatRoomParticipant p WHERE p.chatRoomId = c.id AND p.lastActivityAt >= :cutoff) " +
+           "AND EXISTS (SELECT m.id FROM ChatMessage m WHERE m.chatRoomId = c.id) ORDER BY c.id")
+    List<Long> findArchiveCandidateIds(@Param("chatType") ChatRoom.ChatType chatType,
+                                       @Param("cutoff") LocalDateTime cutoff,
+                                       Pageable pageable);
+}
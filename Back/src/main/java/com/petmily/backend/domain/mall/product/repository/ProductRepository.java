@@ -7,9 +7,17 @@ import com.petmily.backend.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
     // 판매자별 상품 조회
@@ -18,7 +26,7 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     // 카테고리별 활성 상품 조회
     Page<Product> findByCategoryAndStatus(ProductCategory category, ProductStatus status, Pageable pageable);
 
-    // 상품명 검색
+    // 상품명 검색 (검색 색인을 쓸 수 없을 때의 대체 경로)
     @Query("SELECT p FROM Product p WHERE (p.name LIKE %:keyword% OR p.description LIKE %:keyword%) AND p.status = :status")
     Page<Product> searchByKeyword(@Param("keyword") String keyword,
                                   @Param("status") ProductStatus status,
@@ -35,4 +43,59 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     // 판매량 높은 순
     Page<Product> findByStatusOrderBySalesCountDesc(ProductStatus status, Pageable pageable);
+
+    // 자동완성 색인용 상품명과 인기도 지표 (name, salesCount, likeCount, viewCount)
+    @Query("SELECT p.name, p.salesCount, p.likeCount, p.viewCount FROM Product p WHERE p.status = :status")
+    List<Object[]> findSuggestionStatsByStatus(@Param("status") ProductStatus status);
+
+    // 카탈로그 적재용 판매자 포함 일괄 조회 (ID 순, afterId 이후)
+    @Query("SELECT p FROM Product p JOIN FETCH p.seller WHERE p.status = :status AND p.id > :afterId ORDER BY p.id")
+    List<Product> findCatalogBatch(@Param("status") ProductStatus status,
+                                   @Param("afterId") Long afterId,
+                                   Pageable pageable);
+
+    // 상품별 이미지 URL (productId, imageUrl)
+    @Query("SELECT p.id, i FROM Product p JOIN p.imageUrls i WHERE p.id IN :ids")
+    List<Object[]> findImageUrlsByIds(@Param("ids") Collection<Long> ids);
+
+    // 상품별 성분 (productId, ingredient)
+    @Query("SELECT p.id, i FROM Product p JOIN p.ingredients i WHERE p.id IN :ids")
+    List<Object[]> findIngredientsByIds(@Param("ids") Collection<Long> ids);
+
+    // 상품별 카테고리 (productId, category)
+    @Query("SELECT p.id, p.category FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findCategoriesByIds(@Param("ids") Collection<Long> ids);
+
+    // 재고 예약 - 재고가 충분할 때만 차감하고 남은 재고가 0이면 품절 처리 (갱신된 행 수 1: 성공, 0: 재고 부족 또는 상품 없음)
+    // (상태를 재고보다 먼저 대입해야 MySQL처럼 SET을 왼쪽부터 적용하는 DB에서도 차감 전 재고로 판단한다)
+    @Modifying
+    @Query("UPDATE Product p SET " +
+           "p.status = CASE WHEN p.stockQuantity = :quantity " +
+           "THEN com.petmily.backend.domain.mall.product.entity.ProductStatus.OUT_OF_STOCK ELSE p.status END, " +
+           "p.stockQuantity = p.stockQuantity - :quantity " +
+           "WHERE p.id = :productId AND p.stockQuantity >= :quantity")
+    int reserveStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    // 재고 복구 - 품절 상품은 재고가 생기면 다시 판매 중으로
+    @Modifying
+    @Query("UPDATE Product p SET " +
+           "p.status = CASE WHEN p.status = com.petmily.backend.domain.mall.product.entity.ProductStatus.OUT_OF_STOCK " +
+           "AND p.stockQuantity + :quantity > 0 " +
+           "THEN com.petmily.backend.domain.mall.product.entity.ProductStatus.ACTIVE ELSE p.status END, " +
+           "p.stockQuantity = p.stockQuantity + :quantity " +
+           "WHERE p.id = :productId")
+    int releaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    // 판매 상태로 상품 조회
+    List<Product> findByIdInAndStatus(Collection<Long> ids, ProductStatus status);
+
+    // 검색 색인이 돌려준 순서대로 판매 중인 상품 조회 (그 사이 삭제/판매 중지된 상품은 제외)
+    default List<Product> findActiveByIdsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> byId = findByIdInAndStatus(ids, ProductStatus.ACTIVE).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
 }
@@ -0,0 +1,63 @@
+package com.petmily.backend.domain.mall.review.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상품별 리뷰 통계 (평점별 개수, 평점 합, 리뷰 수, 포토 리뷰 수)
+ * 리뷰 작성/수정/삭제 시 증감 UPDATE로만 갱신하므로, 리뷰 요약은 이 행 하나만 읽는다.
+ */
+@Entity
+@Table(name = "product_review_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ProductReviewStats {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "rating_1_count", nullable = false)
+    private long rating1Count;
+
+    @Column(name = "rating_2_count", nullable = false)
+    private long rating2Count;
+
+    @Column(name = "rating_3_count", nullable = false)
+    private long rating3Count;
+
+    @Column(name = "rating_4_count", nullable = false)
+    private long rating4Count;
+
+    @Column(name = "rating_5_count", nullable = false)
+    private long rating5Count;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "photo_review_count", nullable = false)
+    private long photoReviewCount;
+
+    public double getAverageRating() {
+        return reviewCount > 0 ? (double) ratingSum / reviewCount : 0.0;
+    }
+
+    // 평점(1~5) -> 리뷰 수
+    public Map<Integer, Long> getRatingDistribution() {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        distribution.put(1, rating1Count);
+        distribution.put(2, rating2Count);
+        distribution.put(3, rating3Count);
+        distribution.put(4, rating4Count);
+        distribution.put(5, rating5Count);
+        return distribution;
+    }
+}
@@ -0,0 +1,51 @@
+package com.petmily.backend.domain.mall.review.repository;
+
+import com.petmily.backend.domain.mall.review.entity.ProductReviewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProductReviewStatsRepository extends JpaRepository<ProductReviewStats, Long> {
+
+    // 통계 행 생성 - 이미 있거나 상품이 없으면 그대로 둔다 (MySQL/H2/PostgreSQL 공통 문법)
+    @Modifying
+    @Query(value = "INSERT INTO product_review_stats (product_id, rating_1_count, rating_2_count, rating_3_count, " +
+                   "rating_4_count, rating_5_count, rating_sum, review_count, photo_review_count) " +
+                   "SELECT p.id, :rating1, :rating2, :rating3, :rating4, :rating5, :ratingSum, :reviewCount, " +
+                   ":photoReviewCount FROM products p " +
+                   "WHERE p.id = :productId " +
+                   "AND NOT EXISTS (SELECT 1 FROM product_review_stats s WHERE s.product_id = :productId)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("productId") Long productId,
+                       @Param("rating1") long rating1,
+                       @Param("rating2") long rating2,
+                       @Param("rating3") long rating3,
+                       @Param("rating4") long rating4,
+                       @Param("rating5") long rating5,
+                       @Param("ratingSum") long ratingSum,
+                       @Param("reviewCount") long reviewCount,
+                       @Param("photoReviewCount") long photoReviewCount);
+
+    // 리뷰 하나의 증감 반영 - removedRating/addedRating은 빠지는/더해지는 평점 (없으면 0)
+    @Modifying
+    @Query("UPDATE ProductReviewStats s SET " +
+           "s.rating1Count = s.rating1Count + CASE WHEN :addedRating = 1 THEN 1 ELSE 0 END - CASE WHEN :removedRating = 1 THEN 1 ELSE 0 END, " +
+           "s.rating2Count = s.rating2Count + CASE WHEN :addedRating = 2 THEN 1 ELSE 0 END - CASE WHEN :removedRating = 2 THEN 1 ELSE 0 END, " +
+           "s.rating3Count = s.rating3Count + CASE WHEN :addedRating = 3 THEN 1 ELSE 0 END - CASE WHEN :removedRating = 3 THEN 1 ELSE 0 END, " +
+           "s.rating4Count = s.rating4Count + CASE WHEN :addedRating = 4 THEN 1 ELSE 0 END - CASE WHEN :removedRating = 4 THEN 1 ELSE 0 END, " +
+           "s.rating5Count = s.rating5Count + CASE WHEN :addedRating = 5 THEN 1 ELSE 0 END - CASE WHEN :removedRating = 5 THEN 1 ELSE 0 END, " +
+           "s.ratingSum = s.ratingSum + :addedRating - :removedRating, " +
+           "s.reviewCount = s.reviewCount + :reviewCountDelta, " +
+           "s.photoReviewCount = s.photoReviewCount + :photoReviewCountDelta " +
+           "WHERE s.productId = :productId")
+    int applyChange(@Param("productId") Long productId,
+                    @Param("removedRating") int removedRating,
+                    @Param("addedRating") int addedRating,
+                    @Param("reviewCountDelta") int reviewCountDelta,
+                    @Param("photoReviewCountDelta") int photoReviewCountDelta);
+
+    @Modifying
+    @Query("DELETE FROM ProductReviewStats s WHERE s.productId = :productId")
+    int deleteByProductId(@Param("productId") Long productId);
+}
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
@@ -41,4 +42,11 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r FROM Review r WHERE r.product = :product AND SIZE(r.imageUrls) > 0 ORDER BY r.createdAt DESC")
     Page<Review> findPhotoReviewsByProduct(@Param("product") Product product, Pageable pageable);
 
+    // 평점별 리뷰 수 (rating, count) - 리뷰 통계 행을 처음 만들 때만 사용
+    @Query("SELECT r.rating, COUNT(r) FROM Review r WHERE r.product.id = :productId GROUP BY r.rating")
+    List<Object[]> countByRatingForProduct(@Param("productId") Long productId);
+
+    @Query("SELECT COUNT(r) FROM Review r WHERE r.product.id = :productId AND SIZE(r.imageUrls) > 0")
+    long countPhotoReviewsByProductId(@Param("productId") Long productId);
+
 }
@@ -2,7 +2,11 @@ package com.petmily.backend.domain.user.repository;
 
 import com.petmily.backend.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -11,5 +15,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
     Optional<User> findByPhone(String phone);
+
+    // FCM이 만료/해지로 거부한 토큰 정리 - 그 사이 새 토큰이 등록되었으면 그대로 둔다
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.fcmToken = NULL WHERE u.id = :userId AND u.fcmToken = :token")
+    int clearFcmToken(@Param("userId") Long userId, @Param("token") String token);
 }
 
@@ -66,6 +66,7 @@ public class WalkingTrack extends BaseTimeEntity {
         WALKING,  // 산책 중
         PAUSE,    // 일시 정지
         RESUME,   // 재개
-        END       // 산책 종료점
+        END,      // 산책 종료점
+        DWELL     // 정지 구간 종료 (정지 중 수신된 위치들을 하나로 압축한 기록)
     }
 }
\ No newline at end of file
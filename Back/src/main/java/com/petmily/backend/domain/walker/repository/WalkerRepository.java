@@ -27,5 +27,9 @@ public interface WalkerRepository extends JpaRepository<Walker, Long> {
     // WalkerSearchService용 메소드
     List<Walker> findByStatus(WalkerStatus status);
 
+    // 워커 이름 검색 색인용 (walkerId, 사용자 이름)
+    @Query("SELECT w.id, u.name FROM Walker w JOIN w.user u WHERE w.status = :status")
+    List<Object[]> findNamesByStatus(@Param("status") WalkerStatus status);
+
 }
 
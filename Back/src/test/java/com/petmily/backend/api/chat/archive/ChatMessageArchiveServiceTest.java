@@ -0,0 +1,173 @@
+package com.petmily.backend.api.chat.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.petmily.backend.api.chat.dto.ChatMessageResponse;
+import com.petmily.backend.api.chat.persistence.PendingChatMessage;
+import com.petmily.backend.api.chat.service.RecentChatMessageCache;
+import com.petmily.backend.config.ChatProperties;
+import com.petmily.backend.domain.chat.entity.ChatMessage;
+import com.petmily.backend.domain.chat.entity.ChatMessageArchive;
+import com.petmily.backend.domain.chat.entity.ChatRoom;
+import com.petmily.backend.domain.chat.repository.ChatMessageArchiveRepository;
+import com.petmily.backend.domain.chat.repository.ChatMessageRepository;
+import com.petmily.backend.domain.chat.repository.ChatRoomRepository;
+import com.petmily.backend.domain.user.entity.User;
+import com.petmily.backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageArchiveServiceTest {
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatMessageArchiveRepository chatMessageArchiveRepository;
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RecentChatMessageCache recentChatMessageCache;
+
+    private ChatArchiveCodec codec;
+    private ChatMessageArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        ChatProperties properties = new ChatProperties();
+        properties.getArchive().setSegmentSize(2);
+        codec = new ChatArchiveCodec(new ObjectMapper().registerModule(new JavaTimeModule()));
+        archiveService = new ChatMessageArchiveService(chatMessageRepository, chatMessageArchiveRepository,
+                chatRoomRepository, userRepository, recentChatMessageCache, codec, properties);
+    }
+
+    @Test
+    @DisplayName("압축한 메시지 묶음은 그대로 복원된다")
+    void codec_RoundTrip() {
+        PendingChatMessage message = new PendingChatMessage(1L, 10L, 3L, ChatMessage.MessageType.TEXT,
+                "안녕하세요", false, null, LocalDateTime.of(2024, 5, 1, 12, 0));
+
+        List<PendingChatMessage> decoded = codec.decode(codec.encode(List.of(message)));
+
+        assertThat(decoded).containsExactly(message);
+    }
+
+    @Test
+    @DisplayName("잠근 채팅방의 보관 구간 다음 메시지를 묶음 하나만큼 보관하고 메시지 테이블에서 삭제한다")
+    void archiveNextSegment_MovesOneSegment() {
+        ChatRoom chatRoom = ChatRoom.builder().id(10L).roomId("room").userId(1L).build();
+        when(chatRoomRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(chatRoom));
+        when(chatMessageRepository.findByChatRoomIdAndIdGreaterThanOrderByIdAsc(eq(10L), eq(0L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(message(1L), message(2L)), PageRequest.of(0, 2), true));
+
+        int archived = archiveService.archiveNextSegment(10L);
+
+        assertThat(archived).isEqualTo(2);
+        ArgumentCaptor<ChatMessageArchive> segment = ArgumentCaptor.forClass(ChatMessageArchive.class);
+        verify(chatMessageArchiveRepository).save(segment.capture());
+        assertThat(segment.getValue().getFirstMessageId()).isEqualTo(1L);
+        assertThat(segment.getValue().getLastMessageId()).isEqualTo(2L);
+        assertThat(codec.decode(segment.getValue().getPayload()))
+                .extracting(PendingChatMessage::id).containsExactly(1L, 2L);
+        verify(chatMessageRepository).deleteArchived(10L, 2L);
+        verify(recentChatMessageCache).evict(10L);
+        verify(chatRoomRepository, never()).findById(anyLong());
+        assertThat(chatRoom.getArchivedThroughMessageId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 먼저 보관했으면 잠근 뒤의 보관 구간부터 읽어 같은 메시지를 다시 보관하지 않는다")
+    void archiveNextSegment_ContinuesFromLockedWatermark() {
+        ChatRoom chatRoom = ChatRoom.builder().id(10L).roomId("room").userId(1L).archivedThroughMessageId(2L).build();
+        when(chatRoomRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(chatRoom));
+        when(chatMessageRepository.findByChatRoomIdAndIdGreaterThanOrderByIdAsc(eq(10L), eq(2L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(message(3L)), PageRequest.of(0, 2), false));
+
+        assertThat(archiveService.archiveNextSegment(10L)).isEqualTo(1);
+        verify(chatMessageRepository).deleteArchived(10L, 3L);
+        assertThat(chatRoom.getArchivedThroughMessageId()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("메시지 테이블에 남은 메시지가 없으면 아무것도 하지 않는다")
+    void archiveNextSegment_NothingToArchive() {
+        ChatRoom chatRoom = ChatRoom.builder().id(10L).roomId("room").userId(1L).archivedThroughMessageId(5L).build();
+        when(chatRoomRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(chatRoom));
+        when(chatMessageRepository.findByChatRoomIdAndIdGreaterThanOrderByIdAsc(eq(10L), eq(5L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 2), false));
+
+        assertThat(archiveService.archiveNextSegment(10L)).isZero();
+        verify(chatMessageRepository, never()).deleteArchived(anyLong(), anyLong());
+        verifyNoInteractions(chatMessageArchiveRepository);
+    }
+
+    @Test
+    @DisplayName("보관된 메시지를 커서 이전부터 최신순으로 읽고, 같은 묶음은 한 번만 압축을 푼다")
+    void findMessages_ReadsSegmentsLazily() {
+        ChatMessageArchive newer = segment(2L, 4L, 6L);
+        ChatMessageArchive older = segment(1L, 1L, 3L);
+        when(chatMessageArchiveRepository.findIdsBefore(eq(10L), eq(6L), any(Pageable.class))).thenReturn(List.of(2L, 1L));
+        when(chatMessageArchiveRepository.findById(2L)).thenReturn(Optional.of(newer));
+        when(chatMessageArchiveRepository.findById(1L)).thenReturn(Optional.of(older));
+        when(userRepository.findAllById(anySet())).thenReturn(List.of(User.builder().id(1L).name("보호자").username("owner").build()));
+
+        Slice<ChatMessageResponse> first = archiveService.findMessages(10L, 6L, 3);
+        Slice<ChatMessageResponse> again = archiveService.findMessages(10L, 6L, 3);
+
+        assertThat(first.getContent()).extracting(ChatMessageResponse::getId).containsExactly(5L, 4L, 3L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.getContent()).allMatch(message -> "보호자".equals(message.getSenderName()));
+        assertThat(again.getContent()).extracting(ChatMessageResponse::getId).containsExactly(5L, 4L, 3L);
+        verify(chatMessageArchiveRepository, times(1)).findById(2L);
+        verify(chatMessageArchiveRepository, times(1)).findById(1L);
+    }
+
+    private ChatMessageArchive segment(Long id, long firstMessageId, long lastMessageId) {
+        List<PendingChatMessage> messages = LongStream.rangeClosed(firstMessageId, lastMessageId)
+                .mapToObj(messageId -> PendingChatMessage.of(messageId, message(messageId), LocalDateTime.now()))
+                .toList();
+        return ChatMessageArchive.builder()
+                .id(id)
+                .chatRoomId(10L)
+                .firstMessageId(firstMessageId)
+                .lastMessageId(lastMessageId)
+                .messageCount(messages.size())
+                .payload(codec.encode(messages))
+                .build();
+    }
+
+    private static ChatMessage message(Long id) {
+        return ChatMessage.builder()
+                .id(id)
+                .chatRoomId(10L)
+                .senderId(1L)
+                .messageType(ChatMessage.MessageType.TEXT)
+                .content("메시지 " + id)
+                .isSystemMessage(false)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.petmily.backend.api.chat.persistence;
+
+import com.petmily.backend.domain.chat.entity.ChatMessage;
+import com.petmily.backend.domain.chat.repository.ChatMessageRepository;
+import com.petmily.backend.domain.chat.repository.ChatRoomParticipantRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageBatchWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatRoomParticipantRepository chatRoomParticipantRepository;
+
+    @InjectMocks
+    private ChatMessageBatchWriter writer;
+
+    @Test
+    @DisplayName("이미 저장된 메시지는 건너뛰고 채팅방 요약에는 새 메시지만 반영한다")
+    @SuppressWarnings("unchecked")
+    void write_SkipsAlreadyPersistedMessages() {
+        LocalDateTime now = LocalDateTime.now();
+        PendingChatMessage first = message(101L, 1L, 1L, "첫 번째", now);
+        PendingChatMessage second = message(102L, 1L, 2L, "두 번째", now);
+        PendingChatMessage third = message(103L, 1L, 1L, "세 번째", now);
+        when(chatMessageRepository.findExistingMessages(anyCollection())).thenReturn(List.<Object[]>of(row(first)));
+
+        int written = writer.write(List.of(third, first, second));
+
+        assertThat(written).isEqualTo(2);
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<PendingChatMessage> rows) ->
+                rows.stream().map(PendingChatMessage::id).toList().equals(List.of(102L, 103L))),
+                eq(2), any(ParameterizedPreparedStatementSetter.class));
+        verify(chatRoomParticipantRepository).applyMessageBatch(1L, 2L, 103L, "세 번째", now);
+        // 발신자 2의 메시지(102) 뒤에 한 건, 발신자 1의 메시지(103)는 마지막
+        verify(chatRoomParticipantRepository).advanceSenderRead(1L, 2L, 1L, 102L);
+        verify(chatRoomParticipantRepository).advanceSenderRead(1L, 1L, 0L, 103L);
+    }
+
+    @Test
+    @DisplayName("모두 저장된 메시지면 아무것도 갱신하지 않는다")
+    void write_AllDuplicates() {
+        PendingChatMessage message = message(101L, 1L, 1L, "안녕하세요", LocalDateTime.now());
+        when(chatMessageRepository.findExistingMessages(anyCollection())).thenReturn(List.<Object[]>of(row(message)));
+
+        assertThat(writer.write(List.of(message))).isZero();
+        verifyNoInteractions(jdbcTemplate, chatRoomParticipantRepository);
+    }
+
+    @Test
+    @DisplayName("같은 ID로 다른 메시지가 저장되어 있으면(ID 충돌) 덮어쓰지 않고 건너뛴다")
+    void write_IdCollisionIsNotOverwritten() {
+        PendingChatMessage stored = message(101L, 9L, 5L, "다른 방 메시지", LocalDateTime.now());
+        PendingChatMessage message = message(101L, 1L, 1L, "안녕하세요", LocalDateTime.now());
+        when(chatMessageRepository.findExistingMessages(anyCollection())).thenReturn(List.<Object[]>of(row(stored)));
+
+        assertThat(writer.write(List.of(message))).isZero();
+        verifyNoInteractions(jdbcTemplate, chatRoomParticipantRepository);
+    }
+
+    private Object[] row(PendingChatMessage message) {
+        return new Object[]{message.id(), message.chatRoomId(), message.senderId(), message.content()};
+    }
+
+    private PendingChatMessage message(Long id, Long chatRoomId, Long senderId, String content, LocalDateTime createdAt) {
+        return new PendingChatMessage(id, chatRoomId, senderId, ChatMessage.MessageType.TEXT, content, false, null, createdAt);
+    }
+}
@@ -0,0 +1,76 @@
+package com.petmily.backend.api.chat.persistence;
+
+import com.petmily.backend.config.ChatProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ChatMessageIdGeneratorTest {
+
+    @Test
+    @DisplayName("같은 밀리초 안에서도 순번으로 증가하는 서로 다른 ID를 발급한다")
+    void nextId_IncreasesWithinSameMillisecond() {
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(7, () -> 1_800_000_000_000L);
+
+        Set<Long> ids = new HashSet<>();
+        long previous = 0L;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            ids.add(id);
+            previous = id;
+        }
+        assertThat(ids).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID는 줄어들지 않는다")
+    void nextId_MonotonicWhenClockMovesBackwards() {
+        AtomicLong clock = new AtomicLong(1_800_000_000_000L);
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(1, clock::get);
+
+        long first = generator.nextId();
+        clock.addAndGet(-5_000);
+        long second = generator.nextId();
+
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("서버 번호가 다르면 같은 시각에도 ID가 겹치지 않는다")
+    void nextId_DistinctAcrossWorkers() {
+        ChatMessageIdGenerator first = new ChatMessageIdGenerator(1, () -> 1_800_000_000_000L);
+        ChatMessageIdGenerator second = new ChatMessageIdGenerator(2, () -> 1_800_000_000_000L);
+
+        assertThat(first.nextId()).isNotEqualTo(second.nextId());
+    }
+
+    @Test
+    @DisplayName("서버 번호는 0~1023 범위여야 한다")
+    void constructor_RejectsInvalidWorkerId() {
+        assertThatThrownBy(() -> new ChatMessageIdGenerator(1024, System::currentTimeMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("write-behind 저장을 켜고 서버 번호를 정하지 않으면 기동하지 않는다")
+    void resolveWorkerId_RequiredWithWriteBehind() {
+        ChatProperties.WriteBehind writeBehind = new ChatProperties.WriteBehind();
+        writeBehind.setEnabled(true);
+
+        assertThatThrownBy(() -> ChatMessageIdGenerator.resolveWorkerId(writeBehind))
+                .isInstanceOf(IllegalStateException.class);
+
+        writeBehind.setWorkerId(3);
+        assertThat(ChatMessageIdGenerator.resolveWorkerId(writeBehind)).isEqualTo(3);
+
+        writeBehind.setEnabled(false);
+        writeBehind.setWorkerId(-1);
+        assertThat(ChatMessageIdGenerator.resolveWorkerId(writeBehind)).isBetween(0L, 1023L);
+    }
+}
@@ -0,0 +1,134 @@
+package com.petmily.backend.api.chat.push;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.petmily.backend.api.fcm.dto.FcmResponseDto;
+import com.petmily.backend.api.fcm.dto.FcmSendDto;
+import com.petmily.backend.api.fcm.service.FcmService;
+import com.petmily.backend.config.ChatProperties;
+import com.petmily.backend.domain.user.entity.User;
+import com.petmily.backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChatPushOutboxTest {
+
+    private FcmService fcmService;
+    private UserRepository userRepository;
+    private ChatPushOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        fcmService = mock(FcmService.class);
+        userRepository = mock(UserRepository.class);
+        ChatProperties properties = new ChatProperties();
+        properties.getPush().setCoalesceWindowMillis(100);
+        properties.getPush().setRetryBackoffMillis(10);
+        outbox = new ChatPushOutbox(fcmService, userRepository, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outbox.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 수신자/채팅방의 연속 메시지는 개수를 포함한 푸시 한 건으로 묶인다")
+    void enqueue_CoalescesRapidMessages() {
+        when(fcmService.sendMessageTo(any())).thenReturn(FcmResponseDto.success("id", "title", "body"));
+
+        outbox.enqueue(push(2L, "room-1", "첫 번째"));
+        outbox.enqueue(push(2L, "room-1", "두 번째"));
+        outbox.enqueue(push(2L, "room-1", "세 번째"));
+
+        ArgumentCaptor<FcmSendDto> captor = ArgumentCaptor.forClass(FcmSendDto.class);
+        verify(fcmService, timeout(2000).times(1)).sendMessageTo(captor.capture());
+        assertThat(captor.getValue().getBody()).isEqualTo("새 메시지 3개 · 세 번째");
+        assertThat(captor.getValue().getToken()).isEqualTo("token-2");
+    }
+
+    @Test
+    @DisplayName("다른 채팅방의 메시지는 따로 발송된다")
+    void enqueue_SeparatesRooms() {
+        when(fcmService.sendMessageTo(any())).thenReturn(FcmResponseDto.success("id", "title", "body"));
+
+        outbox.enqueue(push(2L, "room-1", "안녕하세요"));
+        outbox.enqueue(push(2L, "room-2", "안녕하세요"));
+
+        verify(fcmService, timeout(2000).times(2)).sendMessageTo(any());
+    }
+
+    @Test
+    @DisplayName("일시적인 오류로 발송에 실패하면 최대 시도 횟수까지 재시도한다")
+    void send_RetriesOnFailure() {
+        when(fcmService.sendMessageTo(any()))
+                .thenReturn(FcmResponseDto.failure("title", "body", "HTTP 503", MessagingErrorCode.UNAVAILABLE))
+                .thenReturn(FcmResponseDto.success("id", "title", "body"));
+
+        outbox.enqueue(push(2L, "room-1", "안녕하세요"));
+
+        verify(fcmService, timeout(2000).times(2)).sendMessageTo(any());
+    }
+
+    @Test
+    @DisplayName("해지된 토큰은 재시도하지 않고 사용자에게서 지운다")
+    void send_ClearsUnregisteredToken() {
+        when(fcmService.sendMessageTo(any()))
+                .thenReturn(FcmResponseDto.failure("title", "body", "HTTP 404", MessagingErrorCode.UNREGISTERED));
+
+        outbox.enqueue(push(2L, "room-1", "안녕하세요"));
+
+        verify(userRepository, timeout(2000)).clearFcmToken(2L, "token-2");
+        verify(fcmService, after(200).times(1)).sendMessageTo(any());
+    }
+
+    @Test
+    @DisplayName("잘못된 요청 오류는 재시도하지 않는다")
+    void send_DoesNotRetryPermanentFailure() {
+        when(fcmService.sendMessageTo(any()))
+                .thenReturn(FcmResponseDto.failure("title", "body", "HTTP 400", MessagingErrorCode.INVALID_ARGUMENT));
+
+        outbox.enqueue(push(2L, "room-1", "안녕하세요"));
+
+        verify(fcmService, timeout(2000).times(1)).sendMessageTo(any());
+        verify(fcmService, after(200).times(1)).sendMessageTo(any());
+        verify(userRepository, never()).clearFcmToken(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 없이 등록된 푸시는 발송 워커에서 수신자 토큰을 조회한다")
+    void enqueue_ResolvesMissingToken() {
+        User recipient = User.builder().id(2L).username("walker").fcmToken("walker-token").build();
+        when(userRepository.findById(2L)).thenReturn(Optional.of(recipient));
+        when(fcmService.sendMessageTo(any())).thenReturn(FcmResponseDto.success("id", "title", "body"));
+
+        outbox.enqueue(ChatPush.builder()
+                .recipientUserId(2L)
+                .roomId("room-1")
+                .senderName("Test User")
+                .body("안녕하세요")
+                .build());
+
+        ArgumentCaptor<FcmSendDto> captor = ArgumentCaptor.forClass(FcmSendDto.class);
+        verify(fcmService, timeout(2000).times(1)).sendMessageTo(captor.capture());
+        assertThat(captor.getValue().getToken()).isEqualTo("walker-token");
+    }
+
+    private ChatPush push(Long recipientUserId, String roomId, String body) {
+        return ChatPush.builder()
+                .recipientUserId(recipientUserId)
+                .recipientToken("token-" + recipientUserId)
+                .roomId(roomId)
+                .senderName("Test User")
+                .body(body)
+                .build();
+    }
+}
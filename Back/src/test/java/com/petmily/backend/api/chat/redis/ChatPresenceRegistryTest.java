@@ -0,0 +1,52 @@
+package com.petmily.backend.api.chat.redis;
+
+import com.petmily.backend.config.ChatProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChatPresenceRegistryTest {
+
+    private ZSetOperations<String, Object> zSetOperations;
+    private ChatPresenceRegistry presenceRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        presenceRegistry = new ChatPresenceRegistry(redisTemplate, new ChatProperties());
+    }
+
+    @Test
+    @DisplayName("이 서버의 구독이 남아 있으면 Redis 조회 없이 접속 중으로 판단한다")
+    void isPresent_LocalSubscription() {
+        presenceRegistry.enter("room-1", 1L);
+        presenceRegistry.enter("room-1", 1L);
+        presenceRegistry.leave("room-1", 1L);
+
+        assertThat(presenceRegistry.isPresent("room-1", 1L)).isTrue();
+        verify(zSetOperations, never()).count(anyString(), anyDouble(), anyDouble());
+        verify(zSetOperations, never()).remove(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("마지막 구독이 해제되면 Redis의 접속 정보를 지우고 다른 서버 기록을 확인한다")
+    void isPresent_FallsBackToRedis() {
+        when(zSetOperations.count(eq("chat:presence:room-1:1"), anyDouble(), anyDouble())).thenReturn(1L);
+
+        presenceRegistry.enter("room-1", 1L);
+        presenceRegistry.leave("room-1", 1L);
+
+        verify(zSetOperations).remove(eq("chat:presence:room-1:1"), any());
+        assertThat(presenceRegistry.isPresent("room-1", 1L)).isTrue();
+        assertThat(presenceRegistry.isPresent("room-1", 2L)).isFalse();
+    }
+}
@@ -0,0 +1,59 @@
+package com.petmily.backend.api.chat.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ChatRoomSubscriptionRegistryTest {
+
+    private ChatPresenceRegistry presenceRegistry;
+    private ChatRoomSubscriptionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        presenceRegistry = mock(ChatPresenceRegistry.class);
+        registry = new ChatRoomSubscriptionRegistry(presenceRegistry);
+    }
+
+    @Test
+    @DisplayName("마지막 구독자가 해제되면 방 상태가 제거된다")
+    void unsubscribe_LastSubscriberEvictsRoom() {
+        registry.subscribe("session-1", "sub-0", "room-1", 1L);
+        registry.subscribe("session-2", "sub-0", "room-1", 2L);
+
+        registry.unsubscribe("session-1", "sub-0");
+        assertThat(registry.hasLocalSubscribers("room-1")).isTrue();
+
+        registry.unsubscribe("session-2", "sub-0");
+        assertThat(registry.hasLocalSubscribers("room-1")).isFalse();
+        assertThat(registry.getActiveRoomCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("연결 종료 시 세션의 모든 구독이 해제된다")
+    void disconnect_ReleasesAllSubscriptionsOfSession() {
+        registry.subscribe("session-1", "sub-0", "room-1", 1L);
+        registry.subscribe("session-1", "sub-1", "room-2", 1L);
+        registry.subscribe("session-2", "sub-0", "room-2", 2L);
+
+        registry.disconnect("session-1");
+
+        assertThat(registry.hasLocalSubscribers("room-1")).isFalse();
+        assertThat(registry.hasLocalSubscribers("room-2")).isTrue();
+        verify(presenceRegistry).leave("room-1", 1L);
+        verify(presenceRegistry).leave("room-2", 1L);
+        verify(presenceRegistry, never()).leave("room-2", 2L);
+    }
+
+    @Test
+    @DisplayName("채팅방 구독 경로에서만 roomId를 추출한다")
+    void extractRoomId() {
+        assertThat(ChatRoomSubscriptionRegistry.extractRoomId("/sub/chat/room/abc-123")).isEqualTo("abc-123");
+        assertThat(ChatRoomSubscriptionRegistry.extractRoomId("/sub/walk/1/location")).isNull();
+        assertThat(ChatRoomSubscriptionRegistry.extractRoomId("/sub/chat/room/")).isNull();
+        assertThat(ChatRoomSubscriptionRegistry.extractRoomId(null)).isNull();
+    }
+}
@@ -0,0 +1,61 @@
+package com.petmily.backend.api.chat.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RedisSubscriberTest {
+
+    private SimpMessageSendingOperations messageTemplate;
+    private ChatRoomSubscriptionRegistry subscriptionRegistry;
+    private RedisSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        messageTemplate = mock(SimpMessageSendingOperations.class);
+        subscriptionRegistry = mock(ChatRoomSubscriptionRegistry.class);
+        subscriber = new RedisSubscriber(messageTemplate, subscriptionRegistry);
+    }
+
+    @Test
+    @DisplayName("발행된 JSON 바이트를 파싱하지 않고 그대로 채팅방 구독자에게 전달한다")
+    @SuppressWarnings("unchecked")
+    void onMessage_ForwardsPayloadBytes() {
+        byte[] payload = "{\"id\":1,\"content\":\"안녕하세요\"}".getBytes(StandardCharsets.UTF_8);
+        when(subscriptionRegistry.hasLocalSubscribers("room-1")).thenReturn(true);
+
+        subscriber.onMessage(new DefaultMessage(channel("room-1"), payload), null);
+
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messageTemplate).send(eq("/sub/chat/room/room-1"), captor.capture());
+        assertThat(captor.getValue().getPayload()).isSameAs(payload);
+        assertThat(SimpMessageHeaderAccessor.getContentType(captor.getValue().getHeaders()))
+                .isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    @Test
+    @DisplayName("이 서버에 구독자가 없는 채팅방의 메시지는 전달하지 않는다")
+    void onMessage_SkipsRoomsWithoutLocalSubscribers() {
+        when(subscriptionRegistry.hasLocalSubscribers("room-1")).thenReturn(false);
+
+        subscriber.onMessage(new DefaultMessage(channel("room-1"), new byte[]{'{', '}'}), null);
+
+        verifyNoInteractions(messageTemplate);
+    }
+
+    private byte[] channel(String roomId) {
+        return RedisPublisher.channelOf(roomId).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,13 +1,21 @@
 package com.petmily.backend.api.chat.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petmily.backend.api.chat.archive.ChatMessageArchiveService;
 import com.petmily.backend.api.chat.dto.ChatMessageRequest;
 import com.petmily.backend.api.chat.dto.ChatMessageResponse;
+import com.petmily.backend.api.chat.persistence.ChatMessageWriteBehindQueue;
+import com.petmily.backend.api.chat.persistence.PendingChatMessage;
+import com.petmily.backend.api.chat.push.ChatPushOutbox;
+import com.petmily.backend.api.chat.redis.ChatPresenceRegistry;
+import com.petmily.backend.api.chat.websocket.ChatSessionPrincipal;
 import com.petmily.backend.api.exception.CustomException;
 import com.petmily.backend.api.exception.ErrorCode;
 import com.petmily.backend.domain.chat.entity.ChatMessage;
 import com.petmily.backend.domain.chat.entity.ChatRoom;
+import com.petmily.backend.domain.chat.entity.ChatRoomParticipant;
 import com.petmily.backend.domain.chat.repository.ChatMessageRepository;
+import com.petmily.backend.domain.chat.repository.ChatRoomParticipantRepository;
 import com.petmily.backend.domain.chat.repository.ChatRoomRepository;
 import com.petmily.backend.domain.user.entity.User;
 import com.petmily.backend.domain.user.repository.UserRepository;
@@ -20,10 +28,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -44,12 +52,30 @@ class ChatMessageServiceTest {
     @Mock
     private ChatRoomRepository chatRoomRepository;
 
+    @Mock
+    private ChatRoomParticipantRepository chatRoomParticipantRepository;
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private RecentChatMessageCache recentChatMessageCache;
+
+    @Mock
+    private ChatPushOutbox chatPushOutbox;
+
+    @Mock
+    private ChatPresenceRegistry chatPresenceRegistry;
+
+    @Mock
+    private ChatMessageWriteBehindQueue chatMessageWriteBehindQueue;
+
+    @Mock
+    private ChatMessageArchiveService chatMessageArchiveService;
+
     @InjectMocks
     private ChatMessageService chatMessageService;
 
@@ -129,15 +155,15 @@ class ChatMessageServiceTest {
         String roomId = "test-room-id";
         String username = "testuser";
         List<ChatMessage> messages = Arrays.asList(chatMessage);
-        Page<ChatMessage> messagePage = new PageImpl<>(messages, pageable, 1);
+        Slice<ChatMessage> messagePage = new SliceImpl<>(messages, pageable, false);
 
         when(chatRoomRepository.findByRoomId(roomId)).thenReturn(Optional.of(chatRoom));
         when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
-        when(chatMessageRepository.findByChatRoomIdOrderByCreatedAtDesc(1L, pageable))
+        when(chatMessageRepository.findByChatRoomIdOrderByIdDesc(eq(1L), any(Pageable.class)))
                 .thenReturn(messagePage);
 
         // When
-        Page<ChatMessageResponse> result = chatMessageService.getChatMessages(roomId, user.getId(), pageable);
+        Slice<ChatMessageResponse> result = chatMessageService.getChatMessages(roomId, user.getId(), null, 10);
 
         // Then
         assertThat(result).isNotNull();
@@ -146,7 +172,124 @@ class ChatMessageServiceTest {
 
         verify(chatRoomRepository).findByRoomId(roomId);
         verify(userRepository).findByUsername(username);
-        verify(chatMessageRepository).findByChatRoomIdOrderByCreatedAtDesc(1L, pageable);
+        verify(chatMessageRepository).findByChatRoomIdOrderByIdDesc(eq(1L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 목록 조회 - 상대방 읽음 위치로 읽음 여부 표시")
+    void getChatMessages_ReadStateFromWatermark() {
+        // Given
+        String roomId = "test-room-id";
+        ChatMessage unreadMessage = ChatMessage.builder()
+                .id(2L)
+                .chatRoomId(1L)
+                .senderId(1L)
+                .content("Not read yet")
+                .build();
+        Slice<ChatMessage> messagePage = new SliceImpl<>(Arrays.asList(unreadMessage, chatMessage), pageable, false);
+        ChatRoomParticipant walkerParticipant = ChatRoomParticipant.builder()
+                .chatRoomId(1L)
+                .userId(2L)
+                .lastReadMessageId(1L)
+                .build();
+
+        when(chatRoomRepository.findByRoomId(roomId)).thenReturn(Optional.of(chatRoom));
+        when(chatMessageRepository.findByChatRoomIdOrderByIdDesc(eq(1L), any(Pageable.class))).thenReturn(messagePage);
+        when(chatRoomParticipantRepository.findByChatRoomId(1L)).thenReturn(List.of(walkerParticipant));
+
+        // When
+        Slice<ChatMessageResponse> result = chatMessageService.getChatMessages(roomId, user.getId(), null, 10);
+
+        // Then
+        assertThat(result.getContent().get(0).getIsRead()).isFalse();
+        assertThat(result.getContent().get(1).getIsRead()).isTrue();
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 목록 조회 - 최근 메시지 캐시 적중 시 메시지 테이블 미조회")
+    void getChatMessages_RecentCacheHit() {
+        // Given
+        String roomId = "test-room-id";
+        ChatRoomParticipant participant = ChatRoomParticipant.builder()
+                .chatRoomId(1L)
+                .userId(1L)
+                .lastMessageId(1L)
+                .roomSeq(1L)
+                .build();
+        Slice<ChatMessageResponse> cached = new SliceImpl<>(
+                List.of(ChatMessageResponse.from(chatMessage)), PageRequest.of(0, 10), false);
+
+        when(chatRoomRepository.findByRoomId(roomId)).thenReturn(Optional.of(chatRoom));
+        when(chatRoomParticipantRepository.findByChatRoomId(1L)).thenReturn(List.of(participant));
+        when(recentChatMessageCache.find(1L, 1L, null, 10)).thenReturn(cached);
+
+        // When
+        Slice<ChatMessageResponse> result = chatMessageService.getChatMessages(roomId, user.getId(), null, 10);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).getRoomId()).isEqualTo(roomId);
+        verifyNoInteractions(chatMessageRepository, userRepository);
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 목록 조회 - 메시지 테이블에서 모자란 만큼 보관된 메시지로 이어서 채운다")
+    void getChatMessages_FillsFromArchive() {
+        // Given
+        String roomId = "test-room-id";
+        chatRoom.setArchivedThroughMessageId(100L);
+        ChatMessage hotMessage = ChatMessage.builder()
+                .id(101L)
+                .chatRoomId(1L)
+                .senderId(1L)
+                .content("보관 이후 메시지")
+                .build();
+        ChatMessageResponse archivedMessage = ChatMessageResponse.builder()
+                .id(100L)
+                .chatRoomId(1L)
+                .senderId(2L)
+                .content("보관된 메시지")
+                .build();
+
+        when(chatRoomRepository.findByRoomId(roomId)).thenReturn(Optional.of(chatRoom));
+        when(chatMessageRepository.findByChatRoomIdOrderByIdDesc(eq(1L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(hotMessage), pageable, false));
+        when(chatMessageArchiveService.findMessages(1L, 101L, 1))
+                .thenReturn(new SliceImpl<>(List.of(archivedMessage), PageRequest.of(0, 1), true));
+
+        // When
+        Slice<ChatMessageResponse> result = chatMessageService.getChatMessages(roomId, user.getId(), null, 2);
+
+        // Then
+        assertThat(result.getContent()).extracting(ChatMessageResponse::getId).containsExactly(101L, 100L);
+        assertThat(result.getContent()).allMatch(message -> roomId.equals(message.getRoomId()));
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 목록 조회 - 보관된 구간의 커서면 메시지 테이블을 조회하지 않는다")
+    void getChatMessages_ArchivedRangeSkipsHotTable() {
+        // Given
+        String roomId = "test-room-id";
+        chatRoom.setArchivedThroughMessageId(100L);
+        ChatMessageResponse archivedMessage = ChatMessageResponse.builder()
+                .id(49L)
+                .chatRoomId(1L)
+                .senderId(1L)
+                .content("보관된 메시지")
+                .build();
+
+        when(chatRoomRepository.findByRoomId(roomId)).thenReturn(Optional.of(chatRoom));
+        when(chatMessageArchiveService.findMessages(1L, 50L, 10))
+                .thenReturn(new SliceImpl<>(List.of(archivedMessage), PageRequest.of(0, 10), false));
+
+        // When
+        Slice<ChatMessageResponse> result = chatMessageService.getChatMessages(roomId, user.getId(), 50L, 10);
+
+        // Then
+        assertThat(result.getContent()).extracting(ChatMessageResponse::getId).containsExactly(49L);
+        assertThat(result.hasNext()).isFalse();
+        verifyNoInteractions(chatMessageRepository, recentChatMessageCache);
     }
 
     @Test
@@ -159,7 +302,7 @@ class ChatMessageServiceTest {
         when(chatRoomRepository.findByRoomId(roomId)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> chatMessageService.getChatMessages(roomId, user.getId(), pageable))
+        assertThatThrownBy(() -> chatMessageService.getChatMessages(roomId, user.getId(), null, 10))
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.RESOURCE_NOT_FOUND)
                 .hasMessageContaining("채팅방을 찾을 수 없습니다");
@@ -179,7 +322,7 @@ class ChatMessageServiceTest {
         when(userRepository.findByUsername(username)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> chatMessageService.getChatMessages(roomId, user.getId(), pageable))
+        assertThatThrownBy(() -> chatMessageService.getChatMessages(roomId, user.getId(), null, 10))
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
 
@@ -202,7 +345,7 @@ class ChatMessageServiceTest {
         when(userRepository.findByUsername(username)).thenReturn(Optional.of(unauthorizedUser));
 
         // When & Then
-        assertThatThrownBy(() -> chatMessageService.getChatMessages(roomId, user.getId(), pageable))
+        assertThatThrownBy(() -> chatMessageService.getChatMessages(roomId, user.getId(), null, 10))
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NO_ACCESS)
                 .hasMessageContaining("채팅방에 접근할 권한이 없습니다");
@@ -238,6 +381,88 @@ class ChatMessageServiceTest {
                 !message.getIsSystemMessage() &&
                 !message.getIsRead()
         ));
+        verify(chatRoomParticipantRepository).applyNewMessage(eq(1L), eq(chatMessage.getSenderId()),
+                eq(chatMessage.getId()), any(), any());
+    }
+
+    @Test
+    @DisplayName("메시지 전송 - 수신자가 채팅방을 보고 있으면 푸시 생략")
+    void sendMessage_SkipsPushWhenRecipientPresent() {
+        // Given
+        String roomId = "test-room-id";
+        when(chatRoomRepository.findByRoomId(roomId)).thenReturn(Optional.of(chatRoom));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(chatMessage);
+        when(chatPresenceRegistry.isPresent(roomId, 2L)).thenReturn(true);
+
+        // When
+        chatMessageService.sendMessage(roomId, user.getId(), messageRequest);
+
+        // Then
+        verify(chatPushOutbox, never()).enqueueAfterCommit(any());
+    }
+
+    @Test
+    @DisplayName("메시지 전송 - 수신자가 접속 중이 아니면 푸시 등록")
+    void sendMessage_EnqueuesPushWhenRecipientAway() {
+        // Given
+        String roomId = "test-room-id";
+        when(chatRoomRepository.findByRoomId(roomId)).thenReturn(Optional.of(chatRoom));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(chatMessage);
+        when(chatPresenceRegistry.isPresent(roomId, 2L)).thenReturn(false);
+
+        // When
+        chatMessageService.sendMessage(roomId, user.getId(), messageRequest);
+
+        // Then
+        verify(chatPushOutbox).enqueueAfterCommit(argThat(push ->
+                push.getRecipientUserId().equals(2L) && push.getRecipientToken() == null));
+    }
+
+    @Test
+    @DisplayName("WebSocket 메시지 전송 - 세션에 인가된 채팅방이면 사용자/채팅방 조회 없이 저장")
+    void sendMessage_AuthorizedRoomSkipsLookups() {
+        // Given
+        AuthorizedChatRoom room = new AuthorizedChatRoom("test-room-id", 1L, 1L, 2L);
+        ChatSessionPrincipal sender = new ChatSessionPrincipal(1L, "testuser", "Test User");
+
+        when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(chatMessage);
+        when(chatPresenceRegistry.isPresent("test-room-id", 2L)).thenReturn(false);
+
+        // When
+        ChatMessageResponse result = chatMessageService.sendMessage(room, sender, messageRequest);
+
+        // Then
+        assertThat(result.getSenderName()).isEqualTo("Test User");
+        assertThat(result.getSenderUsername()).isEqualTo("testuser");
+        verify(chatRoomRepository, never()).findByRoomId(any());
+        verify(userRepository, never()).findById(any());
+        verify(chatPushOutbox).enqueueAfterCommit(argThat(push -> push.getRecipientUserId().equals(2L)));
+    }
+
+    @Test
+    @DisplayName("WebSocket 메시지 전송 - write-behind 모드면 앱에서 발급한 ID로 응답하고 저장은 대기열에 맡긴다")
+    void sendMessage_WriteBehindSkipsInsert() {
+        // Given
+        AuthorizedChatRoom room = new AuthorizedChatRoom("test-room-id", 1L, 1L, 2L);
+        ChatSessionPrincipal sender = new ChatSessionPrincipal(1L, "testuser", "Test User");
+        PendingChatMessage pending = new PendingChatMessage(900L, 1L, 1L, ChatMessage.MessageType.TEXT,
+                "Hello", false, null, LocalDateTime.now());
+
+        when(chatMessageWriteBehindQueue.isEnabled()).thenReturn(true);
+        when(chatMessageWriteBehindQueue.prepare(any(ChatMessage.class))).thenReturn(pending);
+
+        // When
+        ChatMessageResponse result = chatMessageService.sendMessage(room, sender, messageRequest);
+
+        // Then
+        assertThat(result.getId()).isEqualTo(900L);
+        assertThat(result.getSenderName()).isEqualTo("Test User");
+        verify(chatMessageWriteBehindQueue).submitAfterCommit(pending);
+        verify(chatMessageRepository, never()).save(any());
+        verify(chatRoomParticipantRepository, never()).applyNewMessage(any(), any(), any(), any(), any());
+        verify(recentChatMessageCache, never()).appendAfterCommit(any());
     }
 
     @Test
@@ -347,7 +572,7 @@ class ChatMessageServiceTest {
         // Then
         verify(chatRoomRepository).findByRoomId(roomId);
         verify(userRepository).findByUsername(username);
-        verify(chatMessageRepository).markMessagesAsRead(1L, 1L);
+        verify(chatRoomParticipantRepository).markRead(1L, 1L);
     }
 
     @Test
@@ -365,7 +590,7 @@ class ChatMessageServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.RESOURCE_NOT_FOUND);
 
         verify(chatRoomRepository).findByRoomId(roomId);
-        verify(chatMessageRepository, never()).markMessagesAsRead(any(), any());
+        verify(chatRoomParticipantRepository, never()).markRead(any(), any());
     }
 
     @Test
@@ -376,15 +601,15 @@ class ChatMessageServiceTest {
         String username = "walker";
 
         List<ChatMessage> messages = Arrays.asList(chatMessage);
-        Page<ChatMessage> messagePage = new PageImpl<>(messages, pageable, 1);
+        Slice<ChatMessage> messagePage = new SliceImpl<>(messages, pageable, false);
 
         when(chatRoomRepository.findByRoomId(roomId)).thenReturn(Optional.of(chatRoom));
         when(userRepository.findByUsername(username)).thenReturn(Optional.of(walkerUser));
-        when(chatMessageRepository.findByChatRoomIdOrderByCreatedAtDesc(1L, pageable))
+        when(chatMessageRepository.findByChatRoomIdOrderByIdDesc(eq(1L), any(Pageable.class)))
                 .thenReturn(messagePage);
 
         // When
-        Page<ChatMessageResponse> result = chatMessageService.getChatMessages(roomId, user.getId(), pageable);
+        Slice<ChatMessageResponse> result = chatMessageService.getChatMessages(roomId, user.getId(), null, 10);
 
         // Then
         assertThat(result).isNotNull();
@@ -392,7 +617,7 @@ class ChatMessageServiceTest {
 
         verify(chatRoomRepository).findByRoomId(roomId);
         verify(userRepository).findByUsername(username);
-        verify(chatMessageRepository).findByChatRoomIdOrderByCreatedAtDesc(1L, pageable);
+        verify(chatMessageRepository).findByChatRoomIdOrderByIdDesc(eq(1L), any(Pageable.class));
     }
 
     @Test
@@ -2,12 +2,12 @@ package com.petmily.backend.api.chat.service;
 
 import com.petmily.backend.api.chat.dto.ChatRoomResponse;
 import com.petmily.backend.api.chat.dto.CreateChatRoomRequest;
-import com.petmily.backend.api.chat.redis.RedisSubscriber;
 import com.petmily.backend.api.exception.CustomException;
 import com.petmily.backend.api.exception.ErrorCode;
 import com.petmily.backend.domain.chat.entity.ChatMessage;
 import com.petmily.backend.domain.chat.entity.ChatRoom;
-import com.petmily.backend.domain.chat.repository.ChatMessageRepository;
+import com.petmily.backend.domain.chat.entity.ChatRoomParticipant;
+import com.petmily.backend.domain.chat.repository.ChatRoomParticipantRepository;
 import com.petmily.backend.domain.chat.repository.ChatRoomRepository;
 import com.petmily.backend.domain.user.entity.User;
 import com.petmily.backend.domain.user.repository.UserRepository;
@@ -20,15 +20,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -42,7 +37,7 @@ class ChatRoomServiceTest {
     private ChatRoomRepository chatRoomRepository;
 
     @Mock
-    private ChatMessageRepository chatMessageRepository;
+    private ChatRoomParticipantRepository chatRoomParticipantRepository;
 
     @Mock
     private UserRepository userRepository;
@@ -50,12 +45,6 @@ class ChatRoomServiceTest {
     @Mock
     private WalkerRepository walkerRepository;
 
-    @Mock
-    private RedisSubscriber redisSubscriber;
-
-    @Mock
-    private RedisMessageListenerContainer redisMessageListenerContainer;
-
     @InjectMocks
     private ChatRoomService chatRoomService;
 
@@ -66,7 +55,6 @@ class ChatRoomServiceTest {
     private ChatRoom postBookingChatRoom;
     private CreateChatRoomRequest createChatRoomRequest;
     private ChatMessage lastMessage;
-    private Map<String, ChannelTopic> topics;
 
     @BeforeEach
     void setUp() {
@@ -121,65 +109,86 @@ class ChatRoomServiceTest {
                 .senderId(1L)
                 .content("Last message content")
                 .build();
-
-        // Initialize topics field using reflection
-        topics = new HashMap<>();
-        ReflectionTestUtils.setField(chatRoomService, "topics", topics);
     }
 
     @Test
-    @DisplayName("사용자의 모든 채팅방 조회 성공")
+    @DisplayName("사용자의 채팅방 목록 조회 성공 - 참여자 요약 기반")
     void getUserChatRooms_Success() {
         // Given
-        String username = "testuser";
-        List<ChatRoom> chatRooms = Arrays.asList(preBookingChatRoom, postBookingChatRoom);
+        LocalDateTime now = LocalDateTime.now();
+        ChatRoomParticipant preBookingSummary = ChatRoomParticipant.builder()
+                .id(10L)
+                .chatRoomId(1L)
+                .userId(1L)
+                .chatRoom(preBookingChatRoom)
+                .lastMessageId(lastMessage.getId())
+                .lastMessagePreview(lastMessage.getContent())
+                .lastMessageAt(now)
+                .lastActivityAt(now)
+                .unreadCount(3L)
+                .build();
+        ChatRoomParticipant postBookingSummary = ChatRoomParticipant.builder()
+                .id(11L)
+                .chatRoomId(2L)
+                .userId(1L)
+                .chatRoom(postBookingChatRoom)
+                .lastActivityAt(now.minusHours(1))
+                .unreadCount(0L)
+                .build();
 
-        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
-        when(chatRoomRepository.findByUserIdOrWalkerUserId(1L)).thenReturn(chatRooms);
-        when(chatMessageRepository.findLastMessageByChatRoomId(1L)).thenReturn(lastMessage);
-        when(chatMessageRepository.findLastMessageByChatRoomId(2L)).thenReturn(null);
-        when(chatMessageRepository.countUnreadMessages(1L, 1L)).thenReturn(3L);
-        when(chatMessageRepository.countUnreadMessages(2L, 1L)).thenReturn(0L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(chatRoomParticipantRepository.findRoomSummaries(eq(1L), any()))
+                .thenReturn(Arrays.asList(preBookingSummary, postBookingSummary));
 
         // When
-        List<ChatRoomResponse> result = chatRoomService.getUserChatRooms(user.getId());
+        List<ChatRoomResponse> result = chatRoomService.getUserChatRooms(user.getId(), null, null, 30);
 
         // Then
-        assertThat(result).isNotNull();
         assertThat(result).hasSize(2);
 
         ChatRoomResponse firstRoom = result.get(0);
         assertThat(firstRoom.getRoomId()).isEqualTo("pre-booking-room-id");
-        assertThat(firstRoom.getChatType()).isEqualTo(ChatRoom.ChatType.PRE_BOOKING);
         assertThat(firstRoom.getLastMessage()).isEqualTo("Last message content");
         assertThat(firstRoom.getUnreadCount()).isEqualTo(3L);
+        assertThat(firstRoom.getCursorId()).isEqualTo(10L);
 
         ChatRoomResponse secondRoom = result.get(1);
         assertThat(secondRoom.getRoomId()).isEqualTo("post-booking-room-id");
-        assertThat(secondRoom.getChatType()).isEqualTo(ChatRoom.ChatType.POST_BOOKING);
         assertThat(secondRoom.getLastMessage()).isNull();
         assertThat(secondRoom.getUnreadCount()).isEqualTo(0L);
 
-        verify(userRepository).findByUsername(username);
-        verify(chatRoomRepository).findByUserIdOrWalkerUserId(1L);
-        verify(chatMessageRepository, times(2)).findLastMessageByChatRoomId(any());
-        verify(chatMessageRepository, times(2)).countUnreadMessages(any(), eq(1L));
+        verify(chatRoomParticipantRepository, never()).findRoomSummariesBefore(any(), any(), any(), any());
     }
 
     @Test
-    @DisplayName("사용자의 모든 채팅방 조회 실패 - 사용자 없음")
+    @DisplayName("사용자의 채팅방 목록 조회 - 커서 이후 페이지")
+    void getUserChatRooms_WithCursor() {
+        // Given
+        LocalDateTime cursor = LocalDateTime.now().minusDays(1);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(chatRoomParticipantRepository.findRoomSummariesBefore(eq(1L), eq(cursor), eq(10L), any()))
+                .thenReturn(List.of());
+
+        // When
+        List<ChatRoomResponse> result = chatRoomService.getUserChatRooms(user.getId(), cursor, 10L, 30);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(chatRoomParticipantRepository, never()).findRoomSummaries(any(), any());
+    }
+
+    @Test
+    @DisplayName("사용자의 채팅방 목록 조회 실패 - 사용자 없음")
     void getUserChatRooms_UserNotFound() {
         // Given
-        String username = "nonexistentuser";
-        when(userRepository.findByUsername(username)).thenReturn(Optional.empty());
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> chatRoomService.getUserChatRooms(user.getId()))
+        assertThatThrownBy(() -> chatRoomService.getUserChatRooms(user.getId(), null, null, 30))
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
 
-        verify(userRepository).findByUsername(username);
-        verify(chatRoomRepository, never()).findByUserIdOrWalkerUserId(any());
+        verify(chatRoomParticipantRepository, never()).findRoomSummaries(any(), any());
     }
 
     @Test
@@ -453,50 +462,35 @@ class ChatRoomServiceTest {
     }
 
     @Test
-    @DisplayName("Redis 채널 입장 - 새 채널")
-    void enterChatRoom_NewChannel() {
+    @DisplayName("채팅방 참여자 인가 성공 - 워커 사용자")
+    void authorizeParticipant_Walker() {
         // Given
-        String roomId = "new-room-id";
-
-        // When
-        chatRoomService.enterChatRoom(roomId);
-
-        // Then
-        ChannelTopic topic = chatRoomService.getTopic(roomId);
-        assertThat(topic).isNotNull();
-        assertThat(topic.getTopic()).isEqualTo(roomId);
-
-        verify(redisMessageListenerContainer).addMessageListener(redisSubscriber, topic);
-    }
+        String roomId = "pre-booking-room-id";
 
-    @Test
-    @DisplayName("Redis 채널 입장 - 기존 채널")
-    void enterChatRoom_ExistingChannel() {
-        // Given
-        String roomId = "existing-room-id";
-        ChannelTopic existingTopic = new ChannelTopic(roomId);
-        topics.put(roomId, existingTopic);
+        when(chatRoomRepository.findByRoomId(roomId)).thenReturn(Optional.of(preBookingChatRoom));
+        when(walkerRepository.findById(1L)).thenReturn(Optional.of(walker));
 
         // When
-        chatRoomService.enterChatRoom(roomId);
+        AuthorizedChatRoom room = chatRoomService.authorizeParticipant(roomId, 2L);
 
         // Then
-        ChannelTopic topic = chatRoomService.getTopic(roomId);
-        assertThat(topic).isSameAs(existingTopic);
-
-        // Redis listener verification skipped due to method ambiguity
+        assertThat(room.chatRoomId()).isEqualTo(preBookingChatRoom.getId());
+        assertThat(room.recipientOf(2L)).isEqualTo(preBookingChatRoom.getUserId());
+        assertThat(room.recipientOf(preBookingChatRoom.getUserId())).isEqualTo(2L);
     }
 
     @Test
-    @DisplayName("Redis 채널 조회 - 존재하지 않는 채널")
-    void getTopic_NonExistentChannel() {
+    @DisplayName("채팅방 참여자 인가 실패 - 권한 없음")
+    void authorizeParticipant_NoAccess() {
         // Given
-        String roomId = "nonexistent-room-id";
+        String roomId = "pre-booking-room-id";
 
-        // When
-        ChannelTopic topic = chatRoomService.getTopic(roomId);
+        when(chatRoomRepository.findByRoomId(roomId)).thenReturn(Optional.of(preBookingChatRoom));
+        when(walkerRepository.findById(1L)).thenReturn(Optional.of(walker));
 
-        // Then
-        assertThat(topic).isNull();
+        // When & Then
+        assertThatThrownBy(() -> chatRoomService.authorizeParticipant(roomId, 99L))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NO_ACCESS);
     }
-}
\ No newline at end of file
+}
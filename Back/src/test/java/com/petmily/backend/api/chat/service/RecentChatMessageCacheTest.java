@@ -0,0 +1,94 @@
+package com.petmily.backend.api.chat.service;
+
+import com.petmily.backend.api.chat.dto.ChatMessageResponse;
+import com.petmily.backend.config.ChatProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RecentChatMessageCacheTest {
+
+    private RecentChatMessageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ChatProperties properties = new ChatProperties();
+        properties.getRecentCache().setCapacity(5);
+        cache = new RecentChatMessageCache(properties);
+    }
+
+    @Test
+    @DisplayName("캐시를 채우지 않은 채팅방은 조회하지 않는다")
+    void find_NotSeeded() {
+        cache.appendAfterCommit(message(1L));
+
+        assertThat(cache.find(1L, 1L, null, 10)).isNull();
+    }
+
+    @Test
+    @DisplayName("전체 메시지가 캐시에 있으면 최신순으로 반환한다")
+    void find_CompleteRoom() {
+        cache.seed(1L, 3L, messages(1, 3), true);
+
+        Slice<ChatMessageResponse> result = cache.find(1L, 3L, null, 10);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getContent()).extracting(ChatMessageResponse::getId).containsExactly(3L, 2L, 1L);
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("전송된 메시지는 덧붙고 용량을 넘으면 오래된 메시지부터 버린다")
+    void append_TrimsOldest() {
+        cache.seed(1L, 3L, messages(1, 3), true);
+
+        LongStream.rangeClosed(4, 7).forEach(id -> cache.appendAfterCommit(message(id)));
+
+        Slice<ChatMessageResponse> latest = cache.find(1L, 7L, null, 3);
+        assertThat(latest.getContent()).extracting(ChatMessageResponse::getId).containsExactly(7L, 6L, 5L);
+        assertThat(latest.hasNext()).isTrue();
+
+        // 버려진 구간(1, 2)까지 필요한 조회는 DB로 넘긴다
+        assertThat(cache.find(1L, 7L, 5L, 3)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 저장된 메시지로 채팅방 순번이 앞서 있으면 이후 메시지가 덧붙어도 조회하지 않는다")
+    void find_GapFromOtherServer() {
+        cache.seed(1L, 3L, messages(1, 3), true);
+
+        // 4번은 다른 서버에서 저장되어 이 서버 캐시에 없고, 5번만 덧붙음 (채팅방 순번은 5)
+        cache.appendAfterCommit(message(5L));
+
+        assertThat(cache.find(1L, 5L, null, 10)).isNull();
+    }
+
+    @Test
+    @DisplayName("채울 때 이미 조회된 메시지가 다시 덧붙어도 순번을 두 번 세지 않는다")
+    void append_AlreadySeededNotCounted() {
+        // 채팅방 순번을 읽은 뒤 메시지 조회 전에 4번이 저장됨
+        cache.seed(1L, 3L, messages(1, 4), true);
+        cache.appendAfterCommit(message(4L));
+
+        assertThat(cache.find(1L, 4L, null, 10)).isNull();
+    }
+
+    private List<ChatMessageResponse> messages(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId).mapToObj(this::message).toList();
+    }
+
+    private ChatMessageResponse message(long id) {
+        return ChatMessageResponse.builder()
+                .id(id)
+                .chatRoomId(1L)
+                .senderId(1L)
+                .content("message " + id)
+                .build();
+    }
+}
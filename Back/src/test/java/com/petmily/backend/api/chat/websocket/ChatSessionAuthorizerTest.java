@@ -0,0 +1,110 @@
+package com.petmily.backend.api.chat.websocket;
+
+import com.petmily.backend.api.auth.jwt.JwtTokenProvider;
+import com.petmily.backend.api.chat.service.AuthorizedChatRoom;
+import com.petmily.backend.api.chat.service.ChatRoomService;
+import com.petmily.backend.api.exception.CustomException;
+import com.petmily.backend.api.exception.ErrorCode;
+import com.petmily.backend.config.ChatProperties;
+import com.petmily.backend.domain.user.entity.User;
+import com.petmily.backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ChatSessionAuthorizerTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private UserRepository userRepository;
+    private ChatRoomService chatRoomService;
+    private ChatProperties chatProperties;
+    private ChatSessionAuthorizer authorizer;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = mock(JwtTokenProvider.class);
+        userRepository = mock(UserRepository.class);
+        chatRoomService = mock(ChatRoomService.class);
+        chatProperties = new ChatProperties();
+        authorizer = new ChatSessionAuthorizer(jwtTokenProvider, userRepository, chatRoomService, chatProperties);
+    }
+
+    @Test
+    @DisplayName("토큰 없는 접속은 핸드셰이크 username이 있어도 거부한다")
+    void authenticate_RejectsMissingToken() {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("username", "testuser");
+
+        assertThatThrownBy(() -> authorizer.authenticate(null, attributes))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+        assertThat(ChatSessionPrincipal.from(attributes)).isNull();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("호환 설정을 켜면 토큰이 없을 때 핸드셰이크 username으로 세션 사용자를 확정한다")
+    void authenticate_FallsBackToHandshakeUsername() {
+        chatProperties.setAllowUsernameHandshake(true);
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("username", "testuser");
+        User user = User.builder().id(1L).username("testuser").name("Test User").build();
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+
+        ChatSessionPrincipal principal = authorizer.authenticate(null, attributes);
+
+        assertThat(principal.userId()).isEqualTo(1L);
+        assertThat(ChatSessionPrincipal.from(attributes)).isEqualTo(principal);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰으로는 접속할 수 없다")
+    void authenticate_RejectsExpiredToken() {
+        when(jwtTokenProvider.validateToken("expired")).thenReturn(false);
+
+        assertThatThrownBy(() -> authorizer.authenticate("Bearer expired", new HashMap<>()))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOKEN_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 만료가 아닌 잘못된 토큰으로 거부한다")
+    void authenticate_RejectsInvalidToken() {
+        when(jwtTokenProvider.validateToken("garbage")).thenThrow(new IllegalArgumentException("bad token"));
+
+        assertThatThrownBy(() -> authorizer.authenticate("Bearer garbage", new HashMap<>()))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("채팅방 인가 결과는 세션에 보관되어 한 번만 확인한다")
+    void authorizeRoom_CachesPerSession() {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(ChatSessionPrincipal.SESSION_ATTRIBUTE, new ChatSessionPrincipal(1L, "testuser", "Test User"));
+        AuthorizedChatRoom room = new AuthorizedChatRoom("room-1", 10L, 1L, 2L);
+        when(chatRoomService.authorizeParticipant("room-1", 1L)).thenReturn(room);
+
+        AuthorizedChatRoom first = authorizer.authorizeRoom(attributes, "room-1");
+        AuthorizedChatRoom second = authorizer.authorizeRoom(attributes, "room-1");
+
+        assertThat(first).isSameAs(second);
+        verify(chatRoomService, times(1)).authorizeParticipant("room-1", 1L);
+    }
+
+    @Test
+    @DisplayName("세션 사용자가 없으면 채팅방 인가가 거부된다")
+    void authorizeRoom_RequiresPrincipal() {
+        assertThatThrownBy(() -> authorizer.authorizeRoom(new HashMap<>(), "room-1"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+        verifyNoInteractions(chatRoomService);
+    }
+}
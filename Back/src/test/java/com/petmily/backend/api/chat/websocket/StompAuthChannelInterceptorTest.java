@@ -0,0 +1,82 @@
+package com.petmily.backend.api.chat.websocket;
+
+import com.petmily.backend.api.exception.CustomException;
+import com.petmily.backend.api.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class StompAuthChannelInterceptorTest {
+
+    private ChatSessionAuthorizer chatSessionAuthorizer;
+    private StompAuthChannelInterceptor interceptor;
+    private Map<String, Object> sessionAttributes;
+
+    @BeforeEach
+    void setUp() {
+        chatSessionAuthorizer = mock(ChatSessionAuthorizer.class);
+        interceptor = new StompAuthChannelInterceptor(chatSessionAuthorizer);
+        sessionAttributes = new HashMap<>();
+    }
+
+    @Test
+    @DisplayName("정확한 채팅방 주소 구독은 채팅방 권한을 확인한다")
+    void subscribe_RoomDestinationAuthorized() {
+        Message<?> message = subscribe("/sub/chat/room/room-1");
+
+        assertThat(interceptor.preSend(message, mock(MessageChannel.class))).isSameAs(message);
+        verify(chatSessionAuthorizer).authorizeRoom(sessionAttributes, "room-1");
+    }
+
+    @Test
+    @DisplayName("와일드카드/템플릿 주소 구독은 권한 확인 없이 거부한다")
+    void subscribe_RejectsPatterns() {
+        for (String destination : List.of("/sub/chat/**", "/sub/chat/room/*", "/sub/chat/room/room-?",
+                "/sub/chat/room/{id}", "/sub/**", "/sub/walk/*/location")) {
+            assertThatThrownBy(() -> interceptor.preSend(subscribe(destination), mock(MessageChannel.class)))
+                    .as(destination)
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NO_ACCESS);
+        }
+        verify(chatSessionAuthorizer, never()).authorizeRoom(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("채팅방 주소가 아닌 채팅 주소 구독은 거부하고, 채팅 외 주소는 그대로 통과시킨다")
+    void subscribe_RejectsNonRoomChatDestinations() {
+        for (String destination : List.of("/sub/chat", "/sub/chat/", "/sub/chat/room/", "/sub/chat/room/room-1/extra",
+                "/sub/chat/rooms")) {
+            assertThatThrownBy(() -> interceptor.preSend(subscribe(destination), mock(MessageChannel.class)))
+                    .as(destination)
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NO_ACCESS);
+        }
+
+        Message<?> walk = subscribe("/sub/walk/1/location");
+        assertThat(interceptor.preSend(walk, mock(MessageChannel.class))).isSameAs(walk);
+        verify(chatSessionAuthorizer, never()).authorizeRoom(any(), anyString());
+    }
+
+    private Message<byte[]> subscribe(String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setSessionId("session-1");
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,34 @@
+package com.petmily.backend.api.fcm.service;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FcmServiceImplTest {
+
+    private final FcmServiceImpl fcmService = new FcmServiceImpl();
+
+    @Test
+    @DisplayName("FCM v1 오류 응답의 errorCode를 우선 사용한다")
+    void errorCodeOf_UsesFcmErrorDetail() {
+        String body = """
+                {"error": {"code": 404, "status": "NOT_FOUND", "details": [
+                  {"@type": "type.googleapis.com/google.firebase.fcm.v1.FcmError", "errorCode": "UNREGISTERED"}
+                ]}}
+                """;
+
+        assertThat(fcmService.errorCodeOf(404, body)).isEqualTo(MessagingErrorCode.UNREGISTERED);
+    }
+
+    @Test
+    @DisplayName("errorCode가 없으면 HTTP 상태로 분류한다")
+    void errorCodeOf_FallsBackToHttpStatus() {
+        assertThat(fcmService.errorCodeOf(400, "")).isEqualTo(MessagingErrorCode.INVALID_ARGUMENT);
+        assertThat(fcmService.errorCodeOf(429, null)).isEqualTo(MessagingErrorCode.QUOTA_EXCEEDED);
+        assertThat(fcmService.errorCodeOf(503, "{}")).isEqualTo(MessagingErrorCode.UNAVAILABLE);
+        assertThat(fcmService.errorCodeOf(502, "{}")).isEqualTo(MessagingErrorCode.INTERNAL);
+        assertThat(fcmService.errorCodeOf(409, "{}")).isNull();
+    }
+}
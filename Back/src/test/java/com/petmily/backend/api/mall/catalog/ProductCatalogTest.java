@@ -0,0 +1,172 @@
+package com.petmily.backend.api.mall.catalog;
+
+import com.petmily.backend.api.mall.dto.product.response.ProductResponse;
+import com.petmily.backend.config.MallProperties;
+import com.petmily.backend.domain.mall.product.entity.Product;
+import com.petmily.backend.domain.mall.product.entity.ProductCategory;
+import com.petmily.backend.domain.mall.product.entity.ProductStatus;
+import com.petmily.backend.domain.mall.product.repository.ProductRepository;
+import com.petmily.backend.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogTest {
+
+    private static final User SELLER = User.builder().id(100L).name("판매자").build();
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new ProductCatalog(productRepository, new MallProperties());
+    }
+
+    @Test
+    @DisplayName("정렬 기준별로 페이지를 자르고, 같은 값이면 최근 등록 상품이 먼저 온다")
+    void page_SortedViews() {
+        catalog.updateAfterCommit(product(1L, ProductCategory.FOOD, 5, 10, 4.0));
+        catalog.updateAfterCommit(product(2L, ProductCategory.TOY, 9, 3, 4.5));
+        catalog.updateAfterCommit(product(3L, ProductCategory.FOOD, 5, 7, 3.0));
+
+        assertThat(ids(catalog.page(null, "latest", PageRequest.of(0, 10)))).containsExactly(3L, 2L, 1L);
+        assertThat(ids(catalog.page(null, "popular", PageRequest.of(0, 10)))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(catalog.page(null, "sales", PageRequest.of(0, 10)))).containsExactly(1L, 3L, 2L);
+        assertThat(ids(catalog.page(null, "rating", PageRequest.of(0, 10)))).containsExactly(2L, 1L, 3L);
+
+        Page<ProductResponse> second = catalog.page(null, "popular", PageRequest.of(1, 2));
+        assertThat(second.getTotalElements()).isEqualTo(3);
+        assertThat(ids(second)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("카테고리별 목록도 정렬 기준을 따른다")
+    void page_CategoryView() {
+        catalog.updateAfterCommit(product(1L, ProductCategory.FOOD, 1, 0, 0.0));
+        catalog.updateAfterCommit(product(2L, ProductCategory.TOY, 9, 0, 0.0));
+        catalog.updateAfterCommit(product(3L, ProductCategory.FOOD, 4, 0, 0.0));
+
+        Page<ProductResponse> page = catalog.page(ProductCategory.FOOD, "popular", PageRequest.of(0, 10));
+        assertThat(ids(page)).containsExactly(3L, 1L);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(catalog.page(ProductCategory.HYGIENE, "popular", PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 바뀌면 인기순 위치만 다시 잡고, 조회수만 바뀌면 값만 갱신한다")
+    void updateCounters_Repositions() {
+        Product first = product(1L, ProductCategory.FOOD, 1, 0, 0.0);
+        catalog.updateAfterCommit(first);
+        catalog.updateAfterCommit(product(2L, ProductCategory.FOOD, 5, 0, 0.0));
+
+        first.increaseViewCount();
+        catalog.updateCountersAfterCommit(first);
+        assertThat(ids(catalog.page(null, "popular", PageRequest.of(0, 10)))).containsExactly(2L, 1L);
+        assertThat(catalog.page(null, "popular", PageRequest.of(0, 10)).getContent().get(1).getViewCount()).isEqualTo(1);
+
+        for (int i = 0; i < 5; i++) {
+            first.increaseLikeCount();
+        }
+        catalog.updateCountersAfterCommit(first);
+        assertThat(ids(catalog.page(null, "popular", PageRequest.of(0, 10)))).containsExactly(1L, 2L);
+        assertThat(ids(catalog.page(ProductCategory.FOOD, "popular", PageRequest.of(0, 10)))).containsExactly(1L, 2L);
+        assertThat(ids(catalog.page(null, "latest", PageRequest.of(0, 10)))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("판매 중이 아니게 되거나 삭제되면 모든 목록에서 빠지고, 다시 판매 중이 되면 돌아온다")
+    void update_StatusAndRemove() {
+        Product product = product(1L, ProductCategory.FOOD, 1, 0, 0.0);
+        catalog.updateAfterCommit(product);
+        catalog.updateAfterCommit(product(2L, ProductCategory.FOOD, 2, 0, 0.0));
+
+        product.decreaseStock(10);
+        catalog.updateCountersAfterCommit(product);
+        assertThat(ids(catalog.page(null, "latest", PageRequest.of(0, 10)))).containsExactly(2L);
+        assertThat(ids(catalog.page(ProductCategory.FOOD, "popular", PageRequest.of(0, 10)))).containsExactly(2L);
+
+        product.increaseStock(3);
+        catalog.updateCountersAfterCommit(product);
+        assertThat(ids(catalog.page(null, "latest", PageRequest.of(0, 10)))).containsExactly(2L, 1L);
+
+        catalog.removeAfterCommit(2L);
+        assertThat(ids(catalog.page(null, "latest", PageRequest.of(0, 10)))).containsExactly(1L);
+        assertThat(catalog.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기동 시 판매 중인 상품을 ID 순으로 나눠 읽고, 이미지는 한 번에 묶어 조회한다")
+    void load_ReadsBatches() {
+        when(productRepository.findCatalogBatch(eq(ProductStatus.ACTIVE), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> (Long) invocation.getArgument(1) == 0L
+                        ? List.of(product(1L, ProductCategory.FOOD, 1, 0, 0.0), product(2L, ProductCategory.TOY, 3, 0, 0.0))
+                        : List.of());
+        when(productRepository.findImageUrlsByIds(List.of(1L, 2L)))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, "a.png"}, new Object[]{1L, "b.png"}));
+        when(productRepository.findIngredientsByIds(List.of(1L, 2L))).thenReturn(List.of());
+
+        assertThat(catalog.isReady()).isFalse();
+        catalog.load();
+
+        assertThat(catalog.isReady()).isTrue();
+        Page<ProductResponse> page = catalog.page(null, "popular", PageRequest.of(0, 10));
+        assertThat(ids(page)).containsExactly(2L, 1L);
+        assertThat(page.getContent().get(1).getImageUrls()).containsExactly("a.png", "b.png");
+        assertThat(page.getContent().get(1).getSellerName()).isEqualTo("판매자");
+    }
+
+    @Test
+    @DisplayName("재적재 중 반영된 조회수/좋아요 증감은 새로 읽은 값에 다시 더하지 않는다")
+    void load_DoesNotReplayCounts() {
+        catalog.updateAfterCommit(product(1L, ProductCategory.FOOD, 1, 0, 0.0));
+        when(productRepository.findCatalogBatch(eq(ProductStatus.ACTIVE), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    if ((Long) invocation.getArgument(1) != 0L) {
+                        return List.of();
+                    }
+                    // 적재 도중 증감 반영 - 읽어 온 행에는 이미 들어 있다
+                    catalog.addCounts(1L, 0, 2);
+                    return List.of(product(1L, ProductCategory.FOOD, 3, 0, 0.0));
+                });
+
+        catalog.load();
+
+        assertThat(catalog.page(null, "popular", PageRequest.of(0, 10)).getContent().get(0).getLikeCount()).isEqualTo(3);
+    }
+
+    private static List<Long> ids(Page<ProductResponse> page) {
+        return page.getContent().stream().map(ProductResponse::getId).toList();
+    }
+
+    private static Product product(Long id, ProductCategory category, int likeCount, int salesCount, double rating) {
+        return Product.builder()
+                .id(id)
+                .name("상품 " + id)
+                .price(BigDecimal.valueOf(10000))
+                .stockQuantity(10)
+                .category(category)
+                .status(ProductStatus.ACTIVE)
+                .seller(SELLER)
+                .likeCount(likeCount)
+                .salesCount(salesCount)
+                .averageRating(rating)
+                .build();
+    }
+}
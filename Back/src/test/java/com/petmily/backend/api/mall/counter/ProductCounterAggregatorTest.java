@@ -0,0 +1,123 @@
+package com.petmily.backend.api.mall.counter;
+
+import com.petmily.backend.api.mall.catalog.ProductCatalog;
+import com.petmily.backend.config.MallProperties;
+import com.petmily.backend.domain.mall.product.entity.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCounterAggregatorTest {
+
+    @Mock
+    private ProductCounterWriter writer;
+
+    @Mock
+    private ProductCatalog productCatalog;
+
+    private MallProperties properties;
+    private ProductCounterAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MallProperties();
+        aggregator = new ProductCounterAggregator(writer, productCatalog, properties);
+    }
+
+    @Test
+    @DisplayName("조회수/좋아요는 DB 값에 반영 대기 증감을 더해 보여 주고, 반영 시 상품 ID 순 배치 한 번으로 쓴다")
+    void flush_WritesSortedBatch() {
+        Product product = product(2L, 10, 3);
+        aggregator.recordView(2L);
+        aggregator.recordView(2L);
+        aggregator.recordView(1L);
+        aggregator.recordLikeAfterCommit(2L, 1);
+
+        assertThat(aggregator.viewCount(product)).isEqualTo(12);
+        assertThat(aggregator.likeCount(product)).isEqualTo(4);
+
+        List<List<ProductCounterDelta>> written = captureWrites();
+        aggregator.flush();
+
+        assertThat(written).hasSize(1);
+        assertThat(written.get(0)).containsExactly(
+                new ProductCounterDelta(1L, 1, 0),
+                new ProductCounterDelta(2L, 2, 1));
+        verify(productCatalog).addCounts(2L, 2, 1);
+        assertThat(aggregator.viewCount(product)).isEqualTo(10);
+
+        aggregator.flush();
+        verify(writer, times(1)).write(anyList());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증감을 되돌려 두고 다음 주기에 합쳐서 다시 쓴다")
+    void flush_RestoresOnFailure() {
+        Product product = product(1L, 0, 0);
+        doThrow(new RuntimeException("db down")).doNothing().when(writer).write(anyList());
+
+        aggregator.recordView(1L);
+        aggregator.flush();
+        assertThat(aggregator.viewCount(product)).isEqualTo(1);
+        verify(productCatalog, never()).addCounts(anyLong(), anyLong(), anyLong());
+
+        aggregator.recordView(1L);
+        aggregator.flush();
+
+        ArgumentCaptor<List<ProductCounterDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(writer, times(2)).write(captor.capture());
+        assertThat(captor.getAllValues().get(1)).containsExactly(new ProductCounterDelta(1L, 2, 0));
+    }
+
+    @Test
+    @DisplayName("좋아요 취소가 몰려도 0 아래로 내려가지 않고, 설정한 크기로 나눠 쓴다")
+    void flush_ClampsAndSplitsBatches() {
+        properties.getCounters().setBatchSize(2);
+        aggregator.recordLikeAfterCommit(1L, -1);
+        aggregator.recordLikeAfterCommit(1L, -1);
+        aggregator.recordView(2L);
+        aggregator.recordView(3L);
+
+        assertThat(aggregator.likeCount(product(1L, 0, 1))).isZero();
+
+        List<List<ProductCounterDelta>> written = captureWrites();
+        aggregator.flush();
+        assertThat(written).extracting(List::size).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("삭제된 상품의 대기 증감은 버린다")
+    void discard_DropsPending() {
+        aggregator.recordView(1L);
+        aggregator.discard(1L);
+
+        aggregator.flush();
+
+        verify(writer, never()).write(anyList());
+    }
+
+    private List<List<ProductCounterDelta>> captureWrites() {
+        List<List<ProductCounterDelta>> written = new ArrayList<>();
+        doAnswer(invocation -> {
+            written.add(new ArrayList<>(invocation.<List<ProductCounterDelta>>getArgument(0)));
+            return null;
+        }).when(writer).write(anyList());
+        return written;
+    }
+
+    private static Product product(Long id, int viewCount, int likeCount) {
+        return Product.builder().id(id).name("상품 " + id).viewCount(viewCount).likeCount(likeCount).build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.petmily.backend.api.mall.history;
+
+import com.petmily.backend.config.MallProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductViewHistoryStoreTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ProductViewHistoryWriter writer;
+
+    private MallProperties properties;
+    private ProductViewHistoryStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MallProperties();
+        store = new ProductViewHistoryStore(redisTemplate, writer, properties);
+    }
+
+    @Test
+    @DisplayName("같은 상품을 여러 번 봐도 Redis 목록에는 한 번만 넣고, 최대 개수를 넘는 오래된 상품은 잘라낸다")
+    void processQueued_DeduplicatesAndTrims() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.hasKey("mall:views:1")).thenReturn(true);
+
+        store.record(1L, 10L);
+        store.record(1L, 10L);
+        store.record(1L, 20L);
+
+        assertThat(store.processQueued()).isEqualTo(3);
+
+        ArgumentCaptor<Set<ZSetOperations.TypedTuple<String>>> captor = ArgumentCaptor.forClass(Set.class);
+        verify(zSetOperations).add(eq("mall:views:1"), captor.capture());
+        assertThat(captor.getValue()).extracting(ZSetOperations.TypedTuple::getValue)
+                .containsExactlyInAnyOrder("10", "20");
+        verify(zSetOperations).removeRange("mall:views:1", 0, -101);
+        verify(writer, never()).findRecent(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Redis 목록이 없으면 DB의 최근 이력으로 채운 뒤 최근 순으로 돌려준다")
+    void recentProductIds_LoadsFromDatabase() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.hasKey("mall:views:1")).thenReturn(false);
+        when(writer.findRecent(1L, 100)).thenReturn(List.of(
+                new ProductViewHistoryWriter.RecentView(20L, LocalDateTime.now()),
+                new ProductViewHistoryWriter.RecentView(10L, LocalDateTime.now().minusDays(1))));
+        when(zSetOperations.reverseRange("mall:views:1", 0, 99))
+                .thenReturn(new LinkedHashSet<>(List.of("20", "10")));
+
+        assertThat(store.recentProductIds(1L)).containsExactly(20L, 10L);
+        verify(zSetOperations).addIfAbsent(eq("mall:views:1"), anySet());
+    }
+
+    @Test
+    @DisplayName("Redis에 장애가 나도 조회 이력은 DB에 반영되고, 개수는 DB에서 읽는다")
+    void redisFailure_FallsBackToDatabase() {
+        when(redisTemplate.hasKey(anyString())).thenThrow(new RuntimeException("redis down"));
+        when(writer.findRecent(1L, 100)).thenReturn(List.of(
+                new ProductViewHistoryWriter.RecentView(10L, LocalDateTime.now())));
+
+        store.record(1L, 10L);
+        store.processQueued();
+        store.compact();
+
+        verify(writer).write(argThat(views -> views.size() == 1 && views.get(0).productId() == 10L), eq(100));
+        assertThat(store.count(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB 반영은 설정한 크기로 나눠 쓰고, DB 장애로 실패한 묶음은 다음 반영 때 합쳐서 다시 쓴다")
+    void compact_SplitsBatchesAndRestoresOnFailure() {
+        properties.getViewHistory().setBatchSize(2);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);
+
+        List<List<PendingProductView>> written = new ArrayList<>();
+        doAnswer(invocation -> {
+            written.add(new ArrayList<>(invocation.<List<PendingProductView>>getArgument(0)));
+            return null;
+        }).doThrow(new RuntimeException("db down")).doThrow(new RuntimeException("db down")).doAnswer(invocation -> {
+            written.add(new ArrayList<>(invocation.<List<PendingProductView>>getArgument(0)));
+            return null;
+        }).when(writer).write(anyList(), anyInt());
+
+        store.record(1L, 10L);
+        store.record(1L, 20L);
+        store.record(2L, 10L);
+        store.processQueued();
+        store.compact();
+
+        assertThat(written).hasSize(1);
+        assertThat(written.get(0)).hasSize(2);
+
+        store.record(2L, 10L);
+        store.processQueued();
+        store.compact();
+
+        assertThat(written).hasSize(2);
+        assertThat(written.get(1)).singleElement().satisfies(view -> {
+            assertThat(view.userId()).isEqualTo(2L);
+            assertThat(view.views()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("묶음 반영이 무결성 위반으로 실패하면 한 건씩 다시 써서 실패한 행만 버린다")
+    void compact_DropsRowsViolatingIntegrity() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);
+
+        List<Long> writtenProductIds = new ArrayList<>();
+        doThrow(new DataIntegrityViolationException("fk"))
+                .doAnswer(invocation -> record(writtenProductIds, invocation.getArgument(0)))
+                .doThrow(new DataIntegrityViolationException("fk"))
+                .doAnswer(invocation -> record(writtenProductIds, invocation.getArgument(0)))
+                .when(writer).write(anyList(), anyInt());
+
+        store.record(1L, 10L);
+        store.record(1L, 20L);
+        store.record(1L, 30L);
+        store.processQueued();
+        store.compact();
+
+        assertThat(writtenProductIds).containsExactly(10L, 30L);
+
+        store.compact();
+        verify(writer, times(4)).write(anyList(), anyInt());
+    }
+
+    private static Object record(List<Long> writtenProductIds, List<PendingProductView> views) {
+        views.forEach(view -> writtenProductIds.add(view.productId()));
+        return null;
+    }
+}
@@ -0,0 +1,109 @@
+package com.petmily.backend.api.mall.service;
+
+import com.petmily.backend.api.exception.CustomException;
+import com.petmily.backend.api.exception.ErrorCode;
+import com.petmily.backend.domain.mall.product.repository.ProductRepository;
+import com.petmily.backend.domain.mall.review.entity.ProductReviewStats;
+import com.petmily.backend.domain.mall.review.repository.ProductReviewStatsRepository;
+import com.petmily.backend.domain.mall.review.repository.ReviewRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductReviewStatsServiceTest {
+
+    @Mock
+    private ProductReviewStatsRepository productReviewStatsRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductReviewStatsService productReviewStatsService;
+
+    @Test
+    @DisplayName("통계 행이 없으면 평점별 리뷰 수와 포토 리뷰 수를 한 번 집계해 만든다")
+    void prepare_CreatesFromReviews() {
+        when(productReviewStatsRepository.existsById(1L)).thenReturn(false);
+        when(reviewRepository.countByRatingForProduct(1L)).thenReturn(List.of(
+                new Object[]{5, 2L},
+                new Object[]{3, 1L}));
+        when(reviewRepository.countPhotoReviewsByProductId(1L)).thenReturn(1L);
+
+        productReviewStatsService.prepare(1L);
+
+        verify(productReviewStatsRepository).insertIfAbsent(1L, 0, 0, 1, 0, 2, 13, 3, 1);
+    }
+
+    @Test
+    @DisplayName("통계 행이 있으면 리뷰 테이블을 집계하지 않는다")
+    void prepare_SkipsExisting() {
+        when(productReviewStatsRepository.existsById(1L)).thenReturn(true);
+
+        productReviewStatsService.prepare(1L);
+
+        verifyNoInteractions(reviewRepository);
+        verify(productReviewStatsRepository, never())
+                .insertIfAbsent(anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("리뷰 작성/수정/삭제는 빠지는 평점과 더해지는 평점, 리뷰 수/포토 리뷰 수 증감으로 반영한다")
+    void record_AppliesChange() {
+        when(productReviewStatsRepository.applyChange(anyLong(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(1);
+        when(productReviewStatsRepository.findById(1L)).thenReturn(Optional.of(stats(1L)));
+
+        productReviewStatsService.record(1L, null, new ProductReviewStatsService.RatedReview(4, true));
+        productReviewStatsService.record(1L, new ProductReviewStatsService.RatedReview(4, true),
+                new ProductReviewStatsService.RatedReview(2, false));
+        productReviewStatsService.record(1L, new ProductReviewStatsService.RatedReview(2, false), null);
+
+        verify(productReviewStatsRepository).applyChange(1L, 0, 4, 1, 1);
+        verify(productReviewStatsRepository).applyChange(1L, 4, 2, 0, -1);
+        verify(productReviewStatsRepository).applyChange(1L, 2, 0, -1, 0);
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    @DisplayName("요약 조회는 통계 행이 있으면 그 행만 읽고, 없는 상품이면 상품 없음으로 실패한다")
+    void getStats() {
+        ProductReviewStats stats = stats(1L);
+        when(productReviewStatsRepository.findById(1L)).thenReturn(Optional.of(stats));
+        when(productReviewStatsRepository.findById(9L)).thenReturn(Optional.empty());
+        when(productRepository.existsById(9L)).thenReturn(false);
+
+        assertThat(productReviewStatsService.getStats(1L)).isSameAs(stats);
+        assertThat(stats.getAverageRating()).isEqualTo(4.5);
+        assertThat(stats.getRatingDistribution()).containsEntry(4, 1L).containsEntry(5, 1L).containsEntry(1, 0L);
+        verifyNoInteractions(reviewRepository);
+
+        assertThatThrownBy(() -> productReviewStatsService.getStats(9L))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_NOT_FOUND);
+    }
+
+    private static ProductReviewStats stats(Long productId) {
+        return ProductReviewStats.builder()
+                .productId(productId)
+                .rating4Count(1)
+                .rating5Count(1)
+                .ratingSum(9)
+                .reviewCount(2)
+                .photoReviewCount(1)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.petmily.backend.api.mall.service;
+
+import com.petmily.backend.api.exception.CustomException;
+import com.petmily.backend.api.exception.ErrorCode;
+import com.petmily.backend.domain.mall.product.entity.Product;
+import com.petmily.backend.domain.mall.product.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockReservationServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private StockReservationService stockReservationService;
+
+    @Test
+    @DisplayName("여러 상품은 상품 ID 순으로 예약한 뒤 한 번의 조회로 가져온다")
+    void reserve_InProductIdOrderThenSingleFetch() {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(3L, 1);
+        quantities.put(1L, 2);
+        when(productRepository.reserveStock(anyLong(), anyInt())).thenReturn(1);
+        when(productRepository.findAllById(quantities.keySet())).thenReturn(List.of(product(1L), product(3L)));
+
+        Map<Long, Product> products = stockReservationService.reserve(quantities);
+
+        assertThat(products).containsOnlyKeys(1L, 3L);
+        InOrder inOrder = inOrder(productRepository);
+        inOrder.verify(productRepository).reserveStock(1L, 2);
+        inOrder.verify(productRepository).reserveStock(3L, 1);
+        inOrder.verify(productRepository).findAllById(quantities.keySet());
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("재고가 모자란 상품을 만나면 이후 상품은 예약하지 않고 재고 부족으로 실패한다")
+    void reserve_InsufficientStock() {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(1L, 5);
+        quantities.put(2L, 1);
+        when(productRepository.reserveStock(1L, 5)).thenReturn(0);
+        when(productRepository.findAllById(quantities.keySet())).thenReturn(List.of(product(1L), product(2L)));
+
+        assertThatThrownBy(() -> stockReservationService.reserve(quantities))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_STOCK);
+        verify(productRepository, never()).reserveStock(eq(2L), anyInt());
+    }
+
+    @Test
+    @DisplayName("없는 상품이 섞여 있으면 상품 없음으로 실패한다")
+    void reserve_ProductNotFound() {
+        Map<Long, Integer> quantities = Map.of(9L, 1);
+        when(productRepository.reserveStock(9L, 1)).thenReturn(0);
+        when(productRepository.findAllById(quantities.keySet())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> stockReservationService.reserve(quantities))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("이미 읽어 둔 상품은 예약/복구 후 DB 값으로 다시 읽는다")
+    void tryReserveAndRelease_RefreshEntity() {
+        Product product = product(1L);
+        when(productRepository.reserveStock(1L, 2)).thenReturn(1, 0);
+
+        assertThat(stockReservationService.tryReserve(product, 2)).isTrue();
+        assertThat(stockReservationService.tryReserve(product, 2)).isFalse();
+        stockReservationService.release(product, 2);
+
+        verify(productRepository).releaseStock(1L, 2);
+        verify(entityManager, times(3)).refresh(product);
+    }
+
+    private static Product product(Long id) {
+        return Product.builder().id(id).name("상품 " + id).stockQuantity(10).build();
+    }
+}
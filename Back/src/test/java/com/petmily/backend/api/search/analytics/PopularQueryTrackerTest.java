@@ -0,0 +1,104 @@
+package com.petmily.backend.api.search.analytics;
+
+import com.petmily.backend.config.SearchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopularQueryTrackerTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private PopularQueryTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        SearchProperties properties = new SearchProperties();
+        properties.getPopularQueries().setCapacity(64);
+        properties.getPopularQueries().setStripes(4);
+        properties.getPopularQueries().setSnapshotIntervalMillis(60000);
+        properties.getPopularQueries().setHalfLifeMinutes(1);
+        properties.getPopularQueries().setMinScore(2.0);
+        // Redis 장애 시에도 이 서버 집계로 순위를 만든다
+        when(redisTemplate.opsForZSet()).thenThrow(new IllegalStateException("redis down"));
+        tracker = new PopularQueryTracker(redisTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("한 번씩만 나온 검색어가 카운터보다 많아도 자주 검색된 검색어가 순위에 남는다")
+    void snapshot_KeepsHeavyHitters() {
+        for (int i = 0; i < 500; i++) {
+            tracker.record("잡음" + i, "user" + i);
+            if (i % 10 == 0) {
+                tracker.record("산책", "user" + i);
+            }
+            if (i % 25 == 0) {
+                tracker.record("사료", "user" + i);
+            }
+        }
+
+        tracker.snapshot();
+
+        assertThat(tracker.topQueries(2)).containsExactly("산책", "사료");
+        assertThat(tracker.topQueries(10)).noneMatch(query -> query.startsWith("잡음"));
+    }
+
+    @Test
+    @DisplayName("공백과 대소문자가 달라도 같은 검색어로 세고, 접두어/초성으로 인기 검색어를 제안한다")
+    void suggest_NormalizedQueries() {
+        tracker.record("  강아지   사료 ", "user1");
+        tracker.record("강아지 사료", "user2");
+        tracker.record("DOG", "user1");
+        tracker.record("dog", "user2");
+        tracker.record("dog", "user3");
+
+        tracker.snapshot();
+
+        assertThat(tracker.topQueries(5)).containsExactly("dog", "강아지 사료");
+        assertThat(tracker.suggest("ㄱㅇㅈ", 5)).containsExactly("강아지 사료");
+        assertThat(tracker.suggest("사", 5)).containsExactly("강아지 사료");
+        assertThat(tracker.score("Dog")).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("반감기가 지나면 예전 검색어보다 최근 검색어가 앞선다")
+    void snapshot_DecaysOlderCounts() {
+        for (int i = 0; i < 10; i++) {
+            tracker.record("장난감", "user" + i);
+        }
+        tracker.snapshot();
+        assertThat(tracker.topQueries(1)).containsExactly("장난감");
+
+        // 반감기(1분) = 스냅샷 주기이므로 장난감은 5회로 줄어든다
+        for (int i = 0; i < 8; i++) {
+            tracker.record("간식", "user" + i);
+        }
+        tracker.snapshot();
+
+        assertThat(tracker.topQueries(2)).containsExactly("간식", "장난감");
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 같은 검색어를 되풀이해도 한 번으로 센다")
+    void record_DeduplicatesPerSearcher() {
+        for (int i = 0; i < 20; i++) {
+            tracker.record("도배", "user1");
+        }
+        tracker.record("산책", "user1");
+        tracker.record("산책", "user2");
+
+        tracker.snapshot();
+
+        assertThat(tracker.topQueries(5)).containsExactly("산책");
+        assertThat(tracker.score("도배")).isZero();
+    }
+}
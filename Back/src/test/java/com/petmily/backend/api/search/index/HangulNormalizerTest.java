@@ -0,0 +1,34 @@
+package com.petmily.backend.api.search.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HangulNormalizerTest {
+
+    @Test
+    @DisplayName("완성형 음절은 초성으로 바꾸고 나머지 문자는 그대로 둔다")
+    void chosung() {
+        assertThat(HangulNormalizer.chosung("산책 예약")).isEqualTo("ㅅㅊ ㅇㅇ");
+        assertThat(HangulNormalizer.chosung("강아지2kg")).isEqualTo("ㄱㅇㅈ2kg");
+    }
+
+    @Test
+    @DisplayName("겹받침과 이중모음까지 낱자로 풀어 입력 중인 음절이 접두어가 되게 한다")
+    void decompose() {
+        assertThat(HangulNormalizer.decompose("산책")).isEqualTo("ㅅㅏㄴㅊㅐㄱ");
+        assertThat(HangulNormalizer.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulNormalizer.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulNormalizer.decompose("산ㅊ")).isEqualTo("ㅅㅏㄴㅊ");
+        assertThat(HangulNormalizer.decompose("ㄺ")).isEqualTo("ㄹㄱ");
+        assertThat(HangulNormalizer.decompose("산책")).startsWith(HangulNormalizer.decompose("산ㅊ"));
+    }
+
+    @Test
+    @DisplayName("NFKC 정규화로 바뀐 조합형 자모를 호환 자모로 되돌린다")
+    void normalize_KeepsCompatibilityJamo() {
+        assertThat(NgramAnalyzer.normalize("ㅅㅊ")).isEqualTo("ㅅㅊ");
+        assertThat(NgramAnalyzer.normalize("ＤＯＧ 산ㅊ")).isEqualTo("dog 산ㅊ");
+    }
+}
@@ -0,0 +1,91 @@
+package com.petmily.backend.api.search.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PrefixSuggestIndexTest {
+
+    @Test
+    @DisplayName("접두어로 시작하는 완성어를 가중치 순으로 돌려준다")
+    void complete_OrderedByWeight() {
+        PrefixSuggestIndex<String> index = PrefixSuggestIndex.build(Map.of(
+                "강아지 사료", 10L,
+                "강아지 간식", 30L,
+                "강철 밥그릇", 20L,
+                "고양이 모래", 50L), 10);
+
+        assertThat(index.complete("강", 10)).containsExactly("강아지 간식", "강철 밥그릇", "강아지 사료");
+        assertThat(index.complete("강아지", 10)).containsExactly("강아지 간식", "강아지 사료");
+        assertThat(index.complete("강아지 사", 10)).containsExactly("강아지 사료");
+        assertThat(index.complete("개", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단어 중간의 시작 위치로도 찾고, 한 완성어는 한 번만 나온다")
+    void complete_MatchesWordStarts() {
+        PrefixSuggestIndex<String> index = PrefixSuggestIndex.build(Map.of(
+                "프리미엄 강아지 사료", 5L,
+                "사료 사료 보관함", 3L), 10);
+
+        assertThat(index.complete("사료", 10)).containsExactly("프리미엄 강아지 사료", "사료 사료 보관함");
+        assertThat(index.complete("강아", 10)).containsExactly("프리미엄 강아지 사료");
+    }
+
+    @Test
+    @DisplayName("대소문자와 앞뒤 공백을 무시하고, limit과 topK 중 작은 수만큼만 돌려준다")
+    void complete_NormalizesAndLimits() {
+        Map<String, Long> suggestions = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            suggestions.put("Dog toy " + i, (long) i);
+        }
+        PrefixSuggestIndex<String> index = PrefixSuggestIndex.build(suggestions, 5);
+
+        assertThat(index.complete("  DOG ", 3)).containsExactly("Dog toy 19", "Dog toy 18", "Dog toy 17");
+        assertThat(index.complete("dog", 10)).hasSize(5);
+        assertThat(index.size()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("빈 색인과 빈 검색어는 빈 결과")
+    void complete_Empty() {
+        assertThat(PrefixSuggestIndex.<String>empty().complete("강아지", 5)).isEmpty();
+        assertThat(PrefixSuggestIndex.build(Map.of("강아지", 1L), 5).complete(" ", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초성과 입력 중인 음절로도 찾는다")
+    void complete_ChosungAndPartialSyllable() {
+        PrefixSuggestIndex<String> index = PrefixSuggestIndex.build(Map.of(
+                "산책 예약", 10L,
+                "사료", 5L,
+                "닭가슴살", 3L), 10);
+
+        assertThat(index.complete("ㅅㅊ", 10)).containsExactly("산책 예약");
+        assertThat(index.complete("산ㅊ", 10)).containsExactly("산책 예약");
+        assertThat(index.complete("사", 10)).containsExactly("산책 예약", "사료");
+        assertThat(index.complete("ㅅ", 10)).containsExactly("산책 예약", "사료");
+        assertThat(index.complete("ㅇㅇ", 10)).containsExactly("산책 예약");
+        // 겹받침 음절 입력 중("달")
+        assertThat(index.complete("달", 10)).containsExactly("닭가슴살");
+    }
+
+    @Test
+    @DisplayName("matchAll은 상위 K개 제한 없이 여러 색인 문자열 중 하나라도 맞는 값을 모두 돌려준다")
+    void matchAll_MultipleTexts() {
+        PrefixSuggestIndex<Long> index = PrefixSuggestIndex.build(List.of(
+                new PrefixSuggestIndex.Entry<>(1L, 0L, List.of("김민수")),
+                new PrefixSuggestIndex.Entry<>(2L, 0L, List.of("김미영")),
+                new PrefixSuggestIndex.Entry<>(3L, 0L, List.of("박서준", "산책 전문"))), 1);
+
+        assertThat(index.matchAll("ㄱㅁ")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.matchAll("김민")).containsExactly(1L);
+        assertThat(index.matchAll("ㅅㅊ")).containsExactly(3L);
+        assertThat(index.matchAll("최")).isEmpty();
+    }
+}
@@ -0,0 +1,154 @@
+package com.petmily.backend.api.search.index;
+
+import com.petmily.backend.config.SearchProperties;
+import com.petmily.backend.domain.mall.product.entity.Product;
+import com.petmily.backend.domain.mall.product.entity.ProductCategory;
+import com.petmily.backend.domain.mall.product.entity.ProductStatus;
+import com.petmily.backend.domain.mall.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(productRepository, new SearchProperties());
+    }
+
+    @Test
+    @DisplayName("띄어쓰기 없이 이어 쓴 한국어 검색어도 n-gram으로 찾고, 상품명 일치를 설명 일치보다 앞에 둔다")
+    void search_KoreanNgramsRankedByField() {
+        index.index(product(1L, "프리미엄 강아지 사료", "소형견용", ProductCategory.FOOD, ProductStatus.ACTIVE));
+        index.index(product(2L, "고양이 장난감", "강아지 사료와 함께 쓰기 좋은 장난감", ProductCategory.TOY, ProductStatus.ACTIVE));
+        index.index(product(3L, "산책 리드줄", "튼튼한 줄", ProductCategory.SUPPLIES, ProductStatus.ACTIVE));
+
+        assertThat(index.search("강아지사료", 10)).containsExactly(1L, 2L);
+        assertThat(index.search("리드", 10)).containsExactly(3L);
+        assertThat(index.search("없는상품", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초성만 입력한 검색어는 상품명의 초성 색인으로 찾는다")
+    void search_Chosung() {
+        index.index(product(1L, "강아지 사료", null, ProductCategory.FOOD, ProductStatus.ACTIVE));
+        index.index(product(2L, "고양이 모래", null, ProductCategory.HYGIENE, ProductStatus.ACTIVE));
+
+        assertThat(index.search("ㄱㅇㅈ", 10)).containsExactly(1L);
+        assertThat(index.search("ㄱㅇㅈ ㅅㄹ", 10)).containsExactly(1L);
+        assertThat(index.search("ㅁㄹ", 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("카테고리 표시명으로도 검색된다")
+    void search_CategoryDisplayName() {
+        index.index(product(1L, "닭가슴살 져키", "수제", ProductCategory.SNACK, ProductStatus.ACTIVE));
+
+        assertThat(index.search("간식", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("판매 중이 아닌 상품은 제외되고, 상태가 바뀌면 다시 검색된다")
+    void search_FiltersInactiveProducts() {
+        index.index(product(1L, "강아지 사료", null, ProductCategory.FOOD, ProductStatus.OUT_OF_STOCK));
+        assertThat(index.search("사료", 10)).isEmpty();
+
+        index.index(product(1L, "강아지 사료", null, ProductCategory.FOOD, ProductStatus.ACTIVE));
+        assertThat(index.search("사료", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("상품 수정/삭제 시 이전 색인어가 남지 않는다")
+    void index_UpdateAndRemove() {
+        index.index(product(1L, "강아지 사료", null, ProductCategory.FOOD, ProductStatus.ACTIVE));
+        index.index(product(1L, "고양이 모래", null, ProductCategory.HYGIENE, ProductStatus.ACTIVE));
+
+        assertThat(index.search("사료", 10)).isEmpty();
+        assertThat(index.search("모래", 10)).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("모래", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("페이지 조회 시 전체 건수를 함께 돌려주고, 상품명 자동완성은 중복 없이 돌려준다")
+    void search_PagingAndNames() {
+        for (long id = 1; id <= 5; id++) {
+            index.index(product(id, "강아지 간식 " + (id % 2), null, ProductCategory.SNACK, ProductStatus.ACTIVE));
+        }
+
+        Page<Long> page = index.search("강아지", PageRequest.of(1, 2));
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(index.searchNames("강아지", 5)).containsExactlyInAnyOrder("강아지 간식 0", "강아지 간식 1");
+    }
+
+    @Test
+    @DisplayName("기동 시 전체 상품을 페이지 단위로 읽어 색인을 채운다")
+    void rebuild_LoadsAllPages() {
+        when(productRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(0);
+            List<Product> content = pageable.getPageNumber() == 0
+                    ? List.of(product(1L, "강아지 사료", null, ProductCategory.FOOD, ProductStatus.ACTIVE))
+                    : List.of();
+            return new PageImpl<>(content, pageable, 1);
+        });
+
+        assertThat(index.isReady()).isFalse();
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("사료", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("재구성은 새 색인으로 교체해 다른 서버에서 삭제된 상품을 지우고, 구성 중 들어온 변경은 유지한다")
+    void rebuild_SwapsInFreshIndex() {
+        index.index(product(1L, "강아지 사료", null, ProductCategory.FOOD, ProductStatus.ACTIVE));
+        when(productRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            // 재구성 중 이 서버에서 커밋된 변경
+            index.index(product(3L, "고양이 사료", null, ProductCategory.FOOD, ProductStatus.ACTIVE));
+            Pageable pageable = invocation.getArgument(0);
+            return new PageImpl<>(List.of(product(2L, "유기농 사료", null, ProductCategory.FOOD, ProductStatus.ACTIVE)),
+                    pageable, 1);
+        });
+
+        index.rebuild();
+
+        assertThat(index.search("사료", 10)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private static Product product(Long id, String name, String description, ProductCategory category, ProductStatus status) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .price(BigDecimal.valueOf(10000))
+                .stockQuantity(10)
+                .category(category)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.petmily.backend.api.search.service;
+
+import com.petmily.backend.api.search.analytics.PopularQueryTracker;
+import com.petmily.backend.api.search.dto.SearchResponse;
+import com.petmily.backend.api.search.dto.SearchResultItem;
+import com.petmily.backend.config.SearchProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SearchServiceTest {
+
+    private final PopularQueryTracker popularQueryTracker = mock(PopularQueryTracker.class);
+
+    private SearchService searchService;
+
+    @AfterEach
+    void tearDown() {
+        if (searchService != null) {
+            searchService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("전략별 조회 결과와 추천어를 합치고, 검색/자동완성을 따로 부르지 않는다")
+    void searchAll_MergesLookups() {
+        SearchStrategy product = strategy("product", new SearchStrategy.Lookup(List.of(item("product", "1")), List.of("강아지 사료")));
+        SearchStrategy menu = strategy("menu", new SearchStrategy.Lookup(List.of(item("menu", "walk")), List.of("산책")));
+        searchService = new SearchService(List.of(product, menu), popularQueryTracker, properties(1000));
+
+        SearchResponse response = searchService.searchAll("강아지", null, "user:1");
+
+        assertThat(response.getResults()).containsOnlyKeys("product", "menu");
+        assertThat(response.getTotalCount()).isEqualTo(2);
+        assertThat(response.getSuggestions()).containsExactlyInAnyOrder("강아지 사료", "산책");
+        assertThat(response.isPartial()).isFalse();
+        verify(product, never()).search(anyString());
+        verify(product, never()).autocomplete(anyString());
+        verify(popularQueryTracker).record("강아지", "user:1");
+    }
+
+    @Test
+    @DisplayName("기한을 넘긴 전략은 결과에서 빠지고 부분 결과로 표시된다")
+    void searchAll_DropsSlowStrategy() {
+        SearchStrategy fast = strategy("menu", new SearchStrategy.Lookup(List.of(item("menu", "walk")), List.of("산책")));
+        SearchStrategy slow = mockStrategy("product");
+        when(slow.lookup(anyString())).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return new SearchStrategy.Lookup(List.of(item("product", "1")), List.of());
+        });
+        searchService = new SearchService(List.of(fast, slow), popularQueryTracker, properties(100));
+
+        long startedAt = System.currentTimeMillis();
+        SearchResponse response = searchService.searchAll("산책", null, "user:1");
+
+        assertThat(System.currentTimeMillis() - startedAt).isLessThan(1000);
+        assertThat(response.getResults()).containsOnlyKeys("menu");
+        assertThat(response.isPartial()).isTrue();
+        assertThat(response.getOmittedTypes()).containsExactly("product");
+    }
+
+    @Test
+    @DisplayName("실패한 전략은 부분 결과로 표시하지 않고 건너뛴다")
+    void searchAll_SkipsFailedStrategy() {
+        SearchStrategy failing = mockStrategy("product");
+        when(failing.lookup(anyString())).thenThrow(new IllegalStateException("db down"));
+        searchService = new SearchService(List.of(failing), popularQueryTracker, properties(1000));
+
+        SearchResponse response = searchService.searchAll("사료", null, "user:1");
+
+        assertThat(response.getResults()).isEmpty();
+        assertThat(response.isPartial()).isFalse();
+        verify(popularQueryTracker, never()).record(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("결과가 없는 검색어는 인기 검색어로 집계하지 않는다")
+    void searchByType_RecordsOnlyWithResults() {
+        SearchStrategy product = mockStrategy("product");
+        when(product.search("ㅁㄴㅇㄹ")).thenReturn(List.of());
+        when(product.search("사료")).thenReturn(List.of(item("product", "1")));
+        searchService = new SearchService(List.of(product), popularQueryTracker, properties(1000));
+
+        searchService.searchByType("product", "ㅁㄴㅇㄹ", "ip:127.0.0.1");
+        searchService.searchByType("product", "사료", "ip:127.0.0.1");
+
+        verify(popularQueryTracker, never()).record(eq("ㅁㄴㅇㄹ"), anyString());
+        verify(popularQueryTracker).record("사료", "ip:127.0.0.1");
+    }
+
+    private SearchStrategy strategy(String type, SearchStrategy.Lookup lookup) {
+        SearchStrategy strategy = mockStrategy(type);
+        when(strategy.lookup(anyString())).thenReturn(lookup);
+        return strategy;
+    }
+
+    private SearchStrategy mockStrategy(String type) {
+        SearchStrategy strategy = mock(SearchStrategy.class);
+        when(strategy.getSearchType()).thenReturn(type);
+        when(strategy.isEnabled()).thenReturn(true);
+        return strategy;
+    }
+
+    private SearchResultItem item(String type, String id) {
+        return SearchResultItem.builder().type(type).id(id).title(id).build();
+    }
+
+    private SearchProperties properties(long timeoutMillis) {
+        SearchProperties properties = new SearchProperties();
+        properties.getFanOut().setStrategyTimeoutMillis(timeoutMillis);
+        return properties;
+    }
+}
@@ -0,0 +1,227 @@
+package com.petmily.backend.api.walk.service.location;
+
+import com.petmily.backend.api.auth.dto.model.PrincipalDetails;
+import com.petmily.backend.api.map.dto.LocationRequest;
+import com.petmily.backend.api.map.dto.LocationResponse;
+import com.petmily.backend.api.map.service.KakaoMapService;
+import com.petmily.backend.api.map.service.MapService;
+import com.petmily.backend.api.walk.controller.walk.WalkWebSocketController;
+import com.petmily.backend.api.walk.dto.tracking.request.LocationTrackRequest;
+import com.petmily.backend.api.walk.dto.tracking.response.WalkTrackResponse;
+import com.petmily.backend.api.walk.service.notification.WalkNotificationService;
+import com.petmily.backend.api.walk.service.validation.ValidationService;
+import com.petmily.backend.api.walk.service.walk.WalkService;
+import com.petmily.backend.config.LocationPipelineProperties;
+import com.petmily.backend.domain.pet.repository.PetRepository;
+import com.petmily.backend.domain.user.entity.User;
+import com.petmily.backend.domain.walk.entity.WalkingTrack;
+import com.petmily.backend.domain.walk.repository.WalkBookingRepository;
+import com.petmily.backend.domain.walk.repository.WalkDetailRepository;
+import com.petmily.backend.domain.walk.repository.WalkTrackRepository;
+import com.petmily.backend.domain.walker.repository.WalkSessionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LocationIngestionServiceTest {
+
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+    private final List<String> threads = new CopyOnWriteArrayList<>();
+    private final List<LocationFix> received = new CopyOnWriteArrayList<>();
+
+    private LocationPipelineProperties properties;
+    private LocationPipelineMetrics metrics;
+    private LocationIngestionService ingestionService;
+    private CountDownLatch asyncDone;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LocationPipelineProperties();
+        properties.setAsyncStages(Set.of("broadcast"));
+        properties.setAsyncLanes(2);
+        metrics = new LocationPipelineMetrics();
+        asyncDone = new CountDownLatch(1);
+        ingestionService = service(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ingestionService.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("등록 순서와 무관하게 order 오름차순으로 실행하고, 비동기 단계는 레인 스레드에서 실행한다")
+    void ingest_RunsStagesInOrder() throws InterruptedException {
+        // When
+        ingestionService.ingest(fix());
+
+        // Then
+        assertThat(asyncDone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactly("validate", "filter", "persist", "broadcast");
+        assertThat(threads.subList(0, 3)).containsOnly(Thread.currentThread().getName());
+        assertThat(threads.get(3)).startsWith("location-pipeline-");
+    }
+
+    @Test
+    @DisplayName("인라인 단계가 위치를 버리면 이후 단계는 실행하지 않는다")
+    void ingest_StopsWhenDropped() {
+        // Given
+        ingestionService.shutdown();
+        ingestionService = service(false);
+
+        // When
+        LocationFix fix = ingestionService.ingest(fix());
+
+        // Then
+        assertThat(fix.isDropped()).isTrue();
+        assertThat(fix.getDropReason()).isEqualTo("stationary");
+        assertThat(executed).containsExactly("validate", "filter");
+        assertThat(metrics.dropCounts()).containsEntry("stationary", 1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 비동기 단계를 커밋 이후에 실행한다")
+    void ingest_AsyncStagesAfterCommit() throws InterruptedException {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        ingestionService.ingest(fix());
+
+        // Then
+        assertThat(asyncDone.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(executed).containsExactly("validate", "filter", "persist");
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(asyncDone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactly("validate", "filter", "persist", "broadcast");
+    }
+
+    @Test
+    @DisplayName("예약 산책 위치 저장은 파이프라인을 거치고, 버려진 위치는 응답에 dropped로 알린다")
+    void walkService_GoesThroughPipeline() {
+        // Given
+        ingestionService.shutdown();
+        ingestionService = service(false);
+        WalkService walkService = new WalkService(mock(WalkTrackRepository.class), mock(WalkBookingRepository.class),
+                mock(WalkDetailRepository.class), mock(ValidationService.class), ingestionService,
+                mock(LocationTrackStateRegistry.class), mock(WalkNotificationService.class),
+                mock(WalkWebSocketController.class), mock(KakaoMapService.class));
+
+        // When
+        WalkTrackResponse response = walkService.saveWalkingTrack(1L, LocationTrackRequest.builder()
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .build(), 2L);
+
+        // Then
+        assertThat(received).singleElement().satisfies(fix -> {
+            assertThat(fix.getSource()).isEqualTo(LocationFix.Source.BOOKING);
+            assertThat(fix.getTrackKey()).isEqualTo("booking:1");
+            assertThat(fix.getUserId()).isEqualTo(2L);
+            assertThat(fix.getTrackType()).isEqualTo(WalkingTrack.TrackType.WALKING);
+            assertThat(fix.getTimestamp()).isNotNull();
+        });
+        assertThat(response.isDropped()).isTrue();
+        assertThat(response.getDropReason()).isEqualTo("stationary");
+    }
+
+    @Test
+    @DisplayName("독립 산책 세션 위치 전송도 같은 파이프라인을 거친다")
+    void mapService_GoesThroughPipeline() throws InterruptedException {
+        // Given
+        PrincipalDetails principal = new PrincipalDetails(
+                User.builder().id(2L).email("user@test.com").build(), Map.of(), "username");
+        MapService mapService = new MapService(mock(PetRepository.class),
+                mock(WalkSessionRepository.class), mock(WalkTrackRepository.class), ingestionService,
+                mock(LocationTrackStateRegistry.class), mock(WalkWebSocketController.class));
+
+        LocationRequest request = new LocationRequest();
+        request.setLatitude(37.5665);
+        request.setLongitude(126.9780);
+        request.setUserId("someone-else@test.com");  // 본문의 userId는 무시된다
+        request.setWalkSessionId(7L);
+
+        // When
+        LocationResponse response = mapService.updateUserLocation(request, principal);
+
+        // Then
+        assertThat(asyncDone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactly("validate", "filter", "persist", "broadcast");
+        assertThat(received).first().satisfies(fix -> {
+            assertThat(fix.getSource()).isEqualTo(LocationFix.Source.WALK_SESSION);
+            assertThat(fix.getTrackKey()).isEqualTo("session:7");
+            assertThat(fix.getUserId()).isEqualTo(2L);
+        });
+        assertThat(response.getUserId()).isEqualTo("user@test.com");
+    }
+
+    private LocationIngestionService service(boolean filterPasses) {
+        // 일부러 실행 순서와 다르게 등록한다
+        List<LocationPipelineStage> stages = List.of(
+                stage("broadcast", 500, true),
+                stage("persist", 400, true),
+                stage("filter", 200, filterPasses),
+                stage("validate", 100, true));
+        return new LocationIngestionService(stages, properties, metrics);
+    }
+
+    private LocationPipelineStage stage(String name, int order, boolean passes) {
+        return new LocationPipelineStage() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public int getOrder() {
+                return order;
+            }
+
+            @Override
+            public boolean process(LocationFix fix) {
+                if (executed.isEmpty()) {
+                    received.add(fix);
+                }
+                executed.add(name);
+                threads.add(Thread.currentThread().getName());
+                if ("broadcast".equals(name)) {
+                    asyncDone.countDown();
+                }
+                if (!passes) {
+                    fix.drop("stationary");
+                }
+                return passes;
+            }
+        };
+    }
+
+    private static LocationFix fix() {
+        return LocationFix.builder()
+                .source(LocationFix.Source.BOOKING)
+                .bookingId(1L)
+                .userId(2L)
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .timestamp(LocalDateTime.of(2025, 1, 1, 9, 0))
+                .trackType(WalkingTrack.TrackType.WALKING)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.petmily.backend.api.walk.service.location.codec;
+
+import com.petmily.backend.api.walk.dto.tracking.response.WalkTrackResponse;
+import com.petmily.backend.domain.walk.entity.WalkingTrack;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CompactLocationCodecTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Test
+    @DisplayName("키프레임과 델타 프레임을 인코딩 후 동일한 값으로 복원한다")
+    void encodeDecode_RoundTrip() {
+        // Given
+        CompactLocationEncoder encoder = new CompactLocationEncoder(10, 60_000);
+        CompactLocationDecoder decoder = new CompactLocationDecoder();
+        List<CompactLocationPoint> points = walk(30);
+
+        // When & Then
+        for (CompactLocationPoint point : points) {
+            CompactLocationPoint decoded = decoder.decode(encoder.encode(point));
+            assertThat(decoded).isEqualTo(point);
+        }
+    }
+
+    @Test
+    @DisplayName("첫 프레임은 키프레임, 이후 프레임은 델타로 더 작게 인코딩된다")
+    void encode_DeltaFramesAreSmaller() {
+        // Given
+        CompactLocationEncoder encoder = new CompactLocationEncoder(10, 60_000);
+        List<CompactLocationPoint> points = walk(2);
+
+        // When
+        byte[] keyframe = encoder.encode(points.get(0));
+        byte[] delta = encoder.encode(points.get(1));
+
+        // Then
+        assertThat(keyframe[0] & CompactLocationFormat.FLAG_KEYFRAME).isNotZero();
+        assertThat(delta[0] & CompactLocationFormat.FLAG_KEYFRAME).isZero();
+        assertThat(delta.length).isLessThan(keyframe.length);
+        assertThat(delta.length).isLessThanOrEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("키프레임 간격마다 키프레임을 다시 보낸다")
+    void encode_PeriodicKeyframe() {
+        // Given
+        CompactLocationEncoder encoder = new CompactLocationEncoder(5, 60_000);
+        List<CompactLocationPoint> points = walk(11);
+
+        // When
+        List<Integer> keyframeIndexes = new ArrayList<>();
+        for (int i = 0; i < points.size(); i++) {
+            if ((encoder.encode(points.get(i))[0] & CompactLocationFormat.FLAG_KEYFRAME) != 0) {
+                keyframeIndexes.add(i);
+            }
+        }
+
+        // Then
+        assertThat(keyframeIndexes).containsExactly(0, 5, 10);
+    }
+
+    @Test
+    @DisplayName("늦게 구독한 디코더는 다음 키프레임부터 복원한다")
+    void decode_LateSubscriberWaitsForKeyframe() {
+        // Given
+        CompactLocationEncoder encoder = new CompactLocationEncoder(3, 60_000);
+        List<CompactLocationPoint> points = walk(4);
+        List<byte[]> frames = new ArrayList<>();
+        for (CompactLocationPoint point : points) {
+            frames.add(encoder.encode(point));
+        }
+        CompactLocationDecoder lateDecoder = new CompactLocationDecoder();
+
+        // When & Then
+        assertThat(lateDecoder.decode(frames.get(1))).isNull();
+        assertThat(lateDecoder.decode(frames.get(2))).isNull();
+        assertThat(lateDecoder.decode(frames.get(3))).isEqualTo(points.get(3));
+    }
+
+    @Test
+    @DisplayName("정확도/속도가 없는 위치와 제어 TrackType도 복원한다")
+    void encodeDecode_OptionalFieldsAndTrackTypes() {
+        // Given
+        CompactLocationEncoder encoder = new CompactLocationEncoder(10, 60_000);
+        CompactLocationDecoder decoder = new CompactLocationDecoder();
+
+        for (WalkingTrack.TrackType trackType : WalkingTrack.TrackType.values()) {
+            CompactLocationPoint point = CompactLocationPoint.from(WalkTrackResponse.builder()
+                    .latitude(-33.8688)
+                    .longitude(151.2093)
+                    .timestamp(START.plusSeconds(trackType.ordinal()))
+                    .trackType(trackType)
+                    .build());
+
+            // When
+            CompactLocationPoint decoded = decoder.decode(encoder.encode(point));
+
+            // Then
+            assertThat(decoded.getTrackType()).isEqualTo(trackType);
+            assertThat(decoded.getAccuracy()).isNull();
+            assertThat(decoded.getSpeed()).isNull();
+            assertThat(decoded.getLatitude()).isCloseTo(-33.8688, within(1e-7));
+            assertThat(decoded.getLongitude()).isCloseTo(151.2093, within(1e-7));
+        }
+    }
+
+    @Test
+    @DisplayName("잘린 프레임은 예외를 던진다")
+    void decode_TruncatedFrame() {
+        // Given
+        byte[] keyframe = new CompactLocationEncoder(10, 60_000).encode(walk(1).get(0));
+        byte[] truncated = java.util.Arrays.copyOf(keyframe, 6);
+
+        // When & Then
+        assertThatThrownBy(() -> new CompactLocationDecoder().decode(truncated))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static List<CompactLocationPoint> walk(int size) {
+        List<CompactLocationPoint> points = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            points.add(CompactLocationPoint.from(WalkTrackResponse.builder()
+                    .latitude(37.5665 + i * 0.00011)
+                    .longitude(126.9780 + i * 0.00007)
+                    .timestamp(START.plusSeconds(i * 2L))
+                    .accuracy(4.5 + (i % 3))
+                    .speed(4.2)
+                    .trackType(i == 0 ? WalkingTrack.TrackType.START : WalkingTrack.TrackType.WALKING)
+                    .build()));
+        }
+        return points;
+    }
+}
@@ -0,0 +1,49 @@
+package com.petmily.backend.api.walk.service.location.codec;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CompactLocationSubscriptionRegistryTest {
+
+    private static final String DESTINATION = "/sub/walk/1/location/compact";
+
+    private CompactLocationSubscriptionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new CompactLocationSubscriptionRegistry();
+    }
+
+    @Test
+    @DisplayName("압축 프레임 토픽만 추적하고, 마지막 구독자가 해제되면 구독자 없음으로 본다")
+    void unsubscribe_LastSubscriberRemovesDestination() {
+        registry.subscribe("session-1", "sub-0", DESTINATION);
+        registry.subscribe("session-2", "sub-0", DESTINATION);
+        registry.subscribe("session-1", "sub-1", "/sub/walk/1/location");
+
+        assertThat(registry.hasSubscribers(DESTINATION)).isTrue();
+        assertThat(registry.hasSubscribers("/sub/walk/1/location")).isFalse();
+
+        registry.unsubscribe("session-1", "sub-0");
+        assertThat(registry.hasSubscribers(DESTINATION)).isTrue();
+
+        registry.disconnect("session-2");
+        assertThat(registry.hasSubscribers(DESTINATION)).isFalse();
+    }
+
+    @Test
+    @DisplayName("새 구독자가 생기면 한 번만 알려 준다")
+    void takeNewSubscriber_OncePerJoin() {
+        assertThat(registry.takeNewSubscriber(DESTINATION)).isFalse();
+
+        registry.subscribe("session-1", "sub-0", DESTINATION);
+        assertThat(registry.takeNewSubscriber(DESTINATION)).isTrue();
+        assertThat(registry.takeNewSubscriber(DESTINATION)).isFalse();
+
+        registry.subscribe("session-2", "sub-0", DESTINATION);
+        assertThat(registry.takeNewSubscriber(DESTINATION)).isTrue();
+    }
+}
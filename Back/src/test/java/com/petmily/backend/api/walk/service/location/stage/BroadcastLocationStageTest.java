@@ -0,0 +1,52 @@
+package com.petmily.backend.api.walk.service.location.stage;
+
+import com.petmily.backend.api.walk.controller.walk.WalkWebSocketController;
+import com.petmily.backend.api.walk.dto.tracking.response.WalkTrackResponse;
+import com.petmily.backend.api.walk.service.location.LocationFix;
+import com.petmily.backend.domain.walk.entity.WalkingTrack;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BroadcastLocationStageTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Test
+    @DisplayName("함께 저장된 DWELL 기록을 위치보다 먼저 브로드캐스트한다")
+    void process_BroadcastsDwellRecordFirst() {
+        // Given
+        WalkWebSocketController controller = mock(WalkWebSocketController.class);
+        BroadcastLocationStage broadcastStage = new BroadcastLocationStage(controller);
+
+        LocationFix fix = fix(120, WalkingTrack.TrackType.WALKING);
+        fix.setDwellRecord(fix(90, WalkingTrack.TrackType.DWELL));
+
+        // When
+        assertThat(broadcastStage.process(fix)).isTrue();
+
+        // Then
+        ArgumentCaptor<WalkTrackResponse> captor = ArgumentCaptor.forClass(WalkTrackResponse.class);
+        verify(controller, times(2)).broadcastLocationUpdate(eq(1L), captor.capture());
+        assertThat(captor.getAllValues()).extracting(WalkTrackResponse::getTrackType)
+                .containsExactly(WalkingTrack.TrackType.DWELL, WalkingTrack.TrackType.WALKING);
+    }
+
+    private static LocationFix fix(int secondsFromStart, WalkingTrack.TrackType trackType) {
+        return LocationFix.builder()
+                .source(LocationFix.Source.BOOKING)
+                .bookingId(1L)
+                .userId(2L)
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .timestamp(START.plusSeconds(secondsFromStart))
+                .trackType(trackType)
+                .build();
+    }
+}
@@ -0,0 +1,159 @@
+package com.petmily.backend.api.walk.service.location.stage;
+
+import com.petmily.backend.api.common.service.LocationValidationService;
+import com.petmily.backend.api.walk.service.location.LocationFix;
+import com.petmily.backend.api.walk.service.location.LocationTrackStateRegistry;
+import com.petmily.backend.config.LocationPipelineProperties;
+import com.petmily.backend.domain.walk.entity.WalkingTrack;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FilterLocationStageTest {
+
+    private static final double START_LAT = 37.5665;
+    private static final double START_LON = 126.9780;
+    private static final double DEGREES_PER_METER = 1 / 111_195.0;
+
+    private FilterLocationStage filterStage;
+    private LocalDateTime startTime;
+
+    @BeforeEach
+    void setUp() {
+        LocationPipelineProperties properties = new LocationPipelineProperties();
+        filterStage = new FilterLocationStage(new LocationTrackStateRegistry(properties), properties);
+        startTime = LocalDateTime.of(2025, 1, 1, 9, 0);
+    }
+
+    @Test
+    @DisplayName("같은 시각의 위치 재전송은 중복으로 버린다")
+    void process_DuplicateTimestamp() {
+        // Given
+        assertThat(filterStage.process(fix(0, 0, WalkingTrack.TrackType.START))).isTrue();
+
+        // When
+        LocationFix retried = fix(0, 0, WalkingTrack.TrackType.START);
+        boolean kept = filterStage.process(retried);
+
+        // Then
+        assertThat(kept).isFalse();
+        assertThat(retried.getDropReason()).isEqualTo("duplicate");
+    }
+
+    @Test
+    @DisplayName("GPS 오차가 큰 위치는 버린다")
+    void process_LowAccuracy() {
+        // Given
+        filterStage.process(fix(0, 0, WalkingTrack.TrackType.START));
+        LocationFix inaccurate = fix(5, 100, WalkingTrack.TrackType.WALKING);
+        inaccurate.setAccuracy(120.0);
+
+        // When & Then
+        assertThat(filterStage.process(inaccurate)).isFalse();
+        assertThat(inaccurate.getDropReason()).isEqualTo("low-accuracy");
+    }
+
+    @Test
+    @DisplayName("START/PAUSE/RESUME/END 위치는 거리와 무관하게 항상 저장한다")
+    void process_ControlPointsPreserved() {
+        // Given
+        filterStage.process(fix(0, 0, WalkingTrack.TrackType.START));
+
+        // When & Then
+        assertThat(filterStage.process(fix(1, 0, WalkingTrack.TrackType.PAUSE))).isTrue();
+        assertThat(filterStage.process(fix(2, 0, WalkingTrack.TrackType.RESUME))).isTrue();
+        LocationFix end = fix(3, 0, WalkingTrack.TrackType.END);
+        end.setAccuracy(500.0);
+        assertThat(filterStage.process(end)).isTrue();
+    }
+
+    @Test
+    @DisplayName("정지 구간은 하나의 DWELL 기록으로 압축된다")
+    void process_StationaryCollapsedIntoDwell() {
+        // Given
+        filterStage.process(fix(0, 0, WalkingTrack.TrackType.START));
+        for (int second = 1; second <= 120; second++) {
+            assertThat(filterStage.process(fix(second, 1, WalkingTrack.TrackType.WALKING))).isFalse();
+        }
+
+        // When
+        LocationFix moved = fix(125, 30, WalkingTrack.TrackType.WALKING);
+        boolean kept = filterStage.process(moved);
+
+        // Then
+        assertThat(kept).isTrue();
+        assertThat(moved.getDwellRecord()).isNotNull();
+        assertThat(moved.getDwellRecord().getTrackType()).isEqualTo(WalkingTrack.TrackType.DWELL);
+        assertThat(moved.getDwellRecord().getLatitude()).isEqualTo(START_LAT);
+        assertThat(moved.getDwellRecord().getTimestamp()).isEqualTo(startTime.plusSeconds(120));
+    }
+
+    @Test
+    @DisplayName("최소 거리 미만이어도 방향이 크게 바뀌면 저장한다")
+    void process_HeadingChangeKept() {
+        // Given - 북쪽으로 이동
+        filterStage.process(fix(0, 0, WalkingTrack.TrackType.START));
+        assertThat(filterStage.process(fix(20, 25, WalkingTrack.TrackType.WALKING))).isTrue();
+
+        // When - 동쪽으로 12m 꺾음
+        LocationFix turned = fix(30, 25, WalkingTrack.TrackType.WALKING);
+        turned.setLongitude(START_LON + 12 * DEGREES_PER_METER / Math.cos(Math.toRadians(START_LAT)));
+
+        // Then
+        assertThat(filterStage.process(turned)).isTrue();
+    }
+
+    @Test
+    @DisplayName("1초 간격 보행 위치를 10분의 1 이하로 줄이면서 총 거리는 유지한다")
+    void process_ThinsWalkWithoutSkewingDistance() {
+        // Given - 1.2m/s 직선 보행 10분
+        List<LocationFix> all = new ArrayList<>();
+        all.add(fix(0, 0, WalkingTrack.TrackType.START));
+        for (int second = 1; second < 600; second++) {
+            all.add(fix(second, second * 1.2, WalkingTrack.TrackType.WALKING));
+        }
+        all.add(fix(600, 720, WalkingTrack.TrackType.END));
+
+        // When
+        List<LocationFix> kept = new ArrayList<>();
+        for (LocationFix fix : all) {
+            if (filterStage.process(fix)) {
+                kept.add(fix);
+            }
+        }
+
+        // Then
+        assertThat(kept.size()).isLessThanOrEqualTo(all.size() / 10);
+        assertThat(totalDistanceMeters(kept)).isCloseTo(totalDistanceMeters(all), within(1.0));
+        assertThat(kept.get(kept.size() - 1).getTrackType()).isEqualTo(WalkingTrack.TrackType.END);
+    }
+
+    private LocationFix fix(int secondsFromStart, double metersNorth, WalkingTrack.TrackType trackType) {
+        return LocationFix.builder()
+                .source(LocationFix.Source.BOOKING)
+                .bookingId(1L)
+                .userId(1L)
+                .latitude(START_LAT + metersNorth * DEGREES_PER_METER)
+                .longitude(START_LON)
+                .timestamp(startTime.plusSeconds(secondsFromStart))
+                .accuracy(5.0)
+                .trackType(trackType)
+                .build();
+    }
+
+    private double totalDistanceMeters(List<LocationFix> fixes) {
+        double total = 0.0;
+        for (int i = 1; i < fixes.size(); i++) {
+            total += LocationValidationService.calculateDistance(
+                    fixes.get(i - 1).getLatitude(), fixes.get(i - 1).getLongitude(),
+                    fixes.get(i).getLatitude(), fixes.get(i).getLongitude()) * 1000;
+        }
+        return total;
+    }
+}
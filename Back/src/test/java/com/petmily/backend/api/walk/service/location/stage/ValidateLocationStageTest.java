@@ -0,0 +1,142 @@
+package com.petmily.backend.api.walk.service.location.stage;
+
+import com.petmily.backend.api.common.service.LocationValidationService;
+import com.petmily.backend.api.exception.CustomException;
+import com.petmily.backend.api.exception.ErrorCode;
+import com.petmily.backend.api.walk.service.location.LocationFix;
+import com.petmily.backend.api.walk.service.location.LocationTrackStateRegistry;
+import com.petmily.backend.api.walk.service.validation.BookingAuthorization;
+import com.petmily.backend.api.walk.service.validation.ValidationService;
+import com.petmily.backend.config.LocationPipelineProperties;
+import com.petmily.backend.domain.walk.entity.WalkBooking;
+import com.petmily.backend.domain.walk.entity.WalkingTrack;
+import com.petmily.backend.domain.walk.repository.WalkTrackRepository;
+import com.petmily.backend.domain.walker.repository.WalkSessionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ValidateLocationStageTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Mock
+    private ValidationService validationService;
+
+    @Mock
+    private WalkTrackRepository walkTrackRepository;
+
+    @Mock
+    private WalkSessionRepository walkSessionRepository;
+
+    private LocationTrackStateRegistry stateRegistry;
+    private ValidateLocationStage validateStage;
+
+    @BeforeEach
+    void setUp() {
+        stateRegistry = new LocationTrackStateRegistry(new LocationPipelineProperties());
+        validateStage = new ValidateLocationStage(validationService, new LocationValidationService(walkTrackRepository),
+                walkSessionRepository, stateRegistry);
+        when(validationService.authorizeWalker(eq(1L), eq(2L))).thenReturn(new BookingAuthorization(
+                1L, 2L, BookingAuthorization.BookingRole.WALKER, 2L, WalkBooking.BookingStatus.IN_PROGRESS, Long.MAX_VALUE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("이동 속도는 DB 대신 직전 저장 위치와 비교해 검증한다")
+    void process_ChecksSpeedAgainstLastAccepted() {
+        // Given - 직전 저장 위치에서 10초 만에 약 1.1km 이동
+        stateRegistry.get("booking:1").setLastAccepted(fix(0, 37.5665));
+
+        // When & Then
+        assertThatThrownBy(() -> validateStage.process(fix(10, 37.5765)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.UNREALISTIC_LOCATION_CHANGE);
+        verifyNoInteractions(walkTrackRepository);
+    }
+
+    @Test
+    @DisplayName("첫 위치와 정상 속도 이동은 통과하고, 위치 이력 DB는 조회하지 않는다")
+    void process_PassesWithoutQueries() {
+        // Given
+        assertThat(validateStage.process(fix(0, 37.5665))).isTrue();
+        stateRegistry.get("booking:1").setLastAccepted(fix(0, 37.5665));
+
+        // When & Then
+        assertThat(validateStage.process(fix(60, 37.5670))).isTrue();
+        assertThat(validateStage.process(fix(61, 37.5670))).isTrue();
+        verifyNoInteractions(walkTrackRepository);
+    }
+
+    @Test
+    @DisplayName("같은 좌표가 연달아 들어오면 반복 횟수를 센다")
+    void process_CountsRepeatedCoordinates() {
+        // Given & When
+        for (int second = 0; second < 4; second++) {
+            validateStage.process(fix(second, 37.5665));
+        }
+
+        // Then
+        assertThat(stateRegistry.get("booking:1").getRepeatedCount()).isEqualTo(3);
+
+        validateStage.process(fix(10, 37.5666));
+        assertThat(stateRegistry.get("booking:1").getRepeatedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("검증 상태는 커밋 이후에만 반영되고, 롤백되면 그대로 남는다")
+    void process_ValidationStateAppliedAfterCommit() {
+        // Given
+        validateStage.process(fix(0, 37.5665));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When - 같은 좌표가 들어왔지만 이후 단계에서 롤백
+        validateStage.process(fix(1, 37.5665));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Then
+        LocationTrackStateRegistry.TrackState state = stateRegistry.get("booking:1");
+        assertThat(state.getRepeatedCount()).isZero();
+        assertThat(state.getLastValidated().getTimestamp()).isEqualTo(START);
+
+        TransactionSynchronizationManager.initSynchronization();
+        LocationFix committed = fix(2, 37.5665);
+        validateStage.process(committed);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(state.getRepeatedCount()).isEqualTo(1);
+        assertThat(state.getLastValidated()).isSameAs(committed);
+    }
+
+    private static LocationFix fix(int secondsFromStart, double latitude) {
+        return LocationFix.builder()
+                .source(LocationFix.Source.BOOKING)
+                .bookingId(1L)
+                .userId(2L)
+                .latitude(latitude)
+                .longitude(126.9780)
+                .timestamp(START.plusSeconds(secondsFromStart))
+                .trackType(WalkingTrack.TrackType.WALKING)
+                .build();
+    }
+}
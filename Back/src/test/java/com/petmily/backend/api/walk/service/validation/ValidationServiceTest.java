@@ -0,0 +1,230 @@
+package com.petmily.backend.api.walk.service.validation;
+
+import com.petmily.backend.api.exception.CustomException;
+import com.petmily.backend.api.exception.ErrorCode;
+import com.petmily.backend.domain.user.entity.User;
+import com.petmily.backend.domain.user.repository.UserRepository;
+import com.petmily.backend.domain.walk.entity.WalkBooking;
+import com.petmily.backend.domain.walk.repository.WalkBookingRepository;
+import com.petmily.backend.domain.walker.entity.Walker;
+import com.petmily.backend.domain.walker.repository.WalkerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ValidationServiceTest {
+
+    private static final Long BOOKING_ID = 1L;
+    private static final Long OWNER_USER_ID = 10L;
+    private static final Long WALKER_USER_ID = 20L;
+    private static final Long WALKER_ID = 200L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private WalkBookingRepository walkBookingRepository;
+
+    @Mock
+    private WalkerRepository walkerRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private BookingAuthorizationCache cache;
+    private BookingStatusRelay relay;
+    private ValidationService validationService;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BookingAuthorizationCache();
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        relay = new BookingStatusRelay(redisTemplate, cache);
+        validationService = new ValidationService(userRepository, walkBookingRepository, walkerRepository, cache, relay);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 사용자/예약/워커를 다시 조회하지 않는다")
+    void authorizeParticipant_CacheHit() {
+        // Given
+        givenWalkerUser();
+
+        // When
+        BookingAuthorization first = validationService.authorizeWalker(BOOKING_ID, WALKER_USER_ID);
+        BookingAuthorization second = validationService.authorizeWalker(BOOKING_ID, WALKER_USER_ID);
+
+        // Then
+        assertThat(first.getRole()).isEqualTo(BookingAuthorization.BookingRole.WALKER);
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findById(WALKER_USER_ID);
+        verify(walkBookingRepository, times(1)).findById(BOOKING_ID);
+        verify(walkerRepository, times(1)).findByUserId(WALKER_USER_ID);
+    }
+
+    @Test
+    @DisplayName("만료된 캐시 항목은 다시 조회해 권한을 확인한다")
+    void authorizeParticipant_ExpiredEntry() {
+        // Given
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        givenWalkerUser();
+
+        // When
+        validationService.authorizeParticipant(BOOKING_ID, WALKER_USER_ID);
+        validationService.authorizeParticipant(BOOKING_ID, WALKER_USER_ID);
+
+        // Then
+        verify(walkBookingRepository, times(2)).findById(BOOKING_ID);
+    }
+
+    @Test
+    @DisplayName("예약 상태 전이는 커밋 이후에만 캐시에 반영/발행되고, 반영 후에도 DB를 조회하지 않는다")
+    void onBookingStatusChanged_AppliedAfterCommit() {
+        // Given
+        givenWalkerUser();
+        validationService.authorizeParticipant(BOOKING_ID, WALKER_USER_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        validationService.onBookingStatusChanged(BOOKING_ID, WalkBooking.BookingStatus.IN_PROGRESS);
+
+        // Then
+        assertThat(validationService.authorizeParticipant(BOOKING_ID, WALKER_USER_ID).getStatus())
+                .isEqualTo(WalkBooking.BookingStatus.CONFIRMED);
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(validationService.authorizeParticipant(BOOKING_ID, WALKER_USER_ID).getStatus())
+                .isEqualTo(WalkBooking.BookingStatus.IN_PROGRESS);
+        verify(redisTemplate).convertAndSend(BookingStatusRelay.CHANNEL, BOOKING_ID + ":IN_PROGRESS");
+        verify(walkBookingRepository, times(1)).findById(BOOKING_ID);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 발행한 상태 전이를 수신하면 캐시에 반영한다")
+    void relay_OnMessageUpdatesCache() {
+        // Given
+        givenWalkerUser();
+        validationService.authorizeParticipant(BOOKING_ID, WALKER_USER_ID);
+
+        // When
+        relay.onMessage(new DefaultMessage(BookingStatusRelay.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                (BOOKING_ID + ":COMPLETED").getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then
+        assertThat(validationService.authorizeParticipant(BOOKING_ID, WALKER_USER_ID).getStatus())
+                .isEqualTo(WalkBooking.BookingStatus.COMPLETED);
+        verify(walkBookingRepository, times(1)).findById(BOOKING_ID);
+    }
+
+    @Test
+    @DisplayName("조회 도중 상태가 전이되면 조회한 이전 상태를 캐시하지 않는다")
+    void put_StaleLoadNotCached() {
+        // Given
+        long marker = cache.loadMarker();
+        cache.updateStatus(BOOKING_ID, WalkBooking.BookingStatus.IN_PROGRESS);
+
+        // When
+        BookingAuthorization loaded = cache.put(BOOKING_ID, WALKER_USER_ID, BookingAuthorization.BookingRole.WALKER,
+                WALKER_ID, WalkBooking.BookingStatus.CONFIRMED, marker);
+
+        // Then
+        assertThat(loaded.getStatus()).isEqualTo(WalkBooking.BookingStatus.CONFIRMED);
+        assertThat(cache.get(BOOKING_ID, WALKER_USER_ID)).isNull();
+
+        cache.put(BOOKING_ID, WALKER_USER_ID, BookingAuthorization.BookingRole.WALKER,
+                WALKER_ID, WalkBooking.BookingStatus.IN_PROGRESS, cache.loadMarker());
+        assertThat(cache.get(BOOKING_ID, WALKER_USER_ID).getStatus()).isEqualTo(WalkBooking.BookingStatus.IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("예약 엔티티가 필요한 경로도 캐시에 없으면 예약을 한 번만 조회한다")
+    void authorizeParticipantWithBooking_SingleLookup() {
+        // Given
+        givenWalkerUser();
+
+        // When
+        ValidationService.ParticipantBooking result =
+                validationService.authorizeParticipantWithBooking(BOOKING_ID, WALKER_USER_ID);
+
+        // Then
+        assertThat(result.booking().getId()).isEqualTo(BOOKING_ID);
+        assertThat(result.authorization().getRole()).isEqualTo(BookingAuthorization.BookingRole.WALKER);
+        verify(walkBookingRepository, times(1)).findById(BOOKING_ID);
+    }
+
+    @Test
+    @DisplayName("예약자는 참여자로 인정되지만 워커 전용 작업은 거부된다")
+    void authorizeWalker_OwnerRejected() {
+        // Given
+        when(userRepository.findById(OWNER_USER_ID)).thenReturn(Optional.of(User.builder().id(OWNER_USER_ID).build()));
+        when(walkBookingRepository.findById(BOOKING_ID)).thenReturn(Optional.of(booking()));
+        when(walkerRepository.findByUserId(OWNER_USER_ID)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(validationService.authorizeParticipant(BOOKING_ID, OWNER_USER_ID).getRole())
+                .isEqualTo(BookingAuthorization.BookingRole.OWNER);
+        assertThatThrownBy(() -> validationService.authorizeWalker(BOOKING_ID, OWNER_USER_ID))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NO_ACCESS);
+    }
+
+    @Test
+    @DisplayName("예약자도 배정된 워커도 아니면 NO_ACCESS로 거부하고 캐시에 남기지 않는다")
+    void authorizeParticipant_NonParticipant() {
+        // Given
+        Long strangerId = 30L;
+        when(userRepository.findById(strangerId)).thenReturn(Optional.of(User.builder().id(strangerId).build()));
+        when(walkBookingRepository.findById(BOOKING_ID)).thenReturn(Optional.of(booking()));
+        when(walkerRepository.findByUserId(strangerId))
+                .thenReturn(Optional.of(Walker.builder().id(300L).userId(strangerId).build()));
+
+        // When & Then
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> validationService.authorizeParticipant(BOOKING_ID, strangerId))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NO_ACCESS);
+        }
+        assertThat(cache.get(BOOKING_ID, strangerId)).isNull();
+        verify(walkBookingRepository, times(2)).findById(anyLong());
+    }
+
+    private void givenWalkerUser() {
+        when(userRepository.findById(WALKER_USER_ID)).thenReturn(Optional.of(User.builder().id(WALKER_USER_ID).build()));
+        when(walkBookingRepository.findById(BOOKING_ID)).thenReturn(Optional.of(booking()));
+        when(walkerRepository.findByUserId(WALKER_USER_ID))
+                .thenReturn(Optional.of(Walker.builder().id(WALKER_ID).userId(WALKER_USER_ID).build()));
+    }
+
+    private static WalkBooking booking() {
+        WalkBooking booking = new WalkBooking();
+        booking.setId(BOOKING_ID);
+        booking.setUserId(OWNER_USER_ID);
+        booking.setWalkerId(WALKER_ID);
+        booking.setStatus(WalkBooking.BookingStatus.CONFIRMED);
+        return booking;
+    }
+}
@@ -4,6 +4,7 @@ import com.petmily.backend.api.exception.CustomException;
 import com.petmily.backend.api.exception.ErrorCode;
 import com.petmily.backend.api.map.dto.Coord;
 import com.petmily.backend.api.map.service.KakaoMapService;
+import com.petmily.backend.api.search.index.AutocompleteIndex;
 import com.petmily.backend.api.walker.dto.walker.WalkerCreateRequest;
 import com.petmily.backend.api.walker.dto.walker.WalkerResponse;
 import com.petmily.backend.api.walker.dto.walker.WalkerSearchRequest;
@@ -41,6 +42,8 @@ class WalkerServiceTest {
     @Mock
     private KakaoMapService kakaoMapService;
     @Mock
+    private AutocompleteIndex autocompleteIndex;
+    @Mock
     private SecurityContext securityContext;
     @Mock
     private Authentication authentication;
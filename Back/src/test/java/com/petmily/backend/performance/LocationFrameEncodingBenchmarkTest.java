@@ -0,0 +1,77 @@
+package com.petmily.backend.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.petmily.backend.api.walk.dto.tracking.response.WalkTrackResponse;
+import com.petmily.backend.api.walk.service.location.codec.CompactLocationEncoder;
+import com.petmily.backend.api.walk.service.location.codec.CompactLocationPoint;
+import com.petmily.backend.domain.walk.entity.WalkingTrack;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실시간 위치 프레임 JSON vs 압축 바이너리 크기 비교
+ * 인코딩 시간 측정은 loadTest 소스셋의 LocationFrameEncodingBenchmark (./gradlew locationFrameBenchmark)
+ */
+class LocationFrameEncodingBenchmarkTest {
+
+    private static final int FRAMES = 2_000;
+
+    @Test
+    void compactFrame_SmallerThanJson() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        List<WalkTrackResponse> tracks = walk();
+
+        // When
+        long jsonBytes = runJson(objectMapper, tracks);
+        long compactBytes = runCompact(tracks);
+
+        // Then
+        assertThat(compactBytes * 10).isLessThan(jsonBytes);
+    }
+
+    private long runJson(ObjectMapper objectMapper, List<WalkTrackResponse> tracks) throws Exception {
+        long bytes = 0;
+        for (WalkTrackResponse track : tracks) {
+            bytes += objectMapper.writeValueAsBytes(track).length;
+        }
+        return bytes;
+    }
+
+    private long runCompact(List<WalkTrackResponse> tracks) {
+        CompactLocationEncoder encoder = new CompactLocationEncoder(10, 60_000);
+        long bytes = 0;
+        for (WalkTrackResponse track : tracks) {
+            bytes += encoder.encode(CompactLocationPoint.from(track)).length;
+        }
+        return bytes;
+    }
+
+    private List<WalkTrackResponse> walk() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<WalkTrackResponse> tracks = new ArrayList<>();
+        for (int i = 0; i < FRAMES; i++) {
+            tracks.add(WalkTrackResponse.builder()
+                    .id(1000L + i)
+                    .bookingId(42L)
+                    .latitude(37.5665 + i * 0.00011)
+                    .longitude(126.9780 + i * 0.00007)
+                    .timestamp(start.plusSeconds(i * 2L))
+                    .accuracy(5.0)
+                    .speed(4.2)
+                    .altitude(38.0)
+                    .trackType(WalkingTrack.TrackType.WALKING)
+                    .build());
+        }
+        return tracks;
+    }
+}